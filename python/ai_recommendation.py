@@ -16,10 +16,12 @@ import sys
 import mysql.connector
 import math
 import re
+import zlib
 from collections import defaultdict, Counter
 from datetime import datetime, timedelta
 from typing import Dict, List, Tuple, Optional, Set
 from config import Config
+from feature_snapshot import load_snapshot
 from logger import setup_logger
 
 logger = setup_logger(__name__)
@@ -68,6 +70,30 @@ CATEGORY_KEYWORDS = {
     ]
 }
 
+# 게시글 본문 조인 (본문은 post_contents에 저장, 이전되지 않은 글만 posts.content에 남음)
+POST_BODY_JOIN = "LEFT JOIN post_contents pc ON pc.post_id = p.id"
+POST_BODY_COLUMNS = "pc.body AS body, pc.body_deflated AS body_deflated, p.content AS legacy_content"
+# 본문 LIKE 조건 (압축 저장된 큰 본문은 앞 200자 excerpt로 비교)
+POST_BODY_LIKE = "COALESCE(pc.body, p.content, p.excerpt) LIKE %s"
+
+
+def decode_post_body(body: Optional[str], body_deflated: Optional[bytes],
+                     legacy_content: Optional[str]) -> Optional[str]:
+    """post_contents 행 → 본문 (Java PostContentService.text 와 같은 규칙)"""
+    if body_deflated is not None:
+        return zlib.decompress(bytes(body_deflated)).decode('utf-8')
+    if body is not None:
+        return body
+    return legacy_content
+
+
+def attach_post_body(rows: List[Dict]) -> List[Dict]:
+    """POST_BODY_COLUMNS로 읽은 행에 content 키로 본문을 채움"""
+    for row in rows:
+        row['content'] = decode_post_body(row.pop('body', None), row.pop('body_deflated', None),
+                                          row.pop('legacy_content', None))
+    return rows
+
 
 class CollaborativeFiltering:
     """협업 필터링 알고리즘"""
@@ -268,7 +294,7 @@ class UserActivityAnalyzer:
         """사용자의 최근 활동 로그 조회"""
         cursor = self.conn.cursor(dictionary=True)
         
-        query = """
+        query = f"""
             SELECT 
                 ua.action_type,
                 ua.target_id,
@@ -278,16 +304,17 @@ class UserActivityAnalyzer:
                 p.category,
                 p.tags,
                 p.title,
-                p.content
+                {POST_BODY_COLUMNS}
             FROM user_activity ua
             LEFT JOIN posts p ON ua.target_id = p.id
+            {POST_BODY_JOIN}
             WHERE ua.user_id = %s
               AND ua.created_at >= DATE_SUB(NOW(), INTERVAL %s DAY)
             ORDER BY ua.created_at DESC
         """
         
         cursor.execute(query, (user_id, days))
-        results = cursor.fetchall()
+        results = attach_post_body(cursor.fetchall())
         cursor.close()
         
         # 디버깅: 활동 로그 상세 정보 출력
@@ -322,11 +349,11 @@ class UserActivityAnalyzer:
         """사용자가 실제로 본 게시글들의 상세 정보 조회 (클릭/좋아요/북마크)"""
         cursor = self.conn.cursor(dictionary=True)
         
-        query = """
+        query = f"""
             SELECT DISTINCT
                 p.id,
                 p.title,
-                p.content,
+                {POST_BODY_COLUMNS},
                 p.category,
                 p.tags,
                 p.view_count,
@@ -335,6 +362,7 @@ class UserActivityAnalyzer:
                 ua.created_at
             FROM user_activity ua
             INNER JOIN posts p ON ua.target_id = p.id
+            {POST_BODY_JOIN}
             WHERE ua.user_id = %s
               AND ua.created_at >= DATE_SUB(NOW(), INTERVAL %s DAY)
               AND ua.action_type IN ('CLICK', 'LIKE', 'BOOKMARK', 'AI_CLICK')
@@ -343,7 +371,7 @@ class UserActivityAnalyzer:
         """
         
         cursor.execute(query, (user_id, days))
-        results = cursor.fetchall()
+        results = attach_post_body(cursor.fetchall())
         cursor.close()
         
         logger.info(f"📚 사용자 {user_id}가 실제로 본 게시글: {len(results)}개")
@@ -569,8 +597,6 @@ class UserActivityAnalyzer:
     
     def build_user_item_matrix(self, days: int = 90) -> Dict[int, Dict[int, float]]:
         """사용자-아이템 행렬 구축 (협업 필터링용)"""
-        cursor = self.conn.cursor(dictionary=True)
-        
         # 액션 타입별 가중치
         action_weights = {
             'SEARCH': 1.0,
@@ -582,6 +608,14 @@ class UserActivityAnalyzer:
             'RECOMMEND': 2.5
         }
         
+        # Java가 내보낸 피처 스냅샷이 있으면 DB 집계 없이 memmap으로 읽음
+        snapshot = load_snapshot(Config.FEATURE_SNAPSHOT_PATH)
+        if snapshot is not None:
+            logger.info(f"피처 스냅샷 사용: {snapshot.path} (상호작용 {snapshot.interaction_count}건, 기간 {snapshot.days}일)")
+            return self._normalize_user_item_matrix(snapshot.build_user_item_matrix(action_weights))
+        
+        cursor = self.conn.cursor(dictionary=True)
+        
         query = """
             SELECT 
                 ua.user_id,
@@ -649,6 +683,10 @@ class UserActivityAnalyzer:
             count = row['bookmark_count']
             user_item_matrix[user_id][post_id] += 4.0 * count
         
+        return self._normalize_user_item_matrix(user_item_matrix)
+    
+    def _normalize_user_item_matrix(self, user_item_matrix) -> Dict[int, Dict[int, float]]:
+        """사용자별 점수를 0-5 스케일로 정규화"""
         # 정규화 (0-5 스케일로)
         max_rating = 5.0
         for user_id in user_item_matrix:
@@ -1219,7 +1257,7 @@ class UserActivityAnalyzer:
             if category in CATEGORY_KEYWORDS:
                 keywords = CATEGORY_KEYWORDS[category]
                 # 각 키워드에 대해 제목/본문 조건 생성
-                keyword_conditions = " OR ".join([f"(p.title LIKE %s OR p.content LIKE %s)" for _ in keywords])
+                keyword_conditions = " OR ".join([f"(p.title LIKE %s OR {POST_BODY_LIKE})" for _ in keywords])
                 category_keyword_conditions.append(f"({keyword_conditions})")
                 # 파라미터 추가 (각 키워드마다 2개씩: 제목, 본문)
                 for keyword in keywords:
@@ -1258,7 +1296,7 @@ class UserActivityAnalyzer:
                 p.title,
                 p.category,
                 p.tags,
-                p.content,
+                {POST_BODY_COLUMNS},
                 p.view_count,
                 p.like_count,
                 p.created_at,
@@ -1272,6 +1310,7 @@ class UserActivityAnalyzer:
                     WHEN ({all_keyword_conditions}) THEN 1 ELSE 0 
                 END as keyword_match
             FROM posts p
+            {POST_BODY_JOIN}
             WHERE p.id NOT IN (
                 SELECT DISTINCT target_id 
                 FROM user_activity 
@@ -1313,7 +1352,7 @@ class UserActivityAnalyzer:
         params.append(limit)
         
         cursor.execute(query, params)
-        results = cursor.fetchall()
+        results = attach_post_body(cursor.fetchall())
         cursor.close()
         
         # 점수 계산 (실제 본 게시글 기반)
@@ -1502,17 +1541,18 @@ class UserActivityAnalyzer:
                 p.title,
                 p.category,
                 p.tags,
-                p.content,
+                {POST_BODY_COLUMNS},
                 p.view_count,
                 p.like_count,
                 p.created_at
             FROM posts p
+            {POST_BODY_JOIN}
             WHERE p.id IN ({placeholders})
             ORDER BY p.created_at DESC
             LIMIT %s
         """
         cursor.execute(query, post_ids + [limit])
-        results = cursor.fetchall()
+        results = attach_post_body(cursor.fetchall())
         cursor.close()
         
         # 선호 카테고리가 있다면 그 안에 속한 게시글만 남김 (강제 필터링)
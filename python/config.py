@@ -24,6 +24,8 @@ class Config:
     LOG_FORMAT = '%(asctime)s - %(name)s - %(levelname)s - %(message)s'
     
     # 추천 시스템 설정
+    # Java가 내보낸 상호작용 피처 스냅샷 경로 (있으면 MySQL 집계 대신 사용)
+    FEATURE_SNAPSHOT_PATH = os.getenv('FEATURE_SNAPSHOT_PATH', '')
     RECOMMENDATION_DAYS = int(os.getenv('RECOMMENDATION_DAYS', 30))
     DEFAULT_RECOMMENDATION_LIMIT = int(os.getenv('DEFAULT_RECOMMENDATION_LIMIT', 20))
     
@@ -0,0 +1,125 @@
+#!/usr/bin/env python3
+"""
+Java(FeatureSnapshotExporter)가 내보낸 상호작용 피처 스냅샷 리더
+numpy.memmap으로 파일을 복사 없이 매핑하여 MySQL 집계 쿼리를 대체합니다.
+
+레이아웃 (little-endian, 컬럼 시작 위치 8바이트 정렬):
+    헤더 64바이트: magic "SWMFEAT1", version, days, created_at_ms,
+                   interaction_count, post_count, 섹션 오프셋 3개, category_count
+    interactions: int32 user_id | int64 post_id | uint8 action_code | int32 count
+    posts:        int64 post_id | int16 category_code | int32 view_count
+                  | int32 like_count | int64 created_at(epoch s)
+    categories:   uint16 length + UTF-8 bytes (category_code 순서)
+자세한 내용은 FeatureSnapshotExporter.java 의 주석을 참고하세요.
+"""
+
+import os
+import struct
+from collections import defaultdict
+from typing import Dict, List, Optional
+
+try:
+    import numpy as np
+except ImportError:  # numpy가 없으면 스냅샷 없이 기존 DB 집계 경로 사용
+    np = None
+
+MAGIC = b'SWMFEAT1'
+SUPPORTED_VERSION = 1
+HEADER_FORMAT = '<8siiqiiqqqii'
+HEADER_SIZE = 64
+
+# user_activity.action_type 순서와 동일 (Java ActionType.ordinal)
+ACTION_TYPES = ['SEARCH', 'CLICK', 'LIKE', 'RECOMMEND', 'BOOKMARK', 'COMMENT', 'AI_CLICK']
+ACTION_POST_LIKE = 16
+ACTION_BOOKMARK = 17
+
+
+def _align(value: int) -> int:
+    return (value + 7) & ~7
+
+
+class FeatureSnapshot:
+    """memmap 기반 스냅샷 (배열은 파일을 직접 참조하며 복사되지 않음)"""
+
+    def __init__(self, path: str):
+        self.path = path
+        with open(path, 'rb') as f:
+            header = f.read(HEADER_SIZE)
+        (magic, version, self.days, self.created_at_ms, n, p,
+         interactions_offset, posts_offset, categories_offset,
+         category_count, _reserved) = struct.unpack(HEADER_FORMAT, header)
+
+        if magic != MAGIC:
+            raise ValueError(f'피처 스냅샷 형식이 아닙니다: {path}')
+        if version != SUPPORTED_VERSION:
+            raise ValueError(f'지원하지 않는 스냅샷 버전: {version}')
+
+        self.interaction_count = n
+        self.post_count = p
+
+        offset = interactions_offset
+        self.user_ids = self._column(np.int32, offset, n)
+        offset += _align(4 * n)
+        self.post_ids = self._column(np.int64, offset, n)
+        offset += _align(8 * n)
+        self.action_codes = self._column(np.uint8, offset, n)
+        offset += _align(n)
+        self.action_counts = self._column(np.int32, offset, n)
+
+        offset = posts_offset
+        self.post_post_ids = self._column(np.int64, offset, p)
+        offset += _align(8 * p)
+        self.post_category_codes = self._column(np.int16, offset, p)
+        offset += _align(2 * p)
+        self.post_view_counts = self._column(np.int32, offset, p)
+        offset += _align(4 * p)
+        self.post_like_counts = self._column(np.int32, offset, p)
+        offset += _align(4 * p)
+        self.post_created_at = self._column(np.int64, offset, p)
+
+        self.categories = self._read_categories(categories_offset, category_count)
+
+    def _column(self, dtype, offset: int, count: int):
+        if count == 0:
+            return np.empty(0, dtype=dtype)
+        return np.memmap(self.path, dtype=np.dtype(dtype).newbyteorder('<'),
+                         mode='r', offset=offset, shape=(count,))
+
+    def _read_categories(self, offset: int, count: int) -> List[str]:
+        categories = []
+        with open(self.path, 'rb') as f:
+            f.seek(offset)
+            for _ in range(count):
+                (length,) = struct.unpack('<H', f.read(2))
+                categories.append(f.read(length).decode('utf-8'))
+        return categories
+
+    def build_user_item_matrix(self, action_weights: Dict[str, float],
+                               like_weight: float = 3.0,
+                               bookmark_weight: float = 4.0) -> Dict[int, Dict[int, float]]:
+        """
+        UserActivityAnalyzer.build_user_item_matrix 와 동일한 (정규화 전) 점수 행렬을 만듭니다.
+        가중치 계산은 numpy 벡터 연산으로 처리합니다.
+        """
+        code_weights = np.zeros(256, dtype=np.float64)
+        for code, action in enumerate(ACTION_TYPES):
+            code_weights[code] = action_weights.get(action, 1.0)
+        code_weights[ACTION_POST_LIKE] = like_weight
+        code_weights[ACTION_BOOKMARK] = bookmark_weight
+
+        scores = code_weights[self.action_codes] * self.action_counts
+
+        matrix: Dict[int, Dict[int, float]] = defaultdict(lambda: defaultdict(float))
+        for user_id, post_id, score in zip(self.user_ids.tolist(), self.post_ids.tolist(), scores.tolist()):
+            matrix[user_id][post_id] += score
+        return matrix
+
+
+def load_snapshot(path: Optional[str]) -> Optional[FeatureSnapshot]:
+    """스냅샷 파일이 있으면 로드하고, 없거나 형식이 맞지 않으면 None"""
+    if np is None or not path or not os.path.exists(path):
+        return None
+    try:
+        return FeatureSnapshot(path)
+    except (ValueError, OSError, struct.error):
+        return None
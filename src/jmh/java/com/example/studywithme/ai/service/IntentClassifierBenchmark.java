@@ -0,0 +1,121 @@
+package com.example.studywithme.ai.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 챗봇 의도 분류 벤치마크 (메시지 1건 평균)
+ * - legacyClassify: 기존 ChatbotService.parseUserRequest/extractSearchKeyword (contains 체인 + 패턴마다 replaceAll 정규식 컴파일)
+ * - compiledClassify: IntentClassifier (chatbot/intents.json 규칙, Aho-Corasick 한 번 순회 + 미리 컴파일한 조사 정규식)
+ * - 검색·마이페이지·북마크·일반 대화가 섞인 메시지를 순서대로 사용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class IntentClassifierBenchmark {
+
+    private static final String[] MESSAGES = {
+            "자바 스터디 찾아줘",
+            "React 스터디 추천해줘",
+            "토익 게시글 보여주세요",
+            "마이페이지 보여줘",
+            "내가 작성한 글 어디서 봐?",
+            "북마크한 글 보여줘",
+            "AI 추천 받고 싶어",
+            "안녕하세요, 스터디 모집은 어떻게 하나요?",
+            "게시글 수정은 어디서 하나요",
+            "파이썬 알고리즘 스터디를 검색",
+            "정보처리기사 자격증 스터디 찾아봐줘",
+            "댓글이 안 달려요"
+    };
+
+    private IntentClassifier classifier;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        try (InputStream in = IntentClassifierBenchmark.class.getResourceAsStream("/chatbot/intents.json")) {
+            classifier = IntentClassifier.load(in);
+        }
+    }
+
+    @Benchmark
+    public String[] legacyClassify() {
+        return legacyParse(nextMessage());
+    }
+
+    @Benchmark
+    public IntentClassifier.Intent compiledClassify() {
+        return classifier.classify(nextMessage());
+    }
+
+    private String nextMessage() {
+        String message = MESSAGES[cursor];
+        cursor = (cursor + 1) % MESSAGES.length;
+        return message;
+    }
+
+    // ===== 기존 구현 (비교용으로 그대로 옮김) =====
+
+    private static String[] legacyParse(String message) {
+        String lowerMsg = message.toLowerCase().trim();
+
+        if (lowerMsg.contains("마이페이지") || lowerMsg.contains("내 게시글") ||
+            lowerMsg.contains("내 글") || lowerMsg.contains("작성한 글")) {
+            return new String[]{"SHOW_MYPAGE", null};
+        }
+        if (lowerMsg.contains("북마크") || lowerMsg.contains("저장한") ||
+            lowerMsg.contains("즐겨찾기") || lowerMsg.contains("보관")) {
+            return new String[]{"SHOW_BOOKMARKS", null};
+        }
+        if (lowerMsg.contains("검색") || lowerMsg.contains("찾아") ||
+            lowerMsg.contains("보여줘") || lowerMsg.contains("추천")) {
+            String keyword = legacyExtractSearchKeyword(message);
+            if (keyword != null && !keyword.isEmpty()) {
+                return new String[]{"SEARCH_POSTS", keyword};
+            }
+        }
+        if (lowerMsg.contains("ai 추천") || lowerMsg.contains("추천 받") ||
+            lowerMsg.contains("맞춤 추천")) {
+            return new String[]{"SHOW_RECOMMENDATIONS", null};
+        }
+        return null;
+    }
+
+    private static String legacyExtractSearchKeyword(String message) {
+        String[] removePatterns = {
+            "검색", "찾아", "찾아줘", "찾아주세요", "찾아봐", "찾아봐줘",
+            "보여줘", "보여주세요", "보여줄래", "보여줄 수 있어",
+            "추천", "추천해", "추천해줘", "추천해주세요",
+            "스터디", "게시글", "게시물", "글"
+        };
+
+        String keyword = message.trim();
+        for (String pattern : removePatterns) {
+            keyword = keyword.replaceAll("(?i)" + pattern, "").trim();
+        }
+
+        keyword = keyword.replaceAll("^(을|를|이|가|은|는|에|의|로|으로|하고|와|과|도|만|까지|부터|부터|까지)\\s+", "").trim();
+        keyword = keyword.replaceAll("\\s+(을|를|이|가|은|는|에|의|로|으로|하고|와|과|도|만|까지|부터)$", "").trim();
+
+        if (keyword.length() < 1 || keyword.length() > 50) {
+            String[] words = message.trim().split("\\s+");
+            if (words.length > 0 && words[0].length() > 0 && words[0].length() < 50) {
+                keyword = words[0];
+            } else {
+                return null;
+            }
+        }
+        return keyword;
+    }
+}
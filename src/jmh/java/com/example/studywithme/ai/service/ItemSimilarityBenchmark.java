@@ -0,0 +1,103 @@
+package com.example.studywithme.ai.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * item-item 협업 필터링 벤치마크 (사용자 10만 명 × 상호작용 100만 건)
+ * - fullBuild: CSR 구축 + 전체 게시글 top-K 이웃 계산
+ * - incrementalApply: 새 상호작용 1,000건 반영 후 영향받은 게시글만 재계산
+ * 게시글 인기도는 Zipf 분포에 가깝게 생성해 실제 피드처럼 소수 게시글에 상호작용이 몰리도록 함
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ItemSimilarityBenchmark {
+
+    @Param({"100000"})
+    int users;
+
+    @Param({"1000000"})
+    int interactions;
+
+    @Param({"50000"})
+    int posts;
+
+    @Param({"20"})
+    int topK;
+
+    private int[] rows;
+    private int[] cols;
+    private float[] values;
+    private int[] newRows;
+    private int[] newCols;
+    private float[] newValues;
+
+    private ForkJoinPool pool;
+    private SparseInteractionMatrix matrix;
+    private ItemNeighbors neighbors;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        rows = new int[interactions];
+        cols = new int[interactions];
+        values = new float[interactions];
+        for (int i = 0; i < interactions; i++) {
+            rows[i] = random.nextInt(users);
+            cols[i] = zipf(random, posts);
+            values[i] = 2.0f + random.nextInt(3);
+        }
+
+        int delta = 1_000;
+        newRows = new int[delta];
+        newCols = new int[delta];
+        newValues = new float[delta];
+        for (int i = 0; i < delta; i++) {
+            newRows[i] = random.nextInt(users);
+            newCols[i] = zipf(random, posts);
+            newValues[i] = 3.0f;
+        }
+
+        pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        matrix = SparseInteractionMatrix.fromTriples(users, posts, rows, cols, values, interactions);
+        neighbors = ItemNeighbors.compute(matrix, topK, 500, pool);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Benchmark
+    public ItemNeighbors fullBuild() {
+        SparseInteractionMatrix built = SparseInteractionMatrix.fromTriples(users, posts, rows, cols, values, interactions);
+        return ItemNeighbors.compute(built, topK, 500, pool);
+    }
+
+    @Benchmark
+    public ItemNeighbors incrementalApply() {
+        SparseInteractionMatrix merged = matrix.merge(users, posts, newRows, newCols, newValues, newRows.length);
+        int[] touched = Arrays.stream(newCols).distinct().toArray();
+        return neighbors.recompute(merged, touched, 500, pool);
+    }
+
+    private static int zipf(SplittableRandom random, int n) {
+        // 역변환 근사: 상위 게시글일수록 선택 확률이 높음
+        double u = random.nextDouble();
+        return Math.min(n - 1, (int) (Math.pow(n, u) - 1));
+    }
+}
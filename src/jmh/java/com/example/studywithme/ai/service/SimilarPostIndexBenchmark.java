@@ -0,0 +1,141 @@
+package com.example.studywithme.ai.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 유사 게시글 HNSW 인덱스 vs 전수 비교 벡터 검색 벤치마크
+ * - 게시글 벡터는 주제 중심점 주변에 흩어진 단위 벡터 (PostEmbeddingEncoder와 같은 256차원)
+ * - 지연 시간: hnswSearch / bruteForceSearch (질의 1건 평균)
+ * - 정확도: Trial 시작 시 질의 200건의 recall@10 을 전수 비교 결과 기준으로 계산해 출력
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SimilarPostIndexBenchmark {
+
+    private static final int DIMENSION = PostEmbeddingEncoder.DIMENSION;
+    private static final int TOPICS = 300;
+    private static final int QUERIES = 200;
+    private static final int K = 10;
+
+    @Param({"10000", "50000"})
+    int posts;
+
+    @Param({"32", "64", "128"})
+    int efSearch;
+
+    private float[][] vectors;
+    private float[][] queries;
+    private HnswIndex index;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        float[][] topics = new float[TOPICS][];
+        for (int t = 0; t < TOPICS; t++) {
+            topics[t] = randomUnit(random, null, 1.0);
+        }
+        vectors = new float[posts][];
+        index = new HnswIndex(DIMENSION, 16, 100, 42);
+        for (int i = 0; i < posts; i++) {
+            vectors[i] = randomUnit(random, topics[random.nextInt(TOPICS)], 0.06);
+            index.add(i, vectors[i]);
+        }
+        queries = new float[QUERIES][];
+        for (int q = 0; q < QUERIES; q++) {
+            queries[q] = randomUnit(random, topics[random.nextInt(TOPICS)], 0.06);
+        }
+
+        double recall = 0;
+        for (float[] query : queries) {
+            Set<Long> truth = new HashSet<>();
+            for (HnswIndex.Result r : bruteForce(query, K)) {
+                truth.add(r.id());
+            }
+            int hits = 0;
+            for (HnswIndex.Result r : index.search(query, K, efSearch)) {
+                if (truth.contains(r.id())) {
+                    hits++;
+                }
+            }
+            recall += (double) hits / K;
+        }
+        System.out.printf("%n[recall@%d] posts=%d efSearch=%d recall=%.4f%n", K, posts, efSearch, recall / QUERIES);
+    }
+
+    @Benchmark
+    public List<HnswIndex.Result> hnswSearch() {
+        return index.search(nextQuery(), K, efSearch);
+    }
+
+    @Benchmark
+    public List<HnswIndex.Result> bruteForceSearch() {
+        return bruteForce(nextQuery(), K);
+    }
+
+    private float[] nextQuery() {
+        float[] query = queries[cursor];
+        cursor = (cursor + 1) % QUERIES;
+        return query;
+    }
+
+    private List<HnswIndex.Result> bruteForce(float[] query, int k) {
+        // 상위 k개만 유지하는 단순 삽입 정렬 (k가 작으므로 충분)
+        long[] bestIds = new long[k];
+        float[] bestScores = new float[k];
+        int count = 0;
+        for (int i = 0; i < vectors.length; i++) {
+            float[] v = vectors[i];
+            float score = 0f;
+            for (int d = 0; d < DIMENSION; d++) {
+                score += query[d] * v[d];
+            }
+            if (count == k && score <= bestScores[k - 1]) {
+                continue;
+            }
+            int pos = Math.min(count, k - 1);
+            while (pos > 0 && bestScores[pos - 1] < score) {
+                bestIds[pos] = bestIds[pos - 1];
+                bestScores[pos] = bestScores[pos - 1];
+                pos--;
+            }
+            bestIds[pos] = i;
+            bestScores[pos] = score;
+            count = Math.min(count + 1, k);
+        }
+        HnswIndex.Result[] results = new HnswIndex.Result[count];
+        for (int i = 0; i < count; i++) {
+            results[i] = new HnswIndex.Result(bestIds[i], bestScores[i]);
+        }
+        return List.of(results);
+    }
+
+    private static float[] randomUnit(SplittableRandom random, float[] center, double spread) {
+        float[] v = new float[DIMENSION];
+        double norm = 0;
+        for (int d = 0; d < DIMENSION; d++) {
+            v[d] = (float) (random.nextGaussian() * spread + (center != null ? center[d] : 0));
+            norm += (double) v[d] * v[d];
+        }
+        float inv = (float) (1.0 / Math.sqrt(norm));
+        for (int d = 0; d < DIMENSION; d++) {
+            v[d] *= inv;
+        }
+        return v;
+    }
+}
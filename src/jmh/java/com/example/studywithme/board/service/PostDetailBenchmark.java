@@ -0,0 +1,227 @@
+package com.example.studywithme.board.service;
+
+import com.example.studywithme.StudyWithMeApplication;
+import com.example.studywithme.board.entity.Post;
+import com.example.studywithme.board.entity.PostApplication;
+import com.example.studywithme.board.repository.PostRepository;
+import com.example.studywithme.user.entity.User;
+import com.example.studywithme.user.entity.UserProfile;
+import com.example.studywithme.user.repository.UserProfileRepository;
+import com.example.studywithme.user.repository.UserRepository;
+import com.example.studywithme.user.service.UserActivityService;
+import com.example.studywithme.user.service.UserStatsService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 게시글 상세 화면 조립 벤치마크 (GET /posts/{id} 의 모델 구성, 화면 렌더링 제외)
+ * - sequential: 기존 PostWebController.viewPost 순서 그대로 (사용자별 표시 3회 + 지원 내역, 활동 기록 INSERT 포함)
+ * - assembled: PostDetailAssembler (사용자별 표시 1회, 독립 조회 동시 실행, 활동 기록은 응답 경로 밖)
+ * - 인메모리 H2는 왕복 비용이 거의 없으므로 roundTripMicros만큼 SQL 실행마다 지연을 넣어 네트워크 DB를 흉내 냄
+ * - SampleTime 모드라 결과에 p0.99 (p99) 지연 시간이 함께 출력됨
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PostDetailBenchmark {
+
+    private static final int AUTHOR_POSTS = 20;
+
+    @Param({"0", "500"})
+    long roundTripMicros;
+
+    private ConfigurableApplicationContext context;
+    private PostService postService;
+    private PostDetailAssembler postDetailAssembler;
+    private PostViewCounter postViewCounter;
+    private UniqueViewerService uniqueViewerService;
+    private LikeCountBuffer likeCountBuffer;
+    private TrendingPostService trendingPostService;
+    private PostLikeService postLikeService;
+    private BookmarkService bookmarkService;
+    private PostApplicationService postApplicationService;
+    private UserStatsService userStatsService;
+    private UserActivityService userActivityService;
+    private UserProfileRepository userProfileRepository;
+
+    private User viewer;
+    private Long postId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        long latencyNanos = TimeUnit.MICROSECONDS.toNanos(roundTripMicros);
+        context = new SpringApplicationBuilder(StudyWithMeApplication.class)
+                .profiles("devh2")
+                .web(WebApplicationType.NONE)
+                .properties("embedding.enabled=false", "similar-posts.enabled=false", "post-search.enabled=false",
+                        "spring.jpa.show-sql=false", "logging.level.root=WARN")
+                .initializers(ctx -> ctx.getBeanFactory().addBeanPostProcessor(new BeanPostProcessor() {
+                    @Override
+                    public Object postProcessAfterInitialization(Object bean, String beanName) {
+                        return bean instanceof DataSource dataSource && latencyNanos > 0
+                                ? new LatencyDataSource(dataSource, latencyNanos)
+                                : bean;
+                    }
+                }))
+                .run();
+        postService = context.getBean(PostService.class);
+        postDetailAssembler = context.getBean(PostDetailAssembler.class);
+        postViewCounter = context.getBean(PostViewCounter.class);
+        uniqueViewerService = context.getBean(UniqueViewerService.class);
+        likeCountBuffer = context.getBean(LikeCountBuffer.class);
+        trendingPostService = context.getBean(TrendingPostService.class);
+        postLikeService = context.getBean(PostLikeService.class);
+        bookmarkService = context.getBean(BookmarkService.class);
+        postApplicationService = context.getBean(PostApplicationService.class);
+        userStatsService = context.getBean(UserStatsService.class);
+        userActivityService = context.getBean(UserActivityService.class);
+        userProfileRepository = context.getBean(UserProfileRepository.class);
+
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        PostRepository postRepository = context.getBean(PostRepository.class);
+        User author = userRepository.save(user("작성자", "author@example.com"));
+        viewer = userRepository.save(user("열람자", "viewer@example.com"));
+        List<Post> posts = new ArrayList<>();
+        for (int i = 0; i <= AUTHOR_POSTS; i++) {
+            Post post = new Post();
+            post.setUser(author);
+            post.setTitle("스터디 " + i);
+            post.setContent("<p>본문 " + i + "</p>");
+            post.setCategory("개발");
+            post.setTags("자바,스프링");
+            post.setViewCount(0);
+            post.setLikeCount(0);
+            posts.add(post);
+        }
+        List<Post> saved = postRepository.saveAll(posts);
+        context.getBean(PostContentService.class).saveAll(saved);
+        postId = saved.get(0).getId();
+        // 사용자별 표시가 모두 true인 가장 무거운 경우
+        postLikeService.toggleLike(viewer.getId(), postId);
+        bookmarkService.toggleBookmark(viewer.getId(), postId);
+        postApplicationService.applyToPost(viewer.getId(), postId, "참여하고 싶습니다");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object[] sequential() {
+        Post post = postService.getPostWithContent(postId);
+        String viewerKey = "u:" + viewer.getId();
+        if (postViewCounter.recordView(postId, viewerKey)) {
+            trendingPostService.record(post, TrendingPostService.Signal.VIEW);
+        }
+        uniqueViewerService.record(postId, viewerKey);
+        boolean isLiked = postLikeService.isLiked(viewer.getId(), postId);
+        boolean isBookmarked = bookmarkService.isBookmarked(viewer.getId(), postId);
+        boolean hasApplied = postApplicationService.hasApplied(viewer.getId(), postId);
+        userActivityService.logViewPost(viewer, postId, post.getTitle(), post.getTags());
+        PostApplication.ApplicationStatus applicationStatus = null;
+        if (hasApplied) {
+            PostApplication application = postApplicationService.getApplicationByUserAndPost(viewer.getId(), postId);
+            if (application != null) {
+                applicationStatus = application.getStatus();
+            }
+        }
+        int applicationCount = postApplicationService.getApplicationCount(postId);
+        UserStatsService.UserStats authorStats = userStatsService.getUserStats(post.getUser().getId());
+        UserProfile authorProfile = userProfileRepository.findByUser_Id(post.getUser().getId()).orElse(null);
+        List<Post> authorPosts = postService.getOtherPostsByAuthor(post.getUser().getId(), postId);
+        List<Post> similarPosts = postService.getSimilarPosts(postId, 5);
+        return new Object[]{post, postViewCounter.displayCount(postId, post.getViewCount()),
+                uniqueViewerService.uniqueViewers(postId), likeCountBuffer.displayPostCount(postId, post.getLikeCount()),
+                isLiked, isBookmarked, applicationStatus, applicationCount,
+                authorStats, authorProfile, authorPosts, similarPosts};
+    }
+
+    @Benchmark
+    public PostDetailAssembler.PostDetailView assembled() {
+        return postDetailAssembler.assemble(postId, viewer, "u:" + viewer.getId());
+    }
+
+    private static User user(String name, String email) {
+        User user = new User();
+        user.setRealName(name);
+        user.setBirthDate(LocalDate.of(2000, 1, 1));
+        user.setEmail(email);
+        user.setPassword("x");
+        return user;
+    }
+
+    /**
+     * SQL 실행마다 roundTripMicros만큼 멈추는 DataSource (원격 DB 왕복 흉내)
+     */
+    static final class LatencyDataSource extends DelegatingDataSource {
+
+        private final long latencyNanos;
+
+        LatencyDataSource(DataSource target, long latencyNanos) {
+            super(target);
+            this.latencyNanos = latencyNanos;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return wrap(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return wrap(super.getConnection(username, password));
+        }
+
+        private Connection wrap(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        Object result = invoke(connection, method, args);
+                        return result instanceof Statement statement ? wrap(statement, method.getReturnType()) : result;
+                    });
+        }
+
+        private Object wrap(Statement statement, Class<?> type) {
+            return Proxy.newProxyInstance(Statement.class.getClassLoader(), new Class<?>[]{type},
+                    (proxy, method, args) -> {
+                        if (method.getName().startsWith("execute")) {
+                            LockSupport.parkNanos(latencyNanos);
+                        }
+                        return invoke(statement, method, args);
+                    });
+        }
+
+        private static Object invoke(Object target, java.lang.reflect.Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.studywithme.board.service;
+
+import com.example.studywithme.StudyWithMeApplication;
+import com.example.studywithme.board.dto.PostCard;
+import com.example.studywithme.board.entity.Post;
+import com.example.studywithme.board.repository.PostRepository;
+import com.example.studywithme.user.entity.User;
+import com.example.studywithme.user.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 본문 분리 전후 벤치마크
+ * - inline: 본문이 posts.content 에 있는 분리 전 상태 (PostContentMigration 실행 전)
+ * - split: PostContentMigration 으로 post_contents 에 옮긴 뒤 (큰 본문은 압축)
+ * - listEntities: 엔티티 목록 100개 (추천 경로의 최신순 조회, inline은 본문까지 읽음)
+ * - listCards: 목록 카드 100개 (메인 피드, 본문 컬럼을 읽지 않는 프로젝션)
+ * - counterUpdate: 조회수 일괄 반영 + 인기 점수 재계산 (PostViewCounter flush와 같은 쿼리, 100개)
+ * - detail: 상세 화면용 게시글 + 본문 (split은 post_contents PK 조회가 하나 늘어남)
+ * - 인메모리 H2는 큰 TEXT를 행 밖에 두는 방식이 InnoDB와 달라 절대값보다 inline/split 차이를 볼 것
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PostStorageBenchmark {
+
+    private static final int POSTS = 5000;
+    private static final int PAGE = 100;
+
+    @Param({"inline", "split"})
+    String layout;
+
+    // 본문 크기 (KB)
+    @Param({"2", "16"})
+    int bodyKb;
+
+    private ConfigurableApplicationContext context;
+    private PostRepository postRepository;
+    private PostService postService;
+    private TransactionTemplate transactionTemplate;
+    private long[] ids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(StudyWithMeApplication.class)
+                .profiles("devh2")
+                .web(WebApplicationType.NONE)
+                .properties("embedding.enabled=false", "similar-posts.enabled=false", "post-search.enabled=false",
+                        "post-card.backfill-enabled=false", "post-content.migration-initial-delay-ms=86400000",
+                        "spring.jpa.show-sql=false", "logging.level.root=WARN")
+                .run();
+        postRepository = context.getBean(PostRepository.class);
+        postService = context.getBean(PostService.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+
+        User author = new User();
+        author.setRealName("작성자");
+        author.setBirthDate(LocalDate.of(2000, 1, 1));
+        author.setEmail("storage@example.com");
+        author.setPassword("x");
+        author = context.getBean(UserRepository.class).save(author);
+
+        Random random = new Random(42);
+        ids = new long[POSTS];
+        List<Post> batch = new ArrayList<>();
+        for (int i = 0; i < POSTS; i++) {
+            String body = body(random, bodyKb * 1024);
+            Post post = new Post();
+            post.setUser(author);
+            post.setTitle("스터디 " + i);
+            post.setContent(body);
+            post.setLegacyContent(body);
+            post.setCategory(i % 2 == 0 ? "개발" : "영어");
+            post.setTags("자바,스프링");
+            post.setViewCount(random.nextInt(1000));
+            post.setLikeCount(random.nextInt(100));
+            batch.add(post);
+            if (batch.size() == 500 || i == POSTS - 1) {
+                List<Post> saved = postRepository.saveAll(batch);
+                for (int j = 0; j < saved.size(); j++) {
+                    ids[i - saved.size() + 1 + j] = saved.get(j).getId();
+                }
+                batch.clear();
+            }
+        }
+        if ("split".equals(layout)) {
+            context.getBean(PostContentMigration.class).migrate();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Post> listEntities() {
+        return postRepository.findAllByOrderByCreatedAtDesc(PageRequest.of(0, PAGE)).getContent();
+    }
+
+    @Benchmark
+    public List<PostCard> listCards() {
+        return postRepository.findCardsLatest(PageRequest.of(0, PAGE)).getContent();
+    }
+
+    @Benchmark
+    public Integer counterUpdate() {
+        List<Long> targets = new ArrayList<>(PAGE);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < PAGE; i++) {
+            targets.add(ids[random.nextInt(ids.length)]);
+        }
+        return transactionTemplate.execute(status -> {
+            postRepository.incrementViewCounts(targets, 1);
+            return postRepository.refreshPopularityScores(targets);
+        });
+    }
+
+    @Benchmark
+    public Post detail() {
+        return postService.getPostWithContent(ids[ThreadLocalRandom.current().nextInt(ids.length)]);
+    }
+
+    // 단어를 섞은 HTML 본문 (실제 글처럼 적당히 압축되는 정도)
+    private static String body(Random random, int bytes) {
+        String[] words = {"스프링", "자바", "알고리즘", "스터디", "모집", "주", "2회", "온라인", "코딩테스트", "준비",
+                "토익", "회화", "프로젝트", "리뷰", "JPA", "MySQL", "인덱스", "트랜잭션", "배포", "면접"};
+        StringBuilder sb = new StringBuilder(bytes);
+        sb.append("<p>");
+        while (sb.length() * 2 < bytes) {
+            sb.append(words[random.nextInt(words.length)]).append(' ');
+            if (random.nextInt(40) == 0) {
+                sb.append("</p><p>");
+            }
+        }
+        return sb.append("</p>").toString();
+    }
+}
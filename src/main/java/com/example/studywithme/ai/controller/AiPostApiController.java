@@ -37,7 +37,7 @@ public class AiPostApiController {
     public Map<String, Object> getAISummary(@PathVariable Long id,
                                             @RequestParam(defaultValue = "200") int maxLength) {
         try {
-            Post post = postService.getPost(id);
+            Post post = postService.getPostWithContent(id);
             String content = post.getContent();
             content = content.replaceAll("<[^>]*>", " ").replaceAll("\\s+", " ").trim();
             return aiSummaryService.summarizeContent(content, maxLength);
@@ -6,15 +6,24 @@ import com.example.studywithme.ai.service.ChatbotService;
 import com.example.studywithme.board.service.PostService;
 import com.example.studywithme.board.service.BookmarkService;
 import com.example.studywithme.board.entity.Bookmark;
+import jakarta.annotation.PreDestroy;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @RestController
 @RequestMapping("/api/chatbot")
@@ -26,6 +35,11 @@ public class ChatbotController {
     private final PostService postService;
     private final BookmarkService bookmarkService;
 
+    @Value("${chatbot.stream.timeout-ms:120000}")
+    private long streamTimeoutMs;
+
+    private final ExecutorService streamExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
     /**
      * 챗봇 메시지 전송
      */
@@ -40,26 +54,7 @@ public class ChatbotController {
             Integer userId = loginUser != null ? loginUser.getId() : null;
 
             Map<String, Object> response = chatbotService.processMessage(message, userId);
-
-            // 액션에 따라 추가 데이터 제공
-            String action = (String) response.get("action");
-            if (action != null) {
-                // 확인이 필요한 액션인 경우
-                if (!"true".equals(confirmed)) {
-                    // 확인 필요 플래그 추가
-                    response.put("needsConfirmation", true);
-                    response.put("confirmationMessage", getConfirmationMessage(action));
-                    // 데이터는 아직 처리하지 않음 (확인 후 처리)
-                } else {
-                    // 확인 완료 후 액션 처리
-                    handleAction(action, userId, response);
-                }
-                // JavaScript가 기대하는 형식으로 action 필드 명시적으로 설정
-                response.put("action", action);
-            }
-
-            log.debug("챗봇 응답: action={}, hasData={}, needsConfirmation={}", 
-                action, response.containsKey("data"), response.get("needsConfirmation"));
+            applyAction(response, confirmed, userId);
             return ResponseEntity.ok(response);
         } catch (Exception e) {
             log.error("챗봇 메시지 처리 오류", e);
@@ -70,6 +65,71 @@ public class ChatbotController {
         }
     }
 
+    /**
+     * 챗봇 메시지 전송 (스트리밍, Server-Sent Events)
+     * - token: 모델이 생성한 텍스트 조각 {"text": ...}
+     * - done: /message 와 같은 형태의 최종 응답 (action, needsConfirmation 등 포함)
+     * Gemini 호출은 요청 스레드가 아닌 가상 스레드에서 수행
+     */
+    @PostMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamMessage(
+            @RequestParam("message") String message,
+            @RequestParam(value = "confirmed", required = false) String confirmed,
+            HttpSession session) {
+        User loginUser = (User) session.getAttribute("loginUser");
+        Integer userId = loginUser != null ? loginUser.getId() : null;
+
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        streamExecutor.execute(() -> {
+            try {
+                Map<String, Object> response = new HashMap<>(chatbotService.streamMessage(message, userId, token -> {
+                    try {
+                        emitter.send(SseEmitter.event().name("token").data(Map.of("text", token)));
+                    } catch (IOException e) {
+                        // 브라우저 연결 종료: 예외로 Gemini 스트림 읽기를 중단
+                        throw new UncheckedIOException(e);
+                    }
+                }));
+                applyAction(response, confirmed, userId);
+                emitter.send(SseEmitter.event().name("done").data(response));
+                emitter.complete();
+            } catch (Exception e) {
+                log.warn("챗봇 스트리밍 중단: {}", e.getMessage());
+                emitter.completeWithError(e);
+            }
+        });
+        return emitter;
+    }
+
+    @PreDestroy
+    public void shutdownStreamExecutor() {
+        streamExecutor.shutdownNow();
+    }
+
+    /**
+     * 액션에 따라 추가 데이터 제공 (확인 전에는 확인 문구만, confirmed=true면 데이터 조회)
+     */
+    private void applyAction(Map<String, Object> response, String confirmed, Integer userId) {
+        String action = (String) response.get("action");
+        if (action != null) {
+            // 확인이 필요한 액션인 경우
+            if (!"true".equals(confirmed)) {
+                // 확인 필요 플래그 추가
+                response.put("needsConfirmation", true);
+                response.put("confirmationMessage", getConfirmationMessage(action));
+                // 데이터는 아직 처리하지 않음 (확인 후 처리)
+            } else {
+                // 확인 완료 후 액션 처리
+                handleAction(action, userId, response);
+            }
+            // JavaScript가 기대하는 형식으로 action 필드 명시적으로 설정
+            response.put("action", action);
+        }
+
+        log.debug("챗봇 응답: action={}, hasData={}, needsConfirmation={}", 
+            action, response.containsKey("data"), response.get("needsConfirmation"));
+    }
+
     /**
      * 액션별 확인 메시지 생성
      */
@@ -47,7 +47,9 @@ public class ChatMessage {
 
     @PrePersist
     protected void onCreate() {
-        createdAt = LocalDateTime.now();
+        if (createdAt == null) { // write-behind 저장은 대화 시각을 미리 채워서 넘김
+            createdAt = LocalDateTime.now();
+        }
     }
 
     public enum MessageRole {
@@ -0,0 +1,39 @@
+package com.example.studywithme.ai.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 임베딩 (PostEmbeddingEncoder 로 만든 int8 양자화 벡터)
+ * - posts 와 분리된 테이블이라 게시글 목록 조회 시 벡터를 함께 읽지 않음
+ */
+@Entity
+@Table(name = "post_embeddings")
+@Getter
+@Setter
+@ToString(exclude = "vector")
+public class PostEmbedding {
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Column(name = "dimension", nullable = false)
+    private Integer dimension;
+
+    @Column(name = "model_version", nullable = false)
+    private Integer modelVersion;
+
+    @Column(name = "scale", nullable = false)
+    private Float scale;
+
+    @Column(name = "vector", nullable = false, columnDefinition = "VARBINARY(256)")
+    private byte[] vector;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
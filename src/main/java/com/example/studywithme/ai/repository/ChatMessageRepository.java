@@ -1,6 +1,7 @@
 package com.example.studywithme.ai.repository;
 
 import com.example.studywithme.ai.entity.ChatMessage;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -28,11 +29,24 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
     List<ChatMessage> findRecentMessages(@Param("userId") Integer userId, @Param("limit") int limit);
 
     /**
-     * 30일 이전 메시지 삭제 (스케줄러용)
+     * 보관 기간이 지난 메시지 ID (오래된 순, idx_created_at 범위 스캔) — 보관 기간 정리 작업용
+     */
+    @Query("SELECT cm.id FROM ChatMessage cm WHERE cm.createdAt < :cutoffDate ORDER BY cm.createdAt ASC")
+    List<Long> findIdsCreatedBefore(@Param("cutoffDate") LocalDateTime cutoffDate, Pageable pageable);
+
+    /**
+     * ID 목록으로 일괄 삭제 (한 번의 DELETE 문)
+     */
+    @Modifying
+    @Query("DELETE FROM ChatMessage cm WHERE cm.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
+
+    /**
+     * 사용자의 대화 내역 일괄 삭제 (userId가 null이면 비로그인 메시지)
      */
     @Modifying
-    @Query("DELETE FROM ChatMessage cm WHERE cm.createdAt < :cutoffDate")
-    int deleteOldMessages(@Param("cutoffDate") LocalDateTime cutoffDate);
+    @Query("DELETE FROM ChatMessage cm WHERE (cm.user.id = :userId OR (cm.user IS NULL AND :userId IS NULL))")
+    int deleteByUserId(@Param("userId") Integer userId);
 
     /**
      * 사용자별 메시지 개수
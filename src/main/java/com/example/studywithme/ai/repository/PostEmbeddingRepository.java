@@ -0,0 +1,27 @@
+package com.example.studywithme.ai.repository;
+
+import com.example.studywithme.ai.entity.PostEmbedding;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface PostEmbeddingRepository extends JpaRepository<PostEmbedding, Long> {
+
+    /**
+     * post_id 기준 키셋 페이지 조회 (전체 임베딩 순회용)
+     */
+    List<PostEmbedding> findByPostIdGreaterThanOrderByPostIdAsc(Long afterPostId, Pageable pageable);
+
+    /**
+     * 특정 시각 이후 계산된 임베딩 (유사 게시글 인덱스 동기화용)
+     */
+    List<PostEmbedding> findByUpdatedAtGreaterThanEqual(LocalDateTime since);
+
+    @Query("SELECT e.postId FROM PostEmbedding e")
+    List<Long> findAllPostIds();
+}
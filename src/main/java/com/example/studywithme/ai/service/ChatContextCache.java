@@ -0,0 +1,179 @@
+package com.example.studywithme.ai.service;
+
+import com.example.studywithme.ai.entity.ChatMessage;
+import com.example.studywithme.ai.repository.ChatMessageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 챗봇 대화 맥락 캐시 (사용자별 최근 N턴 링 버퍼)
+ * - 프롬프트에 넣을 줄("사용자: ...", "AI: ...")을 미리 만들어 두고, 조립 시 StringBuilder 하나에 바로 이어 붙임
+ * - 전체 대화 수는 max-conversations로 제한하고 가장 오래 안 쓴 사용자부터 제거 (LRU)
+ * - 캐시에 없으면(재시작/제거 후) DB 최근 메시지 + 아직 저장 대기 중인 메시지로 한 번 복원
+ * - 인스턴스별 메모리이므로 여러 인스턴스에서는 sticky session 전제 (아니면 다른 인스턴스 대화가 늦게 반영됨)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ChatContextCache {
+
+    private static final String USER_PREFIX = "사용자: ";
+    private static final String ASSISTANT_PREFIX = "AI: ";
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatMessageWriteBehind chatMessageWriteBehind;
+
+    @Value("${chatbot.context.turns:10}")
+    private int turns;
+
+    @Value("${chatbot.context.max-conversations:10000}")
+    private int maxConversations;
+
+    @Value("${chatbot.context.max-turn-chars:2000}")
+    private int maxTurnChars;
+
+    // 접근 순서 LinkedHashMap = LRU (키 null은 비로그인 사용자 공용 대화, DB와 같은 기준)
+    private final Map<Integer, Conversation> conversations = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, Conversation> eldest) {
+            return size() > maxConversations;
+        }
+    };
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * 사용자 대화 버퍼 (없으면 DB에서 복원)
+     */
+    public Conversation get(Integer userId) {
+        synchronized (conversations) {
+            Conversation cached = conversations.get(userId);
+            if (cached != null) {
+                hits.incrementAndGet();
+                return cached;
+            }
+        }
+        misses.incrementAndGet();
+        Conversation loaded = load(userId);
+        synchronized (conversations) {
+            // 복원하는 동안 다른 요청이 먼저 넣었으면 그쪽을 사용
+            Conversation raced = conversations.putIfAbsent(userId, loaded);
+            return raced != null ? raced : loaded;
+        }
+    }
+
+    /**
+     * 대화 내역 초기화 후 빈 버퍼로 교체
+     */
+    public void clear(Integer userId) {
+        synchronized (conversations) {
+            conversations.put(userId, new Conversation(turns, maxTurnChars));
+        }
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    private Conversation load(Integer userId) {
+        Conversation conversation = new Conversation(turns, maxTurnChars);
+        List<ChatMessage> recent = chatMessageRepository.findRecentMessages(userId, turns);
+        for (int i = recent.size() - 1; i >= 0; i--) { // 최신순 → 시간순
+            ChatMessage msg = recent.get(i);
+            if (msg.getRole() == ChatMessage.MessageRole.USER) {
+                conversation.addUserTurn(msg.getMessage());
+            } else {
+                conversation.addAssistantTurn(msg.getResponse());
+            }
+        }
+        for (ChatMessageWriteBehind.PendingMessage pending : chatMessageWriteBehind.pendingFor(userId)) {
+            if (pending.role() == ChatMessage.MessageRole.USER) {
+                conversation.addUserTurn(pending.message());
+            } else {
+                conversation.addAssistantTurn(pending.response());
+            }
+        }
+        return conversation;
+    }
+
+    /**
+     * 최근 N턴 링 버퍼. 각 턴은 프롬프트에 들어갈 한 줄로 미리 렌더링해 보관
+     */
+    public static final class Conversation {
+
+        private final String[] lines;
+        private final int maxTurnChars;
+        private int head; // 다음에 쓸 위치
+        private int size;
+        private int chars;
+
+        Conversation(int capacity, int maxTurnChars) {
+            this.lines = new String[capacity];
+            this.maxTurnChars = maxTurnChars;
+        }
+
+        public void addUserTurn(String message) {
+            add(USER_PREFIX, message);
+        }
+
+        public void addAssistantTurn(String response) {
+            add(ASSISTANT_PREFIX, response);
+        }
+
+        /**
+         * 맥락이 있으면 header와 함께 시간순으로 이어 붙임
+         */
+        public synchronized void appendTo(StringBuilder sb, String header) {
+            if (size == 0) {
+                return;
+            }
+            sb.append(header);
+            int start = head - size;
+            for (int i = 0; i < size; i++) {
+                sb.append(lines[Math.floorMod(start + i, lines.length)]);
+            }
+        }
+
+        /**
+         * 버퍼에 든 글자 수 (StringBuilder 용량 계산용)
+         */
+        public synchronized int length() {
+            return chars;
+        }
+
+        public synchronized int size() {
+            return size;
+        }
+
+        private synchronized void add(String prefix, String text) {
+            if (text == null || text.isEmpty() || lines.length == 0) {
+                return;
+            }
+            if (text.length() > maxTurnChars) {
+                text = text.substring(0, maxTurnChars);
+            }
+            String line = prefix + text + "\n";
+            String evicted = lines[head];
+            if (size == lines.length && evicted != null) {
+                chars -= evicted.length();
+            } else {
+                size++;
+            }
+            lines[head] = line;
+            chars += line.length();
+            head = (head + 1) % lines.length;
+        }
+    }
+}
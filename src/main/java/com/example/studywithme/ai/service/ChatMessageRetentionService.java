@@ -0,0 +1,86 @@
+package com.example.studywithme.ai.service;
+
+import com.example.studywithme.ai.repository.ChatMessageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 챗봇 대화 보관 기간 정리
+ * - created_at 이 보관 기간(chatbot.retention.days)을 넘은 메시지를 chunk-size 단위로 삭제
+ * - chunk 하나가 트랜잭션 하나: idx_created_at 으로 오래된 ID를 고르고 PK IN (...) 으로 삭제해 잠금을 짧게 유지
+ * - chunk 사이에 pause-ms 만큼 쉬어 복제 지연·다른 쓰기와의 경합을 줄임, 한 번에 최대 max-chunks 까지
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ChatMessageRetentionService {
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${chatbot.retention.enabled:true}")
+    private boolean enabled;
+
+    @Value("${chatbot.retention.days:30}")
+    private int retentionDays;
+
+    @Value("${chatbot.retention.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${chatbot.retention.max-chunks:500}")
+    private int maxChunks;
+
+    @Value("${chatbot.retention.pause-ms:100}")
+    private long pauseMs;
+
+    @Scheduled(cron = "${chatbot.retention.cron:0 30 4 * * *}")
+    public void purgeExpired() {
+        if (!enabled) {
+            return;
+        }
+        purgeBefore(LocalDateTime.now().minusDays(retentionDays));
+    }
+
+    /**
+     * cutoff 이전 메시지를 chunk 단위로 삭제
+     *
+     * @return 삭제한 메시지 수
+     */
+    public int purgeBefore(LocalDateTime cutoff) {
+        long start = System.currentTimeMillis();
+        int total = 0;
+        for (int chunk = 0; chunk < maxChunks; chunk++) {
+            Integer deleted = transactionTemplate.execute(status -> {
+                List<Long> ids = chatMessageRepository.findIdsCreatedBefore(cutoff, PageRequest.of(0, chunkSize));
+                return ids.isEmpty() ? 0 : chatMessageRepository.deleteByIdIn(ids);
+            });
+            if (deleted == null || deleted == 0) {
+                break;
+            }
+            total += deleted;
+            if (deleted < chunkSize) {
+                break;
+            }
+            if (pauseMs > 0) {
+                try {
+                    Thread.sleep(pauseMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        if (total > 0) {
+            log.info("챗봇 대화 보관 기간 정리: {}개 삭제 (기준 {}, {}ms)", total, cutoff, System.currentTimeMillis() - start);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.studywithme.ai.service;
+
+import com.example.studywithme.ai.entity.ChatMessage;
+import com.example.studywithme.ai.repository.ChatMessageRepository;
+import com.example.studywithme.user.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 챗봇 메시지 write-behind 저장
+ * - 요청 스레드는 큐에 넣기만 하고, 스케줄러가 배치 단위로 한 트랜잭션에 저장
+ * - 큐가 max-pending을 넘으면 넣은 스레드가 바로 비움 (메모리 상한 겸 역압)
+ * - 배치 저장이 실패하면 건별로 다시 저장해 한 건 때문에 배치 전체를 잃지 않음
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ChatMessageWriteBehind {
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final UserRepository userRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${chatbot.write-behind.batch-size:500}")
+    private int batchSize;
+
+    @Value("${chatbot.write-behind.max-pending:20000}")
+    private int maxPending;
+
+    private final ConcurrentLinkedQueue<PendingMessage> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final Object flushLock = new Object();
+
+    /**
+     * 저장 대기 중인 메시지 (userId가 null이면 비로그인 사용자)
+     */
+    public record PendingMessage(Integer userId, String message, String response, ChatMessage.MessageRole role,
+                                 String actionType, String actionData, LocalDateTime createdAt) {}
+
+    public void enqueue(PendingMessage message) {
+        queue.add(message);
+        if (pendingCount.incrementAndGet() > maxPending) {
+            flush();
+        }
+    }
+
+    /**
+     * 아직 저장되지 않은 해당 사용자의 메시지 (오래된 순)
+     */
+    public List<PendingMessage> pendingFor(Integer userId) {
+        List<PendingMessage> result = new ArrayList<>();
+        for (PendingMessage message : queue) {
+            if (Objects.equals(message.userId(), userId)) {
+                result.add(message);
+            }
+        }
+        return result;
+    }
+
+    @Scheduled(fixedDelayString = "${chatbot.write-behind.flush-interval-ms:500}")
+    public void flush() {
+        synchronized (flushLock) {
+            while (true) {
+                List<PendingMessage> batch = new ArrayList<>(Math.min(batchSize, Math.max(pendingCount.get(), 1)));
+                PendingMessage message;
+                while (batch.size() < batchSize && (message = queue.poll()) != null) {
+                    batch.add(message);
+                }
+                if (batch.isEmpty()) {
+                    return;
+                }
+                pendingCount.addAndGet(-batch.size());
+                persist(batch);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private void persist(List<PendingMessage> batch) {
+        // 대화 내역 조회(readOnly) 등 호출한 쪽 트랜잭션과 무관하게 별도 트랜잭션으로 저장
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    chatMessageRepository.saveAll(batch.stream().map(this::toEntity).toList()));
+        } catch (Exception e) {
+            log.warn("챗봇 메시지 배치 저장 실패, 건별로 재시도: {}개 ({})", batch.size(), e.getMessage());
+            for (PendingMessage message : batch) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> chatMessageRepository.save(toEntity(message)));
+                } catch (Exception single) {
+                    log.error("챗봇 메시지 저장 실패 (사용자 ID {}): {}", message.userId(), single.getMessage());
+                }
+            }
+        }
+    }
+
+    private ChatMessage toEntity(PendingMessage message) {
+        ChatMessage entity = new ChatMessage();
+        entity.setUser(message.userId() != null ? userRepository.getReferenceById(message.userId()) : null);
+        entity.setMessage(message.message());
+        entity.setResponse(message.response());
+        entity.setRole(message.role());
+        entity.setActionType(message.actionType());
+        entity.setActionData(message.actionData());
+        entity.setCreatedAt(message.createdAt());
+        return entity;
+    }
+}
@@ -0,0 +1,256 @@
+package com.example.studywithme.ai.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * 챗봇 응답 캐시 (FAQ성 질문의 Gemini 호출 절감)
+ * - 키: 로그인 여부 + 정규화한 질문 (소문자, 문장부호 제거, 단어 끝 조사 제거, 공백 정리)
+ * - TTL이 지나면 만료, max-entries를 넘으면 가장 오래 안 쓴 항목부터 제거 (LRU)
+ * - 관리자가 고정(pin)한 항목은 만료/제거 대상에서 빠지고, 관리자가 답변을 직접 지정할 수도 있음
+ * - 대화 맥락과 무관하게 같은 답을 돌려주므로 짧은 질문만 캐시 (max-question-chars)
+ *   ChatbotService는 맥락이 비어 있던 첫 질문이면서 액션이 없는 경우에만 읽고 씀 (다른 사용자 대화가 섞이지 않도록)
+ */
+@Service
+@Slf4j
+public class ChatResponseCache {
+
+    // 의도 규칙(chatbot/intents.json)의 particles와 같은 조사 목록 (단어 끝에서만 제거, 남는 글자가 있어야 함)
+    private static final Pattern TRAILING_PARTICLE = Pattern.compile(
+            "(?<=\\S)(으로|하고|까지|부터|을|를|이|가|은|는|에|의|로|와|과|도|만)$");
+    private static final Pattern PUNCTUATION = Pattern.compile("[\\p{Punct}\\p{IsPunctuation}~·…]+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    @Value("${chatbot.response-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${chatbot.response-cache.ttl-minutes:60}")
+    private long ttlMinutes;
+
+    @Value("${chatbot.response-cache.max-entries:1000}")
+    private int maxEntries;
+
+    @Value("${chatbot.response-cache.max-question-chars:100}")
+    private int maxQuestionChars;
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong puts = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong expirations = new AtomicLong();
+
+    /**
+     * 캐시 항목 (관리자 화면 표시용 필드 포함)
+     */
+    public static final class Entry {
+        private final String key;
+        private final String question;
+        private final String response;
+        private final LocalDateTime createdAt;
+        private final boolean pinned;
+        private final AtomicLong hitCount = new AtomicLong();
+
+        Entry(String key, String question, String response, LocalDateTime createdAt, boolean pinned) {
+            this.key = key;
+            this.question = question;
+            this.response = response;
+            this.createdAt = createdAt;
+            this.pinned = pinned;
+        }
+
+        public String getKey() { return key; }
+        public String getQuestion() { return question; }
+        public String getResponse() { return response; }
+        public LocalDateTime getCreatedAt() { return createdAt; }
+        public boolean isPinned() { return pinned; }
+        public long getHitCount() { return hitCount.get(); }
+    }
+
+    public record Stats(long hits, long misses, long puts, long evictions, long expirations,
+                        int size, int pinned, double hitRate) {}
+
+    /**
+     * 캐시 키 (캐시 대상이 아닌 질문이면 null)
+     */
+    public String keyOf(String message, boolean loggedIn) {
+        if (message == null || message.length() > maxQuestionChars) {
+            return null;
+        }
+        String normalized = normalize(message);
+        if (normalized.isEmpty()) {
+            return null;
+        }
+        return (loggedIn ? "U|" : "G|") + normalized;
+    }
+
+    /**
+     * 질문 정규화: 소문자 → 문장부호 제거 → 단어별 끝 조사 제거 → 공백 하나로
+     */
+    public static String normalize(String message) {
+        String text = PUNCTUATION.matcher(message.toLowerCase().trim()).replaceAll(" ");
+        StringBuilder sb = new StringBuilder(text.length());
+        for (String word : WHITESPACE.split(text)) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            if (sb.length() > 0) {
+                sb.append(' ');
+            }
+            sb.append(TRAILING_PARTICLE.matcher(word).replaceFirst(""));
+        }
+        return sb.toString();
+    }
+
+    public String get(String message, boolean loggedIn) {
+        String key = keyOf(message, loggedIn);
+        if (!enabled || key == null) {
+            return null;
+        }
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null && !entry.pinned && isExpired(entry)) {
+                entries.remove(key);
+                expirations.incrementAndGet();
+                entry = null;
+            }
+            if (entry == null) {
+                misses.incrementAndGet();
+                return null;
+            }
+            hits.incrementAndGet();
+            entry.hitCount.incrementAndGet();
+            return entry.response;
+        }
+    }
+
+    /**
+     * Gemini가 정상 응답한 답변 저장 (고정 항목은 덮어쓰지 않음)
+     */
+    public void put(String message, boolean loggedIn, String response) {
+        String key = keyOf(message, loggedIn);
+        if (!enabled || key == null || response == null || response.isEmpty()) {
+            return;
+        }
+        synchronized (entries) {
+            Entry existing = entries.get(key);
+            if (existing != null && existing.pinned) {
+                return;
+            }
+            entries.put(key, new Entry(key, message, response, LocalDateTime.now(), false));
+            puts.incrementAndGet();
+            evictOverflow();
+        }
+    }
+
+    /**
+     * 관리자: 항목 고정/해제 (response가 있으면 그 답변으로 교체)
+     *
+     * @return 대상 항목이 있었는지 (response를 주면 항상 true)
+     */
+    public boolean pin(String key, boolean pinned, String response) {
+        synchronized (entries) {
+            Entry existing = entries.get(key);
+            String answer = response != null && !response.isBlank() ? response : existing != null ? existing.response : null;
+            if (answer == null) {
+                return false;
+            }
+            String question = existing != null ? existing.question : key.substring(2);
+            entries.put(key, new Entry(key, question, answer, LocalDateTime.now(), pinned));
+            evictOverflow();
+            return true;
+        }
+    }
+
+    /**
+     * 관리자: 질문으로 답변 고정 (FAQ 등록)
+     */
+    public String pinAnswer(String question, boolean loggedIn, String response) {
+        String key = keyOf(question, loggedIn);
+        if (key == null) {
+            throw new IllegalArgumentException("캐시할 수 없는 질문입니다. (비어 있거나 " + maxQuestionChars + "자 초과)");
+        }
+        synchronized (entries) {
+            entries.put(key, new Entry(key, question, response, LocalDateTime.now(), true));
+            evictOverflow();
+        }
+        return key;
+    }
+
+    public boolean evict(String key) {
+        synchronized (entries) {
+            return entries.remove(key) != null;
+        }
+    }
+
+    /**
+     * 고정하지 않은 항목 전체 삭제
+     */
+    public int clearUnpinned() {
+        synchronized (entries) {
+            int before = entries.size();
+            entries.values().removeIf(entry -> !entry.pinned);
+            return before - entries.size();
+        }
+    }
+
+    /**
+     * 관리자 화면용 목록 (고정 항목 먼저, 그다음 적중 많은 순)
+     */
+    public List<Entry> list() {
+        List<Entry> snapshot;
+        synchronized (entries) {
+            snapshot = new ArrayList<>(entries.values());
+        }
+        snapshot.sort(Comparator.comparing(Entry::isPinned).reversed()
+                .thenComparing(Comparator.comparingLong(Entry::getHitCount).reversed()));
+        return snapshot;
+    }
+
+    public Stats stats() {
+        int size;
+        int pinned = 0;
+        synchronized (entries) {
+            size = entries.size();
+            for (Entry entry : entries.values()) {
+                if (entry.pinned) {
+                    pinned++;
+                }
+            }
+        }
+        long h = hits.get();
+        long m = misses.get();
+        return new Stats(h, m, puts.get(), evictions.get(), expirations.get(), size, pinned,
+                h + m == 0 ? 0.0 : (double) h / (h + m));
+    }
+
+    private boolean isExpired(Entry entry) {
+        return entry.createdAt.plus(Duration.ofMinutes(ttlMinutes)).isBefore(LocalDateTime.now());
+    }
+
+    /**
+     * 한도를 넘으면 고정되지 않은 항목 중 가장 오래 안 쓴 것부터 제거 (접근 순서 = 반복 순서)
+     */
+    private void evictOverflow() {
+        Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator();
+        while (entries.size() > maxEntries && it.hasNext()) {
+            if (!it.next().getValue().pinned) {
+                it.remove();
+                evictions.incrementAndGet();
+            }
+        }
+    }
+}
@@ -2,10 +2,9 @@ package com.example.studywithme.ai.service;
 
 import com.example.studywithme.ai.entity.ChatMessage;
 import com.example.studywithme.board.entity.Post;
-import com.example.studywithme.user.entity.User;
 import com.example.studywithme.ai.repository.ChatMessageRepository;
 import com.example.studywithme.board.repository.PostRepository;
-import com.example.studywithme.user.repository.UserRepository;
+import com.example.studywithme.board.service.PostSearchService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -15,11 +14,22 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -28,12 +38,20 @@ public class ChatbotService {
 
     private final ChatMessageRepository chatMessageRepository;
     private final PostRepository postRepository;
-    private final UserRepository userRepository;
-    
-    // RestTemplate은 필요할 때마다 생성 (Bean으로 관리하지 않음)
-    private RestTemplate getRestTemplate() {
-        return new RestTemplate();
-    }
+    private final PostSearchService postSearchService;
+    private final PostEmbeddingService postEmbeddingService;
+    private final SimilarPostIndexService similarPostIndexService;
+    private final ChatContextCache chatContextCache;
+    private final ChatMessageWriteBehind chatMessageWriteBehind;
+    private final ChatResponseCache chatResponseCache;
+    private final GeminiRateLimiter geminiRateLimiter;
+    private final IntentClassifier intentClassifier;
+    private final RestTemplate geminiRestTemplate;
+    private final HttpClient geminiHttpClient;
+    private final ObjectMapper objectMapper;
+
+    @Value("${gemini.http.read-timeout-ms:60000}")
+    private long readTimeoutMs;
 
     @Value("${gemini.api.key:}")
     private String geminiApiKey;
@@ -44,6 +62,9 @@ public class ChatbotService {
     @Value("${gemini.api.url:}")
     private String geminiApiUrl;
 
+    private static final String RATE_LIMITED_MESSAGE = "API 사용량이 초과되었습니다. 잠시 후 다시 시도해주세요.";
+    private static final String CONTEXT_HEADER = "\n\n## 최근 대화 맥락:\n";
+
     // 웹사이트 기능 설명 (시스템 프롬프트)
     private static final String WEBSITE_CONTEXT = """
         당신은 "Study With Me" 스터디 매칭 플랫폼의 AI 고객센터 어시스턴트입니다.
@@ -71,44 +92,73 @@ public class ChatbotService {
 
     /**
      * 사용자 메시지 처리 및 AI 응답 생성
+     * - 대화 맥락은 메모리 링 버퍼(ChatContextCache)에서 조립하고, 메시지 저장은 write-behind 배치로 넘겨
+     *   요청 처리 중에는 DB를 사용하지 않음 (캐시에 없을 때만 한 번 DB에서 복원)
+     * - Gemini 호출은 수 초가 걸릴 수 있으므로 트랜잭션/커넥션 없이 수행
      */
-    @Transactional
     public Map<String, Object> processMessage(String userMessage, Integer userId) {
-        try {
-            // 1. 사용자 메시지 저장
-            User user = userId != null ? userRepository.findById(userId).orElse(null) : null;
-            ChatMessage userMsg = new ChatMessage();
-            userMsg.setUser(user);
-            userMsg.setMessage(userMessage);
-            userMsg.setResponse(""); // 사용자 메시지는 응답 없음
-            userMsg.setRole(ChatMessage.MessageRole.USER);
-            chatMessageRepository.save(userMsg);
-
-            // 2. 최근 대화 맥락 가져오기 (최근 10개)
-            List<ChatMessage> recentMessages = chatMessageRepository.findRecentMessages(
-                userId, 10
-            );
-            Collections.reverse(recentMessages); // 시간순으로 정렬
+        return handleMessage(userMessage, userId, null);
+    }
+
+    /**
+     * 스트리밍 응답 생성: 모델이 만드는 텍스트 조각을 onToken으로 즉시 전달하고,
+     * 완료되면 processMessage와 같은 형태의 결과를 반환합니다. (저장 흐름 동일)
+     * 오류/안내 문구처럼 스트리밍되지 않은 응답도 한 조각으로 전달되므로 조각을 이어 붙이면 항상 message와 같음
+     */
+    public Map<String, Object> streamMessage(String userMessage, Integer userId, Consumer<String> onToken) {
+        return handleMessage(userMessage, userId, onToken);
+    }
 
-            // 3. 요청 파싱 및 액션 결정
+    private Map<String, Object> handleMessage(String userMessage, Integer userId, Consumer<String> onToken) {
+        try {
+            // 1. 최근 대화 맥락 + 현재 메시지로 프롬프트 조립 후, 사용자 메시지를 맥락/저장 대기열에 추가
+            ChatContextCache.Conversation conversation = chatContextCache.get(userId);
+            boolean freshConversation = conversation.size() == 0;
+            String prompt = buildPrompt(userMessage, conversation, userId);
+            conversation.addUserTurn(userMessage);
+            chatMessageWriteBehind.enqueue(new ChatMessageWriteBehind.PendingMessage(
+                userId, userMessage, "", ChatMessage.MessageRole.USER, null, null, LocalDateTime.now()));
+
+            // 2. 요청 파싱 및 액션 결정
             ActionInfo actionInfo = parseUserRequest(userMessage, userId);
 
-            // 4. Gemini API 호출
-            String aiResponse = callGeminiAPI(userMessage, recentMessages, userId, actionInfo);
-
-            // 5. AI 응답 저장
-            ChatMessage aiMsg = new ChatMessage();
-            aiMsg.setUser(user);
-            aiMsg.setMessage("");
-            aiMsg.setResponse(aiResponse);
-            aiMsg.setRole(ChatMessage.MessageRole.ASSISTANT);
-            if (actionInfo != null && actionInfo.actionType != null) {
-                aiMsg.setActionType(actionInfo.actionType);
-                aiMsg.setActionData(actionInfo.actionData);
+            // 3. 응답 캐시(FAQ성 질문) 확인 후 없으면 Gemini API 호출 (트랜잭션 밖, 커넥션 미보유)
+            //    답이 이전 대화에 따라 달라지므로 맥락이 없던 첫 질문, 액션이 없는 일반 대화만 캐시를 읽고 씀
+            boolean loggedIn = userId != null;
+            boolean cacheable = freshConversation && actionInfo == null;
+            String aiResponse = cacheable ? chatResponseCache.get(userMessage, loggedIn) : null;
+            if (aiResponse != null) {
+                if (onToken != null) {
+                    onToken.accept(aiResponse);
+                }
+            } else {
+                GeminiReply reply;
+                if (!geminiRateLimiter.acquire(userId)) {
+                    // 쿼터를 넘기기 전에 미리 거절 (Gemini 429와 같은 안내)
+                    reply = GeminiReply.fail(RATE_LIMITED_MESSAGE);
+                    if (onToken != null) {
+                        onToken.accept(RATE_LIMITED_MESSAGE);
+                    }
+                } else {
+                    reply = onToken == null
+                            ? callGeminiAPI(prompt)
+                            : streamGeminiAPI(prompt, onToken);
+                }
+                aiResponse = reply.text();
+                if (reply.ok() && cacheable) {
+                    chatResponseCache.put(userMessage, loggedIn, aiResponse);
+                }
             }
-            chatMessageRepository.save(aiMsg);
 
-            // 6. 응답 반환
+            // 4. AI 응답을 맥락/저장 대기열에 추가
+            conversation.addAssistantTurn(aiResponse);
+            chatMessageWriteBehind.enqueue(new ChatMessageWriteBehind.PendingMessage(
+                userId, "", aiResponse, ChatMessage.MessageRole.ASSISTANT,
+                actionInfo != null ? actionInfo.actionType : null,
+                actionInfo != null ? actionInfo.actionData : null,
+                LocalDateTime.now()));
+
+            // 5. 응답 반환
             Map<String, Object> response = new HashMap<>();
             response.put("message", aiResponse);
             response.put("action", actionInfo != null ? actionInfo.actionType : null);
@@ -127,166 +177,41 @@ public class ChatbotService {
     }
 
     /**
-     * 사용자 요청 파싱 및 액션 결정
+     * 사용자 요청 파싱 및 액션 결정 (규칙: chatbot/intents.json, IntentClassifier)
      */
     private ActionInfo parseUserRequest(String message, Integer userId) {
-        String lowerMsg = message.toLowerCase().trim();
-
-        // 마이페이지 관련
-        if (lowerMsg.contains("마이페이지") || lowerMsg.contains("내 게시글") || 
-            lowerMsg.contains("내 글") || lowerMsg.contains("작성한 글")) {
-            return new ActionInfo("SHOW_MYPAGE", null);
-        }
-
-        // 북마크 관련
-        if (lowerMsg.contains("북마크") || lowerMsg.contains("저장한") || 
-            lowerMsg.contains("즐겨찾기") || lowerMsg.contains("보관")) {
-            return new ActionInfo("SHOW_BOOKMARKS", null);
-        }
-
-        // 게시글 검색 관련
-        if (lowerMsg.contains("검색") || lowerMsg.contains("찾아") || 
-            lowerMsg.contains("보여줘") || lowerMsg.contains("추천")) {
-            // 키워드 추출
-            String keyword = extractSearchKeyword(message);
-            if (keyword != null && !keyword.isEmpty()) {
-                return new ActionInfo("SEARCH_POSTS", keyword);
-            }
-        }
-
-        // AI 추천 관련
-        if (lowerMsg.contains("ai 추천") || lowerMsg.contains("추천 받") || 
-            lowerMsg.contains("맞춤 추천")) {
-            return new ActionInfo("SHOW_RECOMMENDATIONS", null);
-        }
-
-        return null; // 일반 대화
-    }
-
-    /**
-     * 검색 키워드 추출
-     */
-    private String extractSearchKeyword(String message) {
-        String lowerMsg = message.toLowerCase().trim();
-        
-        // 검색 패턴 제거
-        String[] removePatterns = {
-            "검색", "찾아", "찾아줘", "찾아주세요", "찾아봐", "찾아봐줘",
-            "보여줘", "보여주세요", "보여줄래", "보여줄 수 있어",
-            "추천", "추천해", "추천해줘", "추천해주세요",
-            "스터디", "게시글", "게시물", "글"
-        };
-        
-        String keyword = message.trim();
-        
-        // 패턴 제거
-        for (String pattern : removePatterns) {
-            keyword = keyword.replaceAll("(?i)" + pattern, "").trim();
+        IntentClassifier.Intent intent = intentClassifier.classify(message);
+        if (intent == null) {
+            return null; // 일반 대화
         }
-        
-        // 앞뒤 불필요한 단어 제거
-        keyword = keyword.replaceAll("^(을|를|이|가|은|는|에|의|로|으로|하고|와|과|도|만|까지|부터|부터|까지)\\s+", "").trim();
-        keyword = keyword.replaceAll("\\s+(을|를|이|가|은|는|에|의|로|으로|하고|와|과|도|만|까지|부터)$", "").trim();
-        
-        // 키워드가 너무 짧거나 길면 null 반환
-        if (keyword.length() < 1 || keyword.length() > 50) {
-            // 전체 메시지에서 직접 키워드 추출 시도
-            String[] words = message.trim().split("\\s+");
-            if (words.length > 0 && words[0].length() > 0 && words[0].length() < 50) {
-                // 첫 번째 단어를 키워드로 사용
-                keyword = words[0];
-            } else {
-                return null;
-            }
-        }
-        
-        return keyword;
+        return new ActionInfo(intent.action(), intent.data());
     }
 
     /**
      * Gemini API 호출
      */
     @SuppressWarnings("unchecked")
-    private String callGeminiAPI(String userMessage, List<ChatMessage> context, 
-                                  Integer userId, ActionInfo actionInfo) {
+    private GeminiReply callGeminiAPI(String prompt) {
         if (geminiApiKey == null || geminiApiKey.isEmpty()) {
-            return "AI 챗봇을 사용하려면 Gemini API 키가 필요합니다. application.properties에 gemini.api.key를 설정해주세요.";
+            return GeminiReply.fail("AI 챗봇을 사용하려면 Gemini API 키가 필요합니다. application.properties에 gemini.api.key를 설정해주세요.");
         }
 
         try {
-            // 대화 맥락 구성
-            StringBuilder contextBuilder = new StringBuilder();
-            contextBuilder.append(WEBSITE_CONTEXT);
-            if (userId != null) {
-                contextBuilder.append("\n현재 로그인한 사용자입니다.");
-            } else {
-                contextBuilder.append("\n현재 비로그인 사용자입니다.");
-            }
-
-            // 최근 대화 맥락 추가
-            if (!context.isEmpty()) {
-                contextBuilder.append("\n\n## 최근 대화 맥락:\n");
-                for (ChatMessage msg : context) {
-                    if (msg.getRole() == ChatMessage.MessageRole.USER && !msg.getMessage().isEmpty()) {
-                        contextBuilder.append("사용자: ").append(msg.getMessage()).append("\n");
-                    } else if (msg.getRole() == ChatMessage.MessageRole.ASSISTANT && !msg.getResponse().isEmpty()) {
-                        contextBuilder.append("AI: ").append(msg.getResponse()).append("\n");
-                    }
-                }
-            }
-
-            // 요청 구성 (Gemini API v1 형식)
-            // v1 API에서는 systemInstruction을 직접 지원하지 않으므로 프롬프트에 포함
-            Map<String, Object> requestBody = new HashMap<>();
-            
-            // 시스템 인스트럭션과 사용자 메시지를 결합한 프롬프트 생성
-            String fullPrompt = contextBuilder.toString() + "\n\n사용자: " + userMessage + "\nAI:";
-            
-            // 사용자 메시지
-            List<Map<String, Object>> contents = new ArrayList<>();
-            Map<String, Object> content = new HashMap<>();
-            content.put("parts", List.of(Map.of("text", fullPrompt)));
-            contents.add(content);
-            requestBody.put("contents", contents);
+            Map<String, Object> requestBody = buildRequestBody(prompt);
 
             // HTTP 요청
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_JSON);
-            // API 키는 URL 쿼리 파라미터로 전달 (헤더도 함께 사용 가능하지만 쿼리 파라미터가 더 안정적)
-            // headers.set("x-goog-api-key", geminiApiKey);
-            
-            // URL 구성 (application.properties에 URL이 없으면 기본값 사용)
-            String baseUrl;
-            if (geminiApiUrl != null && !geminiApiUrl.isEmpty()) {
-                baseUrl = geminiApiUrl;
-            } else {
-                // 기본 URL 구성 - 모델명 사용
-                String model = geminiModel != null && !geminiModel.isEmpty() ? geminiModel : "gemini-1.5-flash";
-                // Gemini API v1beta 엔드포인트 사용
-                // v1 API에서는 gemini-pro가 지원되지 않을 수 있으므로 v1beta 사용
-                // 사용 가능한 모델: gemini-1.5-flash (권장, 빠름), gemini-1.5-pro (강력함)
-                // v1beta API는 최신 모델을 지원함
-                baseUrl = String.format("https://generativelanguage.googleapis.com/v1beta/models/%s:generateContent", model);
-            }
-            
-            // API 키를 쿼리 파라미터로 추가
-            // URL에 이미 key 파라미터가 있으면 추가하지 않음
-            String url;
-            if (baseUrl.contains("?key=") || baseUrl.contains("&key=")) {
-                url = baseUrl;
-            } else {
-                String separator = baseUrl.contains("?") ? "&" : "?";
-                url = baseUrl + separator + "key=" + geminiApiKey;
-            }
-            
-            log.info("Gemini API 호출 - Base URL: {}, 최종 URL: {}, 모델: {}", baseUrl, url.replace(geminiApiKey, "***"), geminiModel);
+            String url = buildGeminiUrl(false);
+
+            log.info("Gemini API 호출 - URL: {}, 모델: {}", url.replace(geminiApiKey, "***"), geminiModel);
             log.debug("요청 본문 크기: {} bytes", requestBody.toString().length());
             
             HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestBody, headers);
             
             // 타입 안전한 응답 처리 (RestTemplate은 런타임에 타입을 확인)
             @SuppressWarnings("rawtypes")
-            ResponseEntity<Map> rawResponse = getRestTemplate().postForEntity(url, request, Map.class);
+            ResponseEntity<Map> rawResponse = geminiRestTemplate.postForEntity(url, request, Map.class);
             
             log.debug("Gemini API 응답 상태: {}", rawResponse.getStatusCode());
             log.debug("Gemini API 응답 본문: {}", rawResponse.getBody());
@@ -296,7 +221,7 @@ public class ChatbotService {
                 Map<?, ?> rawBody = rawResponse.getBody();
                 if (rawBody == null) {
                     log.warn("Gemini API 응답 본문이 null입니다.");
-                    return "AI 응답이 비어있습니다.";
+                    return GeminiReply.fail("AI 응답이 비어있습니다.");
                 }
                 
                 // 타입 안전하게 변환 (rawBody는 null이 아님을 확인함)
@@ -309,7 +234,7 @@ public class ChatbotService {
                         Map<String, Object> error = (Map<String, Object>) errorObj;
                         String errorMessage = error != null ? (String) error.get("message") : "알 수 없는 오류";
                         log.error("Gemini API 오류: {}", errorMessage);
-                        return "AI 서비스 오류: " + errorMessage;
+                        return GeminiReply.fail("AI 서비스 오류: " + errorMessage);
                     }
                 }
                 
@@ -324,7 +249,7 @@ public class ChatbotService {
                         if (finishReason != null && !"STOP".equals(finishReason)) {
                             log.warn("Gemini API finishReason: {}", finishReason);
                             if ("SAFETY".equals(finishReason)) {
-                                return "안전 필터에 의해 응답이 차단되었습니다. 다른 질문을 시도해주세요.";
+                                return GeminiReply.fail("안전 필터에 의해 응답이 차단되었습니다. 다른 질문을 시도해주세요.");
                             }
                         }
                         
@@ -339,7 +264,7 @@ public class ChatbotService {
                                     if (textObj instanceof String) {
                                         String response = (String) textObj;
                                         log.debug("Gemini API 응답 성공: {}", response.substring(0, Math.min(100, response.length())));
-                                        return response;
+                                        return GeminiReply.ok(response);
                                     } else {
                                         log.warn("응답 텍스트가 String이 아닙니다: {}", textObj.getClass());
                                     }
@@ -363,62 +288,211 @@ public class ChatbotService {
             }
 
             log.warn("Gemini API 응답 파싱 실패. 응답 본문: {}", rawResponse.getBody());
-            return "AI 응답을 생성하는 중 오류가 발생했습니다.";
+            return GeminiReply.fail("AI 응답을 생성하는 중 오류가 발생했습니다.");
 
         } catch (org.springframework.web.client.HttpClientErrorException e) {
             log.error("Gemini API HTTP 오류: {} - {}", e.getStatusCode(), e.getResponseBodyAsString());
-            String responseBody = e.getResponseBodyAsString();
-            String detailedError = "";
-            
-            // 응답 본문에서 상세 오류 메시지 추출 시도
-            try {
-                if (responseBody != null && !responseBody.isEmpty()) {
-                    ObjectMapper mapper = new ObjectMapper();
-                    Map<String, Object> errorBody = mapper.readValue(responseBody, Map.class);
-                    if (errorBody.containsKey("error")) {
-                        Object errorObj = errorBody.get("error");
-                        if (errorObj instanceof Map) {
-                            Map<String, Object> error = (Map<String, Object>) errorObj;
-                            String message = (String) error.get("message");
-                            if (message != null && !message.isEmpty()) {
-                                detailedError = ": " + message;
-                            }
-                        }
-                    }
-                }
-            } catch (Exception parseEx) {
-                log.debug("오류 응답 파싱 실패", parseEx);
-            }
-            
-            int statusCode = e.getStatusCode().value();
-            if (statusCode == 400) {
-                return "API 요청 형식이 잘못되었습니다." + detailedError + " 관리자에게 문의해주세요.";
-            } else if (statusCode == 401 || statusCode == 403) {
-                return "API 키가 유효하지 않거나 권한이 없습니다." + detailedError + " application.properties에서 gemini.api.key를 확인해주세요.";
-            } else if (statusCode == 404) {
-                return "Gemini API 엔드포인트를 찾을 수 없습니다." + detailedError + " 모델명(gemini.api.model)이 올바른지 확인해주세요. (예: gemini-1.5-flash, gemini-1.5-pro) v1 API에서는 gemini-pro가 지원되지 않을 수 있습니다.";
-            } else if (statusCode == 429) {
-                return "API 사용량이 초과되었습니다. 잠시 후 다시 시도해주세요.";
-            }
-            return "AI 서비스에 일시적인 문제가 발생했습니다. (HTTP " + statusCode + ")" + detailedError;
+            return GeminiReply.fail(describeHttpError(e.getStatusCode().value(), e.getResponseBodyAsString()));
         } catch (org.springframework.web.client.ResourceAccessException e) {
             log.error("Gemini API 네트워크 오류", e);
-            return "네트워크 연결에 문제가 있습니다. 인터넷 연결을 확인해주세요.";
+            return GeminiReply.fail("네트워크 연결에 문제가 있습니다. 인터넷 연결을 확인해주세요.");
         } catch (Exception e) {
             log.error("Gemini API 호출 오류", e);
             log.error("오류 상세: {}", e.getMessage(), e);
-            return "AI 서비스에 일시적인 문제가 발생했습니다. 잠시 후 다시 시도해주세요. (오류: " + e.getClass().getSimpleName() + ")";
+            return GeminiReply.fail("AI 서비스에 일시적인 문제가 발생했습니다. 잠시 후 다시 시도해주세요. (오류: " + e.getClass().getSimpleName() + ")");
         }
     }
 
+
+    /**
+     * Gemini 스트리밍 호출 (streamGenerateContent, alt=sse)
+     * - 응답 본문을 줄 단위로 읽으면서 "data:" 이벤트의 텍스트 조각을 바로 onToken으로 전달
+     * - 클라이언트가 끊겨 onToken이 예외를 던지면 본문 스트림을 닫아 Gemini 요청도 중단
+     *
+     * @return 전달한 조각을 모두 이어 붙인 전체 응답 (오류 안내 문구면 ok=false)
+     */
+    private GeminiReply streamGeminiAPI(String prompt, Consumer<String> onToken) {
+        if (geminiApiKey == null || geminiApiKey.isEmpty()) {
+            return GeminiReply.fail(emit(onToken, "AI 챗봇을 사용하려면 Gemini API 키가 필요합니다. application.properties에 gemini.api.key를 설정해주세요."));
+        }
+
+        try {
+            String url = buildGeminiUrl(true);
+            HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                    .timeout(Duration.ofMillis(readTimeoutMs))
+                    .header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                    .header("Accept", MediaType.TEXT_EVENT_STREAM_VALUE)
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            objectMapper.writeValueAsString(buildRequestBody(prompt)),
+                            StandardCharsets.UTF_8))
+                    .build();
+            log.info("Gemini API 스트리밍 호출 - URL: {}, 모델: {}", url.replace(geminiApiKey, "***"), geminiModel);
+
+            HttpResponse<Stream<String>> response = geminiHttpClient.send(request, HttpResponse.BodyHandlers.ofLines());
+            try (Stream<String> lines = response.body()) {
+                if (response.statusCode() != 200) {
+                    String errorBody = lines.collect(Collectors.joining("\n"));
+                    log.error("Gemini API HTTP 오류: {} - {}", response.statusCode(), errorBody);
+                    return GeminiReply.fail(emit(onToken, describeHttpError(response.statusCode(), errorBody)));
+                }
+
+                StringBuilder full = new StringBuilder();
+                boolean failed = false;
+                Iterator<String> it = lines.iterator();
+                while (it.hasNext()) {
+                    String line = it.next();
+                    if (!line.startsWith("data:")) {
+                        continue; // 빈 줄(이벤트 구분) 등
+                    }
+                    JsonNode chunk = objectMapper.readTree(line.substring(5).trim());
+                    if (chunk.has("error")) {
+                        String errorMessage = chunk.path("error").path("message").asText("알 수 없는 오류");
+                        log.error("Gemini API 오류: {}", errorMessage);
+                        full.append(emit(onToken, "AI 서비스 오류: " + errorMessage));
+                        failed = true;
+                        break;
+                    }
+                    JsonNode candidate = chunk.path("candidates").path(0);
+                    for (JsonNode part : candidate.path("content").path("parts")) {
+                        String text = part.path("text").asText("");
+                        if (!text.isEmpty()) {
+                            full.append(text);
+                            onToken.accept(text);
+                        }
+                    }
+                    if ("SAFETY".equals(candidate.path("finishReason").asText())) {
+                        log.warn("Gemini API finishReason: SAFETY");
+                        full.append(emit(onToken, "안전 필터에 의해 응답이 차단되었습니다. 다른 질문을 시도해주세요."));
+                        failed = true;
+                        break;
+                    }
+                }
+                if (full.length() == 0) {
+                    log.warn("Gemini API 스트리밍 응답이 비어있습니다.");
+                    return GeminiReply.fail(emit(onToken, "AI 응답이 비어있습니다."));
+                }
+                return failed ? GeminiReply.fail(full.toString()) : GeminiReply.ok(full.toString());
+            }
+        } catch (HttpTimeoutException e) {
+            log.error("Gemini API 응답 시간 초과", e);
+            return GeminiReply.fail(emit(onToken, "AI 응답이 지연되고 있습니다. 잠시 후 다시 시도해주세요."));
+        } catch (IOException e) {
+            log.error("Gemini API 네트워크 오류", e);
+            return GeminiReply.fail(emit(onToken, "네트워크 연결에 문제가 있습니다. 인터넷 연결을 확인해주세요."));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return GeminiReply.fail(emit(onToken, "AI 서비스에 일시적인 문제가 발생했습니다. 잠시 후 다시 시도해주세요."));
+        }
+    }
+
+    private static String emit(Consumer<String> onToken, String text) {
+        onToken.accept(text);
+        return text;
+    }
+
+    /**
+     * 시스템 프롬프트 + 최근 대화 맥락 + 사용자 메시지로 프롬프트 조립 (필요한 크기로 한 번만 할당)
+     * v1 API에서는 systemInstruction을 직접 지원하지 않으므로 프롬프트에 포함
+     */
+    private String buildPrompt(String userMessage, ChatContextCache.Conversation conversation, Integer userId) {
+        String userState = userId != null ? "\n현재 로그인한 사용자입니다." : "\n현재 비로그인 사용자입니다.";
+        StringBuilder sb = new StringBuilder(WEBSITE_CONTEXT.length() + userState.length()
+                + CONTEXT_HEADER.length() + conversation.length() + userMessage.length() + 16);
+        sb.append(WEBSITE_CONTEXT).append(userState);
+        conversation.appendTo(sb, CONTEXT_HEADER);
+        sb.append("\n\n사용자: ").append(userMessage).append("\nAI:");
+        return sb.toString();
+    }
+
+    /**
+     * Gemini 요청 본문 (Gemini API v1 형식)
+     */
+    private Map<String, Object> buildRequestBody(String prompt) {
+        return Map.of("contents", List.of(Map.of("parts", List.of(Map.of("text", prompt)))));
+    }
+
+    /**
+     * Gemini 호출 URL (API 키는 쿼리 파라미터로 전달)
+     *
+     * @param stream true면 streamGenerateContent + alt=sse
+     */
+    private String buildGeminiUrl(boolean stream) {
+        // URL 구성 (application.properties에 URL이 없으면 기본값 사용)
+        String baseUrl;
+        if (geminiApiUrl != null && !geminiApiUrl.isEmpty()) {
+            baseUrl = geminiApiUrl;
+        } else {
+            // 사용 가능한 모델: gemini-1.5-flash (권장, 빠름), gemini-1.5-pro (강력함)
+            // v1 API에서는 gemini-pro가 지원되지 않을 수 있으므로 최신 모델을 지원하는 v1beta 사용
+            String model = geminiModel != null && !geminiModel.isEmpty() ? geminiModel : "gemini-1.5-flash";
+            baseUrl = String.format("https://generativelanguage.googleapis.com/v1beta/models/%s:generateContent", model);
+        }
+        if (stream) {
+            baseUrl = baseUrl.replace(":generateContent", ":streamGenerateContent");
+        }
+
+        // URL에 이미 key 파라미터가 있으면 추가하지 않음
+        String url = baseUrl;
+        if (!baseUrl.contains("?key=") && !baseUrl.contains("&key=")) {
+            url += (url.contains("?") ? "&" : "?") + "key=" + geminiApiKey;
+        }
+        if (stream) {
+            url += "&alt=sse";
+        }
+        return url;
+    }
+
+    /**
+     * Gemini HTTP 오류 상태 코드를 사용자 안내 문구로 변환 (본문에 상세 메시지가 있으면 덧붙임)
+     */
+    @SuppressWarnings("unchecked")
+    private String describeHttpError(int statusCode, String responseBody) {
+        String detailedError = "";
+        // 응답 본문에서 상세 오류 메시지 추출 시도
+        try {
+            if (responseBody != null && !responseBody.isEmpty()) {
+                Map<String, Object> errorBody = objectMapper.readValue(responseBody, Map.class);
+                if (errorBody.containsKey("error")) {
+                    Object errorObj = errorBody.get("error");
+                    if (errorObj instanceof Map) {
+                        Map<String, Object> error = (Map<String, Object>) errorObj;
+                        String message = (String) error.get("message");
+                        if (message != null && !message.isEmpty()) {
+                            detailedError = ": " + message;
+                        }
+                    }
+                }
+            }
+        } catch (Exception parseEx) {
+            log.debug("오류 응답 파싱 실패", parseEx);
+        }
+
+        if (statusCode == 400) {
+            return "API 요청 형식이 잘못되었습니다." + detailedError + " 관리자에게 문의해주세요.";
+        } else if (statusCode == 401 || statusCode == 403) {
+            return "API 키가 유효하지 않거나 권한이 없습니다." + detailedError + " application.properties에서 gemini.api.key를 확인해주세요.";
+        } else if (statusCode == 404) {
+            return "Gemini API 엔드포인트를 찾을 수 없습니다." + detailedError + " 모델명(gemini.api.model)이 올바른지 확인해주세요. (예: gemini-1.5-flash, gemini-1.5-pro) v1 API에서는 gemini-pro가 지원되지 않을 수 있습니다.";
+        } else if (statusCode == 429) {
+            return RATE_LIMITED_MESSAGE;
+        }
+        return "AI 서비스에 일시적인 문제가 발생했습니다. (HTTP " + statusCode + ")" + detailedError;
+    }
+
     /**
      * 게시글 유사도 검색
      */
     @Transactional(readOnly = true)
     public List<Map<String, Object>> searchSimilarPosts(String keyword, Integer userId, int limit) {
         try {
-            // 키워드로 게시글 검색
-            var posts = postRepository.searchByKeyword(keyword, PageRequest.of(0, limit * 2));
+            // 1. 임베딩 인덱스가 준비되어 있으면 의미 기반 근사 최근접 검색
+            List<Map<String, Object>> byEmbedding = searchByEmbedding(keyword, limit);
+            if (!byEmbedding.isEmpty()) {
+                return byEmbedding;
+            }
+
+            // 2. 폴백: 키워드로 게시글 검색
+            var posts = postSearchService.search(keyword, PageRequest.of(0, limit * 2));
             
             // 유사도 점수 계산 (간단한 키워드 매칭)
             List<Map<String, Object>> results = posts.getContent().stream()
@@ -449,6 +523,40 @@ public class ChatbotService {
         }
     }
 
+    /**
+     * 검색어 임베딩과 가까운 게시글 (HNSW 인덱스, 점수는 코사인 유사도)
+     */
+    private List<Map<String, Object>> searchByEmbedding(String keyword, int limit) {
+        if (!similarPostIndexService.isReady()) {
+            return List.of();
+        }
+        float[] query = postEmbeddingService.embedQuery(keyword);
+        List<HnswIndex.Result> hits = similarPostIndexService.search(query, limit);
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Post> byId = postRepository.findAllById(hits.stream().map(HnswIndex.Result::id).toList()).stream()
+                .collect(Collectors.toMap(Post::getId, p -> p));
+        List<Map<String, Object>> results = new ArrayList<>();
+        for (HnswIndex.Result hit : hits) {
+            Post post = byId.get(hit.id());
+            if (post == null || hit.score() <= 0f) {
+                continue;
+            }
+            Map<String, Object> item = new HashMap<>();
+            item.put("id", post.getId());
+            item.put("title", post.getTitle());
+            item.put("category", post.getCategory());
+            item.put("tags", post.getTags());
+            item.put("viewCount", post.getViewCount());
+            item.put("likeCount", post.getLikeCount());
+            item.put("createdAt", post.getCreatedAt());
+            item.put("similarityScore", (double) hit.score());
+            results.add(item);
+        }
+        return results;
+    }
+
     /**
      * 유사도 점수 계산
      */
@@ -487,6 +595,7 @@ public class ChatbotService {
      */
     @Transactional(readOnly = true)
     public List<Map<String, Object>> getChatHistory(Integer userId, int limit) {
+        chatMessageWriteBehind.flush(); // 저장 대기 중인 최근 메시지까지 포함
         var messages = chatMessageRepository.findRecentMessages(userId, limit);
         Collections.reverse(messages); // 시간순 정렬
 
@@ -511,20 +620,13 @@ public class ChatbotService {
     @Transactional
     public void clearChatHistory(Integer userId) {
         try {
+            chatMessageWriteBehind.flush(); // 대기 중인 메시지가 삭제 후에 저장되지 않도록 먼저 비움
+            chatContextCache.clear(userId);
+            int deleted = chatMessageRepository.deleteByUserId(userId);
             if (userId != null) {
-                // 사용자별 메시지 삭제
-                List<ChatMessage> messages = chatMessageRepository.findByUserIdOrderByCreatedAtDesc(userId);
-                if (messages != null && !messages.isEmpty()) {
-                    chatMessageRepository.deleteAll(messages);
-                    log.info("사용자 ID {}의 대화 내역 {}개 삭제 완료", userId, messages.size());
-                }
+                log.info("사용자 ID {}의 대화 내역 {}개 삭제 완료", userId, deleted);
             } else {
-                // 비로그인 사용자 메시지 삭제 (user_id가 NULL인 메시지)
-                List<ChatMessage> messages = chatMessageRepository.findByUserIdOrderByCreatedAtDesc(null);
-                if (messages != null && !messages.isEmpty()) {
-                    chatMessageRepository.deleteAll(messages);
-                    log.info("비로그인 사용자의 대화 내역 {}개 삭제 완료", messages.size());
-                }
+                log.info("비로그인 사용자의 대화 내역 {}개 삭제 완료", deleted);
             }
         } catch (Exception e) {
             log.error("대화 내역 삭제 오류", e);
@@ -532,6 +634,19 @@ public class ChatbotService {
         }
     }
 
+    /**
+     * Gemini 호출 결과 (ok=false면 오류/안내 문구이므로 캐시하지 않음)
+     */
+    private record GeminiReply(String text, boolean ok) {
+        static GeminiReply ok(String text) {
+            return new GeminiReply(text, true);
+        }
+
+        static GeminiReply fail(String text) {
+            return new GeminiReply(text, false);
+        }
+    }
+
     /**
      * 액션 정보 클래스
      */
@@ -0,0 +1,261 @@
+package com.example.studywithme.ai.service;
+
+import com.example.studywithme.board.repository.BookmarkRepository;
+import com.example.studywithme.board.repository.PostLikeRepository;
+import com.example.studywithme.board.repository.PostRepository;
+import com.example.studywithme.user.entity.UserActivity.ActionType;
+import com.example.studywithme.user.repository.UserActivityRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Python 추천 스크립트가 읽는 상호작용 피처 스냅샷을 주기적으로 내보냅니다.
+ * Python은 numpy.memmap으로 복사 없이 읽으므로, 요청마다 MySQL 전체 집계를 하지 않아도 됩니다.
+ *
+ * <pre>
+ * 파일 레이아웃 (little-endian, 모든 섹션/컬럼 시작 위치는 8바이트 정렬)
+ *
+ * [헤더 64 bytes]
+ *   0  char[8]  magic           "SWMFEAT1"
+ *   8  int32    version         1
+ *   12 int32    days            집계 기간(일)
+ *   16 int64    createdAtMillis 생성 시각 (epoch ms)
+ *   24 int32    interactionCount (N)
+ *   28 int32    postCount        (P)
+ *   32 int64    interactionsOffset
+ *   40 int64    postsOffset
+ *   48 int64    categoriesOffset
+ *   56 int32    categoryCount    (C)
+ *   60 int32    reserved
+ *
+ * [interactions] (사용자, 게시글, 행동)별 집계
+ *   int32[N] user_id | int64[N] post_id | uint8[N] action_code | int32[N] count
+ *   action_code: 0~6 = user_activity.action_type
+ *                (SEARCH, CLICK, LIKE, RECOMMEND, BOOKMARK, COMMENT, AI_CLICK)
+ *                16  = post_likes 행, 17 = bookmarks 행
+ *
+ * [posts] 본문을 제외한 게시글 특징
+ *   int64[P] post_id | int16[P] category_code(-1 = 없음) | int32[P] view_count
+ *   int32[P] like_count | int64[P] created_at (epoch seconds, 0 = 없음)
+ *
+ * [categories] category_code 순서대로 C개
+ *   uint16 length + UTF-8 bytes
+ * </pre>
+ * 파일은 임시 파일에 쓴 뒤 원자적으로 교체하므로, 읽는 쪽은 항상 완전한 스냅샷만 봅니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FeatureSnapshotExporter {
+
+    static final byte[] MAGIC = "SWMFEAT1".getBytes(StandardCharsets.US_ASCII);
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 64;
+    static final byte ACTION_POST_LIKE = 16;
+    static final byte ACTION_BOOKMARK = 17;
+
+    private final UserActivityRepository userActivityRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final BookmarkRepository bookmarkRepository;
+    private final PostRepository postRepository;
+
+    @Value("${python.feature-snapshot.enabled:true}")
+    private boolean enabled;
+
+    @Value("${python.feature-snapshot.path:data/feature_snapshot.bin}")
+    private String snapshotPath;
+
+    @Value("${python.feature-snapshot.days:90}")
+    private int days;
+
+    private volatile boolean available;
+
+    /**
+     * 스냅샷 파일 경로 (아직 한 번도 내보내지 않았으면 null)
+     */
+    public String getSnapshotPathIfAvailable() {
+        return enabled && available ? Paths.get(snapshotPath).toAbsolutePath().toString() : null;
+    }
+
+    @Scheduled(initialDelayString = "${python.feature-snapshot.initial-delay-ms:20000}",
+               fixedDelayString = "${python.feature-snapshot.interval-ms:300000}")
+    public void export() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            long start = System.currentTimeMillis();
+            Path target = Paths.get(snapshotPath).toAbsolutePath();
+            int[] counts = writeSnapshot(target);
+            available = true;
+            log.info("피처 스냅샷 내보내기 완료: {} (상호작용 {}건, 게시글 {}개, {}ms)",
+                    target, counts[0], counts[1], System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("피처 스냅샷 내보내기 실패", e);
+        }
+    }
+
+    private int[] writeSnapshot(Path target) throws IOException {
+        LocalDateTime since = LocalDateTime.now().minusDays(days);
+
+        // 1. 상호작용 컬럼 수집
+        List<Object[]> activityRows = userActivityRepository.aggregatePostInteractions(
+                Arrays.asList(ActionType.values()), since);
+        List<Object[]> likeRows = postLikeRepository.findUserPostPairsSince(since);
+        List<Object[]> bookmarkRows = bookmarkRepository.findUserPostPairsSince(since);
+
+        int n = activityRows.size() + likeRows.size() + bookmarkRows.size();
+        int[] userIds = new int[n];
+        long[] postIds = new long[n];
+        byte[] actions = new byte[n];
+        int[] actionCounts = new int[n];
+        int i = 0;
+        for (Object[] row : activityRows) {
+            userIds[i] = ((Number) row[0]).intValue();
+            postIds[i] = ((Number) row[1]).longValue();
+            actions[i] = (byte) ((ActionType) row[2]).ordinal();
+            actionCounts[i] = ((Number) row[3]).intValue();
+            i++;
+        }
+        for (Object[] row : likeRows) {
+            userIds[i] = ((Number) row[0]).intValue();
+            postIds[i] = ((Number) row[1]).longValue();
+            actions[i] = ACTION_POST_LIKE;
+            actionCounts[i] = 1;
+            i++;
+        }
+        for (Object[] row : bookmarkRows) {
+            userIds[i] = ((Number) row[0]).intValue();
+            postIds[i] = ((Number) row[1]).longValue();
+            actions[i] = ACTION_BOOKMARK;
+            actionCounts[i] = 1;
+            i++;
+        }
+
+        // 2. 게시글 컬럼 수집
+        List<Object[]> postRows = postRepository.findFeatureRows();
+        int p = postRows.size();
+        Map<String, Integer> categoryCodes = new LinkedHashMap<>();
+        long[] pIds = new long[p];
+        short[] pCategories = new short[p];
+        int[] pViews = new int[p];
+        int[] pLikes = new int[p];
+        long[] pCreated = new long[p];
+        ZoneId zone = ZoneId.systemDefault();
+        for (int j = 0; j < p; j++) {
+            Object[] row = postRows.get(j);
+            pIds[j] = ((Number) row[0]).longValue();
+            String category = (String) row[1];
+            pCategories[j] = category == null ? -1
+                    : categoryCodes.computeIfAbsent(category, c -> categoryCodes.size()).shortValue();
+            pViews[j] = row[2] != null ? ((Number) row[2]).intValue() : 0;
+            pLikes[j] = row[3] != null ? ((Number) row[3]).intValue() : 0;
+            pCreated[j] = toEpochSeconds(row[4], zone);
+        }
+        List<byte[]> categoryBytes = new ArrayList<>();
+        for (String category : categoryCodes.keySet()) {
+            categoryBytes.add(category.getBytes(StandardCharsets.UTF_8));
+        }
+
+        // 3. 오프셋 계산
+        long interactionsOffset = HEADER_SIZE;
+        long postsOffset = align(interactionsOffset
+                + align(4L * n) + align(8L * n) + align(n) + align(4L * n));
+        long categoriesOffset = align(postsOffset
+                + align(8L * p) + align(2L * p) + align(4L * p) + align(4L * p) + align(8L * p));
+        long size = categoriesOffset;
+        for (byte[] bytes : categoryBytes) {
+            size += 2 + bytes.length;
+        }
+
+        // 4. 임시 파일에 매핑해서 쓰고 원자적으로 교체
+        Files.createDirectories(target.getParent());
+        Path tmp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer buf = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buf.order(ByteOrder.LITTLE_ENDIAN);
+
+            buf.put(MAGIC);
+            buf.putInt(VERSION);
+            buf.putInt(days);
+            buf.putLong(System.currentTimeMillis());
+            buf.putInt(n);
+            buf.putInt(p);
+            buf.putLong(interactionsOffset);
+            buf.putLong(postsOffset);
+            buf.putLong(categoriesOffset);
+            buf.putInt(categoryBytes.size());
+            buf.putInt(0);
+
+            buf.position((int) interactionsOffset);
+            for (int v : userIds) buf.putInt(v);
+            alignPosition(buf);
+            for (long v : postIds) buf.putLong(v);
+            alignPosition(buf);
+            buf.put(actions);
+            alignPosition(buf);
+            for (int v : actionCounts) buf.putInt(v);
+
+            buf.position((int) postsOffset);
+            for (long v : pIds) buf.putLong(v);
+            alignPosition(buf);
+            for (short v : pCategories) buf.putShort(v);
+            alignPosition(buf);
+            for (int v : pViews) buf.putInt(v);
+            alignPosition(buf);
+            for (int v : pLikes) buf.putInt(v);
+            alignPosition(buf);
+            for (long v : pCreated) buf.putLong(v);
+
+            buf.position((int) categoriesOffset);
+            for (byte[] bytes : categoryBytes) {
+                buf.putShort((short) bytes.length);
+                buf.put(bytes);
+            }
+            buf.force();
+        }
+        Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return new int[]{n, p};
+    }
+
+    private static long toEpochSeconds(Object value, ZoneId zone) {
+        if (value instanceof LocalDateTime ldt) {
+            return ldt.atZone(zone).toEpochSecond();
+        }
+        if (value instanceof Timestamp ts) {
+            return ts.getTime() / 1000L;
+        }
+        return 0L;
+    }
+
+    private static long align(long value) {
+        return (value + 7L) & ~7L;
+    }
+
+    private static void alignPosition(MappedByteBuffer buf) {
+        buf.position((int) align(buf.position()));
+    }
+}
@@ -0,0 +1,235 @@
+package com.example.studywithme.ai.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gemini 호출 속도 제한 (전역 + 사용자별 토큰 버킷, 짧은 대기열)
+ * - 토큰이 없으면 다음 토큰 시각을 예약하고 그때까지 대기 (예약 순서 = 도착 순서라 FIFO)
+ * - 예상 대기 시간이 max-wait-ms를 넘거나 대기열이 가득 차면 기다리지 않고 바로 거절 (429 안내 문구)
+ * - 한 사용자가 대기열을 독점하지 않도록 사용자별 동시 대기 수 제한 (공정성)
+ * - 사용자별 버킷은 로그인 사용자에게만 적용 (비로그인은 전역 버킷만)
+ */
+@Service
+@Slf4j
+public class GeminiRateLimiter {
+
+    @Value("${gemini.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${gemini.rate-limit.global.requests-per-minute:60}")
+    private double globalPerMinute;
+
+    @Value("${gemini.rate-limit.global.burst:10}")
+    private int globalBurst;
+
+    @Value("${gemini.rate-limit.user.requests-per-minute:10}")
+    private double userPerMinute;
+
+    @Value("${gemini.rate-limit.user.burst:3}")
+    private int userBurst;
+
+    @Value("${gemini.rate-limit.queue-size:20}")
+    private int queueSize;
+
+    @Value("${gemini.rate-limit.per-user-queue:1}")
+    private int perUserQueue;
+
+    @Value("${gemini.rate-limit.max-wait-ms:3000}")
+    private long maxWaitMs;
+
+    private TokenBucket global;
+    private final Map<Integer, TokenBucket> userBuckets = new ConcurrentHashMap<>();
+    private final Map<Integer, AtomicInteger> userWaiting = new ConcurrentHashMap<>();
+
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final AtomicInteger maxQueueDepth = new AtomicInteger();
+    private final AtomicLong admitted = new AtomicLong();
+    private final AtomicLong delayed = new AtomicLong();
+    private final AtomicLong shedUserLimit = new AtomicLong();
+    private final AtomicLong shedGlobalLimit = new AtomicLong();
+    private final AtomicLong shedQueueFull = new AtomicLong();
+
+    public record Stats(int queueDepth, int maxQueueDepth, long admitted, long delayed,
+                        long shedUserLimit, long shedGlobalLimit, long shedQueueFull) {
+        public long shed() {
+            return shedUserLimit + shedGlobalLimit + shedQueueFull;
+        }
+    }
+
+    @PostConstruct
+    void init() {
+        global = new TokenBucket(globalBurst, globalPerMinute);
+    }
+
+    /**
+     * Gemini 호출 허가를 받습니다. 필요하면 대기 예산 안에서 기다립니다.
+     *
+     * @return false면 제한 초과로 거절 (호출하지 말 것)
+     */
+    public boolean acquire(Integer userId) {
+        if (!enabled) {
+            return true;
+        }
+        long maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+        long now = System.nanoTime();
+
+        TokenBucket userBucket = null;
+        long userWait = 0;
+        if (userId != null) {
+            userBucket = userBuckets.computeIfAbsent(userId, id -> new TokenBucket(userBurst, userPerMinute));
+            userWait = userBucket.reserve(now, maxWaitNanos);
+            if (userWait < 0) {
+                shedUserLimit.incrementAndGet();
+                return false;
+            }
+        }
+        long globalWait = global.reserve(now, maxWaitNanos);
+        if (globalWait < 0) {
+            refund(userBucket);
+            shedGlobalLimit.incrementAndGet();
+            return false;
+        }
+
+        long wait = Math.max(userWait, globalWait);
+        if (wait == 0) {
+            admitted.incrementAndGet();
+            return true;
+        }
+        if (!enterQueue(userId)) {
+            refund(userBucket);
+            global.refund();
+            shedQueueFull.incrementAndGet();
+            return false;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(wait);
+            delayed.incrementAndGet();
+            admitted.incrementAndGet();
+            return true;
+        } catch (InterruptedException e) {
+            // 호출하지 않으므로 예약한 토큰을 돌려줌
+            refund(userBucket);
+            global.refund();
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            leaveQueue(userId);
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(queueDepth.get(), maxQueueDepth.get(), admitted.get(), delayed.get(),
+                shedUserLimit.get(), shedGlobalLimit.get(), shedQueueFull.get());
+    }
+
+    /**
+     * 가득 찬(오래 쓰지 않은) 사용자 버킷 정리
+     */
+    @Scheduled(fixedDelayString = "${gemini.rate-limit.cleanup-interval-ms:600000}")
+    public void cleanup() {
+        long now = System.nanoTime();
+        userBuckets.entrySet().removeIf(e -> e.getValue().isFull(now) && !userWaiting.containsKey(e.getKey()));
+    }
+
+    private boolean enterQueue(Integer userId) {
+        if (userId != null) {
+            AtomicInteger waiting = userWaiting.computeIfAbsent(userId, id -> new AtomicInteger());
+            if (waiting.incrementAndGet() > perUserQueue) {
+                releaseUserSlot(userId, waiting);
+                return false;
+            }
+        }
+        int depth = queueDepth.incrementAndGet();
+        if (depth > queueSize) {
+            queueDepth.decrementAndGet();
+            if (userId != null) {
+                releaseUserSlot(userId, userWaiting.get(userId));
+            }
+            return false;
+        }
+        maxQueueDepth.accumulateAndGet(depth, Math::max);
+        return true;
+    }
+
+    private void leaveQueue(Integer userId) {
+        queueDepth.decrementAndGet();
+        if (userId != null) {
+            releaseUserSlot(userId, userWaiting.get(userId));
+        }
+    }
+
+    private void releaseUserSlot(Integer userId, AtomicInteger waiting) {
+        if (waiting != null && waiting.decrementAndGet() <= 0) {
+            userWaiting.remove(userId, waiting);
+        }
+    }
+
+    private static void refund(TokenBucket bucket) {
+        if (bucket != null) {
+            bucket.refund();
+        }
+    }
+
+    /**
+     * 예약형 토큰 버킷: 토큰이 음수가 될 수 있고, 음수만큼이 앞에 예약된 대기
+     */
+    static final class TokenBucket {
+
+        private final double capacity;
+        private final double tokensPerNano;
+        private double tokens;
+        private long lastRefill;
+
+        TokenBucket(int capacity, double perMinute) {
+            this.capacity = Math.max(1, capacity);
+            this.tokensPerNano = perMinute / TimeUnit.MINUTES.toNanos(1);
+            this.tokens = this.capacity;
+            this.lastRefill = System.nanoTime();
+        }
+
+        /**
+         * 토큰 하나를 예약하고 사용 가능해질 때까지의 대기 시간(ns)을 반환
+         *
+         * @return 0이면 즉시 사용, -1이면 대기 예산 초과로 예약하지 않음
+         */
+        synchronized long reserve(long now, long maxWaitNanos) {
+            refill(now);
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            long wait = (long) Math.ceil((1 - tokens) / tokensPerNano);
+            if (wait > maxWaitNanos) {
+                return -1;
+            }
+            tokens -= 1;
+            return wait;
+        }
+
+        synchronized void refund() {
+            tokens = Math.min(capacity, tokens + 1);
+        }
+
+        synchronized boolean isFull(long now) {
+            refill(now);
+            return tokens >= capacity;
+        }
+
+        private void refill(long now) {
+            if (now > lastRefill) {
+                tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+                lastRefill = now;
+            }
+        }
+    }
+}
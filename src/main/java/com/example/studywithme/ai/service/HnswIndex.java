@@ -0,0 +1,621 @@
+package com.example.studywithme.ai.service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 단위 벡터용 HNSW(Hierarchical Navigable Small World) 근사 최근접 이웃 인덱스
+ * - 유사도는 내적(= 코사인), 내부 거리는 1 - 내적
+ * - 삽입은 쓰기 락, 검색은 읽기 락 (검색끼리는 동시 실행)
+ * - 삭제는 톰스톤 방식: 그래프 탐색 경로로는 계속 쓰고 결과에서만 제외. 톰스톤이 많아지면 {@link #compact()}로 재구성
+ * - {@link #save}/{@link #load}로 디스크 스냅샷 (재시작 시 재구축 없이 복원)
+ */
+public final class HnswIndex {
+
+    private static final byte[] MAGIC = "SWMHNSW1".getBytes(StandardCharsets.US_ASCII);
+
+    private final int dimension;
+    private final int m;
+    private final int maxM0;
+    private final int efConstruction;
+    private final double levelMultiplier;
+    private final SplittableRandom random;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ThreadLocal<Visited> visited = ThreadLocal.withInitial(Visited::new);
+
+    private final Map<Long, Integer> nodeById = new HashMap<>();
+    private int size;
+    private int deletedCount;
+    private float[] vectors;
+    private long[] ids;
+    private int[] levels;
+    private boolean[] deleted;
+    private int[][][] links;   // links[node][level][0] = 이웃 수, [1..] = 이웃 노드
+    private int entryPoint = -1;
+    private int maxLevel = -1;
+
+    /**
+     * @param m              상위 레벨 노드당 연결 수 (레벨 0은 2m)
+     * @param efConstruction 삽입 시 후보 탐색 폭
+     */
+    public HnswIndex(int dimension, int m, int efConstruction, long seed) {
+        this.dimension = dimension;
+        this.m = m;
+        this.maxM0 = m * 2;
+        this.efConstruction = efConstruction;
+        this.levelMultiplier = 1.0 / Math.log(m);
+        this.random = new SplittableRandom(seed);
+        allocate(1024);
+    }
+
+    public record Result(long id, float score) {}
+
+    public int dimension() { return dimension; }
+
+    /**
+     * 살아 있는 벡터 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size - deletedCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 톰스톤 비율 (compact 판단용)
+     */
+    public double deletedRatio() {
+        lock.readLock().lock();
+        try {
+            return size == 0 ? 0.0 : (double) deletedCount / size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean contains(long id) {
+        lock.readLock().lock();
+        try {
+            return nodeById.containsKey(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long[] ids() {
+        lock.readLock().lock();
+        try {
+            return nodeById.keySet().stream().mapToLong(Long::longValue).toArray();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 저장된 벡터 복사본 (없으면 null)
+     */
+    public float[] vectorOf(long id) {
+        lock.readLock().lock();
+        try {
+            Integer node = nodeById.get(id);
+            return node == null ? null : Arrays.copyOfRange(vectors, node * dimension, (node + 1) * dimension);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 벡터를 추가합니다. 같은 ID가 이미 있으면 기존 노드를 톰스톤 처리하고 새 노드를 넣습니다.
+     */
+    public void add(long id, float[] vector) {
+        if (vector.length != dimension) {
+            throw new IllegalArgumentException("벡터 차원이 맞지 않습니다: " + vector.length);
+        }
+        lock.writeLock().lock();
+        try {
+            Integer old = nodeById.remove(id);
+            if (old != null) {
+                markDeleted(old);
+            }
+            int level = (int) (-Math.log(1.0 - random.nextDouble()) * levelMultiplier);
+            int node = newNode(id, vector, level);
+            nodeById.put(id, node);
+            insert(node, level);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean remove(long id) {
+        lock.writeLock().lock();
+        try {
+            Integer node = nodeById.remove(id);
+            if (node == null) {
+                return false;
+            }
+            markDeleted(node);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * query와 가장 유사한 k개 (유사도 내림차순)
+     *
+     * @param ef 탐색 폭 (k 이상, 클수록 정확하고 느림)
+     */
+    public List<Result> search(float[] query, int k, int ef) {
+        lock.readLock().lock();
+        try {
+            if (entryPoint < 0 || k <= 0) {
+                return List.of();
+            }
+            Visited v = visited.get();
+            int ep = entryPoint;
+            for (int level = maxLevel; level > 0; level--) {
+                ep = greedy(query, ep, level);
+            }
+            Heap results = searchLayer(query, ep, Math.max(ef, k), 0, v);
+
+            int n = results.size;
+            int[] nodes = new int[n];
+            float[] dists = new float[n];
+            for (int i = n - 1; i >= 0; i--) {
+                dists[i] = results.topKey();
+                nodes[i] = results.pop();
+            }
+            List<Result> out = new ArrayList<>(Math.min(k, n));
+            for (int i = 0; i < n && out.size() < k; i++) {
+                if (!deleted[nodes[i]]) {
+                    out.add(new Result(ids[nodes[i]], 1f - dists[i]));
+                }
+            }
+            return out;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 톰스톤을 제거한 새 인덱스를 만듭니다. (기존 인덱스는 그대로, 호출 쪽에서 교체)
+     */
+    public HnswIndex compact() {
+        lock.readLock().lock();
+        try {
+            HnswIndex fresh = new HnswIndex(dimension, m, efConstruction, random.nextLong());
+            for (int node = 0; node < size; node++) {
+                if (!deleted[node]) {
+                    fresh.add(ids[node], Arrays.copyOfRange(vectors, node * dimension, (node + 1) * dimension));
+                }
+            }
+            return fresh;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 임시 파일에 쓴 뒤 원자적으로 교체합니다.
+     */
+    public void save(Path target) throws IOException {
+        lock.readLock().lock();
+        try {
+            if (target.getParent() != null) {
+                Files.createDirectories(target.getParent());
+            }
+            Path tmp = target.resolveSibling(target.getFileName() + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp), 1 << 16))) {
+                out.write(MAGIC);
+                out.writeInt(dimension);
+                out.writeInt(m);
+                out.writeInt(efConstruction);
+                out.writeInt(size);
+                out.writeInt(entryPoint);
+                out.writeInt(maxLevel);
+                for (int node = 0; node < size; node++) {
+                    out.writeLong(ids[node]);
+                    out.writeBoolean(deleted[node]);
+                    out.writeInt(levels[node]);
+                    int base = node * dimension;
+                    for (int d = 0; d < dimension; d++) {
+                        out.writeFloat(vectors[base + d]);
+                    }
+                    for (int level = 0; level <= levels[node]; level++) {
+                        int[] list = links[node][level];
+                        out.writeInt(list[0]);
+                        for (int i = 1; i <= list[0]; i++) {
+                            out.writeInt(list[i]);
+                        }
+                    }
+                }
+            }
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public static HnswIndex load(Path source, long seed) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(source), 1 << 16))) {
+            byte[] magic = new byte[MAGIC.length];
+            in.readFully(magic);
+            if (!Arrays.equals(magic, MAGIC)) {
+                throw new IOException("HNSW 스냅샷 형식이 아닙니다: " + source);
+            }
+            int dimension = in.readInt();
+            int m = in.readInt();
+            int efConstruction = in.readInt();
+            int size = in.readInt();
+            HnswIndex index = new HnswIndex(dimension, m, efConstruction, seed);
+            index.allocate(Math.max(1024, size));
+            index.entryPoint = in.readInt();
+            index.maxLevel = in.readInt();
+            for (int node = 0; node < size; node++) {
+                index.ids[node] = in.readLong();
+                index.deleted[node] = in.readBoolean();
+                int level = in.readInt();
+                index.levels[node] = level;
+                int base = node * dimension;
+                for (int d = 0; d < dimension; d++) {
+                    index.vectors[base + d] = in.readFloat();
+                }
+                index.links[node] = new int[level + 1][];
+                for (int l = 0; l <= level; l++) {
+                    int count = in.readInt();
+                    int[] list = new int[(l == 0 ? index.maxM0 : m) + 2];
+                    list[0] = count;
+                    for (int i = 1; i <= count; i++) {
+                        list[i] = in.readInt();
+                    }
+                    index.links[node][l] = list;
+                }
+                if (index.deleted[node]) {
+                    index.deletedCount++;
+                } else {
+                    index.nodeById.put(index.ids[node], node);
+                }
+            }
+            index.size = size;
+            return index;
+        }
+    }
+
+    // ===== 내부 구현 =====
+
+    private void allocate(int capacity) {
+        vectors = vectors == null ? new float[capacity * dimension] : Arrays.copyOf(vectors, capacity * dimension);
+        ids = ids == null ? new long[capacity] : Arrays.copyOf(ids, capacity);
+        levels = levels == null ? new int[capacity] : Arrays.copyOf(levels, capacity);
+        deleted = deleted == null ? new boolean[capacity] : Arrays.copyOf(deleted, capacity);
+        links = links == null ? new int[capacity][][] : Arrays.copyOf(links, capacity);
+    }
+
+    private int newNode(long id, float[] vector, int level) {
+        if (size == ids.length) {
+            allocate(size * 2);
+        }
+        int node = size++;
+        System.arraycopy(vector, 0, vectors, node * dimension, dimension);
+        ids[node] = id;
+        levels[node] = level;
+        deleted[node] = false;
+        links[node] = new int[level + 1][];
+        for (int l = 0; l <= level; l++) {
+            // 가지치기 전 한 칸 초과 삽입을 허용하기 위해 +2
+            links[node][l] = new int[(l == 0 ? maxM0 : m) + 2];
+        }
+        return node;
+    }
+
+    private void markDeleted(int node) {
+        if (!deleted[node]) {
+            deleted[node] = true;
+            deletedCount++;
+        }
+    }
+
+    private void insert(int node, int level) {
+        if (entryPoint < 0) {
+            entryPoint = node;
+            maxLevel = level;
+            return;
+        }
+        float[] q = Arrays.copyOfRange(vectors, node * dimension, (node + 1) * dimension);
+        Visited v = visited.get();
+        int ep = entryPoint;
+        for (int l = maxLevel; l > level; l--) {
+            ep = greedy(q, ep, l);
+        }
+        for (int l = Math.min(level, maxLevel); l >= 0; l--) {
+            Heap candidates = searchLayer(q, ep, efConstruction, l, v);
+            int n = candidates.size;
+            int[] nodes = new int[n];
+            float[] dists = new float[n];
+            for (int i = n - 1; i >= 0; i--) {
+                dists[i] = candidates.topKey();
+                nodes[i] = candidates.pop();
+            }
+            ep = nodes[0];
+            int maxConn = l == 0 ? maxM0 : m;
+            int[] selected = selectNeighbors(nodes, dists, n, maxConn);
+            int[] own = links[node][l];
+            own[0] = selected.length;
+            System.arraycopy(selected, 0, own, 1, selected.length);
+            for (int neighbour : selected) {
+                connect(neighbour, node, l, maxConn);
+            }
+        }
+        if (level > maxLevel) {
+            maxLevel = level;
+            entryPoint = node;
+        }
+    }
+
+    /**
+     * neighbour의 이웃 목록에 node를 추가하고, 넘치면 휴리스틱으로 다시 고릅니다.
+     */
+    private void connect(int neighbour, int node, int level, int maxConn) {
+        int[] list = links[neighbour][level];
+        int count = list[0];
+        if (count < maxConn) {
+            list[++count] = node;
+            list[0] = count;
+            return;
+        }
+        int n = count + 1;
+        int[] nodes = new int[n];
+        float[] dists = new float[n];
+        int base = neighbour * dimension;
+        for (int i = 0; i < count; i++) {
+            nodes[i] = list[i + 1];
+            dists[i] = distance(vectors, base, nodes[i] * dimension);
+        }
+        nodes[count] = node;
+        dists[count] = distance(vectors, base, node * dimension);
+        sortByDistance(nodes, dists, n);
+        int[] selected = selectNeighbors(nodes, dists, n, maxConn);
+        list[0] = selected.length;
+        System.arraycopy(selected, 0, list, 1, selected.length);
+    }
+
+    /**
+     * 거리 오름차순 후보에서 이웃을 고르는 휴리스틱 (HNSW 논문 Algorithm 4)
+     * - 이미 고른 이웃보다 기준점에 더 가까운 후보만 채택해 방향이 다양한 연결을 만듦
+     * - 자리가 남으면 탈락한 후보로 채움 (keepPrunedConnections)
+     */
+    private int[] selectNeighbors(int[] nodes, float[] dists, int n, int maxConn) {
+        if (n <= maxConn) {
+            return Arrays.copyOf(nodes, n);
+        }
+        int[] selected = new int[maxConn];
+        int count = 0;
+        boolean[] taken = new boolean[n];
+        for (int i = 0; i < n && count < maxConn; i++) {
+            int c = nodes[i];
+            boolean good = true;
+            for (int s = 0; s < count; s++) {
+                if (distance(vectors, c * dimension, selected[s] * dimension) < dists[i]) {
+                    good = false;
+                    break;
+                }
+            }
+            if (good) {
+                selected[count++] = c;
+                taken[i] = true;
+            }
+        }
+        for (int i = 0; i < n && count < maxConn; i++) {
+            if (!taken[i]) {
+                selected[count++] = nodes[i];
+            }
+        }
+        return count == maxConn ? selected : Arrays.copyOf(selected, count);
+    }
+
+    private int greedy(float[] q, int ep, int level) {
+        float best = distance(q, ep * dimension);
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            int[] list = links[ep][level];
+            for (int i = 1; i <= list[0]; i++) {
+                int c = list[i];
+                float d = distance(q, c * dimension);
+                if (d < best) {
+                    best = d;
+                    ep = c;
+                    changed = true;
+                }
+            }
+        }
+        return ep;
+    }
+
+    /**
+     * 한 레벨에서 ef 폭 탐색. 반환값은 거리 기준 max-heap (top = 가장 먼 결과)
+     */
+    private Heap searchLayer(float[] q, int ep, int ef, int level, Visited v) {
+        v.reset(size);
+        Heap candidates = new Heap(ef * 2, false);
+        Heap results = new Heap(ef + 1, true);
+        float d0 = distance(q, ep * dimension);
+        candidates.push(d0, ep);
+        results.push(d0, ep);
+        v.mark(ep);
+        while (candidates.size > 0) {
+            float cd = candidates.topKey();
+            if (results.size >= ef && cd > results.topKey()) {
+                break;
+            }
+            int c = candidates.pop();
+            if (level >= links[c].length) {
+                continue;
+            }
+            int[] list = links[c][level];
+            for (int i = 1; i <= list[0]; i++) {
+                int nb = list[i];
+                if (v.isMarked(nb)) {
+                    continue;
+                }
+                v.mark(nb);
+                float d = distance(q, nb * dimension);
+                if (results.size < ef || d < results.topKey()) {
+                    candidates.push(d, nb);
+                    results.push(d, nb);
+                    if (results.size > ef) {
+                        results.pop();
+                    }
+                }
+            }
+        }
+        return results;
+    }
+
+    private float distance(float[] q, int base) {
+        return 1f - dot(q, 0, vectors, base, dimension);
+    }
+
+    private float distance(float[] data, int baseA, int baseB) {
+        return 1f - dot(data, baseA, data, baseB, dimension);
+    }
+
+    /**
+     * 누산기 4개로 나눈 내적 (부동소수 덧셈 순서 의존성을 끊어 파이프라인을 채움)
+     */
+    private static float dot(float[] a, int baseA, float[] b, int baseB, int length) {
+        float s0 = 0f, s1 = 0f, s2 = 0f, s3 = 0f;
+        int d = 0;
+        for (; d + 3 < length; d += 4) {
+            s0 += a[baseA + d] * b[baseB + d];
+            s1 += a[baseA + d + 1] * b[baseB + d + 1];
+            s2 += a[baseA + d + 2] * b[baseB + d + 2];
+            s3 += a[baseA + d + 3] * b[baseB + d + 3];
+        }
+        for (; d < length; d++) {
+            s0 += a[baseA + d] * b[baseB + d];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    private static void sortByDistance(int[] nodes, float[] dists, int n) {
+        for (int i = 1; i < n; i++) {
+            int node = nodes[i];
+            float dist = dists[i];
+            int j = i - 1;
+            while (j >= 0 && dists[j] > dist) {
+                nodes[j + 1] = nodes[j];
+                dists[j + 1] = dists[j];
+                j--;
+            }
+            nodes[j + 1] = node;
+            dists[j + 1] = dist;
+        }
+    }
+
+    /**
+     * (거리, 노드) 원시 배열 이진 힙
+     */
+    private static final class Heap {
+        private float[] keys;
+        private int[] values;
+        private final boolean max;
+        int size;
+
+        Heap(int capacity, boolean max) {
+            this.keys = new float[Math.max(4, capacity)];
+            this.values = new int[keys.length];
+            this.max = max;
+        }
+
+        float topKey() { return keys[0]; }
+
+        void push(float key, int value) {
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                values = Arrays.copyOf(values, size * 2);
+            }
+            int pos = size++;
+            while (pos > 0) {
+                int parent = (pos - 1) >>> 1;
+                if (!before(key, keys[parent])) {
+                    break;
+                }
+                keys[pos] = keys[parent];
+                values[pos] = values[parent];
+                pos = parent;
+            }
+            keys[pos] = key;
+            values[pos] = value;
+        }
+
+        int pop() {
+            int top = values[0];
+            size--;
+            float key = keys[size];
+            int value = values[size];
+            int pos = 0;
+            while (true) {
+                int child = pos * 2 + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && before(keys[child + 1], keys[child])) {
+                    child++;
+                }
+                if (!before(keys[child], key)) {
+                    break;
+                }
+                keys[pos] = keys[child];
+                values[pos] = values[child];
+                pos = child;
+            }
+            keys[pos] = key;
+            values[pos] = value;
+            return top;
+        }
+
+        private boolean before(float a, float b) {
+            return max ? a > b : a < b;
+        }
+    }
+
+    /**
+     * 스레드별 방문 표시 (세대 번호로 초기화 비용 제거)
+     */
+    private static final class Visited {
+        private int[] stamps = new int[1024];
+        private int generation;
+
+        void reset(int capacity) {
+            if (stamps.length < capacity) {
+                stamps = new int[Math.max(capacity, stamps.length * 2)];
+                generation = 0;
+            }
+            if (++generation == Integer.MAX_VALUE) {
+                Arrays.fill(stamps, 0);
+                generation = 1;
+            }
+        }
+
+        void mark(int node) { stamps[node] = generation; }
+        boolean isMarked(int node) { return stamps[node] == generation; }
+    }
+}
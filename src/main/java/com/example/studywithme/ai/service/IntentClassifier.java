@@ -0,0 +1,287 @@
+package com.example.studywithme.ai.service;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 챗봇 의도 분류기 (규칙은 JSON으로 로드, chatbot/intents.json)
+ * - 모든 의도의 액션 구문을 Aho-Corasick 자동자 하나로 컴파일해 메시지를 한 번만 훑어 매칭된 의도를 찾음
+ * - 우선순위는 규칙 순서. extractKeyword 규칙은 검색 키워드가 비면 다음 규칙으로 넘어감
+ * - 검색 키워드 추출: 불용 구문은 트라이로 가장 긴 것부터 한 번에 제거, 앞뒤 조사는 미리 컴파일한 정규식으로 제거
+ * - 대소문자 무시 (문자 단위 소문자 비교라 원문 대소문자/위치는 그대로 유지)
+ */
+public final class IntentClassifier {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final int MAX_KEYWORD_LENGTH = 50;
+
+    /**
+     * 의도 규칙
+     *
+     * @param action         액션 타입 (SHOW_MYPAGE, SEARCH_POSTS 등)
+     * @param phrases        이 중 하나라도 포함되면 매칭
+     * @param extractKeyword true면 검색 키워드를 추출해 액션 데이터로 사용 (비면 매칭 안 된 것으로 봄)
+     */
+    public record Rule(String action, List<String> phrases, boolean extractKeyword) {}
+
+    public record Rules(List<Rule> intents, List<String> keywordStopPhrases, List<String> particles) {}
+
+    public record Intent(String action, String data) {}
+
+    private final List<Rule> rules;
+    private final PhraseTrie actionPhrases;
+    private final PhraseTrie stopPhrases;
+    private final Pattern leadingParticle;
+    private final Pattern trailingParticle;
+
+    public IntentClassifier(Rules config) {
+        this.rules = List.copyOf(config.intents());
+        if (rules.size() > Long.SIZE) {
+            throw new IllegalArgumentException("의도 규칙은 최대 " + Long.SIZE + "개까지 지원합니다.");
+        }
+        this.actionPhrases = new PhraseTrie();
+        for (int r = 0; r < rules.size(); r++) {
+            for (String phrase : rules.get(r).phrases()) {
+                actionPhrases.add(phrase, 1L << r);
+            }
+        }
+        actionPhrases.buildFailureLinks();
+
+        this.stopPhrases = new PhraseTrie();
+        for (String phrase : nullToEmpty(config.keywordStopPhrases())) {
+            stopPhrases.add(phrase, 1L);
+        }
+
+        // 긴 조사부터 시도해야 "으로"가 "로"보다 먼저 잡힘
+        String particles = nullToEmpty(config.particles()).stream()
+                .distinct()
+                .sorted(Comparator.comparingInt(String::length).reversed())
+                .map(Pattern::quote)
+                .collect(Collectors.joining("|"));
+        this.leadingParticle = particles.isEmpty() ? null : Pattern.compile("^(?:" + particles + ")\\s+");
+        this.trailingParticle = particles.isEmpty() ? null : Pattern.compile("\\s+(?:" + particles + ")$");
+    }
+
+    /**
+     * JSON 규칙 파일로 분류기 생성
+     */
+    public static IntentClassifier load(InputStream in) throws IOException {
+        ObjectMapper mapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        return new IntentClassifier(mapper.readValue(in, Rules.class));
+    }
+
+    public int ruleCount() {
+        return rules.size();
+    }
+
+    /**
+     * 메시지의 의도 (일반 대화면 null)
+     */
+    public Intent classify(String message) {
+        if (message == null) {
+            return null;
+        }
+        long matched = actionPhrases.matchMask(message);
+        while (matched != 0) {
+            int r = Long.numberOfTrailingZeros(matched);
+            matched &= matched - 1;
+            Rule rule = rules.get(r);
+            if (!rule.extractKeyword()) {
+                return new Intent(rule.action(), null);
+            }
+            String keyword = extractKeyword(message);
+            if (keyword != null && !keyword.isEmpty()) {
+                return new Intent(rule.action(), keyword);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 검색 키워드 추출 (불용 구문·앞뒤 조사 제거, 결과가 비거나 너무 길면 첫 단어)
+     */
+    public String extractKeyword(String message) {
+        String trimmed = message.trim();
+        String keyword = WHITESPACE.matcher(stopPhrases.removeAll(trimmed)).replaceAll(" ").trim();
+        if (leadingParticle != null) {
+            keyword = leadingParticle.matcher(keyword).replaceFirst("");
+            keyword = trailingParticle.matcher(keyword).replaceFirst("");
+        }
+
+        if (keyword.isEmpty() || keyword.length() > MAX_KEYWORD_LENGTH) {
+            // 전체 메시지의 첫 번째 단어를 키워드로 사용
+            String[] words = WHITESPACE.split(trimmed, 2);
+            if (words.length > 0 && !words[0].isEmpty() && words[0].length() < MAX_KEYWORD_LENGTH) {
+                return words[0];
+            }
+            return null;
+        }
+        return keyword;
+    }
+
+    private static List<String> nullToEmpty(List<String> list) {
+        return list != null ? list : List.of();
+    }
+
+    /**
+     * 소문자 기준 구문 트라이 + Aho-Corasick 실패 링크
+     * 노드별 자식은 정렬된 문자 배열 + 이진 탐색 (HashMap 박싱 없이)
+     */
+    private static final class PhraseTrie {
+
+        private char[][] keys = new char[16][];
+        private int[][] children = new int[16][];
+        private long[] output = new long[16];     // 이 노드에서 끝나는 구문의 규칙 비트
+        private long[] matchOutput;               // 실패 링크를 따라 모은 비트
+        private int[] depthOfPhrase = new int[16]; // 이 노드에서 끝나는 구문 길이 (없으면 0)
+        private int[] fail;
+        private int size = 1;
+
+        PhraseTrie() {
+            keys[0] = new char[0];
+            children[0] = new int[0];
+        }
+
+        void add(String phrase, long bits) {
+            if (phrase == null || phrase.isEmpty()) {
+                return;
+            }
+            String lower = phrase.toLowerCase(Locale.ROOT);
+            int node = 0;
+            for (int i = 0; i < lower.length(); i++) {
+                node = childOrCreate(node, lower.charAt(i));
+            }
+            output[node] |= bits;
+            depthOfPhrase[node] = lower.length();
+        }
+
+        void buildFailureLinks() {
+            fail = new int[size];
+            matchOutput = Arrays.copyOf(output, size);
+            ArrayDeque<Integer> queue = new ArrayDeque<>();
+            for (int child : children[0]) {
+                fail[child] = 0;
+                queue.add(child);
+            }
+            while (!queue.isEmpty()) {
+                int node = queue.poll();
+                for (int k = 0; k < keys[node].length; k++) {
+                    char c = keys[node][k];
+                    int child = children[node][k];
+                    int f = fail[node];
+                    int next;
+                    while ((next = child(f, c)) < 0 && f != 0) {
+                        f = fail[f];
+                    }
+                    fail[child] = next >= 0 && next != child ? next : 0;
+                    matchOutput[child] |= matchOutput[fail[child]];
+                    queue.add(child);
+                }
+            }
+        }
+
+        /**
+         * 텍스트에 포함된 모든 구문의 비트 합 (한 번 순회)
+         */
+        long matchMask(String text) {
+            long mask = 0L;
+            int node = 0;
+            for (int i = 0; i < text.length(); i++) {
+                char c = Character.toLowerCase(text.charAt(i));
+                int next;
+                while ((next = child(node, c)) < 0 && node != 0) {
+                    node = fail[node];
+                }
+                node = Math.max(next, 0);
+                mask |= matchOutput[node];
+            }
+            return mask;
+        }
+
+        /**
+         * 왼쪽부터 가장 긴 구문을 겹치지 않게 제거 (원문 대소문자 유지)
+         */
+        String removeAll(String text) {
+            StringBuilder sb = null;
+            int copiedUpTo = 0;
+            int i = 0;
+            while (i < text.length()) {
+                int node = 0;
+                int longest = 0;
+                for (int j = i; j < text.length(); j++) {
+                    node = child(node, Character.toLowerCase(text.charAt(j)));
+                    if (node < 0) {
+                        break;
+                    }
+                    if (depthOfPhrase[node] > 0) {
+                        longest = depthOfPhrase[node];
+                    }
+                }
+                if (longest == 0) {
+                    i++;
+                    continue;
+                }
+                if (sb == null) {
+                    sb = new StringBuilder(text.length());
+                }
+                sb.append(text, copiedUpTo, i);
+                i += longest;
+                copiedUpTo = i;
+            }
+            if (sb == null) {
+                return text;
+            }
+            return sb.append(text, copiedUpTo, text.length()).toString();
+        }
+
+        private int child(int node, char c) {
+            int k = Arrays.binarySearch(keys[node], c);
+            return k >= 0 ? children[node][k] : -1;
+        }
+
+        private int childOrCreate(int node, char c) {
+            int k = Arrays.binarySearch(keys[node], c);
+            if (k >= 0) {
+                return children[node][k];
+            }
+            int created = newNode();
+            int insertAt = -k - 1;
+            char[] oldKeys = keys[node];
+            int[] oldChildren = children[node];
+            char[] newKeys = new char[oldKeys.length + 1];
+            int[] newChildren = new int[oldChildren.length + 1];
+            System.arraycopy(oldKeys, 0, newKeys, 0, insertAt);
+            System.arraycopy(oldChildren, 0, newChildren, 0, insertAt);
+            newKeys[insertAt] = c;
+            newChildren[insertAt] = created;
+            System.arraycopy(oldKeys, insertAt, newKeys, insertAt + 1, oldKeys.length - insertAt);
+            System.arraycopy(oldChildren, insertAt, newChildren, insertAt + 1, oldChildren.length - insertAt);
+            keys[node] = newKeys;
+            children[node] = newChildren;
+            return created;
+        }
+
+        private int newNode() {
+            if (size == keys.length) {
+                int capacity = size * 2;
+                keys = Arrays.copyOf(keys, capacity);
+                children = Arrays.copyOf(children, capacity);
+                output = Arrays.copyOf(output, capacity);
+                depthOfPhrase = Arrays.copyOf(depthOfPhrase, capacity);
+            }
+            keys[size] = new char[0];
+            children[size] = new int[0];
+            return size++;
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package com.example.studywithme.ai.service;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 게시글별 상위 K개 유사 게시글 (item-item 코사인 유사도)
+ * - 이웃 인덱스/점수를 items * K 크기의 평탄화된 원시 배열에 점수 내림차순으로 보관
+ * - 계산은 게시글 구간을 나누어 fork/join으로 병렬 수행
+ * - 게시된 인스턴스는 변경하지 않으며, 증분 갱신은 {@link #recompute}가 복사본을 만들어 반환
+ */
+public final class ItemNeighbors {
+
+    private final int items;
+    private final int k;
+    private final int[] neighbourIdx;
+    private final float[] neighbourScore;
+    private final int[] counts;
+
+    private ItemNeighbors(int items, int k) {
+        this.items = items;
+        this.k = k;
+        this.neighbourIdx = new int[items * k];
+        this.neighbourScore = new float[items * k];
+        this.counts = new int[items];
+    }
+
+    public static ItemNeighbors empty(int k) {
+        return new ItemNeighbors(0, k);
+    }
+
+    /**
+     * 전체 게시글의 이웃을 계산합니다.
+     *
+     * @param userItem        사용자-게시글 행렬
+     * @param k               게시글당 이웃 수
+     * @param maxItemsPerUser 이 값보다 많은 게시글과 상호작용한 사용자는 유사도 계산에서 제외 (헤비 유저로 인한 제곱 비용 방지)
+     */
+    public static ItemNeighbors compute(SparseInteractionMatrix userItem, int k, int maxItemsPerUser, ForkJoinPool pool) {
+        Context ctx = new Context(userItem, maxItemsPerUser);
+        ItemNeighbors result = new ItemNeighbors(userItem.cols(), k);
+        int items = userItem.cols();
+        if (items > 0) {
+            int threshold = Math.max(16, items / (pool.getParallelism() * 4));
+            pool.invoke(new RangeTask(ctx, result, null, 0, items, threshold));
+        }
+        return result;
+    }
+
+    /**
+     * 새 상호작용이 반영된 행렬을 기준으로 영향을 받은 게시글만 다시 계산합니다.
+     * 다시 계산된 게시글의 이웃은 상대 게시글 목록에도 대칭으로 반영합니다.
+     */
+    public ItemNeighbors recompute(SparseInteractionMatrix userItem, int[] touchedItems,
+                                   int maxItemsPerUser, ForkJoinPool pool) {
+        ItemNeighbors next = new ItemNeighbors(userItem.cols(), k);
+        System.arraycopy(neighbourIdx, 0, next.neighbourIdx, 0, neighbourIdx.length);
+        System.arraycopy(neighbourScore, 0, next.neighbourScore, 0, neighbourScore.length);
+        System.arraycopy(counts, 0, next.counts, 0, counts.length);
+        if (touchedItems.length == 0) {
+            return next;
+        }
+
+        Context ctx = new Context(userItem, maxItemsPerUser);
+        int threshold = Math.max(8, touchedItems.length / (pool.getParallelism() * 4));
+        pool.invoke(new RangeTask(ctx, next, touchedItems, 0, touchedItems.length, threshold));
+
+        for (int item : touchedItems) {
+            int base = item * k;
+            for (int r = 0; r < next.counts[item]; r++) {
+                next.offer(next.neighbourIdx[base + r], item, next.neighbourScore[base + r]);
+            }
+        }
+        return next;
+    }
+
+    public int items() { return items; }
+    public int neighbourCount(int item) { return item < items ? counts[item] : 0; }
+    public int neighbourAt(int item, int rank) { return neighbourIdx[item * k + rank]; }
+    public float scoreAt(int item, int rank) { return neighbourScore[item * k + rank]; }
+
+    /**
+     * item의 이웃 목록에 (neighbour, score)를 반영합니다. 점수 내림차순을 유지합니다.
+     */
+    private void offer(int item, int neighbour, float score) {
+        int base = item * k;
+        int count = counts[item];
+
+        // 이미 있으면 제거 후 다시 삽입
+        for (int r = 0; r < count; r++) {
+            if (neighbourIdx[base + r] == neighbour) {
+                System.arraycopy(neighbourIdx, base + r + 1, neighbourIdx, base + r, count - r - 1);
+                System.arraycopy(neighbourScore, base + r + 1, neighbourScore, base + r, count - r - 1);
+                count--;
+                break;
+            }
+        }
+        if (count == k && score <= neighbourScore[base + k - 1]) {
+            counts[item] = count;
+            return;
+        }
+
+        int pos = Math.min(count, k - 1);
+        while (pos > 0 && neighbourScore[base + pos - 1] < score) {
+            neighbourIdx[base + pos] = neighbourIdx[base + pos - 1];
+            neighbourScore[base + pos] = neighbourScore[base + pos - 1];
+            pos--;
+        }
+        neighbourIdx[base + pos] = neighbour;
+        neighbourScore[base + pos] = score;
+        counts[item] = Math.min(count + 1, k);
+    }
+
+    private static final class Context {
+        final SparseInteractionMatrix userItem;
+        final SparseInteractionMatrix itemUser;
+        final float[] itemNorms;
+        final int maxItemsPerUser;
+
+        Context(SparseInteractionMatrix userItem, int maxItemsPerUser) {
+            this.userItem = userItem;
+            this.itemUser = userItem.transpose();
+            this.itemNorms = itemUser.rowNorms();
+            this.maxItemsPerUser = maxItemsPerUser;
+        }
+    }
+
+    private static final class RangeTask extends RecursiveAction {
+        private final Context ctx;
+        private final ItemNeighbors out;
+        private final int[] itemList;   // null이면 [from, to) 구간 자체가 게시글 인덱스
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        RangeTask(Context ctx, ItemNeighbors out, int[] itemList, int from, int to, int threshold) {
+            this.ctx = ctx;
+            this.out = out;
+            this.itemList = itemList;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > threshold) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new RangeTask(ctx, out, itemList, from, mid, threshold),
+                        new RangeTask(ctx, out, itemList, mid, to, threshold));
+                return;
+            }
+            int cols = ctx.userItem.cols();
+            float[] dot = new float[cols];
+            int[] touched = new int[cols];
+            int[] heapIdx = new int[out.k];
+            float[] heapScore = new float[out.k];
+            for (int i = from; i < to; i++) {
+                int item = itemList != null ? itemList[i] : i;
+                computeItem(item, dot, touched, heapIdx, heapScore);
+            }
+        }
+
+        private void computeItem(int item, float[] dot, int[] touched, int[] heapIdx, float[] heapScore) {
+            SparseInteractionMatrix itemUser = ctx.itemUser;
+            SparseInteractionMatrix userItem = ctx.userItem;
+            int touchedCount = 0;
+
+            // 1. item과 함께 상호작용된 게시글들과의 내적 누적
+            for (int p = itemUser.rowStart(item); p < itemUser.rowEnd(item); p++) {
+                int user = itemUser.colAt(p);
+                if (userItem.rowLength(user) > ctx.maxItemsPerUser) {
+                    continue;
+                }
+                float w = itemUser.valueAt(p);
+                for (int q = userItem.rowStart(user); q < userItem.rowEnd(user); q++) {
+                    int other = userItem.colAt(q);
+                    if (other == item) {
+                        continue;
+                    }
+                    if (dot[other] == 0f) {
+                        touched[touchedCount++] = other;
+                    }
+                    dot[other] += w * userItem.valueAt(q);
+                }
+            }
+
+            // 2. 코사인 유사도로 정규화하면서 min-heap으로 상위 K개 선택
+            int k = out.k;
+            int heapSize = 0;
+            float normItem = ctx.itemNorms[item];
+            for (int t = 0; t < touchedCount; t++) {
+                int other = touched[t];
+                float denom = normItem * ctx.itemNorms[other];
+                float score = denom > 0f ? dot[other] / denom : 0f;
+                dot[other] = 0f;
+                if (score <= 0f) {
+                    continue;
+                }
+                if (heapSize < k) {
+                    heapIdx[heapSize] = other;
+                    heapScore[heapSize] = score;
+                    siftUp(heapIdx, heapScore, heapSize++);
+                } else if (score > heapScore[0]) {
+                    heapIdx[0] = other;
+                    heapScore[0] = score;
+                    siftDown(heapIdx, heapScore, heapSize);
+                }
+            }
+
+            // 3. 힙을 꺼내며 점수 내림차순으로 기록
+            int base = item * k;
+            out.counts[item] = heapSize;
+            for (int r = heapSize - 1; r >= 0; r--) {
+                out.neighbourIdx[base + r] = heapIdx[0];
+                out.neighbourScore[base + r] = heapScore[0];
+                heapIdx[0] = heapIdx[r];
+                heapScore[0] = heapScore[r];
+                siftDown(heapIdx, heapScore, r);
+            }
+        }
+
+        private static void siftUp(int[] idx, float[] score, int pos) {
+            while (pos > 0) {
+                int parent = (pos - 1) >>> 1;
+                if (score[parent] <= score[pos]) {
+                    break;
+                }
+                swap(idx, score, parent, pos);
+                pos = parent;
+            }
+        }
+
+        private static void siftDown(int[] idx, float[] score, int size) {
+            int pos = 0;
+            while (true) {
+                int left = pos * 2 + 1;
+                if (left >= size) {
+                    break;
+                }
+                int smallest = left + 1 < size && score[left + 1] < score[left] ? left + 1 : left;
+                if (score[pos] <= score[smallest]) {
+                    break;
+                }
+                swap(idx, score, pos, smallest);
+                pos = smallest;
+            }
+        }
+
+        private static void swap(int[] idx, float[] score, int a, int b) {
+            int ti = idx[a];
+            idx[a] = idx[b];
+            idx[b] = ti;
+            float ts = score[a];
+            score[a] = score[b];
+            score[b] = ts;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ItemNeighbors{items=" + items + ", k=" + k
+                + ", filled=" + Arrays.stream(counts).filter(c -> c > 0).count() + "}";
+    }
+}
@@ -0,0 +1,321 @@
+package com.example.studywithme.ai.service;
+
+import com.example.studywithme.board.repository.BookmarkRepository;
+import com.example.studywithme.board.repository.PostLikeRepository;
+import com.example.studywithme.user.entity.UserActivity.ActionType;
+import com.example.studywithme.user.repository.UserActivityRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Java 네이티브 item-item 협업 필터링 엔진
+ * - post_likes, bookmarks, user_activity로 사용자-게시글 행렬을 CSR 형태로 유지
+ * - 게시글별 상위 K개 이웃을 fork/join으로 병렬 계산
+ * - 새 상호작용은 큐에 쌓았다가 주기적으로 행렬에 합치고, 영향을 받은 게시글만 다시 계산
+ * - 가중치는 python/ai_recommendation.py 의 build_user_item_matrix 와 동일
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ItemSimilarityEngine {
+
+    private static final float CLICK_WEIGHT = 2.0f;
+    private static final float LIKE_WEIGHT = 3.0f;
+    private static final float COMMENT_WEIGHT = 3.5f;
+    private static final float BOOKMARK_WEIGHT = 4.0f;
+
+    private final UserActivityRepository userActivityRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final BookmarkRepository bookmarkRepository;
+
+    @Value("${recommendation.cf.enabled:true}")
+    private boolean enabled;
+
+    @Value("${recommendation.cf.top-k:20}")
+    private int topK;
+
+    @Value("${recommendation.cf.days:90}")
+    private int days;
+
+    @Value("${recommendation.cf.max-items-per-user:500}")
+    private int maxItemsPerUser;
+
+    private final ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    private final ConcurrentLinkedQueue<Interaction> pending = new ConcurrentLinkedQueue<>();
+    private final Object writeLock = new Object();
+
+    private volatile Snapshot snapshot = Snapshot.empty();
+    private volatile boolean built;
+
+    /**
+     * DB에서 행렬을 다시 구축하고 전체 이웃을 계산합니다.
+     */
+    @Scheduled(initialDelayString = "${recommendation.cf.initial-delay-ms:30000}",
+               fixedDelayString = "${recommendation.cf.rebuild-interval-ms:21600000}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        synchronized (writeLock) {
+            long start = System.currentTimeMillis();
+            // 큐에 남은 상호작용은 이미 DB에 저장된 것이므로 재구축 결과에 포함됨
+            pending.clear();
+
+            LocalDateTime since = LocalDateTime.now().minusDays(days);
+            TripleBuffer triples = new TripleBuffer(1024);
+            Map<Integer, Integer> userIndex = new ConcurrentHashMap<>();
+            Map<Long, Integer> itemIndex = new ConcurrentHashMap<>();
+            LongList itemIds = new LongList();
+
+            List<Object[]> activities = userActivityRepository.aggregatePostInteractions(
+                    List.of(ActionType.CLICK, ActionType.COMMENT), since);
+            for (Object[] row : activities) {
+                ActionType type = (ActionType) row[2];
+                float weight = type == ActionType.COMMENT ? COMMENT_WEIGHT : CLICK_WEIGHT;
+                addTriple(triples, userIndex, itemIndex, itemIds,
+                        ((Number) row[0]).intValue(), ((Number) row[1]).longValue(),
+                        weight * ((Number) row[3]).longValue());
+            }
+            for (Object[] row : postLikeRepository.findUserPostPairsSince(since)) {
+                addTriple(triples, userIndex, itemIndex, itemIds,
+                        ((Number) row[0]).intValue(), ((Number) row[1]).longValue(), LIKE_WEIGHT);
+            }
+            for (Object[] row : bookmarkRepository.findUserPostPairsSince(since)) {
+                addTriple(triples, userIndex, itemIndex, itemIds,
+                        ((Number) row[0]).intValue(), ((Number) row[1]).longValue(), BOOKMARK_WEIGHT);
+            }
+
+            SparseInteractionMatrix matrix = SparseInteractionMatrix.fromTriples(
+                    userIndex.size(), itemIndex.size(),
+                    triples.rows, triples.cols, triples.values, triples.size);
+            ItemNeighbors neighbors = ItemNeighbors.compute(matrix, topK, maxItemsPerUser, pool);
+            snapshot = new Snapshot(userIndex, itemIndex, itemIds.toArray(), matrix, neighbors);
+            built = true;
+
+            log.info("협업 필터링 행렬 재구축 완료: 사용자 {}명, 게시글 {}개, 상호작용 {}건 ({}ms)",
+                    matrix.rows(), matrix.cols(), matrix.nnz(), System.currentTimeMillis() - start);
+        }
+    }
+
+    /**
+     * 새 상호작용을 기록합니다. 실제 반영은 {@link #applyPendingInteractions()}에서 일괄 처리됩니다.
+     */
+    public void recordInteraction(Integer userId, Long postId, ActionType actionType) {
+        if (!enabled || userId == null || postId == null || actionType == null) {
+            return;
+        }
+        float weight = switch (actionType) {
+            case CLICK -> CLICK_WEIGHT;
+            case LIKE -> LIKE_WEIGHT;
+            case COMMENT -> COMMENT_WEIGHT;
+            case BOOKMARK -> BOOKMARK_WEIGHT;
+            default -> 0f;
+        };
+        if (weight > 0f) {
+            pending.add(new Interaction(userId, postId, weight));
+        }
+    }
+
+    /**
+     * 쌓인 상호작용을 행렬에 합치고, 영향을 받은 게시글의 이웃만 다시 계산합니다.
+     */
+    @Scheduled(fixedDelayString = "${recommendation.cf.apply-interval-ms:10000}")
+    public void applyPendingInteractions() {
+        // 첫 재구축 전에는 반영하지 않음 (재구축이 DB에서 모두 읽어옴)
+        if (!enabled || !built || pending.isEmpty()) {
+            return;
+        }
+        synchronized (writeLock) {
+            Snapshot current = snapshot;
+            TripleBuffer triples = new TripleBuffer(Math.max(16, pending.size()));
+            LongList itemIds = new LongList(current.itemIds);
+
+            Interaction interaction;
+            while ((interaction = pending.poll()) != null) {
+                addTriple(triples, current.userIndex, current.itemIndex, itemIds,
+                        interaction.userId, interaction.postId, interaction.weight);
+            }
+            if (triples.size == 0) {
+                return;
+            }
+
+            SparseInteractionMatrix matrix = current.matrix.merge(
+                    current.userIndex.size(), current.itemIndex.size(),
+                    triples.rows, triples.cols, triples.values, triples.size);
+            int[] touched = Arrays.stream(triples.cols, 0, triples.size).distinct().toArray();
+            ItemNeighbors neighbors = current.neighbors.recompute(matrix, touched, maxItemsPerUser, pool);
+            snapshot = new Snapshot(current.userIndex, current.itemIndex, itemIds.toArray(), matrix, neighbors);
+
+            log.debug("협업 필터링 증분 반영: 상호작용 {}건, 재계산 게시글 {}개", triples.size, touched.length);
+        }
+    }
+
+    /**
+     * 주어진 게시글과 함께 소비된 유사 게시글 ID 목록 (유사도 내림차순)
+     */
+    public List<Long> findSimilarPosts(Long postId, int limit) {
+        Snapshot current = snapshot;
+        Integer item = current.itemIndex.get(postId);
+        if (item == null || item >= current.neighbors.items()) {
+            return List.of();
+        }
+        int count = Math.min(limit, current.neighbors.neighbourCount(item));
+        List<Long> result = new ArrayList<>(count);
+        for (int r = 0; r < count; r++) {
+            result.add(current.itemIds[current.neighbors.neighbourAt(item, r)]);
+        }
+        return result;
+    }
+
+    /**
+     * 사용자가 상호작용한 게시글들의 이웃 점수를 합산해 추천 게시글 ID 목록을 반환합니다.
+     * (이미 상호작용한 게시글은 제외)
+     */
+    public List<Long> recommendForUser(Integer userId, int limit) {
+        Snapshot current = snapshot;
+        Integer user = userId != null ? current.userIndex.get(userId) : null;
+        if (user == null || user >= current.matrix.rows() || limit <= 0) {
+            return List.of();
+        }
+        SparseInteractionMatrix matrix = current.matrix;
+        ItemNeighbors neighbors = current.neighbors;
+
+        Map<Integer, Float> scores = new java.util.HashMap<>();
+        for (int p = matrix.rowStart(user); p < matrix.rowEnd(user); p++) {
+            int item = matrix.colAt(p);
+            float weight = matrix.valueAt(p);
+            for (int r = 0; r < neighbors.neighbourCount(item); r++) {
+                scores.merge(neighbors.neighbourAt(item, r), weight * neighbors.scoreAt(item, r), Float::sum);
+            }
+        }
+        for (int p = matrix.rowStart(user); p < matrix.rowEnd(user); p++) {
+            scores.remove(matrix.colAt(p));
+        }
+
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Integer, Float>comparingByValue().reversed())
+                .limit(limit)
+                .map(e -> current.itemIds[e.getKey()])
+                .toList();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    private static void addTriple(TripleBuffer triples, Map<Integer, Integer> userIndex,
+                                  Map<Long, Integer> itemIndex, LongList itemIds,
+                                  int userId, long postId, float weight) {
+        int row = userIndex.computeIfAbsent(userId, id -> userIndex.size());
+        Integer col = itemIndex.get(postId);
+        if (col == null) {
+            col = itemIds.size();
+            itemIds.add(postId);
+            itemIndex.put(postId, col);
+        }
+        triples.add(row, col, weight);
+    }
+
+    /**
+     * 조회 스레드가 읽는 불변 스냅샷
+     * - 인덱스 맵은 증분 반영 시 계속 커지므로, 조회 시 행렬 범위를 항상 확인
+     */
+    private static final class Snapshot {
+        final Map<Integer, Integer> userIndex;
+        final Map<Long, Integer> itemIndex;
+        final long[] itemIds;
+        final SparseInteractionMatrix matrix;
+        final ItemNeighbors neighbors;
+
+        Snapshot(Map<Integer, Integer> userIndex, Map<Long, Integer> itemIndex, long[] itemIds,
+                 SparseInteractionMatrix matrix, ItemNeighbors neighbors) {
+            this.userIndex = userIndex;
+            this.itemIndex = itemIndex;
+            this.itemIds = itemIds;
+            this.matrix = matrix;
+            this.neighbors = neighbors;
+        }
+
+        static Snapshot empty() {
+            return new Snapshot(new ConcurrentHashMap<>(), new ConcurrentHashMap<>(), new long[0],
+                    SparseInteractionMatrix.empty(), ItemNeighbors.empty(1));
+        }
+    }
+
+    private static final class Interaction {
+        final int userId;
+        final long postId;
+        final float weight;
+
+        Interaction(int userId, long postId, float weight) {
+            this.userId = userId;
+            this.postId = postId;
+            this.weight = weight;
+        }
+    }
+
+    private static final class TripleBuffer {
+        int[] rows;
+        int[] cols;
+        float[] values;
+        int size;
+
+        TripleBuffer(int capacity) {
+            rows = new int[capacity];
+            cols = new int[capacity];
+            values = new float[capacity];
+        }
+
+        void add(int row, int col, float value) {
+            if (size == rows.length) {
+                int capacity = size * 2;
+                rows = Arrays.copyOf(rows, capacity);
+                cols = Arrays.copyOf(cols, capacity);
+                values = Arrays.copyOf(values, capacity);
+            }
+            rows[size] = row;
+            cols[size] = col;
+            values[size] = value;
+            size++;
+        }
+    }
+
+    private static final class LongList {
+        private long[] data;
+        private int size;
+
+        LongList() {
+            this.data = new long[1024];
+        }
+
+        LongList(long[] initial) {
+            this.data = Arrays.copyOf(initial, Math.max(16, initial.length + 16));
+            this.size = initial.length;
+        }
+
+        void add(long value) {
+            if (size == data.length) {
+                data = Arrays.copyOf(data, size * 2);
+            }
+            data[size++] = value;
+        }
+
+        int size() { return size; }
+
+        long[] toArray() { return Arrays.copyOf(data, size); }
+    }
+}
@@ -0,0 +1,176 @@
+package com.example.studywithme.ai.service;
+
+/**
+ * 게시글 임베딩 인코더 (hashing trick + TF-IDF, 외부 모델/네트워크 없음)
+ * - 토큰을 해시해서 고정 차원 버킷에 부호와 함께 누적 (signed feature hashing)
+ * - 한글이 포함된 토큰은 조사가 붙어도 겹치도록 음절 bigram으로 쪼갬
+ * - TF는 1 + ln(tf), IDF는 버킷 단위 문서 빈도로 계산한 뒤 L2 정규화
+ * - 저장용으로 int8 양자화 (차원당 1바이트 + 스케일)
+ */
+public final class PostEmbeddingEncoder {
+
+    public static final int DIMENSION = 256;
+    public static final int MODEL_VERSION = 1;
+
+    private static final int TITLE_WEIGHT = 2;
+    private static final int TAG_WEIGHT = 2;
+    private static final int MAX_CONTENT_CHARS = 20_000;
+
+    private PostEmbeddingEncoder() {
+    }
+
+    /**
+     * 부호 있는 해시 버킷별 단어 빈도 (제목·태그는 가중치 2)
+     */
+    public static float[] termFrequencies(String title, String tags, String content) {
+        float[] tf = new float[DIMENSION];
+        addText(tf, title, TITLE_WEIGHT);
+        addText(tf, tags, TAG_WEIGHT);
+        if (content != null && content.length() > MAX_CONTENT_CHARS) {
+            content = content.substring(0, MAX_CONTENT_CHARS);
+        }
+        addText(tf, content, 1);
+        return tf;
+    }
+
+    /**
+     * TF에 IDF를 곱하고 L2 정규화한 임베딩을 만듭니다.
+     *
+     * @param documentFrequency 버킷별 문서 빈도
+     * @param documentCount     전체 문서 수
+     */
+    public static float[] weigh(float[] tf, int[] documentFrequency, long documentCount) {
+        float[] vector = new float[DIMENSION];
+        double norm = 0;
+        for (int b = 0; b < DIMENSION; b++) {
+            float f = tf[b];
+            if (f == 0f) {
+                continue;
+            }
+            double idf = Math.log((1.0 + documentCount) / (1.0 + documentFrequency[b])) + 1.0;
+            double w = Math.signum(f) * (1.0 + Math.log(Math.abs(f))) * idf;
+            vector[b] = (float) w;
+            norm += w * w;
+        }
+        if (norm > 0) {
+            float inv = (float) (1.0 / Math.sqrt(norm));
+            for (int b = 0; b < DIMENSION; b++) {
+                vector[b] *= inv;
+            }
+        }
+        return vector;
+    }
+
+    /**
+     * int8 양자화. 0이 아닌 값은 최소 ±1로 남겨 버킷 사용 여부(문서 빈도 계산용)가 보존되게 합니다.
+     */
+    public static Quantized quantize(float[] vector) {
+        float maxAbs = 0f;
+        for (float v : vector) {
+            maxAbs = Math.max(maxAbs, Math.abs(v));
+        }
+        byte[] codes = new byte[vector.length];
+        if (maxAbs == 0f) {
+            return new Quantized(codes, 0f);
+        }
+        float scale = maxAbs / 127f;
+        for (int i = 0; i < vector.length; i++) {
+            if (vector[i] == 0f) {
+                continue;
+            }
+            int q = Math.round(vector[i] / scale);
+            if (q == 0) {
+                q = vector[i] > 0 ? 1 : -1;
+            }
+            codes[i] = (byte) Math.max(-127, Math.min(127, q));
+        }
+        return new Quantized(codes, scale);
+    }
+
+    /**
+     * 양자화된 벡터를 복원하고 다시 L2 정규화합니다.
+     */
+    public static float[] dequantize(byte[] codes, float scale) {
+        float[] vector = new float[codes.length];
+        double norm = 0;
+        for (int i = 0; i < codes.length; i++) {
+            vector[i] = codes[i] * scale;
+            norm += (double) vector[i] * vector[i];
+        }
+        if (norm > 0) {
+            float inv = (float) (1.0 / Math.sqrt(norm));
+            for (int i = 0; i < vector.length; i++) {
+                vector[i] *= inv;
+            }
+        }
+        return vector;
+    }
+
+    public record Quantized(byte[] codes, float scale) {}
+
+    private static void addText(float[] tf, String text, int weight) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+        String lower = text.toLowerCase();
+        int length = lower.length();
+        int start = -1;
+        for (int i = 0; i <= length; i++) {
+            boolean letter = i < length && Character.isLetterOrDigit(lower.charAt(i));
+            if (letter && start < 0) {
+                start = i;
+            } else if (!letter && start >= 0) {
+                addToken(tf, lower, start, i, weight);
+                start = -1;
+            }
+        }
+    }
+
+    private static void addToken(float[] tf, String text, int from, int to, int weight) {
+        if (containsHangul(text, from, to)) {
+            if (to - from == 1) {
+                addHash(tf, hash(text, from, to), weight);
+                return;
+            }
+            for (int i = from; i + 1 < to; i++) {
+                addHash(tf, hash(text, i, i + 2), weight);
+            }
+            return;
+        }
+        if (to - from >= 2) {
+            addHash(tf, hash(text, from, to), weight);
+        }
+    }
+
+    private static void addHash(float[] tf, int h, int weight) {
+        int bucket = (h & 0x7fffffff) % DIMENSION;
+        tf[bucket] += (h & 0x80000000) != 0 ? -weight : weight;
+    }
+
+    private static boolean containsHangul(String text, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (c >= '가' && c <= '힣') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * FNV-1a + murmur3 finalizer (JVM 실행마다 바뀌지 않는 고정 해시)
+     */
+    private static int hash(String text, int from, int to) {
+        int h = 0x811c9dc5;
+        for (int i = from; i < to; i++) {
+            h ^= text.charAt(i);
+            h *= 0x01000193;
+        }
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
@@ -0,0 +1,288 @@
+package com.example.studywithme.ai.service;
+
+import com.example.studywithme.ai.entity.PostEmbedding;
+import com.example.studywithme.ai.repository.PostEmbeddingRepository;
+import com.example.studywithme.board.repository.PostRepository;
+import com.example.studywithme.board.service.PostContentService;
+import com.example.studywithme.global.transaction.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 임베딩 파이프라인
+ * - 작성/수정 커밋 후 게시글 ID를 큐에 넣고, 스케줄러가 배치로 임베딩 계산 → post_embeddings 저장 → posts.embedding_updated_at 기록
+ * - 캐치업 작업이 임베딩이 없거나 임베딩 이후 수정된 게시글을 id 순서 배치로 처리 (큐 유실·재시작 대비)
+ * - IDF용 버킷별 문서 빈도는 저장된 벡터의 0이 아닌 차원에서 복원해 메모리에 유지
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PostEmbeddingService {
+
+    private final PostRepository postRepository;
+    private final PostEmbeddingRepository postEmbeddingRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final SimilarPostIndexService similarPostIndexService;
+
+    @Value("${embedding.enabled:true}")
+    private boolean enabled;
+
+    @Value("${embedding.batch-size:200}")
+    private int batchSize;
+
+    @Value("${embedding.catch-up.max-batches:50}")
+    private int maxCatchUpBatches;
+
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+    private final AtomicIntegerArray documentFrequency = new AtomicIntegerArray(PostEmbeddingEncoder.DIMENSION);
+    private final AtomicLong documentCount = new AtomicLong();
+    private final Object writeLock = new Object();
+    private volatile boolean statsLoaded;
+
+    /**
+     * 게시글 작성/수정 후 임베딩 계산을 요청합니다.
+     * 트랜잭션 안에서 호출되면 커밋 이후에 큐에 넣어, 커밋 전 내용으로 계산하지 않게 합니다.
+     */
+    public void requestEmbedding(Long postId) {
+        if (!enabled || postId == null) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> pending.add(postId));
+    }
+
+    /**
+     * 게시글 삭제 시 임베딩도 함께 삭제합니다. (호출한 쪽 트랜잭션에 참여)
+     */
+    public void removeEmbedding(Long postId) {
+        if (postId == null) {
+            return;
+        }
+        pending.remove(postId);
+        similarPostIndexService.remove(postId);
+        postEmbeddingRepository.findById(postId).ifPresent(embedding -> {
+            postEmbeddingRepository.delete(embedding);
+            if (statsLoaded) {
+                adjustStats(embedding.getVector(), -1);
+            }
+        });
+    }
+
+    /**
+     * 큐에 쌓인 게시글을 배치로 처리
+     */
+    @Scheduled(fixedDelayString = "${embedding.apply-interval-ms:2000}")
+    public void processPending() {
+        if (!enabled || pending.isEmpty()) {
+            return;
+        }
+        List<Long> batch = new ArrayList<>(batchSize);
+        for (Long postId : pending) {
+            if (pending.remove(postId)) {
+                batch.add(postId);
+            }
+            if (batch.size() == batchSize) {
+                embedPosts(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            embedPosts(batch);
+        }
+    }
+
+    /**
+     * 임베딩이 없거나 오래된 게시글 캐치업 (한 번에 최대 maxCatchUpBatches 배치)
+     */
+    @Scheduled(initialDelayString = "${embedding.catch-up.initial-delay-ms:60000}",
+               fixedDelayString = "${embedding.catch-up.interval-ms:600000}")
+    public void catchUp() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        long afterId = 0L;
+        int processed = 0;
+        for (int i = 0; i < maxCatchUpBatches; i++) {
+            List<Long> ids = postRepository.findIdsNeedingEmbedding(afterId, PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            processed += embedPosts(ids);
+            afterId = ids.get(ids.size() - 1);
+        }
+        if (processed > 0) {
+            log.info("게시글 임베딩 캐치업 완료: {}개 ({}ms)", processed, System.currentTimeMillis() - start);
+        }
+    }
+
+    /**
+     * 검색어 등 임의 텍스트를 게시글과 같은 공간의 벡터로 변환합니다. (토큰이 없으면 null)
+     */
+    public float[] embedQuery(String text) {
+        float[] tf = PostEmbeddingEncoder.termFrequencies(text, null, null);
+        boolean empty = true;
+        for (float f : tf) {
+            if (f != 0f) {
+                empty = false;
+                break;
+            }
+        }
+        if (empty) {
+            return null;
+        }
+        synchronized (writeLock) {
+            ensureStatsLoaded();
+        }
+        return PostEmbeddingEncoder.weigh(tf, snapshotDocumentFrequency(), documentCount.get());
+    }
+
+    /**
+     * 저장된 임베딩을 복원한 단위 벡터 (없으면 null)
+     */
+    public float[] getEmbedding(Long postId) {
+        return postEmbeddingRepository.findById(postId)
+                .map(e -> PostEmbeddingEncoder.dequantize(e.getVector(), e.getScale()))
+                .orElse(null);
+    }
+
+    /**
+     * 게시글 묶음의 임베딩을 계산해 저장하고 embedding_updated_at 을 기록합니다.
+     *
+     * @return 처리한 게시글 수
+     */
+    public int embedPosts(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return 0;
+        }
+        synchronized (writeLock) {
+            ensureStatsLoaded();
+            // 내용을 읽기 전 시각으로 기록해야, 처리 도중 수정된 게시글(updated_at이 더 늦음)이 다시 캐치업 대상이 됨
+            LocalDateTime stampedAt = LocalDateTime.now();
+            try {
+                List<PostEmbedding> saved = transactionTemplate.execute(status -> {
+                    List<Object[]> sources = postRepository.findEmbeddingSources(postIds);
+                    if (sources.isEmpty()) {
+                        return List.<PostEmbedding>of();
+                    }
+                    Map<Long, PostEmbedding> existing = postEmbeddingRepository.findAllById(postIds).stream()
+                            .collect(Collectors.toMap(PostEmbedding::getPostId, Function.identity()));
+
+                    // 1. 이번 배치의 TF를 먼저 계산하고 문서 빈도를 갱신 (이전 벡터 기여분은 제거)
+                    List<Long> ids = new ArrayList<>(sources.size());
+                    List<float[]> termFrequencies = new ArrayList<>(sources.size());
+                    for (Object[] row : sources) {
+                        Long postId = ((Number) row[0]).longValue();
+                        float[] tf = PostEmbeddingEncoder.termFrequencies((String) row[1], (String) row[2], PostContentService.text(row, 3));
+                        PostEmbedding previous = existing.get(postId);
+                        if (previous != null) {
+                            adjustStats(previous.getVector(), -1);
+                        }
+                        adjustStats(tf, 1);
+                        ids.add(postId);
+                        termFrequencies.add(tf);
+                    }
+
+                    // 2. IDF 가중치 적용 → 양자화 → 저장
+                    int[] df = snapshotDocumentFrequency();
+                    long docs = documentCount.get();
+                    List<PostEmbedding> embeddings = new ArrayList<>(ids.size());
+                    for (int i = 0; i < ids.size(); i++) {
+                        float[] vector = PostEmbeddingEncoder.weigh(termFrequencies.get(i), df, docs);
+                        PostEmbeddingEncoder.Quantized quantized = PostEmbeddingEncoder.quantize(vector);
+                        PostEmbedding embedding = existing.getOrDefault(ids.get(i), new PostEmbedding());
+                        embedding.setPostId(ids.get(i));
+                        embedding.setDimension(PostEmbeddingEncoder.DIMENSION);
+                        embedding.setModelVersion(PostEmbeddingEncoder.MODEL_VERSION);
+                        embedding.setScale(quantized.scale());
+                        embedding.setVector(quantized.codes());
+                        embedding.setUpdatedAt(stampedAt);
+                        embeddings.add(embedding);
+                    }
+                    postEmbeddingRepository.saveAll(embeddings);
+                    postRepository.markEmbeddingUpdated(ids, stampedAt);
+                    return embeddings;
+                });
+                if (saved == null) {
+                    return 0;
+                }
+                // 커밋된 벡터만 유사 게시글 인덱스에 반영 (저장된 양자화 값 기준)
+                for (PostEmbedding embedding : saved) {
+                    similarPostIndexService.upsert(embedding.getPostId(),
+                            PostEmbeddingEncoder.dequantize(embedding.getVector(), embedding.getScale()));
+                }
+                return saved.size();
+            } catch (Exception e) {
+                // 문서 빈도가 롤백된 배치를 반영하고 있을 수 있으므로 다음 배치에서 다시 적재
+                statsLoaded = false;
+                log.error("게시글 임베딩 계산 실패: {}개 (첫 ID {})", postIds.size(), postIds.get(0), e);
+                return 0;
+            }
+        }
+    }
+
+    private void ensureStatsLoaded() {
+        if (statsLoaded) {
+            return;
+        }
+        for (int b = 0; b < PostEmbeddingEncoder.DIMENSION; b++) {
+            documentFrequency.set(b, 0);
+        }
+        documentCount.set(0);
+        long afterId = 0L;
+        while (true) {
+            List<PostEmbedding> page = postEmbeddingRepository.findByPostIdGreaterThanOrderByPostIdAsc(
+                    afterId, PageRequest.of(0, 1000));
+            if (page.isEmpty()) {
+                break;
+            }
+            for (PostEmbedding embedding : page) {
+                adjustStats(embedding.getVector(), 1);
+            }
+            afterId = page.get(page.size() - 1).getPostId();
+        }
+        statsLoaded = true;
+        log.info("게시글 임베딩 문서 빈도 적재 완료: 문서 {}개", documentCount.get());
+    }
+
+    private void adjustStats(byte[] codes, int delta) {
+        for (int b = 0; b < codes.length && b < PostEmbeddingEncoder.DIMENSION; b++) {
+            if (codes[b] != 0) {
+                documentFrequency.addAndGet(b, delta);
+            }
+        }
+        documentCount.addAndGet(delta);
+    }
+
+    private void adjustStats(float[] tf, int delta) {
+        for (int b = 0; b < tf.length; b++) {
+            if (tf[b] != 0f) {
+                documentFrequency.addAndGet(b, delta);
+            }
+        }
+        documentCount.addAndGet(delta);
+    }
+
+    private int[] snapshotDocumentFrequency() {
+        int[] df = new int[PostEmbeddingEncoder.DIMENSION];
+        for (int b = 0; b < df.length; b++) {
+            df[b] = documentFrequency.get(b);
+        }
+        return df;
+    }
+}
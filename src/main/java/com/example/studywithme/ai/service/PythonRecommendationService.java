@@ -21,6 +21,7 @@ public class PythonRecommendationService {
 
     private final PostRepository postRepository;
     private final PythonScriptExecutor pythonScriptExecutor;
+    private final FeatureSnapshotExporter featureSnapshotExporter;
 
     @Value("${python.script.path:python/ai_recommendation.py}")
     private String pythonScriptPath;
@@ -55,13 +56,7 @@ public class PythonRecommendationService {
                 return getFallbackRecommendations(limit);
             }
 
-            // 데이터베이스 연결 정보를 환경 변수로 전달
-            Map<String, String> envVars = new HashMap<>();
-            envVars.put("DB_HOST", dbHost);
-            envVars.put("DB_PORT", dbPort);
-            envVars.put("DB_USER", dbUser);
-            envVars.put("DB_PASSWORD", dbPassword);
-            envVars.put("DB_NAME", dbName);
+            Map<String, String> envVars = buildEnvVars();
 
             // 공통 Python 스크립트 실행 서비스 사용
             JsonNode rootNode = pythonScriptExecutor.executeScript(
@@ -135,6 +130,26 @@ public class PythonRecommendationService {
         }
     }
 
+    /**
+     * Python 스크립트에 전달할 환경 변수
+     * - 피처 스냅샷이 있으면 경로를 넘겨 협업 필터링 행렬을 MySQL 집계 대신 스냅샷에서 읽게 함
+     * - 사용자별 활동/게시글 상세 조회는 아직 DB를 사용하므로 연결 정보도 함께 전달
+     */
+    private Map<String, String> buildEnvVars() {
+        Map<String, String> envVars = new HashMap<>();
+        envVars.put("DB_HOST", dbHost);
+        envVars.put("DB_PORT", dbPort);
+        envVars.put("DB_USER", dbUser);
+        envVars.put("DB_PASSWORD", dbPassword);
+        envVars.put("DB_NAME", dbName);
+
+        String snapshotPath = featureSnapshotExporter.getSnapshotPathIfAvailable();
+        if (snapshotPath != null) {
+            envVars.put("FEATURE_SNAPSHOT_PATH", snapshotPath);
+        }
+        return envVars;
+    }
+
     /**
      * Python 스크립트 실행 실패 시 대체 추천 (최신 게시글)
      */
@@ -154,13 +169,7 @@ public class PythonRecommendationService {
                 return Map.of("error", "잘못된 사용자 ID");
             }
 
-            // 데이터베이스 연결 정보를 환경 변수로 전달
-            Map<String, String> envVars = new HashMap<>();
-            envVars.put("DB_HOST", dbHost);
-            envVars.put("DB_PORT", dbPort);
-            envVars.put("DB_USER", dbUser);
-            envVars.put("DB_PASSWORD", dbPassword);
-            envVars.put("DB_NAME", dbName);
+            Map<String, String> envVars = buildEnvVars();
 
             // 공통 Python 스크립트 실행 서비스 사용
             JsonNode rootNode = pythonScriptExecutor.executeScript(
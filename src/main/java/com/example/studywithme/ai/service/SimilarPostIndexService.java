@@ -0,0 +1,222 @@
+package com.example.studywithme.ai.service;
+
+import com.example.studywithme.ai.entity.PostEmbedding;
+import com.example.studywithme.ai.repository.PostEmbeddingRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 게시글 임베딩 HNSW 인덱스 (유사 게시글 검색)
+ * - 기동 시 디스크 스냅샷이 있으면 복원 후 그 이후 바뀐 임베딩만 반영, 없으면 post_embeddings 전체로 구축
+ * - PostEmbeddingService가 임베딩을 저장/삭제할 때마다 즉시 반영
+ * - 주기적으로 다른 인스턴스가 만든 임베딩을 동기화하고, 변경이 있으면 스냅샷 저장
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SimilarPostIndexService {
+
+    private final PostEmbeddingRepository postEmbeddingRepository;
+
+    @Value("${similar-posts.enabled:true}")
+    private boolean enabled;
+
+    @Value("${similar-posts.snapshot-path:data/post_hnsw.bin}")
+    private String snapshotPath;
+
+    @Value("${similar-posts.m:16}")
+    private int m;
+
+    @Value("${similar-posts.ef-construction:100}")
+    private int efConstruction;
+
+    @Value("${similar-posts.ef-search:64}")
+    private int efSearch;
+
+    @Value("${similar-posts.compact-deleted-ratio:0.2}")
+    private double compactDeletedRatio;
+
+    private final Object writeLock = new Object();
+    private volatile HnswIndex index;
+    private volatile boolean dirty;
+    private LocalDateTime lastSyncedAt;
+
+    public boolean isReady() {
+        return index != null;
+    }
+
+    /**
+     * postId와 비슷한 게시글 ID (유사도 내림차순, 자기 자신 제외)
+     */
+    public List<Long> findSimilarPostIds(Long postId, int limit) {
+        HnswIndex current = index;
+        if (current == null || postId == null) {
+            return List.of();
+        }
+        float[] vector = current.vectorOf(postId);
+        if (vector == null) {
+            return List.of();
+        }
+        return current.search(vector, limit + 1, Math.max(efSearch, limit + 1)).stream()
+                .map(HnswIndex.Result::id)
+                .filter(id -> !id.equals(postId))
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * 임의 벡터(검색어 임베딩 등)와 비슷한 게시글
+     */
+    public List<HnswIndex.Result> search(float[] vector, int limit) {
+        HnswIndex current = index;
+        if (current == null || vector == null) {
+            return List.of();
+        }
+        return current.search(vector, limit, Math.max(efSearch, limit));
+    }
+
+    public void upsert(Long postId, float[] vector) {
+        synchronized (writeLock) {
+            if (index == null) {
+                return; // 아직 구축 전: 구축/동기화 때 DB에서 함께 읽힘
+            }
+            index.add(postId, vector);
+            dirty = true;
+        }
+    }
+
+    public void remove(Long postId) {
+        synchronized (writeLock) {
+            if (index != null && index.remove(postId)) {
+                dirty = true;
+            }
+        }
+    }
+
+    /**
+     * 최초 구축(스냅샷 복원) 및 주기적 동기화/스냅샷 저장
+     */
+    @Scheduled(initialDelayString = "${similar-posts.initial-delay-ms:10000}",
+               fixedDelayString = "${similar-posts.sync-interval-ms:60000}")
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            synchronized (writeLock) {
+                if (index == null) {
+                    initialize();
+                } else {
+                    // 다른 인스턴스가 커밋 직전에 기록한 임베딩을 놓치지 않도록 구간을 겹쳐서 조회
+                    syncChangedSince(lastSyncedAt.minusMinutes(5));
+                }
+                if (index.deletedRatio() > compactDeletedRatio) {
+                    index = index.compact();
+                    dirty = true;
+                }
+            }
+            if (dirty) {
+                dirty = false;
+                index.save(Paths.get(snapshotPath).toAbsolutePath());
+            }
+        } catch (Exception e) {
+            log.error("유사 게시글 인덱스 갱신 실패", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        HnswIndex current = index;
+        if (current != null && dirty) {
+            try {
+                current.save(Paths.get(snapshotPath).toAbsolutePath());
+            } catch (Exception e) {
+                log.warn("유사 게시글 인덱스 스냅샷 저장 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void initialize() throws Exception {
+        long start = System.currentTimeMillis();
+        Path path = Paths.get(snapshotPath).toAbsolutePath();
+        if (Files.exists(path)) {
+            try {
+                HnswIndex loaded = HnswIndex.load(path, System.nanoTime());
+                if (loaded.dimension() == PostEmbeddingEncoder.DIMENSION) {
+                    // 스냅샷 저장 직전 변경분을 놓치지 않도록 파일 시각보다 조금 앞에서부터 동기화
+                    LocalDateTime savedAt = LocalDateTime.ofInstant(
+                            Files.getLastModifiedTime(path).toInstant(), ZoneId.systemDefault()).minusMinutes(1);
+                    index = loaded;
+                    syncChangedSince(savedAt);
+                    removeMissing();
+                    log.info("유사 게시글 인덱스 스냅샷 복원: 게시글 {}개 ({}ms)",
+                            index.size(), System.currentTimeMillis() - start);
+                    return;
+                }
+            } catch (Exception e) {
+                log.warn("유사 게시글 인덱스 스냅샷을 읽지 못해 새로 구축합니다: {}", e.getMessage());
+            }
+        }
+
+        LocalDateTime syncStart = LocalDateTime.now();
+        HnswIndex built = new HnswIndex(PostEmbeddingEncoder.DIMENSION, m, efConstruction, 42L);
+        long afterId = 0L;
+        while (true) {
+            List<PostEmbedding> page = postEmbeddingRepository.findByPostIdGreaterThanOrderByPostIdAsc(
+                    afterId, PageRequest.of(0, 1000));
+            if (page.isEmpty()) {
+                break;
+            }
+            for (PostEmbedding embedding : page) {
+                built.add(embedding.getPostId(), PostEmbeddingEncoder.dequantize(embedding.getVector(), embedding.getScale()));
+            }
+            afterId = page.get(page.size() - 1).getPostId();
+        }
+        index = built;
+        lastSyncedAt = syncStart;
+        dirty = true;
+        log.info("유사 게시글 인덱스 구축 완료: 게시글 {}개 ({}ms)", built.size(), System.currentTimeMillis() - start);
+    }
+
+    private void syncChangedSince(LocalDateTime since) {
+        LocalDateTime syncStart = LocalDateTime.now();
+        List<PostEmbedding> changed = postEmbeddingRepository.findByUpdatedAtGreaterThanEqual(since);
+        for (PostEmbedding embedding : changed) {
+            float[] vector = PostEmbeddingEncoder.dequantize(embedding.getVector(), embedding.getScale());
+            // 이 인스턴스에서 이미 upsert로 반영한 벡터는 다시 넣지 않음 (불필요한 톰스톤 방지)
+            if (!Arrays.equals(vector, index.vectorOf(embedding.getPostId()))) {
+                index.add(embedding.getPostId(), vector);
+                dirty = true;
+            }
+        }
+        lastSyncedAt = syncStart;
+    }
+
+    /**
+     * 스냅샷 이후 삭제된 게시글 제거
+     */
+    private void removeMissing() {
+        Set<Long> existing = new HashSet<>(postEmbeddingRepository.findAllPostIds());
+        for (long id : index.ids()) {
+            if (!existing.contains(id)) {
+                index.remove(id);
+                dirty = true;
+            }
+        }
+    }
+}
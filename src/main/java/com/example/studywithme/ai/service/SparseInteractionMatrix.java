@@ -0,0 +1,183 @@
+package com.example.studywithme.ai.service;
+
+import java.util.Arrays;
+
+/**
+ * 사용자-게시글 상호작용 희소 행렬 (CSR: Compressed Sparse Row)
+ * - 행: 사용자 인덱스, 열: 게시글 인덱스, 값: 상호작용 가중치 합
+ * - 모든 데이터를 int/float 원시 배열로 보관해 박싱·맵 오버헤드 없이 순회
+ * - 불변 객체이며, 증분 반영은 {@link #merge}로 새 행렬을 만들어 교체
+ */
+public final class SparseInteractionMatrix {
+
+    private final int rows;
+    private final int cols;
+    private final int[] rowPtr;
+    private final int[] colIdx;
+    private final float[] values;
+
+    private SparseInteractionMatrix(int rows, int cols, int[] rowPtr, int[] colIdx, float[] values) {
+        this.rows = rows;
+        this.cols = cols;
+        this.rowPtr = rowPtr;
+        this.colIdx = colIdx;
+        this.values = values;
+    }
+
+    public static SparseInteractionMatrix empty() {
+        return new SparseInteractionMatrix(0, 0, new int[1], new int[0], new float[0]);
+    }
+
+    /**
+     * (행, 열, 값) 트리플로부터 CSR 행렬을 만듭니다.
+     * 같은 (행, 열)이 여러 번 나오면 값을 합산합니다.
+     *
+     * @param count 트리플 배열 중 실제로 사용할 길이
+     */
+    public static SparseInteractionMatrix fromTriples(int rows, int cols,
+                                                      int[] r, int[] c, float[] v, int count) {
+        // 1. 행별 개수 집계 (counting sort)
+        int[] ptr = new int[rows + 1];
+        for (int i = 0; i < count; i++) {
+            ptr[r[i] + 1]++;
+        }
+        for (int i = 0; i < rows; i++) {
+            ptr[i + 1] += ptr[i];
+        }
+
+        // 2. 행 단위로 배치
+        int[] cursor = Arrays.copyOf(ptr, rows);
+        int[] tmpCol = new int[count];
+        float[] tmpVal = new float[count];
+        for (int i = 0; i < count; i++) {
+            int pos = cursor[r[i]]++;
+            tmpCol[pos] = c[i];
+            tmpVal[pos] = v[i];
+        }
+
+        // 3. 행 내부를 열 기준으로 정렬하고 중복 열을 합산
+        int[] outPtr = new int[rows + 1];
+        int[] outCol = new int[count];
+        float[] outVal = new float[count];
+        int nnz = 0;
+        for (int row = 0; row < rows; row++) {
+            int start = ptr[row];
+            int end = ptr[row + 1];
+            sortByColumn(tmpCol, tmpVal, start, end);
+            for (int k = start; k < end; k++) {
+                if (nnz > outPtr[row] && outCol[nnz - 1] == tmpCol[k]) {
+                    outVal[nnz - 1] += tmpVal[k];
+                } else {
+                    outCol[nnz] = tmpCol[k];
+                    outVal[nnz] = tmpVal[k];
+                    nnz++;
+                }
+            }
+            outPtr[row + 1] = nnz;
+        }
+
+        return new SparseInteractionMatrix(rows, cols, outPtr,
+                Arrays.copyOf(outCol, nnz), Arrays.copyOf(outVal, nnz));
+    }
+
+    /**
+     * 기존 행렬에 새 트리플을 합친 행렬을 반환합니다. (행/열 수 확장 가능)
+     */
+    public SparseInteractionMatrix merge(int newRows, int newCols, int[] r, int[] c, float[] v, int count) {
+        int nnz = nnz();
+        int total = nnz + count;
+        int[] allR = new int[total];
+        int[] allC = new int[total];
+        float[] allV = new float[total];
+        for (int row = 0; row < rows; row++) {
+            for (int k = rowPtr[row]; k < rowPtr[row + 1]; k++) {
+                allR[k] = row;
+            }
+        }
+        System.arraycopy(colIdx, 0, allC, 0, nnz);
+        System.arraycopy(values, 0, allV, 0, nnz);
+        System.arraycopy(r, 0, allR, nnz, count);
+        System.arraycopy(c, 0, allC, nnz, count);
+        System.arraycopy(v, 0, allV, nnz, count);
+        return fromTriples(Math.max(rows, newRows), Math.max(cols, newCols), allR, allC, allV, total);
+    }
+
+    /**
+     * 전치 행렬 (게시글 → 사용자)
+     */
+    public SparseInteractionMatrix transpose() {
+        int nnz = nnz();
+        int[] ptr = new int[cols + 1];
+        for (int k = 0; k < nnz; k++) {
+            ptr[colIdx[k] + 1]++;
+        }
+        for (int i = 0; i < cols; i++) {
+            ptr[i + 1] += ptr[i];
+        }
+        int[] cursor = Arrays.copyOf(ptr, cols);
+        int[] tCol = new int[nnz];
+        float[] tVal = new float[nnz];
+        for (int row = 0; row < rows; row++) {
+            for (int k = rowPtr[row]; k < rowPtr[row + 1]; k++) {
+                int pos = cursor[colIdx[k]]++;
+                tCol[pos] = row;
+                tVal[pos] = values[k];
+            }
+        }
+        // 행 순서대로 순회했으므로 전치 행렬의 각 행은 이미 정렬되어 있음
+        return new SparseInteractionMatrix(cols, rows, ptr, tCol, tVal);
+    }
+
+    /**
+     * 행별 L2 norm
+     */
+    public float[] rowNorms() {
+        float[] norms = new float[rows];
+        for (int row = 0; row < rows; row++) {
+            double sum = 0;
+            for (int k = rowPtr[row]; k < rowPtr[row + 1]; k++) {
+                sum += (double) values[k] * values[k];
+            }
+            norms[row] = (float) Math.sqrt(sum);
+        }
+        return norms;
+    }
+
+    public int rows() { return rows; }
+    public int cols() { return cols; }
+    public int nnz() { return rowPtr[rows]; }
+    public int rowStart(int row) { return rowPtr[row]; }
+    public int rowEnd(int row) { return rowPtr[row + 1]; }
+    public int rowLength(int row) { return rowPtr[row + 1] - rowPtr[row]; }
+    public int colAt(int k) { return colIdx[k]; }
+    public float valueAt(int k) { return values[k]; }
+
+    private static void sortByColumn(int[] cols, float[] vals, int from, int to) {
+        if (to - from > 32) {
+            // 긴 행은 (열, 값 비트)를 long 하나로 묶어 정렬 (열 인덱스는 항상 0 이상)
+            long[] packed = new long[to - from];
+            for (int i = from; i < to; i++) {
+                packed[i - from] = ((long) cols[i] << 32) | (Float.floatToRawIntBits(vals[i]) & 0xFFFFFFFFL);
+            }
+            Arrays.sort(packed);
+            for (int i = from; i < to; i++) {
+                cols[i] = (int) (packed[i - from] >>> 32);
+                vals[i] = Float.intBitsToFloat((int) packed[i - from]);
+            }
+            return;
+        }
+        // 대부분의 사용자는 상호작용 수가 작으므로 삽입 정렬
+        for (int i = from + 1; i < to; i++) {
+            int c = cols[i];
+            float v = vals[i];
+            int j = i - 1;
+            while (j >= from && cols[j] > c) {
+                cols[j + 1] = cols[j];
+                vals[j + 1] = vals[j];
+                j--;
+            }
+            cols[j + 1] = c;
+            vals[j + 1] = v;
+        }
+    }
+}
@@ -1,8 +1,9 @@
 package com.example.studywithme.board.controller;
 
+import com.example.studywithme.board.dto.PostCard;
 import com.example.studywithme.board.entity.Certification;
-import com.example.studywithme.board.entity.Post;
 import com.example.studywithme.board.repository.CertificationRepository;
+import com.example.studywithme.board.service.FeedPageCache;
 import com.example.studywithme.board.service.PostService;
 import com.example.studywithme.user.entity.User;
 import com.example.studywithme.user.service.UserActivityService;
@@ -33,6 +34,7 @@ public class HomeController {
     private final PostService postService;
     private final UserActivityService userActivityService;
     private final CertificationRepository certificationRepository;
+    private final FeedPageCache feedPageCache;
 
     @GetMapping("/")
     public String index(HttpSession session, Model model,
@@ -45,11 +47,12 @@ public class HomeController {
         model.addAttribute("loginUser", loginUser);
 
         Pageable pageable = PageRequest.of(page, size);
-        Page<Post> posts = Page.empty(pageable);
+        Page<PostCard> posts = Page.empty(pageable);
 
         try {
             if (category != null && !category.trim().isEmpty()) {
-                posts = postService.getPostsByCategory(category, pageable, sort);
+                posts = feedPageCache.get(category, sort, pageable,
+                        () -> postService.getPostsByCategory(category, pageable, sort));
                 model.addAttribute("category", category);
             } else if (keyword != null && !keyword.trim().isEmpty()) {
                 posts = postService.searchPosts(keyword, pageable);
@@ -58,7 +61,7 @@ public class HomeController {
                     userActivityService.logSearch(loginUser, keyword);
                 }
             } else {
-                posts = postService.getPosts(pageable, sort);
+                posts = feedPageCache.get(null, sort, pageable, () -> postService.getPosts(pageable, sort));
             }
         } catch (Exception e) {
             log.error("게시글 목록 조회 오류", e);
@@ -88,14 +91,15 @@ public class HomeController {
 
     @GetMapping("/api/posts")
     @ResponseBody
-    public Page<Post> getPostsApi(@RequestParam(defaultValue = "0") int page,
-                                  @RequestParam(defaultValue = "100") int size,
-                                  @RequestParam(defaultValue = "latest") String sort,
-                                  @RequestParam(required = false) String category) {
+    public Page<PostCard> getPostsApi(@RequestParam(defaultValue = "0") int page,
+                                      @RequestParam(defaultValue = "100") int size,
+                                      @RequestParam(defaultValue = "latest") String sort,
+                                      @RequestParam(required = false) String category) {
         Pageable pageable = PageRequest.of(page, size);
         if (category != null && !category.trim().isEmpty()) {
-            return postService.getPostsByCategory(category, pageable, sort);
+            return feedPageCache.get(category, sort, pageable,
+                    () -> postService.getPostsByCategory(category, pageable, sort));
         }
-        return postService.getPosts(pageable, sort);
+        return feedPageCache.get(null, sort, pageable, () -> postService.getPosts(pageable, sort));
     }
 }
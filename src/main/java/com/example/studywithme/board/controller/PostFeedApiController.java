@@ -0,0 +1,24 @@
+package com.example.studywithme.board.controller;
+
+import com.example.studywithme.board.service.PostFeedService;
+import com.example.studywithme.board.service.PostFeedService.FeedSlice;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class PostFeedApiController {
+
+    private final PostFeedService postFeedService;
+
+    // 게시글 피드 (커서 페이지, 무한 스크롤용). 다음 페이지는 응답의 nextCursor를 그대로 전달
+    @GetMapping("/api/posts/feed")
+    public FeedSlice getFeed(@RequestParam(defaultValue = "latest") String sort,
+                             @RequestParam(required = false) String category,
+                             @RequestParam(required = false) String cursor,
+                             @RequestParam(defaultValue = "20") int size) {
+        return postFeedService.getFeed(sort, category, cursor, size);
+    }
+}
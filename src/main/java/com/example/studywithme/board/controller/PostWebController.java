@@ -4,13 +4,12 @@ import com.example.studywithme.board.entity.Post;
 import com.example.studywithme.board.entity.PostApplication;
 import com.example.studywithme.board.service.BookmarkService;
 import com.example.studywithme.board.service.PostApplicationService;
+import com.example.studywithme.board.service.PostDetailAssembler;
+import com.example.studywithme.board.service.PostDetailAssembler.PostDetailView;
 import com.example.studywithme.board.service.PostLikeService;
 import com.example.studywithme.board.service.PostService;
 import com.example.studywithme.user.entity.User;
-import com.example.studywithme.user.entity.UserProfile;
-import com.example.studywithme.user.repository.UserProfileRepository;
 import com.example.studywithme.user.service.UserActivityService;
-import com.example.studywithme.user.service.UserStatsService;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -37,12 +36,11 @@ import java.util.Map;
 public class PostWebController {
 
     private final PostService postService;
+    private final PostDetailAssembler postDetailAssembler;
     private final PostLikeService postLikeService;
     private final BookmarkService bookmarkService;
     private final PostApplicationService postApplicationService;
-    private final UserStatsService userStatsService;
     private final UserActivityService userActivityService;
-    private final UserProfileRepository userProfileRepository;
 
     @GetMapping("/posts/write")
     public String writePost(HttpSession session, Model model) {
@@ -57,40 +55,26 @@ public class PostWebController {
     @GetMapping("/posts/{id}")
     public String viewPost(@PathVariable Long id, HttpSession session, Model model) {
         try {
-            Post post = postService.getPost(id);
             User loginUser = (User) session.getAttribute("loginUser");
-            boolean isLiked = false;
-            boolean isBookmarked = false;
-            boolean hasApplied = false;
-            PostApplication.ApplicationStatus applicationStatus = null;
-            if (loginUser != null) {
-                isLiked = postLikeService.isLiked(loginUser.getId(), id);
-                isBookmarked = bookmarkService.isBookmarked(loginUser.getId(), id);
-                hasApplied = postApplicationService.hasApplied(loginUser.getId(), id);
-                userActivityService.logViewPost(loginUser, id, post.getTitle(), post.getTags());
-                if (hasApplied) {
-                    PostApplication application = postApplicationService.getApplicationByUserAndPost(loginUser.getId(), id);
-                    if (application != null) {
-                        applicationStatus = application.getStatus();
-                    }
-                }
-            }
-            int applicationCount = postApplicationService.getApplicationCount(id);
-            UserStatsService.UserStats authorStats = userStatsService.getUserStats(post.getUser().getId());
-            UserProfile authorProfile = userProfileRepository.findByUser_Id(post.getUser().getId()).orElse(null);
-            List<Post> authorPosts = postService.getOtherPostsByAuthor(post.getUser().getId(), id);
+            // 열람자 키: 로그인 사용자는 사용자 ID, 비로그인은 세션 ID
+            String viewerKey = loginUser != null ? "u:" + loginUser.getId() : "s:" + session.getId();
+            PostDetailView view = postDetailAssembler.assemble(id, loginUser, viewerKey);
 
-            model.addAttribute("post", post);
+            model.addAttribute("post", view.post());
+            model.addAttribute("viewCount", view.viewCount());
+            model.addAttribute("uniqueViewers", view.uniqueViewers());
+            model.addAttribute("likeCount", view.likeCount());
             model.addAttribute("loginUser", loginUser);
-            model.addAttribute("isAuthor", loginUser != null && loginUser.getId().equals(post.getUser().getId()));
-            model.addAttribute("isLiked", isLiked);
-            model.addAttribute("isBookmarked", isBookmarked);
-            model.addAttribute("hasApplied", hasApplied);
-            model.addAttribute("applicationStatus", applicationStatus);
-            model.addAttribute("applicationCount", applicationCount);
-            model.addAttribute("authorPosts", authorPosts);
-            model.addAttribute("authorStats", authorStats);
-            model.addAttribute("authorProfile", authorProfile);
+            model.addAttribute("isAuthor", view.isAuthor());
+            model.addAttribute("isLiked", view.isLiked());
+            model.addAttribute("isBookmarked", view.isBookmarked());
+            model.addAttribute("hasApplied", view.hasApplied());
+            model.addAttribute("applicationStatus", view.applicationStatus());
+            model.addAttribute("applicationCount", view.applicationCount());
+            model.addAttribute("authorPosts", view.authorPosts());
+            model.addAttribute("similarPosts", view.similarPosts());
+            model.addAttribute("authorStats", view.authorStats());
+            model.addAttribute("authorProfile", view.authorProfile());
             return "post-detail";
         } catch (RuntimeException e) {
             return "redirect:/?error=post_not_found";
@@ -104,7 +88,7 @@ public class PostWebController {
             return "redirect:/auth?error=login_required";
         }
         try {
-            Post post = postService.getPost(id);
+            Post post = postService.getPostWithContent(id);
             if (!post.getUser().getId().equals(loginUser.getId())) {
                 return "redirect:/posts/" + id + "?error=no_permission";
             }
@@ -255,7 +239,7 @@ public class PostWebController {
     @ResponseBody
     public Map<String, Object> generateAISummary(@PathVariable Long id) {
         try {
-            Post post = postService.getPost(id);
+            Post post = postService.getPostWithContent(id);
             String textContent = post.getContent().replaceAll("<[^>]*>", " ").replaceAll("\\s+", " ").trim();
             return Map.of("success", true, "summary", generateSimpleSummary(textContent, post.getTitle()));
         } catch (RuntimeException e) {
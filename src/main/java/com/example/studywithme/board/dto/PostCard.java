@@ -0,0 +1,46 @@
+package com.example.studywithme.board.dto;
+
+import com.example.studywithme.board.entity.Post;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록 카드 (메인 피드, 카테고리·검색·마이페이지 목록, /api/posts, /api/posts/feed).
+ * 본문(content) 대신 저장 시 만들어 둔 평문 앞부분(excerpt)만 담음 → 목록 조회가 TEXT 컬럼을 읽지 않음.
+ */
+public record PostCard(
+        Long id,
+        String title,
+        String category,
+        String tags,
+        Integer viewCount,
+        Integer likeCount,
+        Double popularityScore,
+        String authorName,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        String excerpt
+) {
+    public PostCard {
+        // excerpt 채우기 전의 기존 게시글
+        if (excerpt == null) {
+            excerpt = "";
+        }
+    }
+
+    public static PostCard from(Post post) {
+        return new PostCard(
+                post.getId(),
+                post.getTitle(),
+                post.getCategory(),
+                post.getTags(),
+                post.getViewCount(),
+                post.getLikeCount(),
+                post.getPopularityScore(),
+                post.getUser() != null ? post.getUser().getRealName() : null,
+                post.getCreatedAt(),
+                post.getUpdatedAt(),
+                post.getExcerpt()
+        );
+    }
+}
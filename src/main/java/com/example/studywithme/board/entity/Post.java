@@ -10,12 +10,19 @@ import lombok.ToString;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "posts")
+@Table(name = "posts", indexes = {
+    @Index(name = "idx_posts_popularity", columnList = "popularity_score, id"),
+    @Index(name = "idx_posts_category_popularity", columnList = "category, popularity_score, id"),
+    @Index(name = "idx_posts_created", columnList = "created_at, id"),
+    @Index(name = "idx_posts_category_created", columnList = "category, created_at, id")
+})
 @Getter
 @Setter
 @ToString
 public class Post {
 
+    public static final int EXCERPT_LENGTH = 200;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -28,9 +35,20 @@ public class Post {
     @Column(nullable = false, length = 200)
     private String title;
 
-    @Column(nullable = false, columnDefinition = "TEXT")
+    // 본문은 post_contents 테이블 (PostContentService가 저장·로딩). 상세·수정·AI 경로 밖에서는 null
+    @Transient
     private String content;
 
+    // 본문 분리 이전 컬럼 - PostContentMigration이 post_contents로 옮기고 비움 (다 옮긴 뒤 컬럼과 함께 제거)
+    @Column(name = "content", columnDefinition = "TEXT")
+    @JsonIgnore
+    @ToString.Exclude
+    private String legacyContent;
+
+    // 목록 카드용 본문 앞부분 (태그 제거한 평문 EXCERPT_LENGTH자) - 본문을 쓸 때 함께 계산, 목록은 본문 대신 이 컬럼만 읽음
+    @Column(length = EXCERPT_LENGTH)
+    private String excerpt;
+
     @Column(length = 100)
     private String category;
 
@@ -43,6 +61,12 @@ public class Post {
     @Column(name = "like_count")
     private Integer likeCount = 0;
 
+    // 인기순 정렬 키 = like_count * 2 + view_count * 0.1
+    // 조회수/좋아요 반영 쿼리(PostRepository.refreshPopularityScores)만 갱신하므로 엔티티 저장 시에는 쓰지 않음
+    @Column(name = "popularity_score", insertable = false, updatable = false,
+            columnDefinition = "DOUBLE DEFAULT 0 NOT NULL")
+    private Double popularityScore;
+
     @Column(name = "ai_analyzed")
     private Boolean aiAnalyzed = false;
 
@@ -57,5 +81,37 @@ public class Post {
 
     @Column(name = "updated_at", insertable = false, updatable = false)
     private LocalDateTime updatedAt;
-}
 
+    // 작성·수정할 본문 (excerpt도 함께 갱신, 저장은 PostContentService.save)
+    public void setContent(String content) {
+        this.content = content;
+        this.excerpt = excerptOf(content);
+    }
+
+    // post_contents 에서 읽은 본문 채우기 (변경으로 취급하지 않음)
+    public void loadContent(String content) {
+        this.content = content;
+    }
+
+    /**
+     * HTML 본문 → 목록 카드용 평문 앞부분 (태그·공백 정리 후 EXCERPT_LENGTH자, 서로게이트 쌍은 자르지 않음)
+     */
+    public static String excerptOf(String content) {
+        if (content == null || content.isEmpty()) {
+            return "";
+        }
+        String text = content.replaceAll("<[^>]*>", " ")
+                .replace("&nbsp;", " ")
+                .replace("&lt;", "<")
+                .replace("&gt;", ">")
+                .replace("&quot;", "\"")
+                .replace("&#39;", "'")
+                .replace("&amp;", "&")
+                .replaceAll("\\s+", " ")
+                .trim();
+        if (text.codePointCount(0, text.length()) <= EXCERPT_LENGTH) {
+            return text;
+        }
+        return text.substring(0, text.offsetByCodePoints(0, EXCERPT_LENGTH));
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.studywithme.board.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 게시글 본문 (PostContentService)
+ * - posts 와 분리된 테이블이라 목록 조회·조회수/좋아요 갱신이 본문을 함께 읽거나 쓰지 않음
+ * - 상세·수정·AI 경로에서만 게시글 ID로 읽음
+ * - 큰 본문은 DEFLATE 압축해 body_deflated 에 저장하고 body 는 비움 (둘 중 하나만 값이 있음)
+ */
+@Entity
+@Table(name = "post_contents")
+@Getter
+@Setter
+@ToString(exclude = {"body", "bodyDeflated"})
+public class PostContent {
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Column(name = "body", columnDefinition = "TEXT")
+    private String body;
+
+    @Column(name = "body_deflated", columnDefinition = "MEDIUMBLOB")
+    private byte[] bodyDeflated;
+
+    // 원문 UTF-8 바이트 수 (압축 해제 버퍼 크기)
+    @Column(name = "raw_bytes", nullable = false)
+    private Integer rawBytes;
+}
@@ -0,0 +1,34 @@
+package com.example.studywithme.board.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글별 고유 열람자 HyperLogLog 스케치 (UniqueViewerService)
+ * - posts 와 분리된 테이블이라 게시글 조회 시 스케치를 함께 읽지 않음
+ * - unique_viewers 는 저장 시점의 추정치 (목록·정렬용)
+ */
+@Entity
+@Table(name = "post_view_sketches")
+@Getter
+@Setter
+@ToString(exclude = "sketch")
+public class PostViewSketch {
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Column(name = "sketch", nullable = false, columnDefinition = "VARBINARY(1025)")
+    private byte[] sketch;
+
+    @Column(name = "unique_viewers", nullable = false)
+    private Long uniqueViewers;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,34 @@
+package com.example.studywithme.board.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 일자별 사이트 전체 고유 열람자 HyperLogLog 스케치 (UniqueViewerService)
+ * - 주간 등 기간 합계는 일자 스케치를 합쳐서 계산
+ */
+@Entity
+@Table(name = "site_view_sketches")
+@Getter
+@Setter
+@ToString(exclude = "sketch")
+public class SiteViewSketch {
+
+    @Id
+    @Column(name = "view_date")
+    private LocalDate viewDate;
+
+    @Column(name = "sketch", nullable = false, columnDefinition = "VARBINARY(16385)")
+    private byte[] sketch;
+
+    @Column(name = "unique_viewers", nullable = false)
+    private Long uniqueViewers;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
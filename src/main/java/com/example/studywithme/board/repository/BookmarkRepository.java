@@ -1,22 +1,35 @@
 package com.example.studywithme.board.repository;
 
 import com.example.studywithme.board.entity.Bookmark;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
 
     // 사용자가 특정 게시글을 북마크했는지 확인
     boolean existsByUser_IdAndPost_Id(Integer userId, Long postId);
 
-    // 사용자의 북마크 목록
-    Page<Bookmark> findByUser_IdOrderByCreatedAtDesc(Integer userId, Pageable pageable);
+    // 사용자의 북마크 목록 (전체 건수는 ListingCountCache)
+    Slice<Bookmark> findByUser_IdOrderByCreatedAtDesc(Integer userId, Pageable pageable);
 
     // 사용자의 북마크 개수
     long countByUser_Id(Integer userId);
 
+    // 사용자별 (ID, 북마크 수) - 활동 통계 재계산용
+    @Query("SELECT b.user.id, COUNT(b) FROM Bookmark b WHERE b.user.id IN :userIds GROUP BY b.user.id")
+    List<Object[]> countByUserIds(@Param("userIds") java.util.Collection<Integer> userIds);
+
     // 사용자의 북마크 삭제
     void deleteByUser_IdAndPost_Id(Integer userId, Long postId);
+
+    // 기간 내 (사용자 ID, 게시글 ID) 쌍 (협업 필터링 행렬 구축용)
+    @Query("SELECT b.user.id, b.post.id FROM Bookmark b WHERE b.createdAt IS NULL OR b.createdAt >= :sinceDate")
+    List<Object[]> findUserPostPairsSince(@Param("sinceDate") LocalDateTime sinceDate);
 }
 
@@ -3,7 +3,10 @@ package com.example.studywithme.board.repository;
 import com.example.studywithme.board.entity.PostApplication;
 import com.example.studywithme.board.entity.PostApplication.ApplicationStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,6 +17,10 @@ public interface PostApplicationRepository extends JpaRepository<PostApplication
 
     // 사용자의 총 지원 횟수
     long countByUser_Id(Integer userId);
+
+    // 사용자별 (ID, 지원 횟수) - 활동 통계 재계산용
+    @Query("SELECT a.user.id, COUNT(a) FROM PostApplication a WHERE a.user.id IN :userIds GROUP BY a.user.id")
+    List<Object[]> countByUserIds(@Param("userIds") Collection<Integer> userIds);
     
     // 게시글의 지원 목록 조회
     List<PostApplication> findByPost_IdOrderByCreatedAtDesc(Long postId);
@@ -0,0 +1,15 @@
+package com.example.studywithme.board.repository;
+
+import com.example.studywithme.board.entity.PostContent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface PostContentRepository extends JpaRepository<PostContent, Long> {
+
+    // 게시글 삭제 시 본문 삭제 (행이 없어도 예외 없음)
+    @Modifying
+    @Query("DELETE FROM PostContent c WHERE c.postId = :postId")
+    int deleteByPostId(@Param("postId") Long postId);
+}
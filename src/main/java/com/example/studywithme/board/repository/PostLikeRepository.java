@@ -3,9 +3,12 @@ package com.example.studywithme.board.repository;
 import com.example.studywithme.board.entity.PostLike;
 import com.example.studywithme.board.entity.PostLikeId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface PostLikeRepository extends JpaRepository<PostLike, PostLikeId> {
@@ -23,7 +26,23 @@ public interface PostLikeRepository extends JpaRepository<PostLike, PostLikeId>
     // 특정 사용자가 누른 좋아요 수
     long countByUserId(Integer userId);
 
-    // 사용자가 좋아요한 게시글 삭제
-    void deleteByUserIdAndPostId(Integer userId, Long postId);
+    // 사용자별 (ID, 누른 좋아요 수) - 활동 통계 재계산용
+    @Query("SELECT pl.userId, COUNT(pl) FROM PostLike pl WHERE pl.userId IN :userIds GROUP BY pl.userId")
+    List<Object[]> countByUserIds(@Param("userIds") java.util.Collection<Integer> userIds);
+
+    // 좋아요 추가 (이미 있으면 무시). 실제로 추가되면 1
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO post_likes (user_id, post_id) VALUES (:userId, :postId)",
+           nativeQuery = true)
+    int insertIgnore(@Param("userId") Integer userId, @Param("postId") Long postId);
+
+    // 좋아요 삭제. 실제로 삭제되면 1
+    @Modifying
+    @Query("DELETE FROM PostLike pl WHERE pl.userId = :userId AND pl.postId = :postId")
+    int deleteLike(@Param("userId") Integer userId, @Param("postId") Long postId);
+
+    // 기간 내 (사용자 ID, 게시글 ID) 쌍 (협업 필터링 행렬 구축용)
+    @Query("SELECT pl.userId, pl.postId FROM PostLike pl WHERE pl.createdAt IS NULL OR pl.createdAt >= :sinceDate")
+    List<Object[]> findUserPostPairsSince(@Param("sinceDate") LocalDateTime sinceDate);
 }
 
@@ -1,9 +1,12 @@
 package com.example.studywithme.board.repository;
 
+import com.example.studywithme.board.dto.PostCard;
 import com.example.studywithme.board.entity.Post;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -11,29 +14,129 @@ import java.util.Optional;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
 
-    // 사용자별 게시글 조회
-    Page<Post> findByUser_IdOrderByCreatedAtDesc(Integer userId, Pageable pageable);
+    // 목록 카드 프로젝션 (본문 TEXT 대신 excerpt, 작성자는 이름만) - 목록 화면·API는 엔티티 대신 이 형태로 조회
+    String CARD = "SELECT new com.example.studywithme.board.dto.PostCard(p.id, p.title, p.category, p.tags, " +
+                  "p.viewCount, p.likeCount, p.popularityScore, u.realName, p.createdAt, p.updatedAt, p.excerpt) " +
+                  "FROM Post p JOIN p.user u ";
 
-    // 카테고리별 게시글 조회
-    Page<Post> findByCategoryOrderByCreatedAtDesc(String category, Pageable pageable);
+    // 키워드 LIKE 조건 (PostContent c 조인 필요, 본문 분리 이전 컬럼 포함)
+    // 압축 저장된 본문(bodyDeflated)은 LIKE로 볼 수 없어 excerpt(앞 200자)까지만 비교 - 전체 본문 검색은 BM25 인덱스
+    String KEYWORD_MATCH = "WHERE p.title LIKE %:keyword% OR p.excerpt LIKE %:keyword% " +
+                           "OR c.body LIKE %:keyword% OR p.legacyContent LIKE %:keyword%";
+
+    // 본문 입력 컬럼 (body, bodyDeflated, rawBytes, legacyContent) - PostContentService.text 로 본문 복원
+    String BODY = "c.body, c.bodyDeflated, c.rawBytes, p.legacyContent FROM Post p LEFT JOIN PostContent c ON c.postId = p.id ";
+
+    // 목록 조회는 Slice(COUNT 없음), 전체 건수는 ListingCountCache
+
+    // 사용자별 게시글 카드
+    @Query(CARD + "WHERE u.id = :userId ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<PostCard> findCardsByUserId(@Param("userId") Integer userId, Pageable pageable);
+
+    // 카테고리별 게시글 카드 최신순
+    @Query(CARD + "WHERE p.category = :category ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<PostCard> findCardsByCategoryLatest(@Param("category") String category, Pageable pageable);
+
+    // 전체 게시글 카드 최신순
+    @Query(CARD + "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<PostCard> findCardsLatest(Pageable pageable);
+
+    // 전체 게시글 카드 인기순 ((popularity_score, id) 인덱스)
+    @Query(CARD + "ORDER BY p.popularityScore DESC, p.id DESC")
+    Slice<PostCard> findCardsPopular(Pageable pageable);
+
+    // 카테고리별 게시글 카드 인기순 ((category, popularity_score, id) 인덱스)
+    @Query(CARD + "WHERE p.category = :category ORDER BY p.popularityScore DESC, p.id DESC")
+    Slice<PostCard> findCardsByCategoryPopular(@Param("category") String category, Pageable pageable);
+
+    // ID 목록의 게시글 카드 (순위 목록·검색 결과 조회, 순서는 호출 쪽에서 맞춤)
+    @Query(CARD + "WHERE p.id IN :ids")
+    java.util.List<PostCard> findCardsByIdIn(@Param("ids") java.util.Collection<Long> ids);
+
+    // 제목 또는 내용으로 검색한 게시글 카드 (검색 인덱스 구축 전 폴백, 압축 저장된 큰 본문은 excerpt만 비교)
+    @Query(value = CARD + "LEFT JOIN PostContent c ON c.postId = p.id " + KEYWORD_MATCH,
+           countQuery = "SELECT COUNT(p) FROM Post p LEFT JOIN PostContent c ON c.postId = p.id " + KEYWORD_MATCH)
+    Page<PostCard> searchCardsByKeyword(@Param("keyword") String keyword, Pageable pageable);
 
     // 전체 게시글 최신순 조회
-    Page<Post> findAllByOrderByCreatedAtDesc(Pageable pageable);
+    Slice<Post> findAllByOrderByCreatedAtDesc(Pageable pageable);
+
+    // 전체 게시글 인기순 조회 (popularity_score = 좋아요 * 2 + 조회수 * 0.1, (popularity_score, id) 인덱스)
+    @Query("SELECT p FROM Post p ORDER BY p.popularityScore DESC, p.id DESC")
+    Slice<Post> findAllByOrderByPopularityDesc(Pageable pageable);
+
+    // 카테고리별 게시글 인기순 조회 ((category, popularity_score, id) 인덱스)
+    @Query("SELECT p FROM Post p WHERE p.category = :category ORDER BY p.popularityScore DESC, p.id DESC")
+    Slice<Post> findByCategoryOrderByPopularityDesc(@Param("category") String category, Pageable pageable);
+
+    // 최신순 키셋 다음 페이지: (createdAt, id)가 커서보다 뒤인 글 ((created_at, id) 인덱스, COUNT 없음)
+    @Query(CARD + "WHERE p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    java.util.List<PostCard> findLatestBefore(@Param("createdAt") java.time.LocalDateTime createdAt,
+                                              @Param("id") Long id, Pageable pageable);
+
+    // 카테고리별 최신순 키셋 ((category, created_at, id) 인덱스)
+    @Query(CARD + "WHERE p.category = :category " +
+           "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    java.util.List<PostCard> findLatestBeforeInCategory(@Param("category") String category,
+                                                        @Param("createdAt") java.time.LocalDateTime createdAt,
+                                                        @Param("id") Long id, Pageable pageable);
+
+    // 작성 시각이 없는 글 (최신순 맨 뒤, id 역순) - DB 기본값 없이 만든 개발용 데이터
+    @Query(CARD + "WHERE p.createdAt IS NULL AND p.id < :id ORDER BY p.id DESC")
+    java.util.List<PostCard> findUndatedBefore(@Param("id") Long id, Pageable pageable);
+
+    @Query(CARD + "WHERE p.category = :category AND p.createdAt IS NULL AND p.id < :id ORDER BY p.id DESC")
+    java.util.List<PostCard> findUndatedBeforeInCategory(@Param("category") String category,
+                                                         @Param("id") Long id, Pageable pageable);
+
+    // 인기순 키셋 다음 페이지: (popularityScore, id)가 커서보다 뒤인 글 ((popularity_score, id) 인덱스)
+    @Query(CARD + "WHERE p.popularityScore < :score OR (p.popularityScore = :score AND p.id < :id) " +
+           "ORDER BY p.popularityScore DESC, p.id DESC")
+    java.util.List<PostCard> findPopularBefore(@Param("score") double score, @Param("id") Long id, Pageable pageable);
+
+    // 카테고리별 인기순 키셋 ((category, popularity_score, id) 인덱스)
+    @Query(CARD + "WHERE p.category = :category " +
+           "AND (p.popularityScore < :score OR (p.popularityScore = :score AND p.id < :id)) " +
+           "ORDER BY p.popularityScore DESC, p.id DESC")
+    java.util.List<PostCard> findPopularBeforeInCategory(@Param("category") String category, @Param("score") double score,
+                                                         @Param("id") Long id, Pageable pageable);
+
+    // 인기순 상위 (id, popularityScore) - PopularPostRanking 구축용
+    @Query("SELECT p.id, p.popularityScore FROM Post p ORDER BY p.popularityScore DESC, p.id DESC")
+    java.util.List<Object[]> findPopularityRanking(Pageable pageable);
+
+    // 카테고리별 인기순 상위 (id, popularityScore)
+    @Query("SELECT p.id, p.popularityScore FROM Post p WHERE p.category = :category ORDER BY p.popularityScore DESC, p.id DESC")
+    java.util.List<Object[]> findPopularityRankingByCategory(@Param("category") String category, Pageable pageable);
 
-    // 전체 게시글 인기순 조회 (좋아요 + 조회수 기준)
-    @Query("SELECT p FROM Post p ORDER BY (COALESCE(p.likeCount, 0) * 2 + COALESCE(p.viewCount, 0) * 0.1) DESC, p.createdAt DESC")
-    Page<Post> findAllByOrderByPopularityDesc(Pageable pageable);
+    // 게시글별 (id, category, popularityScore) - 점수가 바뀐 게시글 순위 반영용
+    @Query("SELECT p.id, p.category, p.popularityScore FROM Post p WHERE p.id IN :ids")
+    java.util.List<Object[]> findPopularityRows(@Param("ids") java.util.Collection<Long> ids);
 
-    // 카테고리별 게시글 인기순 조회
-    @Query("SELECT p FROM Post p WHERE p.category = :category ORDER BY (COALESCE(p.likeCount, 0) * 2 + COALESCE(p.viewCount, 0) * 0.1) DESC, p.createdAt DESC")
-    Page<Post> findByCategoryOrderByPopularityDesc(@Param("category") String category, Pageable pageable);
+    // 상세 화면 사용자별 표시 (좋아요 여부, 북마크 여부, 지원 상태)를 한 번에 - 게시글이 없으면 빈 목록
+    @Query("SELECT (SELECT COUNT(l) FROM PostLike l WHERE l.postId = p.id AND l.userId = :userId), " +
+           "(SELECT COUNT(b) FROM Bookmark b WHERE b.post.id = p.id AND b.user.id = :userId), " +
+           "(SELECT a.status FROM PostApplication a WHERE a.post.id = p.id AND a.user.id = :userId) " +
+           "FROM Post p WHERE p.id = :postId")
+    java.util.List<Object[]> findViewerFlags(@Param("postId") Long postId, @Param("userId") Integer userId);
+
+    // 카테고리 게시글 수
+    @Query("SELECT COUNT(p) FROM Post p WHERE p.category = :category")
+    long countInCategory(@Param("category") String category);
+
+    // 카테고리별 게시글 수 (category, count)
+    @Query("SELECT p.category, COUNT(p) FROM Post p GROUP BY p.category")
+    java.util.List<Object[]> countByCategory();
 
     // 게시글 상세 조회 (작성자까지 로딩)
     @Query("SELECT p FROM Post p JOIN FETCH p.user WHERE p.id = :id")
     Optional<Post> findByIdWithUser(@Param("id") Long id);
 
-    // 제목 또는 내용으로 검색
-    @Query("SELECT p FROM Post p WHERE p.title LIKE %:keyword% OR p.content LIKE %:keyword%")
+    // 제목 또는 내용으로 검색 (검색 인덱스 구축 전 폴백, PostSearchService)
+    @Query(value = "SELECT p FROM Post p LEFT JOIN PostContent c ON c.postId = p.id " + KEYWORD_MATCH,
+           countQuery = "SELECT COUNT(p) FROM Post p LEFT JOIN PostContent c ON c.postId = p.id " + KEYWORD_MATCH)
     Page<Post> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
 
     // 사용자별 게시글 수
@@ -43,7 +146,89 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     @Query("SELECT COALESCE(SUM(p.likeCount), 0) FROM Post p WHERE p.user.id = :userId")
     long sumLikeCountByUserId(@Param("userId") Integer userId);
 
+    // 사용자별 (ID, 게시글 수, 받은 좋아요 합) - 활동 통계 재계산용
+    @Query("SELECT p.user.id, COUNT(p), COALESCE(SUM(p.likeCount), 0) FROM Post p WHERE p.user.id IN :userIds GROUP BY p.user.id")
+    java.util.List<Object[]> countAndSumLikesByUserIds(@Param("userIds") java.util.Collection<Integer> userIds);
+
     // 작성자의 다른 게시글 상위 5개
     java.util.List<Post> findTop5ByUser_IdAndIdNotOrderByCreatedAtDesc(Integer userId, Long excludeId);
+
+    // 게시글 특징 컬럼 (id, category, viewCount, likeCount, createdAt) - 본문 제외, 피처 스냅샷용
+    @Query("SELECT p.id, p.category, p.viewCount, p.likeCount, p.createdAt FROM Post p ORDER BY p.id")
+    java.util.List<Object[]> findFeatureRows();
+
+    // 임베딩이 없거나 임베딩 이후 수정된 게시글 ID (id 키셋 페이지)
+    @Query("SELECT p.id FROM Post p WHERE p.id > :afterId AND (p.embeddingUpdatedAt IS NULL " +
+           "OR (p.updatedAt IS NOT NULL AND p.updatedAt > p.embeddingUpdatedAt)) ORDER BY p.id")
+    java.util.List<Long> findIdsNeedingEmbedding(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 임베딩 입력 컬럼 (id, title, tags, 본문 입력 컬럼)
+    @Query("SELECT p.id, p.title, p.tags, " + BODY + "WHERE p.id IN :ids")
+    java.util.List<Object[]> findEmbeddingSources(@Param("ids") java.util.Collection<Long> ids);
+
+    // 검색 인덱스 입력 컬럼 (id, title, tags, 본문 입력 컬럼) - id 키셋 페이지
+    @Query("SELECT p.id, p.title, p.tags, " + BODY + "WHERE p.id > :afterId ORDER BY p.id")
+    java.util.List<Object[]> findSearchSources(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 검색 인덱스 입력 컬럼 - since 이후 작성/수정된 게시글 (다른 인스턴스 변경분 동기화)
+    @Query("SELECT p.id, p.title, p.tags, " + BODY + "WHERE p.createdAt >= :since OR p.updatedAt >= :since")
+    java.util.List<Object[]> findSearchSourcesChangedSince(@Param("since") java.time.LocalDateTime since);
+
+    // excerpt가 비어 있는 게시글 (id, 본문 입력 컬럼) - 컬럼 추가 전 데이터 채우기용 id 키셋 페이지
+    @Query("SELECT p.id, " + BODY + "WHERE p.excerpt IS NULL AND p.id > :afterId ORDER BY p.id")
+    java.util.List<Object[]> findExcerptSources(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 아직 post_contents로 옮기지 않은 게시글 (id, 이전 본문) - PostContentMigration id 키셋 페이지
+    @Query("SELECT p.id, p.legacyContent FROM Post p WHERE p.legacyContent IS NOT NULL AND p.id > :afterId ORDER BY p.id")
+    java.util.List<Object[]> findLegacyContents(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 전체 게시글 ID (삭제된 게시글을 인덱스에서 빼기 위한 비교용)
+    @Query("SELECT p.id FROM Post p")
+    java.util.List<Long> findAllIds();
+
+    // 주어진 ID 중 아직 있는 게시글 ID (버퍼 저장 시 그사이 삭제된 게시글 제외용)
+    @Query("SELECT p.id FROM Post p WHERE p.id IN :ids")
+    java.util.List<Long> findExistingIds(@Param("ids") java.util.Collection<Long> ids);
+
+    // 조회수 일괄 증가 (PostViewCounter 버퍼 반영, updated_at = updated_at 으로 수정 시각은 그대로)
+    @Modifying
+    @Query(value = "UPDATE posts SET view_count = COALESCE(view_count, 0) + :delta, updated_at = updated_at WHERE id IN (:ids)",
+           nativeQuery = true)
+    int incrementViewCounts(@Param("ids") java.util.Collection<Long> ids, @Param("delta") long delta);
+
+    // 인기 점수 재계산 (조회수/좋아요가 바뀐 뒤 같은 트랜잭션에서 호출, 수식은 popularity_score 컬럼 설명 참고)
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE posts SET popularity_score = COALESCE(like_count, 0) * 2 + COALESCE(view_count, 0) * 0.1, " +
+                   "updated_at = updated_at WHERE id IN (:ids)",
+           nativeQuery = true)
+    int refreshPopularityScores(@Param("ids") java.util.Collection<Long> ids);
+
+    // 좋아요 수 일괄 증감 (LikeCountBuffer 반영, updated_at = updated_at 으로 수정 시각은 그대로)
+    @Modifying
+    @Query(value = "UPDATE posts SET like_count = GREATEST(COALESCE(like_count, 0) + :delta, 0), updated_at = updated_at WHERE id IN (:ids)",
+           nativeQuery = true)
+    int incrementLikeCounts(@Param("ids") java.util.Collection<Long> ids, @Param("delta") long delta);
+
+    // excerpt 채우기 (updated_at = updated_at 으로 수정 시각은 그대로)
+    @Modifying
+    @Query(value = "UPDATE posts SET excerpt = :excerpt, updated_at = updated_at WHERE id = :id", nativeQuery = true)
+    int updateExcerpt(@Param("id") Long id, @Param("excerpt") String excerpt);
+
+    // 본문만 바뀐 수정도 updated_at 기준 따라잡기(검색 색인, 임베딩)에 잡히도록 수정 시각 갱신
+    @Modifying
+    @Query(value = "UPDATE posts SET updated_at = CURRENT_TIMESTAMP WHERE id = :id", nativeQuery = true)
+    int touchUpdatedAt(@Param("id") Long id);
+
+    // 옮긴 게시글의 이전 본문 비우기 (updated_at = updated_at 으로 수정 시각은 그대로)
+    @Modifying
+    @Query(value = "UPDATE posts SET content = NULL, updated_at = updated_at WHERE id IN (:ids)", nativeQuery = true)
+    int clearLegacyContents(@Param("ids") java.util.Collection<Long> ids);
+
+    // embedding_updated_at 기록 (updated_at = updated_at 으로 ON UPDATE 자동 갱신을 막아 재처리 루프 방지)
+    @Modifying
+    @Query(value = "UPDATE posts SET embedding_updated_at = :stampedAt, updated_at = updated_at WHERE id IN (:ids)",
+           nativeQuery = true)
+    int markEmbeddingUpdated(@Param("ids") java.util.Collection<Long> ids,
+                             @Param("stampedAt") java.time.LocalDateTime stampedAt);
 }
 
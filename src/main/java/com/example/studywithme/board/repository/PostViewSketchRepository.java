@@ -0,0 +1,7 @@
+package com.example.studywithme.board.repository;
+
+import com.example.studywithme.board.entity.PostViewSketch;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PostViewSketchRepository extends JpaRepository<PostViewSketch, Long> {
+}
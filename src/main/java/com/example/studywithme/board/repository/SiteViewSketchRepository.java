@@ -0,0 +1,13 @@
+package com.example.studywithme.board.repository;
+
+import com.example.studywithme.board.entity.SiteViewSketch;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface SiteViewSketchRepository extends JpaRepository<SiteViewSketch, LocalDate> {
+
+    // 기간 내 일자별 스케치 (주간 합계용)
+    List<SiteViewSketch> findByViewDateBetweenOrderByViewDateAsc(LocalDate from, LocalDate to);
+}
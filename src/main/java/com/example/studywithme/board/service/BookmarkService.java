@@ -2,10 +2,12 @@ package com.example.studywithme.board.service;
 
 import com.example.studywithme.board.entity.Bookmark;
 import com.example.studywithme.board.entity.Post;
+import com.example.studywithme.global.cache.ListingCountCache;
 import com.example.studywithme.user.entity.User;
 import com.example.studywithme.board.repository.BookmarkRepository;
 import com.example.studywithme.board.repository.PostRepository;
 import com.example.studywithme.user.repository.UserRepository;
+import com.example.studywithme.user.service.UserStatsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -16,9 +18,15 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class BookmarkService {
 
+    // 사용자별 북마크 건수 캐시 키 (ListingCountCache)
+    private static final String COUNT_USER = "bookmarks:user";
+
     private final BookmarkRepository bookmarkRepository;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
+    private final TrendingPostService trendingPostService;
+    private final ListingCountCache listingCountCache;
+    private final UserStatsService userStatsService;
 
     // 북마크 토글 (북마크가 있으면 취소, 없으면 추가)
     @Transactional
@@ -39,6 +47,8 @@ public class BookmarkService {
         if (isBookmarked) {
             // 북마크 취소
             bookmarkRepository.deleteByUser_IdAndPost_Id(userId, postId);
+            listingCountCache.adjust(ListingCountCache.key(COUNT_USER, userId), -1);
+            userStatsService.bookmarkChanged(userId, -1);
             return false;
         } else {
             // 북마크 추가
@@ -46,6 +56,9 @@ public class BookmarkService {
             bookmark.setUser(user);
             bookmark.setPost(post);
             bookmarkRepository.save(bookmark);
+            trendingPostService.record(post, TrendingPostService.Signal.BOOKMARK);
+            listingCountCache.adjust(ListingCountCache.key(COUNT_USER, userId), 1);
+            userStatsService.bookmarkChanged(userId, 1);
             return true;
         }
     }
@@ -55,9 +68,11 @@ public class BookmarkService {
         return bookmarkRepository.existsByUser_IdAndPost_Id(userId, postId);
     }
 
-    // 사용자의 북마크 목록
+    // 사용자의 북마크 목록 (Slice + 캐시된 건수)
     public Page<Bookmark> getBookmarks(Integer userId, Pageable pageable) {
-        return bookmarkRepository.findByUser_IdOrderByCreatedAtDesc(userId, pageable);
+        return listingCountCache.page(ListingCountCache.key(COUNT_USER, userId),
+                bookmarkRepository.findByUser_IdOrderByCreatedAtDesc(userId, pageable),
+                () -> bookmarkRepository.countByUser_Id(userId));
     }
 }
 
@@ -0,0 +1,285 @@
+package com.example.studywithme.board.service;
+
+import com.example.studywithme.board.dto.PostCard;
+import com.example.studywithme.board.repository.PostRepository;
+import com.example.studywithme.global.transaction.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 메인 피드 앞쪽 페이지 캐시 (GET /, GET /api/posts 의 최신순·인기순)
+ * - 키: (카테고리, 정렬, 페이지 크기) → 앞쪽 max-pages개 페이지. ttl-ms가 지나면 만료
+ * - 작성·수정·삭제 시 전체 + 해당 카테고리 항목을 커밋 이후 삭제
+ * - 인기순은 조회수/좋아요 반영(flush) 뒤, 캐시된 글의 점수가 popularity-threshold 이상 바뀌었거나
+ *   캐시 밖 글이 캐시 구간 마지막 점수 이상으로 올라왔으면 삭제 (작은 변화는 TTL 안에서 그대로 둠)
+ * - 같은 페이지를 동시에 놓치면 한 요청만 DB에서 읽고 나머지는 그 결과를 기다림 (single-flight)
+ * - 캐시 항목은 불변 목록 카드(PostCard)라 여러 요청이 그대로 공유 (엔티티·본문을 붙잡아 두지 않음)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FeedPageCache {
+
+    private static final String ALL = "";
+
+    private final PostRepository postRepository;
+
+    @Value("${feed-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${feed-cache.ttl-ms:10000}")
+    private long ttlMillis;
+
+    @Value("${feed-cache.max-pages:3}")
+    private int maxPages;
+
+    @Value("${feed-cache.max-page-size:100}")
+    private int maxPageSize;
+
+    @Value("${feed-cache.max-entries:200}")
+    private int maxEntries;
+
+    @Value("${feed-cache.popularity-threshold:5}")
+    private double popularityThreshold;
+
+    private final Map<FeedKey, FeedEntry> entries = new ConcurrentHashMap<>();
+    private final Map<LoadKey, CompletableFuture<Page<PostCard>>> loading = new ConcurrentHashMap<>();
+    // 무효화마다 증가. 읽기 시작 이후 무효화가 있었으면 읽은 결과를 저장하지 않음
+    private final AtomicLong generation = new AtomicLong();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong loads = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+    private final AtomicLong expirations = new AtomicLong();
+
+    private record FeedKey(String category, String sort, int size) {}
+
+    private record LoadKey(FeedKey key, int page) {}
+
+    private static final class FeedEntry {
+        final long createdAt;
+        final Map<Integer, Page<PostCard>> pages = new ConcurrentHashMap<>();
+        // 인기순: 캐시된 글의 적재 시점 점수와 캐시 구간 마지막 점수
+        final Map<Long, Double> scores = new ConcurrentHashMap<>();
+        volatile double boundary = Double.MAX_VALUE;
+
+        FeedEntry(long createdAt) {
+            this.createdAt = createdAt;
+        }
+    }
+
+    /**
+     * @param misses    DB에서 읽은 요청 (coalesced 포함)
+     * @param coalesced 다른 요청이 읽는 중이라 그 결과를 기다린 요청
+     */
+    public record Stats(long hits, long misses, long coalesced, long loads, long invalidations,
+                        long expirations, int entries, double hitRate) {}
+
+    /**
+     * 캐시된 페이지 또는 loader 결과
+     *
+     * @param category null이면 전체
+     * @param sort     latest, popular만 캐시 (그 외는 loader 그대로)
+     */
+    public Page<PostCard> get(String category, String sort, Pageable pageable, Supplier<Page<PostCard>> loader) {
+        if (!enabled || !("latest".equals(sort) || "popular".equals(sort))
+                || pageable.getPageNumber() >= maxPages || pageable.getPageSize() > maxPageSize) {
+            return loader.get();
+        }
+        FeedKey key = new FeedKey(key(category), sort, pageable.getPageSize());
+        int pageNumber = pageable.getPageNumber();
+        FeedEntry entry = entries.get(key);
+        if (entry != null) {
+            if (isExpired(entry, System.currentTimeMillis())) {
+                if (entries.remove(key, entry)) {
+                    expirations.incrementAndGet();
+                }
+            } else {
+                Page<PostCard> page = entry.pages.get(pageNumber);
+                if (page != null) {
+                    hits.incrementAndGet();
+                    return page;
+                }
+            }
+        }
+        misses.incrementAndGet();
+        return load(key, pageNumber, loader);
+    }
+
+    /**
+     * 게시글 작성·수정·삭제 (전체 + 해당 카테고리들, 트랜잭션 안이면 커밋 이후)
+     */
+    public void postChanged(String... categories) {
+        Set<String> keys = new HashSet<>();
+        keys.add(ALL);
+        for (String category : categories) {
+            keys.add(key(category));
+        }
+        TransactionCallbacks.afterCommit(() -> invalidate(key -> keys.contains(key.category()), true, "게시글 변경"));
+    }
+
+    /**
+     * 전체 삭제 (카테고리 일괄 보정 등, 트랜잭션 안이면 커밋 이후)
+     */
+    public void clear() {
+        TransactionCallbacks.afterCommit(() -> invalidate(key -> true, true, "전체 삭제"));
+    }
+
+    /**
+     * 조회수/좋아요 반영 이후 호출. 인기순 캐시 구간이 실제로 바뀔 만한 경우만 삭제
+     */
+    public void popularityChanged(Collection<Long> postIds) {
+        if (!enabled || postIds == null || postIds.isEmpty()
+                || entries.keySet().stream().noneMatch(key -> "popular".equals(key.sort()))) {
+            return;
+        }
+        List<Object[]> rows;
+        try {
+            rows = postRepository.findPopularityRows(postIds);
+        } catch (Exception e) {
+            log.warn("피드 캐시 점수 조회 실패, 인기순 캐시 삭제: {}", e.getMessage());
+            invalidate(key -> "popular".equals(key.sort()), true, "점수 조회 실패");
+            return;
+        }
+        invalidate(key -> "popular".equals(key.sort()) && popularRangeChanged(key, rows), false, "인기 점수 변경");
+    }
+
+    public Stats stats() {
+        long h = hits.get();
+        long m = misses.get();
+        return new Stats(h, m, coalesced.get(), loads.get(), invalidations.get(), expirations.get(),
+                entries.size(), h + m == 0 ? 0.0 : (double) h / (h + m));
+    }
+
+    private Page<PostCard> load(FeedKey key, int pageNumber, Supplier<Page<PostCard>> loader) {
+        LoadKey loadKey = new LoadKey(key, pageNumber);
+        CompletableFuture<Page<PostCard>> mine = new CompletableFuture<>();
+        CompletableFuture<Page<PostCard>> running = loading.putIfAbsent(loadKey, mine);
+        if (running != null) {
+            coalesced.incrementAndGet();
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+        try {
+            long startedAt = generation.get();
+            Page<PostCard> page = loader.get();
+            loads.incrementAndGet();
+            store(key, pageNumber, page, startedAt);
+            mine.complete(page);
+            return page;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(loadKey, mine);
+        }
+    }
+
+    private synchronized void store(FeedKey key, int pageNumber, Page<PostCard> page, long startedAt) {
+        if (startedAt != generation.get()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        FeedEntry entry = entries.get(key);
+        if (entry == null || isExpired(entry, now)) {
+            if (entries.size() >= maxEntries) {
+                entries.values().removeIf(e -> isExpired(e, now));
+                if (entries.size() >= maxEntries) {
+                    return;
+                }
+            }
+            entry = new FeedEntry(now);
+            entries.put(key, entry);
+        }
+        entry.pages.put(pageNumber, page);
+        if ("popular".equals(key.sort())) {
+            List<PostCard> content = page.getContent();
+            for (PostCard post : content) {
+                entry.scores.put(post.id(), score(post.popularityScore()));
+            }
+            // 마지막 페이지면 카테고리 전체가 캐시 구간
+            double last = page.isLast() || content.isEmpty()
+                    ? -Double.MAX_VALUE
+                    : score(content.get(content.size() - 1).popularityScore());
+            entry.boundary = Math.min(entry.boundary, last);
+        }
+    }
+
+    /**
+     * 캐시된 글의 점수가 임계값 이상 바뀌었거나, 캐시 밖 글이 캐시 구간 안으로 들어왔는지
+     */
+    private boolean popularRangeChanged(FeedKey key, List<Object[]> rows) {
+        FeedEntry entry = entries.get(key);
+        if (entry == null) {
+            return false;
+        }
+        for (Object[] row : rows) {
+            if (!ALL.equals(key.category()) && !key.category().equals(row[1])) {
+                continue;
+            }
+            long id = ((Number) row[0]).longValue();
+            double score = row[2] != null ? ((Number) row[2]).doubleValue() : 0.0;
+            Double cached = entry.scores.get(id);
+            if (cached != null ? Math.abs(score - cached) >= popularityThreshold : score >= entry.boundary) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param abortLoads 지금 읽는 중인 페이지도 저장하지 않음 (삭제한 항목이 없어도)
+     */
+    private synchronized void invalidate(Predicate<FeedKey> matches, boolean abortLoads, String reason) {
+        int removed = 0;
+        for (FeedKey key : Set.copyOf(entries.keySet())) {
+            if (matches.test(key) && entries.remove(key) != null) {
+                removed++;
+            }
+        }
+        if (abortLoads || removed > 0) {
+            generation.incrementAndGet();
+        }
+        if (removed > 0) {
+            invalidations.addAndGet(removed);
+            log.debug("피드 캐시 삭제 ({}): {}개", reason, removed);
+        }
+    }
+
+    private boolean isExpired(FeedEntry entry, long now) {
+        return now - entry.createdAt > ttlMillis;
+    }
+
+    private static double score(Double score) {
+        return Objects.requireNonNullElse(score, 0.0);
+    }
+
+    private static String key(String category) {
+        return category == null || category.isBlank() ? ALL : category;
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.studywithme.board.service;
+
+import com.example.studywithme.board.repository.PostRepository;
+import com.example.studywithme.comment.repository.CommentRepository;
+import com.example.studywithme.global.transaction.TransactionCallbacks;
+import com.example.studywithme.user.service.UserStatsService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+/**
+ * 게시글/댓글 좋아요 수 버퍼
+ * - 좋아요 행(post_likes/comment_likes)이 실제로 추가·삭제된 경우에만 커밋 후 +1/-1 을 LongAdder에 더함
+ *   (토글 트랜잭션은 posts/comments 행을 잠그지 않아 인기 글에 좋아요가 몰려도 서로 기다리지 않음)
+ * - flush-interval-ms마다 "like_count = like_count + ?" 로 반영 (증감분이 같은 행끼리 묶어 한 문장, 한 트랜잭션)
+ *   게시글은 popularity_score와 작성자 받은 좋아요(user_activity_stats)도 함께 재계산하고 인기 순위(PopularPostRanking)·피드 캐시(FeedPageCache)에 알림
+ * - 반영 실패 시 증감분을 버퍼에 되돌려 다음 주기에 재시도. 종료 시 @PreDestroy로 비움
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LikeCountBuffer {
+
+    private static final int MAX_IDS_PER_UPDATE = 1000;
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final PopularPostRanking popularPostRanking;
+    private final FeedPageCache feedPageCache;
+    private final UserStatsService userStatsService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ConcurrentHashMap<Long, LongAdder> pendingPosts = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, LongAdder> pendingComments = new ConcurrentHashMap<>();
+    private final Object flushLock = new Object();
+
+    /**
+     * 게시글 좋아요 증감 (트랜잭션 안이면 커밋 이후에 반영)
+     */
+    public void addPostDelta(Long postId, int delta) {
+        add(pendingPosts, postId, delta);
+    }
+
+    /**
+     * 댓글 좋아요 증감 (트랜잭션 안이면 커밋 이후에 반영)
+     */
+    public void addCommentDelta(Long commentId, int delta) {
+        add(pendingComments, commentId, delta);
+    }
+
+    /**
+     * DB 값 + 버퍼 증감분 (화면 표시용)
+     */
+    public int displayPostCount(Long postId, Integer storedLikeCount) {
+        return display(pendingPosts, postId, storedLikeCount);
+    }
+
+    public int displayCommentCount(Long commentId, Integer storedLikeCount) {
+        return display(pendingComments, commentId, storedLikeCount);
+    }
+
+    @Scheduled(fixedDelayString = "${like-count.flush-interval-ms:2000}")
+    public void flush() {
+        synchronized (flushLock) {
+            Set<Long> postIds = write("게시글", pendingPosts, (ids, delta) -> {
+                postRepository.incrementLikeCounts(ids, delta);
+                postRepository.refreshPopularityScores(ids);
+                userStatsService.likesReceivedChanged(ids);
+            });
+            popularPostRanking.postsChanged(postIds);
+            feedPageCache.popularityChanged(postIds);
+            write("댓글", pendingComments, commentRepository::incrementLikeCounts);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private static void add(ConcurrentHashMap<Long, LongAdder> pending, Long id, int delta) {
+        if (id == null || delta == 0) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> pending.computeIfAbsent(id, key -> new LongAdder()).add(delta));
+    }
+
+    private static int display(ConcurrentHashMap<Long, LongAdder> pending, Long id, Integer stored) {
+        LongAdder adder = pending.get(id);
+        long count = (stored != null ? stored : 0) + (adder != null ? adder.sum() : 0L);
+        return (int) Math.max(0L, count);
+    }
+
+    /**
+     * @return 반영에 성공한 ID
+     */
+    private Set<Long> write(String label, ConcurrentHashMap<Long, LongAdder> pending,
+                            BiConsumer<List<Long>, Long> increment) {
+        Map<Long, Long> deltas = drain(pending);
+        if (deltas.isEmpty()) {
+            return Set.of();
+        }
+        Map<Long, List<Long>> idsByDelta = new HashMap<>();
+        deltas.forEach((id, delta) -> idsByDelta.computeIfAbsent(delta, d -> new ArrayList<>()).add(id));
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    idsByDelta.forEach((delta, ids) -> {
+                        for (int from = 0; from < ids.size(); from += MAX_IDS_PER_UPDATE) {
+                            increment.accept(ids.subList(from, Math.min(ids.size(), from + MAX_IDS_PER_UPDATE)), delta);
+                        }
+                    }));
+            log.debug("{} 좋아요 수 반영: {}개, UPDATE {}회", label, deltas.size(), idsByDelta.size());
+            return deltas.keySet();
+        } catch (Exception e) {
+            log.warn("{} 좋아요 수 반영 실패, 다음 주기에 재시도: {}개 ({})", label, deltas.size(), e.getMessage());
+            deltas.forEach((id, delta) -> pending.computeIfAbsent(id, key -> new LongAdder()).add(delta));
+            return Set.of();
+        }
+    }
+
+    /**
+     * 버퍼의 증감분을 꺼냄. 증감분이 0인 항목은 지워 맵이 계속 커지지 않게 함
+     */
+    private static Map<Long, Long> drain(ConcurrentHashMap<Long, LongAdder> pending) {
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Map.Entry<Long, LongAdder> e : pending.entrySet()) {
+            long delta = e.getValue().sumThenReset();
+            if (delta != 0) {
+                deltas.put(e.getKey(), delta);
+            } else if (pending.remove(e.getKey(), e.getValue())) {
+                // 지우는 사이에 들어온 증감분은 다음 주기로 넘김
+                long late = e.getValue().sumThenReset();
+                if (late != 0) {
+                    pending.computeIfAbsent(e.getKey(), key -> new LongAdder()).add(late);
+                }
+            }
+        }
+        return deltas;
+    }
+}
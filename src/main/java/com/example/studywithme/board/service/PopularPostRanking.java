@@ -0,0 +1,274 @@
+package com.example.studywithme.board.service;
+
+import com.example.studywithme.board.entity.Post;
+import com.example.studywithme.board.repository.PostRepository;
+import com.example.studywithme.global.transaction.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 인기순 피드 상위 K개 (전체 + 카테고리별, 메모리 상주)
+ * - popularity_score DESC, id DESC 순서의 상위 top-k개 ID와 점수만 보관 → 인기순 첫 페이지들은 정렬 쿼리 없이 PK 조회만
+ * - refresh-interval-ms마다 (category, popularity_score, id) 인덱스로 카테고리별 상위 K개를 다시 읽음
+ * - 조회수/좋아요 반영(flush)·작성·수정·삭제 직후 바뀐 게시글의 점수만 다시 읽어 순위를 고침
+ *   점수가 내려간 글은 캐시 밖 글과의 순서를 알 수 없으므로 기존 K번째보다 뒤로 밀리면 빼고, 남은 구간만 서빙
+ * - 요청한 페이지가 보관 구간을 넘거나 아직 준비 전이면 empty → 호출한 쪽이 DB 인덱스 정렬로 조회
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PopularPostRanking {
+
+    private static final String ALL = "";
+    private static final Comparator<Entry> ORDER = Comparator.comparingDouble(Entry::score).reversed()
+            .thenComparing(Comparator.comparingLong(Entry::id).reversed());
+
+    private final PostRepository postRepository;
+
+    @Value("${popular-feed.enabled:true}")
+    private boolean enabled;
+
+    @Value("${popular-feed.top-k:200}")
+    private int topK;
+
+    private volatile Map<String, Ranking> rankings = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    private record Entry(long id, double score) {}
+
+    /**
+     * @param entries  상위 게시글 (ORDER 순)
+     * @param complete 카테고리 전체가 entries에 들어 있음 (게시글 수 < top-k)
+     * @param total    카테고리 전체 게시글 수 (마지막 갱신 + 작성/삭제 반영)
+     */
+    private record Ranking(List<Entry> entries, boolean complete, long total) {}
+
+    /**
+     * @param ids   순서대로의 게시글 ID
+     * @param total 전체 게시글 수 (페이지 계산용)
+     */
+    public record RankedPage(List<Long> ids, long total) {}
+
+    /**
+     * 인기순 페이지의 게시글 ID (보관 구간 안일 때만)
+     *
+     * @param category null이면 전체
+     */
+    public Optional<RankedPage> page(String category, Pageable pageable) {
+        if (!enabled || !ready) {
+            return Optional.empty();
+        }
+        Ranking ranking = rankings.get(key(category));
+        if (ranking == null) {
+            return Optional.empty();
+        }
+        List<Entry> entries = ranking.entries();
+        long from = pageable.getOffset();
+        long to = from + pageable.getPageSize();
+        if (!ranking.complete() && to > entries.size()) {
+            return Optional.empty();
+        }
+        List<Long> ids = new ArrayList<>(pageable.getPageSize());
+        for (long i = from; i < Math.min(to, entries.size()); i++) {
+            ids.add(entries.get((int) i).id());
+        }
+        long total = ranking.complete() ? entries.size() : Math.max(ranking.total(), entries.size());
+        return Optional.of(new RankedPage(ids, total));
+    }
+
+    /**
+     * 전체 재구축 (카테고리별 상위 K개 + 게시글 수)
+     */
+    @Scheduled(initialDelayString = "${popular-feed.initial-delay-ms:3000}",
+               fixedDelayString = "${popular-feed.refresh-interval-ms:60000}")
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            long start = System.currentTimeMillis();
+            Map<String, Ranking> fresh = new ConcurrentHashMap<>();
+            long all = 0;
+            for (Object[] row : postRepository.countByCategory()) {
+                long count = ((Number) row[1]).longValue();
+                all += count;
+                String category = (String) row[0];
+                if (!ALL.equals(key(category))) {
+                    fresh.put(category, load(postRepository.findPopularityRankingByCategory(
+                            category, PageRequest.of(0, topK)), count));
+                }
+            }
+            fresh.put(ALL, load(postRepository.findPopularityRanking(PageRequest.of(0, topK)), all));
+            synchronized (this) {
+                rankings = fresh;
+                ready = true;
+            }
+            log.debug("인기 게시글 순위 갱신: 카테고리 {}개 ({}ms)", fresh.size() - 1, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("인기 게시글 순위 갱신 실패", e);
+        }
+    }
+
+    /**
+     * 점수나 카테고리가 바뀐 게시글 반영 (조회수/좋아요 flush 커밋 이후 호출)
+     */
+    public void postsChanged(Collection<Long> postIds) {
+        if (!enabled || !ready || postIds == null || postIds.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows;
+        try {
+            rows = postRepository.findPopularityRows(postIds);
+        } catch (Exception e) {
+            log.warn("인기 게시글 점수 조회 실패, 다음 갱신 때 반영: {}개 ({})", postIds.size(), e.getMessage());
+            return;
+        }
+        Map<Long, Double> allUpserts = new HashMap<>();
+        Map<String, Map<Long, Double>> upsertsByCategory = new HashMap<>();
+        for (Object[] row : rows) {
+            long id = ((Number) row[0]).longValue();
+            double score = row[2] != null ? ((Number) row[2]).doubleValue() : 0.0;
+            allUpserts.put(id, score);
+            if (!ALL.equals(key((String) row[1]))) {
+                upsertsByCategory.computeIfAbsent((String) row[1], c -> new HashMap<>()).put(id, score);
+            }
+        }
+        Set<Long> missing = new HashSet<>(postIds);
+        missing.removeAll(allUpserts.keySet());
+
+        synchronized (this) {
+            Map<String, Ranking> current = rankings;
+            current.computeIfPresent(ALL, (k, ranking) -> apply(ranking, allUpserts, missing));
+            for (String category : current.keySet()) {
+                if (ALL.equals(category)) {
+                    continue;
+                }
+                Map<Long, Double> upserts = upsertsByCategory.getOrDefault(category, Map.of());
+                // 다른 카테고리로 옮겨졌거나 삭제된 글은 빼기
+                Set<Long> removals = new HashSet<>(allUpserts.keySet());
+                removals.removeAll(upserts.keySet());
+                removals.addAll(missing);
+                current.computeIfPresent(category, (k, ranking) -> apply(ranking, upserts, removals));
+            }
+            // 갱신 이후 처음 생긴 카테고리 (갱신 시점에 글이 없었으므로 전체를 알고 있음)
+            upsertsByCategory.forEach((category, upserts) -> current.computeIfAbsent(category,
+                    c -> apply(new Ranking(List.of(), true, 0), upserts, Set.of())));
+        }
+    }
+
+    /**
+     * 게시글 작성 (트랜잭션 안이면 커밋 이후에 반영)
+     */
+    public void postCreated(Post post) {
+        if (post == null || post.getId() == null) {
+            return;
+        }
+        long postId = post.getId();
+        String category = post.getCategory();
+        TransactionCallbacks.afterCommit(() -> {
+            adjustTotal(category, 1);
+            postsChanged(List.of(postId));
+        });
+    }
+
+    /**
+     * 게시글 수정 (카테고리가 바뀌었을 수 있음, 트랜잭션 안이면 커밋 이후에 반영)
+     */
+    public void postUpdated(Long postId) {
+        if (postId == null) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> postsChanged(List.of(postId)));
+    }
+
+    /**
+     * 게시글 삭제 (트랜잭션 안이면 커밋 이후에 반영)
+     */
+    public void postDeleted(Post post) {
+        if (post == null || post.getId() == null) {
+            return;
+        }
+        long postId = post.getId();
+        String category = post.getCategory();
+        TransactionCallbacks.afterCommit(() -> {
+            adjustTotal(category, -1);
+            synchronized (this) {
+                rankings.replaceAll((k, ranking) -> apply(ranking, Map.of(), Set.of(postId)));
+            }
+        });
+    }
+
+    private Ranking load(List<Object[]> rows, long total) {
+        List<Entry> entries = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            entries.add(new Entry(((Number) row[0]).longValue(), row[1] != null ? ((Number) row[1]).doubleValue() : 0.0));
+        }
+        return new Ranking(List.copyOf(entries), entries.size() < topK, total);
+    }
+
+    /**
+     * 순위에 점수 변경/삭제 반영
+     * - complete가 아니면 기존 마지막 항목(경계)보다 뒤로 가는 글은 캐시 밖 글과 순서를 알 수 없어 제외
+     */
+    private Ranking apply(Ranking ranking, Map<Long, Double> upserts, Set<Long> removals) {
+        if (upserts.isEmpty() && removals.isEmpty()) {
+            return ranking;
+        }
+        List<Entry> entries = ranking.entries();
+        Entry boundary = !ranking.complete() && !entries.isEmpty() ? entries.get(entries.size() - 1) : null;
+        List<Entry> merged = new ArrayList<>(entries.size() + upserts.size());
+        boolean changed = false;
+        for (Entry entry : entries) {
+            if (upserts.containsKey(entry.id()) || removals.contains(entry.id())) {
+                changed = true;
+            } else {
+                merged.add(entry);
+            }
+        }
+        for (Map.Entry<Long, Double> upsert : upserts.entrySet()) {
+            Entry entry = new Entry(upsert.getKey(), upsert.getValue());
+            if (boundary == null || ORDER.compare(entry, boundary) <= 0) {
+                merged.add(entry);
+                changed = true;
+            }
+        }
+        if (!changed) {
+            return ranking;
+        }
+        merged.sort(ORDER);
+        boolean complete = ranking.complete();
+        if (merged.size() > topK) {
+            merged = merged.subList(0, topK);
+            complete = false;
+        }
+        return new Ranking(List.copyOf(merged), complete, ranking.total());
+    }
+
+    private synchronized void adjustTotal(String category, long delta) {
+        Map<String, Ranking> current = rankings;
+        current.computeIfPresent(ALL, (k, r) -> new Ranking(r.entries(), r.complete(), Math.max(0, r.total() + delta)));
+        if (!ALL.equals(key(category))) {
+            current.computeIfPresent(category, (k, r) -> new Ranking(r.entries(), r.complete(), Math.max(0, r.total() + delta)));
+        }
+    }
+
+    private static String key(String category) {
+        return category == null || category.isBlank() ? ALL : category;
+    }
+}
@@ -9,6 +9,7 @@ import com.example.studywithme.board.repository.PostRepository;
 import com.example.studywithme.notification.service.NotificationService;
 import com.example.studywithme.studygroup.service.StudyGroupService;
 import com.example.studywithme.user.repository.UserRepository;
+import com.example.studywithme.user.service.UserStatsService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -27,6 +28,7 @@ public class PostApplicationService {
     private final UserRepository userRepository;
     private final NotificationService notificationService;
     private final StudyGroupService studyGroupService;
+    private final UserStatsService userStatsService;
 
     @Transactional
     public PostApplication applyToPost(Integer userId, Long postId, String message) {
@@ -85,6 +87,7 @@ public class PostApplicationService {
         application.setStatus(PostApplication.ApplicationStatus.PENDING);
 
         PostApplication saved = applicationRepository.save(application);
+        userStatsService.applicationCreated(userId);
 
         // 알림: 게시글 작성자에게 새로운 지원 도착
         try {
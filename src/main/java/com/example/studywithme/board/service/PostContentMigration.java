@@ -0,0 +1,107 @@
+package com.example.studywithme.board.service;
+
+import com.example.studywithme.board.entity.PostContent;
+import com.example.studywithme.board.repository.PostContentRepository;
+import com.example.studywithme.board.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * posts.content → post_contents 온라인 이전 (서비스를 멈추지 않고 배치 단위로)
+ * - 아직 옮기지 않은 게시글을 id 키셋으로 batch-size개씩 읽어, 같은 트랜잭션에서 post_contents에 넣고 posts.content를 비움
+ * - 이미 post_contents 행이 있으면(이전 중에 수정된 글) 덮어쓰지 않고 이전 컬럼만 비움
+ * - 배치 사이에 pause-ms만큼 쉬어 운영 부하를 나눔. 충돌로 실패한 배치는 롤백되고 다음 주기에 다시 시도
+ * - 옮기는 중에도 읽기는 PostContentService가 이전 컬럼 값으로 대신하므로 순서와 무관하게 본문이 보임
+ * - 남은 행이 없으면 이후 주기는 바로 끝남 (인스턴스당 한 번)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PostContentMigration {
+
+    private final PostRepository postRepository;
+    private final PostContentRepository postContentRepository;
+    private final PostContentService postContentService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${post-content.migration-enabled:true}")
+    private boolean enabled;
+
+    @Value("${post-content.migration-batch-size:200}")
+    private int batchSize;
+
+    @Value("${post-content.migration-pause-ms:50}")
+    private long pauseMillis;
+
+    private volatile boolean done;
+
+    @Scheduled(initialDelayString = "${post-content.migration-initial-delay-ms:20000}",
+               fixedDelayString = "${post-content.migration-interval-ms:600000}")
+    public void migrate() {
+        if (!enabled || done) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        long afterId = 0L;
+        int moved = 0;
+        try {
+            while (true) {
+                long from = afterId;
+                List<Long> ids = transactionTemplate.execute(status -> migrateBatch(from));
+                if (ids == null || ids.isEmpty()) {
+                    break;
+                }
+                moved += ids.size();
+                afterId = ids.get(ids.size() - 1);
+                if (pauseMillis > 0) {
+                    Thread.sleep(pauseMillis);
+                }
+            }
+            done = true;
+            if (moved > 0) {
+                log.info("게시글 본문 이전 완료: {}개 ({}ms)", moved, System.currentTimeMillis() - start);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("게시글 본문 이전 실패 (id {} 이후부터 다음 주기에 이어서)", afterId, e);
+        }
+    }
+
+    // 한 배치 이전, 처리한 게시글 ID (남은 행이 없으면 빈 목록)
+    private List<Long> migrateBatch(long afterId) {
+        List<Object[]> rows = postRepository.findLegacyContents(afterId, PageRequest.of(0, batchSize));
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = rows.stream().map(row -> ((Number) row[0]).longValue()).toList();
+        Set<Long> existing = postContentRepository.findAllById(ids).stream()
+                .map(PostContent::getPostId)
+                .collect(Collectors.toSet());
+        List<PostContent> created = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            Long postId = ((Number) row[0]).longValue();
+            if (existing.contains(postId)) {
+                continue;
+            }
+            PostContent content = new PostContent();
+            content.setPostId(postId);
+            postContentService.encode(content, (String) row[1]);
+            created.add(content);
+        }
+        postContentRepository.saveAll(created);
+        postContentRepository.flush();
+        postRepository.clearLegacyContents(ids);
+        return ids;
+    }
+}
@@ -0,0 +1,211 @@
+package com.example.studywithme.board.service;
+
+import com.example.studywithme.board.entity.Post;
+import com.example.studywithme.board.entity.PostContent;
+import com.example.studywithme.board.repository.PostContentRepository;
+import com.example.studywithme.board.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 게시글 본문 저장·로딩 (post_contents)
+ * - 작성·수정은 호출한 트랜잭션 안에서 저장 (compress-min-bytes 이상이고 압축해서 10% 이상 줄면 DEFLATE로 저장)
+ * - 본문이 바뀌면 posts.updated_at도 올림 (검색 색인·임베딩 따라잡기가 posts.updated_at 기준이라 본문만 고친 수정도 보이도록)
+ * - 상세·수정·AI 경로만 게시글 ID로 읽어 Post.content 에 채움
+ * - 아직 옮겨지지 않은 게시글(PostContentMigration 진행 중)은 posts.content 값을 그대로 사용
+ */
+@Service
+@RequiredArgsConstructor
+public class PostContentService {
+
+    private final PostContentRepository postContentRepository;
+    private final PostRepository postRepository;
+
+    @Value("${post-content.compress-enabled:true}")
+    private boolean compressEnabled;
+
+    @Value("${post-content.compress-min-bytes:4096}")
+    private int compressMinBytes;
+
+    /**
+     * 게시글의 현재 본문(Post.content)을 저장하고 이전 컬럼은 비움 (같은 트랜잭션에서 읽은 게시글이면 함께 반영)
+     * 저장된 본문과 같으면 쓰지 않고, 바뀌었으면 posts.updated_at을 현재 시각으로 올림
+     */
+    @Transactional
+    public void save(Post post) {
+        PostContent row = postContentRepository.findById(post.getId()).orElse(null);
+        String text = post.getContent() != null ? post.getContent() : "";
+        if (row == null) {
+            row = new PostContent();
+            row.setPostId(post.getId());
+        } else if (Objects.equals(decode(row), text)) {
+            clearLegacy(post);
+            return;
+        }
+        encode(row, text);
+        postContentRepository.save(row);
+        postRepository.touchUpdatedAt(post.getId());
+        clearLegacy(post);
+    }
+
+    @Transactional
+    public void saveAll(Collection<Post> posts) {
+        for (Post post : posts) {
+            save(post);
+        }
+    }
+
+    /**
+     * 저장된 본문 (post_contents 행이 없으면 null)
+     */
+    @Transactional(readOnly = true)
+    public String findText(Long postId) {
+        return postContentRepository.findById(postId).map(PostContentService::decode).orElse(null);
+    }
+
+    /**
+     * 게시글에 본문을 읽어 채움 (이미 있으면 그대로)
+     */
+    public Post load(Post post) {
+        if (post.getContent() == null) {
+            attach(post, findText(post.getId()));
+        }
+        return post;
+    }
+
+    /**
+     * 여러 게시글에 본문을 한 번에 읽어 채움
+     */
+    @Transactional(readOnly = true)
+    public void loadAll(List<Post> posts) {
+        List<Long> ids = posts.stream().filter(post -> post.getContent() == null).map(Post::getId).toList();
+        if (ids.isEmpty()) {
+            return;
+        }
+        Map<Long, PostContent> byId = postContentRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(PostContent::getPostId, Function.identity()));
+        for (Post post : posts) {
+            if (post.getContent() == null) {
+                PostContent row = byId.get(post.getId());
+                attach(post, row != null ? decode(row) : null);
+            }
+        }
+    }
+
+    /**
+     * 따로 읽어 둔 본문을 게시글에 채움 (null이면 이전 컬럼 값, 그것도 없으면 빈 문자열)
+     */
+    public void attach(Post post, String text) {
+        if (text == null) {
+            text = post.getLegacyContent() != null ? post.getLegacyContent() : "";
+        }
+        post.loadContent(text);
+    }
+
+    @Transactional
+    public void removePost(Long postId) {
+        postContentRepository.deleteByPostId(postId);
+    }
+
+    /**
+     * 본문 행 채우기 (압축 조건을 만족하면 body_deflated, 아니면 body)
+     */
+    public void encode(PostContent row, String text) {
+        String value = text != null ? text : "";
+        byte[] raw = value.getBytes(StandardCharsets.UTF_8);
+        row.setRawBytes(raw.length);
+        if (compressEnabled && raw.length >= compressMinBytes) {
+            byte[] deflated = deflate(raw);
+            if (deflated.length < raw.length * 0.9) {
+                row.setBody(null);
+                row.setBodyDeflated(deflated);
+                return;
+            }
+        }
+        row.setBody(value);
+        row.setBodyDeflated(null);
+    }
+
+    public static String decode(PostContent row) {
+        return decode(row.getBody(), row.getBodyDeflated(), row.getRawBytes());
+    }
+
+    /**
+     * 본문 입력 컬럼 조회 결과 → 본문 (PostRepository의 ..., body, bodyDeflated, rawBytes, legacyContent 순서)
+     *
+     * @param from body 컬럼 위치
+     */
+    public static String text(Object[] row, int from) {
+        String text = decode((String) row[from], (byte[]) row[from + 1],
+                row[from + 2] != null ? ((Number) row[from + 2]).intValue() : null);
+        if (text == null) {
+            text = (String) row[from + 3];
+        }
+        return text;
+    }
+
+    private void clearLegacy(Post post) {
+        if (post.getLegacyContent() != null) {
+            post.setLegacyContent(null);
+        }
+    }
+
+    private static String decode(String body, byte[] deflated, Integer rawBytes) {
+        if (deflated == null) {
+            return body;
+        }
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(deflated);
+            byte[] raw = new byte[Math.max(1, rawBytes != null ? rawBytes : deflated.length * 4)];
+            int length = 0;
+            while (!inflater.finished()) {
+                if (length == raw.length) {
+                    raw = Arrays.copyOf(raw, raw.length * 2);
+                }
+                int n = inflater.inflate(raw, length, raw.length - length);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("압축된 본문이 손상되었습니다.");
+                }
+                length += n;
+            }
+            return new String(raw, 0, length, StandardCharsets.UTF_8);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("압축된 본문을 풀 수 없습니다.", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2);
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                int n = deflater.deflate(buffer);
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.example.studywithme.board.service;
+
+import com.example.studywithme.board.entity.Post;
+import com.example.studywithme.board.entity.PostApplication;
+import com.example.studywithme.board.repository.PostRepository;
+import com.example.studywithme.user.entity.User;
+import com.example.studywithme.user.entity.UserProfile;
+import com.example.studywithme.user.repository.UserProfileRepository;
+import com.example.studywithme.user.service.UserActivityService;
+import com.example.studywithme.user.service.UserStatsService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 상세 화면 조립 (GET /posts/{id})
+ * - 사용자별 표시(좋아요·북마크·지원 상태)는 쿼리 한 번 (PostRepository.findViewerFlags)
+ * - 서로 독립인 조회(지원자 수, 비슷한 글, 작성자 통계·프로필·다른 글)는 가상 스레드에서 동시에 실행
+ *   → 순차 약 10회 왕복이 게시글 조회 + 가장 느린 조회 하나 정도로 줄어듦
+ * - 동시 조회 수는 max-parallel-reads로 제한 (DB 커넥션 풀 보호). 허가를 못 받으면 요청 스레드에서 바로 실행
+ * - 열람 활동 기록(user_activities INSERT)은 응답 경로 밖에서 실행. 대기 중인 기록이 max-pending-logs를 넘으면 요청 스레드에서 기록
+ * - 게시글 본체는 요청 스레드(open-in-view 세션)에서 읽어 화면의 지연 로딩이 그대로 동작
+ * - 본문(post_contents)은 게시글 행과 따로 저장되므로 게시글 조회와 동시에 읽어 붙임
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PostDetailAssembler {
+
+    private final PostService postService;
+    private final PostContentService postContentService;
+    private final PostRepository postRepository;
+    private final PostApplicationService postApplicationService;
+    private final PostViewCounter postViewCounter;
+    private final UniqueViewerService uniqueViewerService;
+    private final LikeCountBuffer likeCountBuffer;
+    private final TrendingPostService trendingPostService;
+    private final UserStatsService userStatsService;
+    private final UserActivityService userActivityService;
+    private final UserProfileRepository userProfileRepository;
+
+    @Value("${post-detail.parallel:true}")
+    private boolean parallel;
+
+    @Value("${post-detail.max-parallel-reads:8}")
+    private int maxParallelReads;
+
+    @Value("${post-detail.max-pending-logs:64}")
+    private int maxPendingLogs;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private Semaphore readPermits;
+    private Semaphore logPermits;
+
+    /**
+     * 상세 화면 모델
+     *
+     * @param applicationStatus 지원하지 않았으면 null
+     */
+    public record PostDetailView(Post post, long viewCount, long uniqueViewers, long likeCount,
+                                 boolean isAuthor, boolean isLiked, boolean isBookmarked, boolean hasApplied,
+                                 PostApplication.ApplicationStatus applicationStatus, int applicationCount,
+                                 List<Post> authorPosts, List<Post> similarPosts,
+                                 UserStatsService.UserStats authorStats, UserProfile authorProfile) {}
+
+    @PostConstruct
+    void init() {
+        readPermits = new Semaphore(Math.max(1, maxParallelReads));
+        logPermits = new Semaphore(Math.max(1, maxPendingLogs));
+    }
+
+    /**
+     * 조회수·열람자 기록까지 포함해 상세 화면 조립
+     *
+     * @param loginUser 비로그인이면 null
+     * @param viewerKey 열람자 키 (u:사용자ID 또는 s:세션ID)
+     * @throws RuntimeException 게시글이 없으면 PostService.getPost와 같은 예외
+     */
+    public PostDetailView assemble(Long id, User loginUser, String viewerKey) {
+        Integer userId = loginUser != null ? loginUser.getId() : null;
+        // 게시글이 필요 없는 조회는 게시글 조회와 동시에 시작
+        CompletableFuture<Object[]> flags = userId != null
+                ? fork(() -> viewerFlags(id, userId))
+                : CompletableFuture.completedFuture(null);
+        CompletableFuture<Integer> applicationCount = fork(() -> postApplicationService.getApplicationCount(id));
+        CompletableFuture<List<Post>> similarPosts = fork(() -> postService.getSimilarPosts(id, 5));
+        CompletableFuture<String> content = fork(() -> postContentService.findText(id));
+
+        Post post = postService.getPost(id);
+        postContentService.attach(post, join(content));
+        Integer authorId = post.getUser().getId();
+        CompletableFuture<UserStatsService.UserStats> authorStats = fork(() -> userStatsService.getUserStats(authorId));
+        CompletableFuture<UserProfile> authorProfile = fork(() -> userProfileRepository.findByUser_Id(authorId).orElse(null));
+        CompletableFuture<List<Post>> authorPosts = fork(() -> postService.getOtherPostsByAuthor(authorId, id));
+
+        if (postViewCounter.recordView(id, viewerKey)) {
+            trendingPostService.record(post, TrendingPostService.Signal.VIEW);
+        }
+        uniqueViewerService.record(id, viewerKey);
+        if (loginUser != null) {
+            logViewAsync(loginUser, post);
+        }
+
+        Object[] row = join(flags);
+        PostApplication.ApplicationStatus applicationStatus = row != null ? (PostApplication.ApplicationStatus) row[2] : null;
+        return new PostDetailView(
+                post,
+                postViewCounter.displayCount(id, post.getViewCount()),
+                uniqueViewerService.uniqueViewers(id),
+                likeCountBuffer.displayPostCount(id, post.getLikeCount()),
+                userId != null && userId.equals(authorId),
+                row != null && ((Number) row[0]).longValue() > 0,
+                row != null && ((Number) row[1]).longValue() > 0,
+                applicationStatus != null,
+                applicationStatus,
+                join(applicationCount),
+                join(authorPosts),
+                join(similarPosts),
+                join(authorStats),
+                join(authorProfile));
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        // 남은 활동 기록을 잠시 기다렸다가 종료
+        executor.shutdown();
+        if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+            log.warn("게시글 상세 작업 종료 대기 시간 초과");
+        }
+    }
+
+    private Object[] viewerFlags(Long postId, Integer userId) {
+        List<Object[]> rows = postRepository.findViewerFlags(postId, userId);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    private <T> CompletableFuture<T> fork(Supplier<T> task) {
+        Semaphore permits = readPermits;
+        if (!parallel || !permits.tryAcquire()) {
+            try {
+                return CompletableFuture.completedFuture(task.get());
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+        try {
+            return CompletableFuture.supplyAsync(task, executor).whenComplete((result, e) -> permits.release());
+        } catch (RuntimeException e) {
+            // 종료 중이라 작업을 넣지 못함
+            permits.release();
+            return CompletableFuture.completedFuture(task.get());
+        }
+    }
+
+    private void logViewAsync(User user, Post post) {
+        Long postId = post.getId();
+        String title = post.getTitle();
+        String tags = post.getTags();
+        Runnable task = () -> {
+            try {
+                userActivityService.logViewPost(user, postId, title, tags);
+            } catch (Exception e) {
+                log.warn("게시글 열람 기록 실패 (postId={}): {}", postId, e.getMessage());
+            }
+        };
+        Semaphore permits = logPermits;
+        if (!parallel || !permits.tryAcquire()) {
+            task.run();
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            permits.release();
+            task.run();
+        }
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.studywithme.board.service;
+
+import com.example.studywithme.board.entity.Post;
+import com.example.studywithme.board.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * posts.excerpt 채우기 (컬럼 추가 전에 작성된 게시글)
+ * - 새 글·수정 글은 Post 저장 콜백이 채우므로 기존 행만 대상. id 키셋으로 batch-size개씩 읽고 배치마다 커밋
+ * - 빈 행이 더 없으면 이후 주기는 바로 끝남 (인스턴스당 한 번)
+ * - 채우기 전 행은 목록 카드에서 excerpt가 빈 문자열로 보임
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PostExcerptBackfill {
+
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${post-card.backfill-enabled:true}")
+    private boolean enabled;
+
+    @Value("${post-card.backfill-batch-size:500}")
+    private int batchSize;
+
+    private volatile boolean done;
+
+    @Scheduled(initialDelayString = "${post-card.backfill-initial-delay-ms:30000}",
+               fixedDelayString = "${post-card.backfill-interval-ms:600000}")
+    public void backfill() {
+        if (!enabled || done) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        long afterId = 0L;
+        int filled = 0;
+        try {
+            while (true) {
+                List<Object[]> rows = postRepository.findExcerptSources(afterId, PageRequest.of(0, batchSize));
+                if (rows.isEmpty()) {
+                    break;
+                }
+                transactionTemplate.executeWithoutResult(status -> {
+                    for (Object[] row : rows) {
+                        postRepository.updateExcerpt(((Number) row[0]).longValue(),
+                                Post.excerptOf(PostContentService.text(row, 1)));
+                    }
+                });
+                filled += rows.size();
+                afterId = ((Number) rows.get(rows.size() - 1)[0]).longValue();
+            }
+            done = true;
+            if (filled > 0) {
+                log.info("게시글 excerpt 채우기 완료: {}개 ({}ms)", filled, System.currentTimeMillis() - start);
+            }
+        } catch (Exception e) {
+            log.error("게시글 excerpt 채우기 실패 ({}개 처리 후, 다음 주기에 이어서)", filled, e);
+        }
+    }
+}
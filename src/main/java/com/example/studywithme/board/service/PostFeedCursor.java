@@ -0,0 +1,61 @@
+package com.example.studywithme.board.service;
+
+import com.example.studywithme.global.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 게시글 피드 커서 (클라이언트에는 Base64 URL 문자열로만 노출)
+ * - LATEST:   마지막 글의 (createdAt, id)
+ * - UNDATED:  작성 시각 없는 구간의 마지막 id (최신순 맨 뒤)
+ * - POPULAR:  마지막 글의 (popularityScore, id) - Double.toString으로 정확히 왕복
+ * - TRENDING: 트렌딩 목록 안의 위치 (목록 길이가 top-k로 제한돼 오프셋으로 충분)
+ */
+record PostFeedCursor(Kind kind, LocalDateTime createdAt, double score, long id, int offset) {
+
+    enum Kind { LATEST, UNDATED, POPULAR, TRENDING }
+
+    private static final String SEPARATOR = "|";
+
+    static PostFeedCursor latest(LocalDateTime createdAt, long id) {
+        return createdAt != null
+                ? new PostFeedCursor(Kind.LATEST, createdAt, 0, id, 0)
+                : new PostFeedCursor(Kind.UNDATED, null, 0, id, 0);
+    }
+
+    static PostFeedCursor popular(Double score, long id) {
+        return new PostFeedCursor(Kind.POPULAR, null, score != null ? score : 0.0, id, 0);
+    }
+
+    static PostFeedCursor trending(int offset) {
+        return new PostFeedCursor(Kind.TRENDING, null, 0, 0, offset);
+    }
+
+    String encode() {
+        String raw = switch (kind) {
+            case LATEST -> "L" + SEPARATOR + createdAt + SEPARATOR + id;
+            case UNDATED -> "U" + SEPARATOR + id;
+            case POPULAR -> "P" + SEPARATOR + score + SEPARATOR + id;
+            case TRENDING -> "T" + SEPARATOR + offset;
+        };
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static PostFeedCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR);
+            return switch (parts[0]) {
+                case "L" -> new PostFeedCursor(Kind.LATEST, LocalDateTime.parse(parts[1]), 0, Long.parseLong(parts[2]), 0);
+                case "U" -> new PostFeedCursor(Kind.UNDATED, null, 0, Long.parseLong(parts[1]), 0);
+                case "P" -> new PostFeedCursor(Kind.POPULAR, null, Double.parseDouble(parts[1]), Long.parseLong(parts[2]), 0);
+                case "T" -> new PostFeedCursor(Kind.TRENDING, null, 0, 0, Math.max(0, Integer.parseInt(parts[1])));
+                default -> throw new IllegalArgumentException(parts[0]);
+            };
+        } catch (RuntimeException e) {
+            throw new BadRequestException("잘못된 커서입니다.");
+        }
+    }
+}
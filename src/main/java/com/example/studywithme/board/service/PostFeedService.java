@@ -0,0 +1,152 @@
+package com.example.studywithme.board.service;
+
+import com.example.studywithme.board.dto.PostCard;
+import com.example.studywithme.board.repository.PostRepository;
+import com.example.studywithme.board.service.PostFeedCursor.Kind;
+import com.example.studywithme.global.exception.BadRequestException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 피드 커서 페이지 (무한 스크롤)
+ * - 최신순은 (created_at, id), 인기순은 (popularity_score, id) 키셋: 커서 다음 size+1개만 인덱스로 읽어 다음 페이지 여부 판단
+ *   → 깊은 페이지도 OFFSET 스캔이 없고, Page처럼 COUNT(*)를 따로 돌리지 않음
+ * - 최신순에서 작성 시각이 없는 글(개발용 데이터)은 맨 뒤에 id 역순으로 이어 붙임
+ * - 트렌딩은 메모리 상위 K개 목록 안의 위치를 커서로 사용, 신호가 없으면 인기순 커서로 대체
+ */
+@Service
+@RequiredArgsConstructor
+public class PostFeedService {
+
+    // 첫 페이지 = 모든 글보다 뒤에 있는 가상의 커서
+    private static final LocalDateTime LATEST_START = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    private final PostRepository postRepository;
+    private final TrendingPostService trendingPostService;
+
+    @Value("${post-feed.max-size:50}")
+    private int maxSize;
+
+    /**
+     * @param content    이번 페이지 게시글
+     * @param size       요청한 페이지 크기
+     * @param hasNext    다음 페이지 존재 여부
+     * @param nextCursor 다음 페이지 커서 (없으면 null)
+     */
+    public record FeedSlice(List<PostCard> content, int size, boolean hasNext, String nextCursor) {}
+
+    /**
+     * @param sort     latest | popular | trending
+     * @param category null이면 전체
+     * @param cursor   이전 응답의 nextCursor (첫 페이지는 null)
+     */
+    @Transactional(readOnly = true)
+    public FeedSlice getFeed(String sort, String category, String cursor, int size) {
+        int limit = Math.max(1, Math.min(size, maxSize));
+        String cat = category == null || category.isBlank() ? null : category.trim();
+        PostFeedCursor after = cursor == null || cursor.isBlank() ? null : PostFeedCursor.decode(cursor);
+
+        if ("trending".equals(sort)) {
+            if (after == null || after.kind() == Kind.TRENDING) {
+                Optional<FeedSlice> trending = trending(cat, after, limit);
+                if (trending.isPresent() || after != null) {
+                    return trending.orElseGet(() -> new FeedSlice(List.of(), limit, false, null));
+                }
+            }
+            sort = "popular";
+        }
+        if ("popular".equals(sort)) {
+            requireKind(after, Kind.POPULAR);
+            return popular(cat, after, limit);
+        }
+        requireKind(after, Kind.LATEST, Kind.UNDATED);
+        return latest(cat, after, limit);
+    }
+
+    private FeedSlice latest(String category, PostFeedCursor after, int limit) {
+        List<PostCard> rows = new ArrayList<>(limit + 1);
+        long undatedBefore = Long.MAX_VALUE;
+        if (after == null || after.kind() == Kind.LATEST) {
+            LocalDateTime createdAt = after != null ? after.createdAt() : LATEST_START;
+            long id = after != null ? after.id() : Long.MAX_VALUE;
+            rows.addAll(category != null
+                    ? postRepository.findLatestBeforeInCategory(category, createdAt, id, PageRequest.of(0, limit + 1))
+                    : postRepository.findLatestBefore(createdAt, id, PageRequest.of(0, limit + 1)));
+        } else {
+            undatedBefore = after.id();
+        }
+        if (rows.size() <= limit) {
+            // 작성 시각 있는 글을 다 읽음 → 작성 시각 없는 글로 이어감 (운영 DB에서는 마지막 페이지에서만 한 번)
+            PageRequest rest = PageRequest.of(0, limit + 1 - rows.size());
+            rows.addAll(category != null
+                    ? postRepository.findUndatedBeforeInCategory(category, undatedBefore, rest)
+                    : postRepository.findUndatedBefore(undatedBefore, rest));
+        }
+        return slice(rows, limit, last -> PostFeedCursor.latest(last.createdAt(), last.id()));
+    }
+
+    private FeedSlice popular(String category, PostFeedCursor after, int limit) {
+        double score = after != null ? after.score() : Double.MAX_VALUE;
+        long id = after != null ? after.id() : Long.MAX_VALUE;
+        List<PostCard> rows = category != null
+                ? postRepository.findPopularBeforeInCategory(category, score, id, PageRequest.of(0, limit + 1))
+                : postRepository.findPopularBefore(score, id, PageRequest.of(0, limit + 1));
+        return slice(rows, limit, last -> PostFeedCursor.popular(last.popularityScore(), last.id()));
+    }
+
+    private Optional<FeedSlice> trending(String category, PostFeedCursor after, int limit) {
+        return trendingPostService.ranking(category).map(ranking -> {
+            int from = Math.min(after != null ? after.offset() : 0, ranking.size());
+            int to = Math.min(from + limit, ranking.size());
+            List<Long> ids = ranking.subList(from, to);
+            boolean hasNext = to < ranking.size();
+            return new FeedSlice(loadInOrder(ids), limit, hasNext,
+                    hasNext ? PostFeedCursor.trending(to).encode() : null);
+        });
+    }
+
+    private static FeedSlice slice(List<PostCard> rows, int limit, Function<PostCard, PostFeedCursor> cursorOf) {
+        boolean hasNext = rows.size() > limit;
+        List<PostCard> content = hasNext ? rows.subList(0, limit) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(content.get(content.size() - 1)).encode() : null;
+        return new FeedSlice(content, limit, hasNext, nextCursor);
+    }
+
+    // 순위가 정해진 ID 목록을 그 순서대로 조회
+    private List<PostCard> loadInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, PostCard> byId = postRepository.findCardsByIdIn(ids).stream()
+                .collect(Collectors.toMap(PostCard::id, Function.identity()));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    // 정렬을 바꾸면 커서도 처음부터 (다른 정렬의 커서는 거부)
+    private static void requireKind(PostFeedCursor cursor, Kind... kinds) {
+        if (cursor == null) {
+            return;
+        }
+        for (Kind kind : kinds) {
+            if (cursor.kind() == kind) {
+                return;
+            }
+        }
+        throw new BadRequestException("정렬 기준과 맞지 않는 커서입니다.");
+    }
+}
@@ -1,10 +1,10 @@
 package com.example.studywithme.board.service;
 
 import com.example.studywithme.board.entity.Post;
-import com.example.studywithme.board.entity.PostLike;
 import com.example.studywithme.board.repository.PostLikeRepository;
 import com.example.studywithme.board.repository.PostRepository;
 import com.example.studywithme.notification.service.NotificationService;
+import com.example.studywithme.user.service.UserStatsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,8 +16,13 @@ public class PostLikeService {
     private final PostLikeRepository postLikeRepository;
     private final PostRepository postRepository;
     private final NotificationService notificationService;
+    private final LikeCountBuffer likeCountBuffer;
+    private final TrendingPostService trendingPostService;
+    private final UserStatsService userStatsService;
 
     // 좋아요 토글 (좋아요가 있으면 취소, 없으면 추가)
+    // - post_likes 기본키(user_id, post_id)에 대한 DELETE / INSERT IGNORE 결과로 판단해 동시 요청에도 상태가 한 번만 바뀜
+    // - like_count는 행이 실제로 바뀐 경우에만 LikeCountBuffer로 증감 (posts 행을 잠그지 않음)
     @Transactional
     public boolean toggleLike(Integer userId, Long postId) {
         if (postId == null) {
@@ -26,39 +31,34 @@ public class PostLikeService {
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."));
 
-        boolean isLiked = postLikeRepository.existsByUserIdAndPostId(userId, postId);
-
-        if (isLiked) {
+        if (postLikeRepository.deleteLike(userId, postId) > 0) {
             // 좋아요 취소
-            postLikeRepository.deleteByUserIdAndPostId(userId, postId);
-            int currentLikes = post.getLikeCount() != null ? post.getLikeCount() : 0;
-            post.setLikeCount(Math.max(0, currentLikes - 1));
-            postRepository.save(post);
+            likeCountBuffer.addPostDelta(postId, -1);
+            userStatsService.likeChanged(userId, -1);
             return false;
-        } else {
-            // 좋아요 추가
-            PostLike postLike = new PostLike();
-            postLike.setUserId(userId);
-            postLike.setPostId(postId);
-            postLikeRepository.save(postLike);
-            int currentLikes = post.getLikeCount() != null ? post.getLikeCount() : 0;
-            post.setLikeCount(currentLikes + 1);
-            postRepository.save(post);
+        }
 
-            // 알림: 게시글 작성자에게 좋아요 알림 (자기 자신 제외)
-            try {
-                if (post.getUser() != null && !post.getUser().getId().equals(userId)) {
-                    notificationService.notify(
-                            post.getUser().getId(),
-                            "POST_LIKE",
-                            "내 게시글에 좋아요가 눌렸습니다",
-                            "'" + post.getTitle() + "' 게시글에 좋아요가 추가되었습니다.",
-                            "/posts/" + postId
-                    );
-                }
-            } catch (Exception ignored) {}
+        // 좋아요 추가 (같은 사용자의 동시 요청이 먼저 추가했으면 0 → 이미 좋아요 상태)
+        if (postLikeRepository.insertIgnore(userId, postId) == 0) {
             return true;
         }
+        likeCountBuffer.addPostDelta(postId, 1);
+        userStatsService.likeChanged(userId, 1);
+        trendingPostService.record(post, TrendingPostService.Signal.LIKE);
+
+        // 알림: 게시글 작성자에게 좋아요 알림 (자기 자신 제외)
+        try {
+            if (post.getUser() != null && !post.getUser().getId().equals(userId)) {
+                notificationService.notify(
+                        post.getUser().getId(),
+                        "POST_LIKE",
+                        "내 게시글에 좋아요가 눌렸습니다",
+                        "'" + post.getTitle() + "' 게시글에 좋아요가 추가되었습니다.",
+                        "/posts/" + postId
+                );
+            }
+        } catch (Exception ignored) {}
+        return true;
     }
 
     // 좋아요 여부 확인
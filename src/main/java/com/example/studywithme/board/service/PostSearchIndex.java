@@ -0,0 +1,516 @@
+package com.example.studywithme.board.service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 전문 검색용 역색인 (BM25)
+ * - 토큰: 소문자, 글자/숫자 연속 구간. 한글이 섞인 토큰은 음절 bigram (조사가 붙어도 겹치게), 그 외는 단어 그대로
+ * - 제목·태그·본문을 하나의 필드로 색인하되 제목 3배, 태그 2배 가중 (본문은 앞 20,000자)
+ * - 검색어의 모든 토큰을 포함한 글만 결과 (AND). 검색어 단어 끝 조사 한 글자는 무시, 한 글자 한글·영문/숫자 토큰은 접두 확장 (spr → spring)
+ * - 수정/삭제는 톰스톤 방식: 이전 문서는 결과에서만 제외하고, 톰스톤이 많아지면 {@link #compact()}로 재구성
+ * - 삽입은 쓰기 락, 검색은 읽기 락 (검색끼리는 동시 실행)
+ * - {@link #save}/{@link #load}로 디스크 스냅샷
+ */
+public final class PostSearchIndex {
+
+    private static final byte[] MAGIC = "SWMSRCH1".getBytes(StandardCharsets.US_ASCII);
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int TAG_WEIGHT = 2;
+    private static final int MAX_CONTENT_CHARS = 20_000;
+    private static final int MAX_QUERY_TERMS = 16;
+    private static final int MAX_PREFIX_EXPANSION = 64;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final String PARTICLES = "을를이가은는에의로와과도만";
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ThreadLocal<Accumulator> accumulator = ThreadLocal.withInitial(Accumulator::new);
+
+    private final Map<Long, Integer> docById = new HashMap<>();
+    private final TreeMap<String, Postings> terms = new TreeMap<>();
+    private long[] ids = new long[1024];
+    private int[] lengths = new int[1024];
+    private int[] fingerprints = new int[1024];
+    private boolean[] deleted = new boolean[1024];
+    private int size;
+    private int deletedCount;
+    private long totalLength;
+
+    /**
+     * @param ids   현재 페이지의 게시글 ID (점수 내림차순)
+     * @param total 검색어에 맞는 전체 게시글 수
+     */
+    public record Hits(List<Long> ids, int total) {}
+
+    /**
+     * 살아 있는 문서 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size - deletedCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return terms.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 톰스톤 비율 (compact 판단용)
+     */
+    public double deletedRatio() {
+        lock.readLock().lock();
+        try {
+            return size == 0 ? 0.0 : (double) deletedCount / size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long[] ids() {
+        lock.readLock().lock();
+        try {
+            return docById.keySet().stream().mapToLong(Long::longValue).toArray();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 게시글을 색인합니다. 같은 ID가 있으면 이전 문서를 톰스톤 처리하고 새로 넣습니다.
+     * 내용이 이전과 같으면 아무것도 하지 않습니다.
+     *
+     * @return 색인이 바뀌었으면 true
+     */
+    public boolean add(long id, String title, String tags, String content) {
+        if (content != null && content.length() > MAX_CONTENT_CHARS) {
+            content = content.substring(0, MAX_CONTENT_CHARS);
+        }
+        int fingerprint = Objects.hash(title, tags, content);
+        Map<String, Integer> tf = new HashMap<>();
+        int length = addTerms(tf, title, TITLE_WEIGHT, false) + addTerms(tf, tags, TAG_WEIGHT, false)
+                + addTerms(tf, content, 1, false);
+
+        lock.writeLock().lock();
+        try {
+            Integer old = docById.get(id);
+            if (old != null) {
+                if (fingerprints[old] == fingerprint) {
+                    return false;
+                }
+                markDeleted(old);
+            }
+            int doc = newDoc(id, length, fingerprint);
+            docById.put(id, doc);
+            for (Map.Entry<String, Integer> e : tf.entrySet()) {
+                terms.computeIfAbsent(e.getKey(), k -> new Postings()).add(doc, e.getValue());
+            }
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean remove(long id) {
+        lock.writeLock().lock();
+        try {
+            Integer doc = docById.remove(id);
+            if (doc == null) {
+                return false;
+            }
+            markDeleted(doc);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어에 맞는 게시글 (BM25 점수 내림차순, 동점이면 최근 색인된 글 먼저)
+     */
+    public Hits search(String query, int offset, int limit) {
+        List<String> queryTerms = queryTerms(query);
+        if (queryTerms.isEmpty()) {
+            return new Hits(List.of(), 0);
+        }
+        lock.readLock().lock();
+        try {
+            if (size == deletedCount) {
+                return new Hits(List.of(), 0);
+            }
+            // 1. 검색어 토큰별 후보 용어 (접두 확장 포함). 하나라도 없으면 결과 없음
+            List<Postings[]> groups = new ArrayList<>(queryTerms.size());
+            List<Long> groupFrequency = new ArrayList<>(queryTerms.size());
+            for (String term : queryTerms) {
+                Postings[] group = lookup(term);
+                if (group.length == 0) {
+                    return new Hits(List.of(), 0);
+                }
+                long df = 0;
+                for (Postings p : group) {
+                    df += p.size;
+                }
+                groups.add(group);
+                groupFrequency.add(df);
+            }
+            // 2. 희소한 토큰부터: 첫 그룹의 문서만 후보로 두고 이후 그룹은 후보에만 점수를 더함
+            Integer[] order = new Integer[groups.size()];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> Long.compare(groupFrequency.get(a), groupFrequency.get(b)));
+
+            Accumulator acc = accumulator.get();
+            acc.reset(size);
+            double averageLength = Math.max(1.0, (double) totalLength / size);
+            for (int g = 0; g < order.length; g++) {
+                int required = (1 << g) - 1;
+                for (Postings postings : groups.get(order[g])) {
+                    double idf = Math.log(1.0 + (size - postings.size + 0.5) / (postings.size + 0.5));
+                    for (int i = 0; i < postings.size; i++) {
+                        int doc = postings.docs[i];
+                        if (deleted[doc]) {
+                            continue;
+                        }
+                        int mask = acc.mask(doc);
+                        if ((mask & required) != required) {
+                            continue;
+                        }
+                        if (g == 0 && mask == 0) {
+                            acc.touch(doc);
+                        }
+                        int f = postings.freqs[i];
+                        double norm = K1 * (1.0 - B + B * lengths[doc] / averageLength);
+                        acc.add(doc, (float) (idf * f * (K1 + 1.0) / (f + norm)), 1 << g);
+                    }
+                }
+            }
+
+            // 3. 모든 토큰을 포함한 문서만 정렬 (점수 비트 상위 32 + 문서 번호 하위 32)
+            int full = (1 << order.length) - 1;
+            long[] keys = new long[acc.touchedCount];
+            int matched = 0;
+            for (int i = 0; i < acc.touchedCount; i++) {
+                int doc = acc.touched[i];
+                if (acc.mask(doc) == full) {
+                    keys[matched++] = ((long) Float.floatToIntBits(acc.scores[doc]) << 32) | doc;
+                }
+            }
+            Arrays.sort(keys, 0, matched);
+            List<Long> page = new ArrayList<>(Math.max(0, Math.min(limit, matched - offset)));
+            for (int i = matched - 1 - offset; i >= 0 && page.size() < limit; i--) {
+                page.add(ids[(int) keys[i]]);
+            }
+            return new Hits(page, matched);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 톰스톤을 제거한 새 인덱스를 만듭니다. (기존 인덱스는 그대로, 호출 쪽에서 교체)
+     */
+    public PostSearchIndex compact() {
+        lock.readLock().lock();
+        try {
+            PostSearchIndex fresh = new PostSearchIndex();
+            int[] remap = new int[size];
+            for (int doc = 0; doc < size; doc++) {
+                if (deleted[doc]) {
+                    remap[doc] = -1;
+                } else {
+                    remap[doc] = fresh.newDoc(ids[doc], lengths[doc], fingerprints[doc]);
+                    fresh.docById.put(ids[doc], remap[doc]);
+                }
+            }
+            for (Map.Entry<String, Postings> e : terms.entrySet()) {
+                Postings source = e.getValue();
+                Postings copy = null;
+                for (int i = 0; i < source.size; i++) {
+                    int doc = remap[source.docs[i]];
+                    if (doc >= 0) {
+                        if (copy == null) {
+                            copy = new Postings();
+                        }
+                        copy.add(doc, source.freqs[i]);
+                    }
+                }
+                if (copy != null) {
+                    fresh.terms.put(e.getKey(), copy);
+                }
+            }
+            return fresh;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 임시 파일에 쓴 뒤 원자적으로 교체합니다.
+     */
+    public void save(Path target) throws IOException {
+        lock.readLock().lock();
+        try {
+            if (target.getParent() != null) {
+                Files.createDirectories(target.getParent());
+            }
+            Path tmp = target.resolveSibling(target.getFileName() + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp), 1 << 16))) {
+                out.write(MAGIC);
+                out.writeInt(size);
+                for (int doc = 0; doc < size; doc++) {
+                    out.writeLong(ids[doc]);
+                    out.writeInt(lengths[doc]);
+                    out.writeInt(fingerprints[doc]);
+                    out.writeBoolean(deleted[doc]);
+                }
+                out.writeInt(terms.size());
+                for (Map.Entry<String, Postings> e : terms.entrySet()) {
+                    Postings postings = e.getValue();
+                    out.writeUTF(e.getKey());
+                    out.writeInt(postings.size);
+                    for (int i = 0; i < postings.size; i++) {
+                        out.writeInt(postings.docs[i]);
+                        out.writeInt(postings.freqs[i]);
+                    }
+                }
+            }
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public static PostSearchIndex load(Path source) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(source), 1 << 16))) {
+            byte[] magic = new byte[MAGIC.length];
+            in.readFully(magic);
+            if (!Arrays.equals(magic, MAGIC)) {
+                throw new IOException("검색 인덱스 스냅샷 형식이 아닙니다: " + source);
+            }
+            PostSearchIndex index = new PostSearchIndex();
+            int size = in.readInt();
+            for (int doc = 0; doc < size; doc++) {
+                long id = in.readLong();
+                int length = in.readInt();
+                int fingerprint = in.readInt();
+                boolean deleted = in.readBoolean();
+                index.newDoc(id, length, fingerprint);
+                if (deleted) {
+                    index.markDeleted(doc);
+                } else {
+                    index.docById.put(id, doc);
+                }
+            }
+            int termCount = in.readInt();
+            for (int t = 0; t < termCount; t++) {
+                String term = in.readUTF();
+                int count = in.readInt();
+                Postings postings = new Postings(count);
+                for (int i = 0; i < count; i++) {
+                    postings.add(in.readInt(), in.readInt());
+                }
+                index.terms.put(term, postings);
+            }
+            return index;
+        }
+    }
+
+    /**
+     * 검색어 토큰 (중복 제거, 최대 16개)
+     */
+    static List<String> queryTerms(String query) {
+        Map<String, Integer> tf = new LinkedHashMap<>();
+        addTerms(tf, query, 1, true);
+        return tf.keySet().stream().limit(MAX_QUERY_TERMS).toList();
+    }
+
+    private Postings[] lookup(String term) {
+        Postings exact = terms.get(term);
+        boolean expandable = term.length() == 1 ? isHangul(term.charAt(0)) : !containsHangul(term, 0, term.length());
+        if (!expandable) {
+            return exact != null ? new Postings[]{exact} : new Postings[0];
+        }
+        List<Postings> group = new ArrayList<>();
+        for (Map.Entry<String, Postings> e : terms.tailMap(term, true).entrySet()) {
+            if (!e.getKey().startsWith(term) || group.size() == MAX_PREFIX_EXPANSION) {
+                break;
+            }
+            group.add(e.getValue());
+        }
+        return group.toArray(new Postings[0]);
+    }
+
+    private int newDoc(long id, int length, int fingerprint) {
+        if (size == ids.length) {
+            int capacity = size * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            lengths = Arrays.copyOf(lengths, capacity);
+            fingerprints = Arrays.copyOf(fingerprints, capacity);
+            deleted = Arrays.copyOf(deleted, capacity);
+        }
+        ids[size] = id;
+        lengths[size] = length;
+        fingerprints[size] = fingerprint;
+        totalLength += length;
+        return size++;
+    }
+
+    private void markDeleted(int doc) {
+        if (!deleted[doc]) {
+            deleted[doc] = true;
+            deletedCount++;
+        }
+    }
+
+    /**
+     * 텍스트의 토큰을 가중치만큼 누적하고 추가한 토큰 수(가중 길이)를 반환
+     *
+     * @param query true면 세 글자 이상 한글 단어 끝의 조사 한 글자를 뗌 ("알고리즘을" → "알고리즘")
+     */
+    private static int addTerms(Map<String, Integer> tf, String text, int weight, boolean query) {
+        if (text == null || text.isBlank()) {
+            return 0;
+        }
+        String lower = text.toLowerCase();
+        int length = lower.length();
+        int added = 0;
+        int start = -1;
+        for (int i = 0; i <= length; i++) {
+            boolean letter = i < length && Character.isLetterOrDigit(lower.charAt(i));
+            if (letter && start < 0) {
+                start = i;
+            } else if (!letter && start >= 0) {
+                int end = i;
+                if (query && end - start >= 3 && PARTICLES.indexOf(lower.charAt(end - 1)) >= 0
+                        && isHangul(lower.charAt(end - 2))) {
+                    end--;
+                }
+                if (containsHangul(lower, start, end) && end - start > 1) {
+                    for (int j = start; j + 1 < end; j++) {
+                        tf.merge(lower.substring(j, j + 2), weight, Integer::sum);
+                        added += weight;
+                    }
+                } else {
+                    tf.merge(lower.substring(start, end), weight, Integer::sum);
+                    added += weight;
+                }
+                start = -1;
+            }
+        }
+        return added;
+    }
+
+    private static boolean containsHangul(String text, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (isHangul(text.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isHangul(char c) {
+        return c >= '가' && c <= '힣';
+    }
+
+    /**
+     * 한 용어의 게시 목록 (문서 번호 오름차순 — 새 문서는 항상 뒤에 붙음)
+     */
+    private static final class Postings {
+        private int[] docs;
+        private int[] freqs;
+        private int size;
+
+        Postings() {
+            this(4);
+        }
+
+        Postings(int capacity) {
+            docs = new int[Math.max(1, capacity)];
+            freqs = new int[docs.length];
+        }
+
+        void add(int doc, int freq) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            docs[size] = doc;
+            freqs[size] = freq;
+            size++;
+        }
+    }
+
+    /**
+     * 검색 스레드별 점수 누적 버퍼 (세대 번호로 초기화 비용 없이 재사용)
+     */
+    private static final class Accumulator {
+        private float[] scores = new float[1024];
+        private int[] masks = new int[1024];
+        private int[] stamps = new int[1024];
+        private int[] touched = new int[256];
+        private int touchedCount;
+        private int generation;
+
+        void reset(int capacity) {
+            if (stamps.length < capacity) {
+                int grown = Math.max(capacity, stamps.length * 2);
+                scores = new float[grown];
+                masks = new int[grown];
+                stamps = new int[grown];
+                generation = 0;
+            }
+            if (++generation == Integer.MAX_VALUE) {
+                Arrays.fill(stamps, 0);
+                generation = 1;
+            }
+            touchedCount = 0;
+        }
+
+        int mask(int doc) {
+            return stamps[doc] == generation ? masks[doc] : 0;
+        }
+
+        void touch(int doc) {
+            if (touchedCount == touched.length) {
+                touched = Arrays.copyOf(touched, touchedCount * 2);
+            }
+            touched[touchedCount++] = doc;
+            stamps[doc] = generation;
+            scores[doc] = 0f;
+            masks[doc] = 0;
+        }
+
+        void add(int doc, float score, int bit) {
+            scores[doc] += score;
+            masks[doc] |= bit;
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.example.studywithme.board.service;
+
+import com.example.studywithme.board.dto.PostCard;
+import com.example.studywithme.board.entity.Post;
+import com.example.studywithme.board.repository.PostRepository;
+import com.example.studywithme.global.transaction.TransactionCallbacks;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 키워드 검색 (역색인 PostSearchIndex, BM25 순위)
+ * - 기동 시 디스크 스냅샷이 있으면 복원 후 그 이후 바뀐 게시글만 반영, 없으면 posts 전체를 id 순서로 읽어 구축
+ * - 이 인스턴스의 작성/수정/삭제는 커밋 직후 바로 반영
+ * - 주기적으로 다른 인스턴스의 변경분을 동기화하고, 변경이 있으면 스냅샷 저장
+ * - 인덱스가 준비되기 전(또는 비활성화 시)에는 기존 LIKE 검색으로 폴백
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PostSearchService {
+
+    private final PostRepository postRepository;
+
+    @Value("${post-search.enabled:true}")
+    private boolean enabled;
+
+    @Value("${post-search.snapshot-path:data/post_search.bin}")
+    private String snapshotPath;
+
+    @Value("${post-search.compact-deleted-ratio:0.2}")
+    private double compactDeletedRatio;
+
+    @Value("${post-search.batch-size:500}")
+    private int batchSize;
+
+    private final Object writeLock = new Object();
+    private volatile PostSearchIndex index;
+    private volatile boolean dirty;
+    private LocalDateTime lastSyncedAt;
+
+    public boolean isReady() {
+        return index != null;
+    }
+
+    /**
+     * 키워드 검색 (점수 내림차순 페이지, PostService.searchPosts 와 같은 형태)
+     */
+    public Page<Post> search(String keyword, Pageable pageable) {
+        PostSearchIndex current = index;
+        if (current == null || !enabled) {
+            return postRepository.searchByKeyword(keyword, pageable);
+        }
+        PostSearchIndex.Hits hits = current.search(keyword, (int) pageable.getOffset(), pageable.getPageSize());
+        if (hits.ids().isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, hits.total());
+        }
+        Map<Long, Post> byId = postRepository.findAllById(hits.ids()).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+        List<Post> posts = hits.ids().stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(posts, pageable, hits.total());
+    }
+
+    /**
+     * 키워드 검색 결과를 목록 카드로 (검색 화면, PostService.searchPosts)
+     */
+    public Page<PostCard> searchCards(String keyword, Pageable pageable) {
+        PostSearchIndex current = index;
+        if (current == null || !enabled) {
+            return postRepository.searchCardsByKeyword(keyword, pageable);
+        }
+        PostSearchIndex.Hits hits = current.search(keyword, (int) pageable.getOffset(), pageable.getPageSize());
+        if (hits.ids().isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, hits.total());
+        }
+        Map<Long, PostCard> byId = postRepository.findCardsByIdIn(hits.ids()).stream()
+                .collect(Collectors.toMap(PostCard::id, Function.identity()));
+        List<PostCard> cards = hits.ids().stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(cards, pageable, hits.total());
+    }
+
+    /**
+     * 게시글 작성/수정 후 색인 (트랜잭션 안이면 커밋 이후에 반영)
+     */
+    public void indexPost(Post post) {
+        if (post == null || post.getId() == null) {
+            return;
+        }
+        long postId = post.getId();
+        String title = post.getTitle();
+        String tags = post.getTags();
+        String content = post.getContent();
+        TransactionCallbacks.afterCommit(() -> {
+            synchronized (writeLock) {
+                if (index != null && index.add(postId, title, tags, content)) {
+                    dirty = true;
+                }
+            }
+        });
+    }
+
+    /**
+     * 게시글 삭제 시 색인에서 제거 (트랜잭션 안이면 커밋 이후에 반영)
+     */
+    public void removePost(Long postId) {
+        if (postId == null) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            synchronized (writeLock) {
+                if (index != null && index.remove(postId)) {
+                    dirty = true;
+                }
+            }
+        });
+    }
+
+    /**
+     * 최초 구축(스냅샷 복원) 및 주기적 동기화/스냅샷 저장
+     */
+    @Scheduled(initialDelayString = "${post-search.initial-delay-ms:5000}",
+               fixedDelayString = "${post-search.sync-interval-ms:60000}")
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            synchronized (writeLock) {
+                if (index == null) {
+                    initialize();
+                } else {
+                    // 다른 인스턴스가 커밋 직전에 기록한 변경을 놓치지 않도록 구간을 겹쳐서 조회
+                    syncChangedSince(lastSyncedAt.minusMinutes(5));
+                    removeMissing();
+                }
+                if (index.deletedRatio() > compactDeletedRatio) {
+                    index = index.compact();
+                    dirty = true;
+                }
+            }
+            if (dirty) {
+                dirty = false;
+                index.save(Paths.get(snapshotPath).toAbsolutePath());
+            }
+        } catch (Exception e) {
+            log.error("게시글 검색 인덱스 갱신 실패", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        PostSearchIndex current = index;
+        if (current != null && dirty) {
+            try {
+                current.save(Paths.get(snapshotPath).toAbsolutePath());
+            } catch (Exception e) {
+                log.warn("게시글 검색 인덱스 스냅샷 저장 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void initialize() throws Exception {
+        long start = System.currentTimeMillis();
+        Path path = Paths.get(snapshotPath).toAbsolutePath();
+        if (Files.exists(path)) {
+            try {
+                PostSearchIndex loaded = PostSearchIndex.load(path);
+                // 스냅샷 저장 직전 변경분을 놓치지 않도록 파일 시각보다 조금 앞에서부터 동기화
+                LocalDateTime savedAt = LocalDateTime.ofInstant(
+                        Files.getLastModifiedTime(path).toInstant(), ZoneId.systemDefault()).minusMinutes(1);
+                index = loaded;
+                syncChangedSince(savedAt);
+                removeMissing();
+                log.info("게시글 검색 인덱스 스냅샷 복원: 게시글 {}개, 용어 {}개 ({}ms)",
+                        index.size(), index.termCount(), System.currentTimeMillis() - start);
+                return;
+            } catch (Exception e) {
+                index = null;
+                log.warn("게시글 검색 인덱스 스냅샷을 읽지 못해 새로 구축합니다: {}", e.getMessage());
+            }
+        }
+
+        LocalDateTime syncStart = LocalDateTime.now();
+        PostSearchIndex built = new PostSearchIndex();
+        long afterId = 0L;
+        while (true) {
+            List<Object[]> rows = postRepository.findSearchSources(afterId, PageRequest.of(0, batchSize));
+            if (rows.isEmpty()) {
+                break;
+            }
+            for (Object[] row : rows) {
+                built.add(((Number) row[0]).longValue(), (String) row[1], (String) row[2], PostContentService.text(row, 3));
+            }
+            afterId = ((Number) rows.get(rows.size() - 1)[0]).longValue();
+        }
+        index = built;
+        lastSyncedAt = syncStart;
+        dirty = true;
+        log.info("게시글 검색 인덱스 구축 완료: 게시글 {}개, 용어 {}개 ({}ms)",
+                built.size(), built.termCount(), System.currentTimeMillis() - start);
+    }
+
+    private void syncChangedSince(LocalDateTime since) {
+        LocalDateTime syncStart = LocalDateTime.now();
+        for (Object[] row : postRepository.findSearchSourcesChangedSince(since)) {
+            // 내용이 같으면 add가 아무것도 하지 않음 (이 인스턴스에서 이미 반영한 변경)
+            if (index.add(((Number) row[0]).longValue(), (String) row[1], (String) row[2], PostContentService.text(row, 3))) {
+                dirty = true;
+            }
+        }
+        lastSyncedAt = syncStart;
+    }
+
+    /**
+     * 다른 인스턴스에서(또는 스냅샷 이후) 삭제된 게시글 제거
+     */
+    private void removeMissing() {
+        Set<Long> existing = new HashSet<>(postRepository.findAllIds());
+        for (long id : index.ids()) {
+            if (!existing.contains(id) && index.remove(id)) {
+                dirty = true;
+            }
+        }
+    }
+}
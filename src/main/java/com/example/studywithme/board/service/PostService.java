@@ -1,28 +1,54 @@
 package com.example.studywithme.board.service;
 
 import com.example.studywithme.ai.service.AITagService;
+import com.example.studywithme.ai.service.PostEmbeddingService;
+import com.example.studywithme.ai.service.SimilarPostIndexService;
+import com.example.studywithme.board.dto.PostCard;
 import com.example.studywithme.board.entity.Post;
+import com.example.studywithme.global.cache.ListingCountCache;
 import com.example.studywithme.moderation.service.ContentFilterService;
 import com.example.studywithme.user.entity.User;
 import com.example.studywithme.board.repository.PostRepository;
 import com.example.studywithme.user.repository.UserRepository;
+import com.example.studywithme.user.service.UserStatsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class PostService {
 
+    // 목록 전체 건수 캐시 키 (ListingCountCache)
+    private static final String COUNT_POSTS = "posts";
+    private static final String COUNT_CATEGORY = "posts:category";
+    private static final String COUNT_USER = "posts:user";
+
     private final PostRepository postRepository;
+    private final PostContentService postContentService;
     private final UserRepository userRepository;
     private final ContentFilterService contentFilterService;
     private final AITagService aiTagService;
+    private final PostEmbeddingService postEmbeddingService;
+    private final SimilarPostIndexService similarPostIndexService;
+    private final PostSearchService postSearchService;
+    private final UniqueViewerService uniqueViewerService;
+    private final PopularPostRanking popularPostRanking;
+    private final TrendingPostService trendingPostService;
+    private final ListingCountCache listingCountCache;
+    private final FeedPageCache feedPageCache;
+    private final UserStatsService userStatsService;
 
     // 게시글 작성
     @Transactional
@@ -51,6 +77,7 @@ public class PostService {
             postRepository.delete(savedPost);
             throw new RuntimeException("게시글이 차단되었습니다: " + filterResult.getBlockReason());
         }
+        postContentService.save(savedPost);
 
         // AI 기반 카테고리/태그 자동 보정
         try {
@@ -92,6 +119,13 @@ public class PostService {
             // 필요시 로그만 남기고 무시
         }
 
+        // 커밋 후 임베딩 계산 (비동기 배치) / 검색 인덱스 반영
+        postEmbeddingService.requestEmbedding(savedPost.getId());
+        postSearchService.indexPost(savedPost);
+        popularPostRanking.postCreated(savedPost);
+        adjustListingCounts(savedPost, 1);
+        feedPageCache.postChanged(savedPost.getCategory());
+        userStatsService.postCreated(userId);
         return savedPost;
     }
 
@@ -115,6 +149,7 @@ public class PostService {
             throw new RuntimeException("게시글이 차단되었습니다: " + filterResult.getBlockReason());
         }
 
+        String previousCategory = post.getCategory();
         post.setTitle(title);
         post.setContent(content);
         post.setCategory(category);
@@ -152,7 +187,18 @@ public class PostService {
             // AI 태그 추천 실패 시에는 기존 카테고리/태그 유지
         }
 
-        return postRepository.save(post);
+        Post savedPost = postRepository.save(post);
+        postContentService.save(savedPost);
+        postEmbeddingService.requestEmbedding(savedPost.getId());
+        postSearchService.indexPost(savedPost);
+        popularPostRanking.postUpdated(savedPost.getId());
+        trendingPostService.postUpdated(savedPost);
+        if (!Objects.equals(previousCategory, savedPost.getCategory())) {
+            adjustCategoryCount(previousCategory, -1);
+            adjustCategoryCount(savedPost.getCategory(), 1);
+        }
+        feedPageCache.postChanged(previousCategory, savedPost.getCategory());
+        return savedPost;
     }
 
     /**
@@ -232,59 +278,125 @@ public class PostService {
             throw new RuntimeException("게시글을 삭제할 권한이 없습니다.");
         }
 
+        postEmbeddingService.removeEmbedding(postId);
+        postSearchService.removePost(postId);
+        uniqueViewerService.removePost(postId);
+        popularPostRanking.postDeleted(post);
+        trendingPostService.postDeleted(postId);
+        adjustListingCounts(post, -1);
+        feedPageCache.postChanged(post.getCategory());
+        userStatsService.postDeleted(postId, userId);
+        postContentService.removePost(postId);
         postRepository.delete(post);
     }
 
-    // 게시글 상세 조회 (조회수 증가, 좋아요 수 동기화)
-    @Transactional
+    // 게시글 상세 조회 (조회수는 PostViewCounter가 버퍼링 후 일괄 반영)
+    @Transactional(readOnly = true)
     public Post getPost(Long postId) {
         if (postId == null) {
             throw new RuntimeException("게시글 ID가 필요합니다.");
         }
-        Post post = postRepository.findByIdWithUser(postId)
+        return postRepository.findByIdWithUser(postId)
                 .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."));
+    }
 
-        // 조회수 증가
-        Integer currentViews = post.getViewCount() != null ? post.getViewCount() : 0;
-        post.setViewCount(currentViews + 1);
-        
-        // 좋아요 수 동기화 (실제 DB의 좋아요 수와 동기화)
-        // PostLikeService를 주입받아 사용하거나, 여기서 직접 카운트할 수 있음
-        // 일단은 기존 likeCount를 유지
-        
-        postRepository.save(post);
-
-        return post;
+    // 게시글 + 본문 조회 (상세·수정·AI 요약, 본문은 post_contents에서 따로 읽음)
+    @Transactional(readOnly = true)
+    public Post getPostWithContent(Long postId) {
+        return postContentService.load(getPost(postId));
     }
 
-    // 게시글 목록 조회 (최신순 또는 인기순)
+    // 게시글 목록 조회 (최신순, 인기순 또는 트렌딩)
+    // 인기순 앞쪽 페이지는 메모리 상위 K개(PopularPostRanking)에서 ID만 받아 PK 조회, 그 뒤는 popularity_score 인덱스 정렬
+    // 트렌딩은 시간 감쇠 점수 상위 K개 힙(TrendingPostService) 순서, 신호가 없으면 인기순
     @Transactional(readOnly = true)
-    public Page<Post> getPosts(Pageable pageable, String sort) {
+    public Page<PostCard> getPosts(Pageable pageable, String sort) {
+        if ("trending".equals(sort)) {
+            Optional<Page<PostCard>> trending = trendingPostService.page(null, pageable)
+                    .map(page -> loadRanked(page.ids(), page.total(), pageable));
+            if (trending.isPresent()) {
+                return trending.get();
+            }
+            sort = "popular";
+        }
         if ("popular".equals(sort)) {
-            return postRepository.findAllByOrderByPopularityDesc(pageable);
+            return popularPostRanking.page(null, pageable)
+                    .map(ranked -> loadRanked(ranked.ids(), ranked.total(), pageable))
+                    .orElseGet(() -> allPostsPage(postRepository.findCardsPopular(pageable)));
         }
-        return postRepository.findAllByOrderByCreatedAtDesc(pageable);
+        return allPostsPage(postRepository.findCardsLatest(pageable));
     }
 
-    // 카테고리별 게시글 조회 (최신순 또는 인기순)
+    // 카테고리별 게시글 조회 (최신순, 인기순 또는 트렌딩)
     @Transactional(readOnly = true)
-    public Page<Post> getPostsByCategory(String category, Pageable pageable, String sort) {
+    public Page<PostCard> getPostsByCategory(String category, Pageable pageable, String sort) {
+        if ("trending".equals(sort)) {
+            Optional<Page<PostCard>> trending = trendingPostService.page(category, pageable)
+                    .map(page -> loadRanked(page.ids(), page.total(), pageable));
+            if (trending.isPresent()) {
+                return trending.get();
+            }
+            sort = "popular";
+        }
         if ("popular".equals(sort)) {
-            return postRepository.findByCategoryOrderByPopularityDesc(category, pageable);
+            return popularPostRanking.page(category, pageable)
+                    .map(ranked -> loadRanked(ranked.ids(), ranked.total(), pageable))
+                    .orElseGet(() -> categoryPage(category, postRepository.findCardsByCategoryPopular(category, pageable)));
         }
-        return postRepository.findByCategoryOrderByCreatedAtDesc(category, pageable);
+        return categoryPage(category, postRepository.findCardsByCategoryLatest(category, pageable));
+    }
+
+    // Slice + 캐시된 전체 건수 (COUNT(*)는 캐시에 없을 때와 주기적 재계산 때만)
+    private Page<PostCard> allPostsPage(Slice<PostCard> slice) {
+        return listingCountCache.page(COUNT_POSTS, slice, postRepository::count);
+    }
+
+    private Page<PostCard> categoryPage(String category, Slice<PostCard> slice) {
+        return listingCountCache.page(ListingCountCache.key(COUNT_CATEGORY, category), slice,
+                () -> postRepository.countInCategory(category));
+    }
+
+    // 목록 건수 캐시 증감 (전체, 카테고리, 작성자)
+    private void adjustListingCounts(Post post, long delta) {
+        listingCountCache.adjust(COUNT_POSTS, delta);
+        adjustCategoryCount(post.getCategory(), delta);
+        if (post.getUser() != null) {
+            listingCountCache.adjust(ListingCountCache.key(COUNT_USER, post.getUser().getId()), delta);
+        }
+    }
+
+    private void adjustCategoryCount(String category, long delta) {
+        if (category != null) {
+            listingCountCache.adjust(ListingCountCache.key(COUNT_CATEGORY, category), delta);
+        }
+    }
+
+    // 순위가 정해진 ID 목록을 그 순서대로 조회
+    private Page<PostCard> loadRanked(List<Long> ids, long total, Pageable pageable) {
+        if (ids.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, total);
+        }
+        Map<Long, PostCard> byId = postRepository.findCardsByIdIn(ids).stream()
+                .collect(Collectors.toMap(PostCard::id, Function.identity()));
+        List<PostCard> posts = ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(posts, pageable, total);
     }
 
     // 사용자별 게시글 조회
     @Transactional(readOnly = true)
-    public Page<Post> getPostsByUserId(Integer userId, Pageable pageable) {
-        return postRepository.findByUser_IdOrderByCreatedAtDesc(userId, pageable);
+    public Page<PostCard> getPostsByUserId(Integer userId, Pageable pageable) {
+        return listingCountCache.page(ListingCountCache.key(COUNT_USER, userId),
+                postRepository.findCardsByUserId(userId, pageable),
+                () -> postRepository.countByUser_Id(userId));
     }
 
-    // 게시글 검색
+    // 게시글 검색 (역색인 BM25 순위, 인덱스 준비 전에는 LIKE 검색)
     @Transactional(readOnly = true)
-    public Page<Post> searchPosts(String keyword, Pageable pageable) {
-        return postRepository.searchByKeyword(keyword, pageable);
+    public Page<PostCard> searchPosts(String keyword, Pageable pageable) {
+        return postSearchService.searchCards(keyword, pageable);
     }
 
     // 게시글 존재 여부 확인
@@ -317,9 +429,28 @@ public class PostService {
             }
         }
 
+        if (updated > 0) {
+            listingCountCache.invalidate(COUNT_CATEGORY);
+            feedPageCache.clear();
+        }
         return updated;
     }
 
+    // 내용이 비슷한 게시글 (임베딩 HNSW 인덱스, 유사도 순서 유지)
+    @Transactional(readOnly = true)
+    public List<Post> getSimilarPosts(Long postId, int limit) {
+        List<Long> ids = similarPostIndexService.findSimilarPostIds(postId, limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Post> byId = postRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
     // 작성자의 다른 게시글 상위 5개
     @Transactional(readOnly = true)
     public java.util.List<Post> getOtherPostsByAuthor(Integer userId, Long excludePostId) {
@@ -0,0 +1,193 @@
+package com.example.studywithme.board.service;
+
+import com.example.studywithme.board.repository.PostRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수 버퍼
+ * - 조회 시 DB에 쓰지 않고 게시글별 LongAdder(스레드 경합 시 내부 셀로 분산되는 카운터)에만 더함
+ * - flush-interval-ms마다 쌓인 증가분을 "view_count = view_count + ?" 로 반영
+ *   (증가분이 같은 게시글끼리 묶어 UPDATE ... WHERE id IN (...) 한 문장, 한 트랜잭션, popularity_score도 함께 재계산)
+ * - 같은 세션이 dedupe-minutes 안에 같은 글을 다시 열면 세지 않음 (선택)
+ *   기록은 키 단위 compute로 판단(동시 요청 중 하나만 셈), max-entries를 넘으면 만료된 것과 가장 오래된 기록부터 지움
+ * - 반영 실패 시 증가분을 버퍼에 되돌려 다음 주기에 재시도. 종료 시 @PreDestroy로 비움
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PostViewCounter {
+
+    private static final int MAX_IDS_PER_UPDATE = 1000;
+
+    private final PostRepository postRepository;
+    private final PopularPostRanking popularPostRanking;
+    private final FeedPageCache feedPageCache;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${post-view.dedupe.enabled:true}")
+    private boolean dedupeEnabled;
+
+    @Value("${post-view.dedupe.minutes:30}")
+    private long dedupeMinutes;
+
+    @Value("${post-view.dedupe.max-entries:100000}")
+    private int dedupeMaxEntries;
+
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Long> recentViews = new ConcurrentHashMap<>();
+    private final Object flushLock = new Object();
+    private final Object trimLock = new Object();
+
+    /**
+     * 조회 1회 기록
+     *
+     * @param viewerKey 중복 제거 기준 (세션 ID 등, null이면 항상 셈)
+     * @return 실제로 센 경우 true
+     */
+    public boolean recordView(Long postId, String viewerKey) {
+        if (postId == null) {
+            return false;
+        }
+        if (dedupeEnabled && viewerKey != null && !markViewed(viewerKey + ":" + postId)) {
+            return false;
+        }
+        pending.computeIfAbsent(postId, id -> new LongAdder()).increment();
+        return true;
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수
+     */
+    public long pendingViews(Long postId) {
+        LongAdder adder = pending.get(postId);
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    /**
+     * DB 값 + 버퍼 증가분 (화면 표시용)
+     */
+    public long displayCount(Long postId, Integer storedViewCount) {
+        return (storedViewCount != null ? storedViewCount : 0) + pendingViews(postId);
+    }
+
+    @Scheduled(fixedDelayString = "${post-view.flush-interval-ms:5000}")
+    public void flush() {
+        synchronized (flushLock) {
+            Map<Long, Long> deltas = drain();
+            if (!deltas.isEmpty()) {
+                write(deltas);
+            }
+            evictExpiredViews();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    /**
+     * 버퍼의 증가분을 꺼냄. 증가분이 없던 게시글 항목은 지워 맵이 계속 커지지 않게 함
+     */
+    private Map<Long, Long> drain() {
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Map.Entry<Long, LongAdder> e : pending.entrySet()) {
+            long delta = e.getValue().sumThenReset();
+            if (delta > 0) {
+                deltas.put(e.getKey(), delta);
+            } else if (pending.remove(e.getKey(), e.getValue())) {
+                // 지우는 사이에 들어온 증가분은 다음 주기로 넘김
+                long late = e.getValue().sumThenReset();
+                if (late > 0) {
+                    pending.computeIfAbsent(e.getKey(), id -> new LongAdder()).add(late);
+                }
+            }
+        }
+        return deltas;
+    }
+
+    private void write(Map<Long, Long> deltas) {
+        Map<Long, List<Long>> idsByDelta = new HashMap<>();
+        deltas.forEach((postId, delta) -> idsByDelta.computeIfAbsent(delta, d -> new ArrayList<>()).add(postId));
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    idsByDelta.forEach((delta, ids) -> {
+                        for (int from = 0; from < ids.size(); from += MAX_IDS_PER_UPDATE) {
+                            List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + MAX_IDS_PER_UPDATE));
+                            postRepository.incrementViewCounts(chunk, delta);
+                            postRepository.refreshPopularityScores(chunk);
+                        }
+                    }));
+            log.debug("조회수 반영: 게시글 {}개, UPDATE {}회", deltas.size(), idsByDelta.size());
+            popularPostRanking.postsChanged(deltas.keySet());
+            feedPageCache.popularityChanged(deltas.keySet());
+        } catch (Exception e) {
+            log.warn("조회수 반영 실패, 다음 주기에 재시도: 게시글 {}개 ({})", deltas.size(), e.getMessage());
+            deltas.forEach((postId, delta) -> pending.computeIfAbsent(postId, id -> new LongAdder()).add(delta));
+        }
+    }
+
+    /**
+     * 중복 제거 기록. 처음이거나 이전 기록이 만료됐으면 기록하고 true
+     */
+    private boolean markViewed(String key) {
+        long now = System.currentTimeMillis();
+        long until = now + dedupeMinutes * 60_000L;
+        boolean[] counted = new boolean[1];
+        recentViews.compute(key, (k, previous) -> {
+            if (previous != null && previous > now) {
+                return previous;
+            }
+            counted[0] = true;
+            return until;
+        });
+        if (counted[0] && recentViews.size() > dedupeMaxEntries) {
+            trimRecentViews(now, key);
+        }
+        return counted[0];
+    }
+
+    /**
+     * 중복 제거 기록이 max-entries를 넘으면 만료된 기록, 그래도 많으면 가장 오래된 기록부터 지움 (90%까지, 방금 기록한 키는 남김)
+     */
+    private void trimRecentViews(long now, String keep) {
+        synchronized (trimLock) {
+            if (recentViews.size() <= dedupeMaxEntries) {
+                return;
+            }
+            recentViews.values().removeIf(until -> until <= now);
+            int excess = recentViews.size() - dedupeMaxEntries / 10 * 9;
+            if (excess <= 0) {
+                return;
+            }
+            recentViews.entrySet().stream()
+                    .filter(e -> !e.getKey().equals(keep))
+                    .sorted(Map.Entry.comparingByValue())
+                    .limit(excess)
+                    .toList()
+                    .forEach(e -> recentViews.remove(e.getKey(), e.getValue()));
+            log.debug("조회 중복 제거 기록 정리: {}개 제거", excess);
+        }
+    }
+
+    private void evictExpiredViews() {
+        if (recentViews.isEmpty()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        recentViews.values().removeIf(until -> until <= now);
+    }
+}
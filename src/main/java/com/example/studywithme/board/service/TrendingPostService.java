@@ -0,0 +1,324 @@
+package com.example.studywithme.board.service;
+
+import com.example.studywithme.board.entity.Post;
+import com.example.studywithme.board.repository.PostRepository;
+import com.example.studywithme.global.transaction.TransactionCallbacks;
+import com.example.studywithme.user.entity.UserActivity.ActionType;
+import com.example.studywithme.user.repository.UserActivityRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 트렌딩 게시글 (시간 감쇠 점수, TrendingScores)
+ * - 조회·좋아요·댓글·북마크가 생길 때마다 가중치만큼 점수를 더하고, 점수는 half-life-hours마다 절반으로 식음
+ * - 전체/카테고리별 상위 top-k개를 힙으로 유지해 sort=trending 목록은 정렬 쿼리 없이 PK 조회만
+ * - 기동 시 디스크 스냅샷이 있으면 복원, 없으면 최근 seed-days일 활동 로그(user_activity)로 초기 점수를 만듦
+ * - maintain-interval-ms마다 식은 게시글을 정리하고 스냅샷 저장 (인스턴스별 점수)
+ * - 취소(좋아요·북마크 해제)는 점수를 빼지 않음. 점수가 늘기만 해야 힙이 항상 정확하고, 취소된 신호도 곧 식음
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TrendingPostService {
+
+    public enum Signal { VIEW, LIKE, COMMENT, BOOKMARK }
+
+    private static final int LOOKUP_CHUNK = 1000;
+
+    private final PostRepository postRepository;
+    private final UserActivityRepository userActivityRepository;
+
+    @Value("${trending.enabled:true}")
+    private boolean enabled;
+
+    @Value("${trending.half-life-hours:12}")
+    private double halfLifeHours;
+
+    @Value("${trending.top-k:200}")
+    private int topK;
+
+    @Value("${trending.min-score:0.05}")
+    private double minScore;
+
+    @Value("${trending.seed-days:3}")
+    private int seedDays;
+
+    @Value("${trending.snapshot-path:data/trending.bin}")
+    private String snapshotPath;
+
+    @Value("${trending.weight.view:1}")
+    private double viewWeight;
+
+    @Value("${trending.weight.like:3}")
+    private double likeWeight;
+
+    @Value("${trending.weight.comment:5}")
+    private double commentWeight;
+
+    @Value("${trending.weight.bookmark:4}")
+    private double bookmarkWeight;
+
+    private TrendingScores scores;
+    private volatile boolean ready;
+    private boolean dirty;
+
+    /**
+     * @param ids   순서대로의 게시글 ID
+     * @param total 트렌딩 목록 전체 길이 (최대 top-k)
+     */
+    public record TrendingPage(List<Long> ids, long total) {}
+
+    /**
+     * 신호 1회 반영 (트랜잭션 안이면 커밋 이후에 반영)
+     */
+    public void record(Post post, Signal signal) {
+        if (!enabled || post == null || post.getId() == null) {
+            return;
+        }
+        long postId = post.getId();
+        String category = post.getCategory();
+        double weight = weight(signal);
+        TransactionCallbacks.afterCommit(() -> {
+            synchronized (this) {
+                scores().add(postId, category, weight, System.currentTimeMillis());
+                dirty = true;
+            }
+        });
+    }
+
+    /**
+     * 트렌딩 페이지 (준비 전이거나 해당 카테고리에 신호가 하나도 없으면 empty → 호출한 쪽이 인기순으로 대체)
+     *
+     * @param category null이면 전체
+     */
+    public Optional<TrendingPage> page(String category, Pageable pageable) {
+        return ranking(category).map(ranking -> {
+            long from = Math.min(pageable.getOffset(), ranking.size());
+            long to = Math.min(from + pageable.getPageSize(), ranking.size());
+            return new TrendingPage(ranking.subList((int) from, (int) to), ranking.size());
+        });
+    }
+
+    /**
+     * 트렌딩 순서의 게시글 ID 전체 (최대 top-k, 준비 전이거나 비어 있으면 empty)
+     *
+     * @param category null이면 전체
+     */
+    public Optional<List<Long>> ranking(String category) {
+        if (!enabled || !ready) {
+            return Optional.empty();
+        }
+        List<Long> ranking;
+        synchronized (this) {
+            ranking = scores.ranking(category);
+        }
+        return ranking.isEmpty() ? Optional.empty() : Optional.of(ranking);
+    }
+
+    /**
+     * 게시글 수정 (카테고리 변경 반영, 트랜잭션 안이면 커밋 이후에 반영)
+     */
+    public void postUpdated(Post post) {
+        if (post == null || post.getId() == null) {
+            return;
+        }
+        long postId = post.getId();
+        String category = post.getCategory();
+        TransactionCallbacks.afterCommit(() -> {
+            synchronized (this) {
+                scores().updateCategory(postId, category);
+            }
+        });
+    }
+
+    /**
+     * 게시글 삭제 (트랜잭션 안이면 커밋 이후에 반영)
+     */
+    public void postDeleted(Long postId) {
+        if (postId == null) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            synchronized (this) {
+                scores().remove(postId);
+                dirty = true;
+            }
+        });
+    }
+
+    /**
+     * 최초 복원(스냅샷 또는 활동 로그) 및 주기적 정리/스냅샷 저장
+     */
+    @Scheduled(initialDelayString = "${trending.initial-delay-ms:4000}",
+               fixedDelayString = "${trending.maintain-interval-ms:60000}")
+    public void maintain() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            if (!ready) {
+                initialize();
+                ready = true;
+            }
+            synchronized (this) {
+                int removed = scores().rebase(System.currentTimeMillis(), minScore);
+                if (removed > 0) {
+                    dirty = true;
+                }
+            }
+            saveIfDirty();
+        } catch (Exception e) {
+            log.error("트렌딩 점수 갱신 실패", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (ready) {
+            saveIfDirty();
+        }
+    }
+
+    private void initialize() throws Exception {
+        long start = System.currentTimeMillis();
+        Path path = Paths.get(snapshotPath).toAbsolutePath();
+        if (Files.exists(path)) {
+            try {
+                TrendingScores loaded = new TrendingScores(topK, halfLifeHours, start);
+                int count = loaded.load(path);
+                synchronized (this) {
+                    // 복원 전에 들어온 신호는 새 점수에 더함 (같은 landmark가 아니므로 현재 기준 값으로 옮김)
+                    if (scores != null) {
+                        long now = System.currentTimeMillis();
+                        for (Long postId : scores.postIds()) {
+                            loaded.add(postId, null, scores.currentScore(postId, now), now);
+                        }
+                    }
+                    scores = loaded;
+                }
+                dropDeletedPosts();
+                log.info("트렌딩 점수 스냅샷 복원: 게시글 {}개 ({}ms)", count, System.currentTimeMillis() - start);
+                return;
+            } catch (Exception e) {
+                log.warn("트렌딩 스냅샷을 읽지 못해 활동 로그로 새로 만듭니다: {}", e.getMessage());
+            }
+        }
+        seedFromActivity(start);
+    }
+
+    /**
+     * 최근 활동 로그로 초기 점수 구성 (로그인 사용자 활동만 남아 있으므로 비로그인 조회는 빠짐)
+     */
+    private void seedFromActivity(long start) {
+        LocalDateTime since = LocalDateTime.now().minusDays(seedDays);
+        List<Object[]> rows = userActivityRepository.findPostSignalsSince(
+                List.of(ActionType.CLICK, ActionType.LIKE, ActionType.COMMENT, ActionType.BOOKMARK), since);
+        Map<Long, String> categories = lookupCategories(rows.stream().map(row -> (Long) row[0]).distinct().toList());
+        int seeded = 0;
+        synchronized (this) {
+            TrendingScores target = scores();
+            for (Object[] row : rows) {
+                Long postId = (Long) row[0];
+                if (!categories.containsKey(postId)) {
+                    continue; // 삭제된 게시글
+                }
+                long at = row[2] != null
+                        ? ((LocalDateTime) row[2]).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                        : start;
+                target.add(postId, categories.get(postId), weight(toSignal((ActionType) row[1])), at);
+                seeded++;
+            }
+            dirty = true;
+        }
+        log.info("트렌딩 점수 초기화: 활동 {}건, 게시글 {}개 ({}ms)", seeded, categories.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 스냅샷 이후 삭제된 게시글 제거
+     */
+    private void dropDeletedPosts() {
+        List<Long> ids;
+        synchronized (this) {
+            ids = new ArrayList<>(scores.postIds());
+        }
+        Map<Long, String> existing = lookupCategories(ids);
+        synchronized (this) {
+            for (Long id : ids) {
+                if (!existing.containsKey(id)) {
+                    scores.remove(id);
+                    dirty = true;
+                } else {
+                    scores.updateCategory(id, existing.get(id));
+                }
+            }
+        }
+    }
+
+    private Map<Long, String> lookupCategories(List<Long> ids) {
+        Map<Long, String> categories = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += LOOKUP_CHUNK) {
+            for (Object[] row : postRepository.findPopularityRows(ids.subList(from, Math.min(ids.size(), from + LOOKUP_CHUNK)))) {
+                categories.put(((Number) row[0]).longValue(), (String) row[1]);
+            }
+        }
+        return categories;
+    }
+
+    private void saveIfDirty() {
+        synchronized (this) {
+            if (!dirty || scores == null) {
+                return;
+            }
+            try {
+                scores.save(Paths.get(snapshotPath).toAbsolutePath(), System.currentTimeMillis());
+                dirty = false;
+            } catch (Exception e) {
+                log.warn("트렌딩 스냅샷 저장 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 초기화 전에 들어온 신호도 받을 수 있도록 필요할 때 생성 (this 잠금 안에서 호출)
+     */
+    private TrendingScores scores() {
+        if (scores == null) {
+            scores = new TrendingScores(topK, halfLifeHours, System.currentTimeMillis());
+        }
+        return scores;
+    }
+
+    private double weight(Signal signal) {
+        return switch (signal) {
+            case VIEW -> viewWeight;
+            case LIKE -> likeWeight;
+            case COMMENT -> commentWeight;
+            case BOOKMARK -> bookmarkWeight;
+        };
+    }
+
+    private static Signal toSignal(ActionType actionType) {
+        return switch (actionType) {
+            case LIKE -> Signal.LIKE;
+            case COMMENT -> Signal.COMMENT;
+            case BOOKMARK -> Signal.BOOKMARK;
+            default -> Signal.VIEW;
+        };
+    }
+}
@@ -0,0 +1,286 @@
+package com.example.studywithme.board.service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * 게시글 트렌딩 점수 (지수 감쇠) + 전체/카테고리별 상위 K개 힙
+ * - 점수는 기준 시각(landmark) 단위로 저장: 신호 가중치 × 2^((발생 시각 - landmark) / 반감기)
+ *   → 시간이 흘러도 저장된 값끼리의 순서는 그대로라 매번 전체를 감쇠시킬 필요가 없고, 현재 값은 조회 시 2^(-(now - landmark)/반감기)를 곱함
+ * - 점수는 늘기만 하므로 상위 K개 최소 힙을 신호마다 갱신하면 항상 정확한 상위 K개가 유지됨
+ * - 값이 너무 커지기 전에 {@link #rebase}로 landmark를 현재로 옮김
+ * - 스레드 안전하지 않음 (TrendingPostService가 동기화)
+ * - {@link #save}/{@link #load}로 디스크 스냅샷 (저장 시각 기준으로 감쇠된 값)
+ */
+final class TrendingScores {
+
+    private static final byte[] MAGIC = "SWMTRND1".getBytes(StandardCharsets.US_ASCII);
+    static final String ALL = "";
+
+    private final int topK;
+    private final double halfLifeMillis;
+    private long landmarkMillis;
+
+    private final Map<Long, Trend> trends = new HashMap<>();
+    private final Map<String, TopK> tops = new HashMap<>();
+
+    private static final class Trend {
+        double score;
+        String category;
+    }
+
+    private record Node(long id, double score) {}
+
+    private static final Comparator<Node> ASCENDING = Comparator.comparingDouble(Node::score)
+            .thenComparingLong(Node::id);
+
+    /**
+     * 상위 K개 최소 힙 (루트가 K번째). 정렬된 목록은 바뀐 뒤 처음 읽을 때만 만듦
+     */
+    private static final class TopK {
+        final PriorityQueue<Node> heap = new PriorityQueue<>(ASCENDING);
+        final Map<Long, Node> members = new HashMap<>();
+        List<Long> sorted;
+
+        void offer(long id, double score, int k) {
+            Node previous = members.get(id);
+            Node node = new Node(id, score);
+            if (previous != null) {
+                heap.remove(previous);
+            } else if (heap.size() >= k) {
+                if (ASCENDING.compare(node, heap.peek()) <= 0) {
+                    return;
+                }
+                members.remove(heap.poll().id());
+            }
+            heap.add(node);
+            members.put(id, node);
+            sorted = null;
+        }
+
+        void remove(long id) {
+            Node node = members.remove(id);
+            if (node != null) {
+                heap.remove(node);
+                sorted = null;
+            }
+        }
+
+        List<Long> sorted() {
+            if (sorted == null) {
+                List<Node> nodes = new ArrayList<>(heap);
+                nodes.sort(ASCENDING.reversed());
+                List<Long> ids = new ArrayList<>(nodes.size());
+                for (Node node : nodes) {
+                    ids.add(node.id());
+                }
+                sorted = List.copyOf(ids);
+            }
+            return sorted;
+        }
+    }
+
+    TrendingScores(int topK, double halfLifeHours, long nowMillis) {
+        this.topK = topK;
+        this.halfLifeMillis = halfLifeHours * 3_600_000d;
+        this.landmarkMillis = nowMillis;
+    }
+
+    int size() {
+        return trends.size();
+    }
+
+    /**
+     * 신호 1회 반영
+     *
+     * @param weight 현재 시각 기준 가중치
+     */
+    void add(long postId, String category, double weight, long atMillis) {
+        Trend trend = trends.computeIfAbsent(postId, id -> new Trend());
+        if (category != null && !category.equals(trend.category)) {
+            moveCategory(postId, trend, category);
+        }
+        trend.score += weight * Math.pow(2, (atMillis - landmarkMillis) / halfLifeMillis);
+        offer(postId, trend);
+    }
+
+    /**
+     * 카테고리 변경 (게시글 수정)
+     */
+    void updateCategory(long postId, String category) {
+        Trend trend = trends.get(postId);
+        if (trend != null && category != null && !category.equals(trend.category)) {
+            moveCategory(postId, trend, category);
+            offer(postId, trend);
+        }
+    }
+
+    void remove(long postId) {
+        Trend trend = trends.remove(postId);
+        if (trend != null) {
+            removeFromTops(postId, trend.category);
+        }
+    }
+
+    /**
+     * 트렌딩 순서의 게시글 ID (상위 K개)
+     */
+    List<Long> ranking(String category) {
+        TopK top = tops.get(category == null || category.isBlank() ? ALL : category);
+        return top != null ? top.sorted() : List.of();
+    }
+
+    /**
+     * 현재 시각 기준 감쇠된 점수
+     */
+    double currentScore(long postId, long nowMillis) {
+        Trend trend = trends.get(postId);
+        return trend != null ? trend.score * decayFactor(nowMillis) : 0.0;
+    }
+
+    /**
+     * landmark를 현재로 옮기고(값을 현재 기준으로 환산), minScore 미만으로 식은 게시글 제거
+     *
+     * @return 제거한 게시글 수
+     */
+    int rebase(long nowMillis, double minScore) {
+        double factor = decayFactor(nowMillis);
+        landmarkMillis = nowMillis;
+        int removed = 0;
+        for (var it = trends.entrySet().iterator(); it.hasNext(); ) {
+            Trend trend = it.next().getValue();
+            trend.score *= factor;
+            if (trend.score < minScore) {
+                it.remove();
+                removed++;
+            }
+        }
+        rebuildTops();
+        return removed;
+    }
+
+    /**
+     * 저장 대상 게시글 ID (존재 확인·카테고리 보정용)
+     */
+    Set<Long> postIds() {
+        return trends.keySet();
+    }
+
+    /**
+     * 임시 파일에 쓴 뒤 원자적으로 교체합니다. 값은 nowMillis 기준으로 감쇠해 저장
+     */
+    void save(Path target, long nowMillis) throws IOException {
+        if (target.getParent() != null) {
+            Files.createDirectories(target.getParent());
+        }
+        double factor = decayFactor(nowMillis);
+        Path tmp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp), 1 << 16))) {
+            out.write(MAGIC);
+            out.writeLong(nowMillis);
+            out.writeInt(trends.size());
+            for (Map.Entry<Long, Trend> e : trends.entrySet()) {
+                out.writeLong(e.getKey());
+                out.writeDouble(e.getValue().score * factor);
+                out.writeUTF(e.getValue().category != null ? e.getValue().category : "");
+            }
+        }
+        Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 스냅샷의 점수를 더함 (저장 시각 기준 값을 그 시각의 신호로 취급)
+     *
+     * @return 읽은 게시글 수
+     */
+    int load(Path source) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(source), 1 << 16))) {
+            byte[] magic = new byte[MAGIC.length];
+            in.readFully(magic);
+            if (!Arrays.equals(magic, MAGIC)) {
+                throw new IOException("트렌딩 스냅샷 형식이 아닙니다: " + source);
+            }
+            long savedAt = in.readLong();
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                long postId = in.readLong();
+                double score = in.readDouble();
+                String category = in.readUTF();
+                add(postId, category.isEmpty() ? null : category, score, savedAt);
+            }
+            return count;
+        }
+    }
+
+    private double decayFactor(long nowMillis) {
+        return Math.pow(2, -(nowMillis - landmarkMillis) / halfLifeMillis);
+    }
+
+    private void offer(long postId, Trend trend) {
+        tops.computeIfAbsent(ALL, c -> new TopK()).offer(postId, trend.score, topK);
+        if (trend.category != null && !trend.category.isBlank()) {
+            tops.computeIfAbsent(trend.category, c -> new TopK()).offer(postId, trend.score, topK);
+        }
+    }
+
+    private void moveCategory(long postId, Trend trend, String category) {
+        String previous = trend.category;
+        trend.category = category;
+        if (previous != null && !previous.isBlank()) {
+            TopK top = tops.get(previous);
+            if (top != null && top.members.containsKey(postId)) {
+                // 빠진 자리는 그 카테고리의 다음 순위 글로 채움
+                top.remove(postId);
+                refill(previous);
+            }
+        }
+    }
+
+    private void removeFromTops(long postId, String category) {
+        TopK all = tops.get(ALL);
+        if (all != null && all.members.containsKey(postId)) {
+            all.remove(postId);
+            refill(ALL);
+        }
+        if (category != null && !category.isBlank()) {
+            TopK top = tops.get(category);
+            if (top != null && top.members.containsKey(postId)) {
+                top.remove(postId);
+                refill(category);
+            }
+        }
+    }
+
+    /**
+     * 힙에서 빠진 자리를 채우기 위해 해당 카테고리를 다시 구성 (삭제·카테고리 변경 시에만)
+     */
+    private void refill(String category) {
+        TopK top = new TopK();
+        trends.forEach((id, trend) -> {
+            if (ALL.equals(category) || category.equals(trend.category)) {
+                top.offer(id, trend.score, topK);
+            }
+        });
+        tops.put(category, top);
+    }
+
+    private void rebuildTops() {
+        tops.clear();
+        trends.forEach(this::offer);
+    }
+}
@@ -0,0 +1,230 @@
+package com.example.studywithme.board.service;
+
+import com.example.studywithme.board.entity.PostViewSketch;
+import com.example.studywithme.board.entity.SiteViewSketch;
+import com.example.studywithme.board.repository.PostRepository;
+import com.example.studywithme.board.repository.PostViewSketchRepository;
+import com.example.studywithme.board.repository.SiteViewSketchRepository;
+import com.example.studywithme.global.transaction.TransactionCallbacks;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 고유 열람자 추정 (HyperLogLog)
+ * - 열람자 키(로그인 사용자 "u:ID", 비로그인 "s:세션ID")를 게시글별 스케치와 일자별 사이트 스케치에 기록
+ * - 메모리에는 마지막 저장 이후의 증분 스케치만 두고, flush-interval-ms마다 DB 스케치와 합쳐 저장 (레지스터별 max라 순서·중복 무관)
+ * - 게시글 스케치 1KB(오차 약 3%), 사이트 일자 스케치 16KB(오차 약 1%). 주간 합계는 7일치 스케치를 합쳐 계산
+ * - 삭제된 게시글은 저장 시 건너뜀 (삭제 직전에 꺼낸 증분이 스케치 행을 다시 만들지 않도록)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UniqueViewerService {
+
+    static final int POST_PRECISION = 10;
+    static final int SITE_PRECISION = 14;
+
+    private final PostRepository postRepository;
+    private final PostViewSketchRepository postViewSketchRepository;
+    private final SiteViewSketchRepository siteViewSketchRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${unique-viewers.enabled:true}")
+    private boolean enabled;
+
+    private final ConcurrentHashMap<Long, HyperLogLog> pendingPosts = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<LocalDate, HyperLogLog> pendingDays = new ConcurrentHashMap<>();
+    private final Object flushLock = new Object();
+
+    public record DailyUniques(LocalDate date, long uniqueViewers) {}
+
+    /**
+     * @param today     오늘 고유 열람자
+     * @param last7Days 오늘 포함 최근 7일 고유 열람자 (일자 스케치 합집합)
+     * @param daily     최근 7일 일자별 (오래된 순)
+     */
+    public record SiteStats(long today, long last7Days, List<DailyUniques> daily) {}
+
+    /**
+     * 열람 1회 기록
+     */
+    public void record(Long postId, String viewerKey) {
+        if (!enabled || postId == null || viewerKey == null) {
+            return;
+        }
+        long hash = HyperLogLog.hash64(viewerKey);
+        pendingPosts.computeIfAbsent(postId, id -> new HyperLogLog(POST_PRECISION)).offerHash(hash);
+        pendingDays.computeIfAbsent(LocalDate.now(), d -> new HyperLogLog(SITE_PRECISION)).offerHash(hash);
+    }
+
+    /**
+     * 게시글 고유 열람자 추정치 (저장된 스케치 + 아직 저장 안 된 증분)
+     */
+    public long uniqueViewers(Long postId) {
+        HyperLogLog sketch;
+        try {
+            sketch = postViewSketchRepository.findById(postId)
+                    .map(row -> HyperLogLog.fromBytes(row.getSketch()))
+                    .orElseGet(() -> new HyperLogLog(POST_PRECISION));
+        } catch (Exception e) {
+            // 스케치 조회 실패가 게시글 화면을 막지 않도록 증분만으로 추정
+            log.warn("게시글 고유 열람자 스케치 조회 실패: postId={} ({})", postId, e.getMessage());
+            sketch = new HyperLogLog(POST_PRECISION);
+        }
+        HyperLogLog pending = pendingPosts.get(postId);
+        if (pending != null) {
+            sketch.merge(pending);
+        }
+        return sketch.estimate();
+    }
+
+    /**
+     * 관리자 대시보드용 사이트 전체 고유 열람자 (오늘, 최근 7일, 일자별)
+     */
+    public SiteStats siteStats() {
+        LocalDate today = LocalDate.now();
+        LocalDate from = today.minusDays(6);
+        Map<LocalDate, HyperLogLog> byDate = new HashMap<>();
+        try {
+            for (SiteViewSketch row : siteViewSketchRepository.findByViewDateBetweenOrderByViewDateAsc(from, today)) {
+                byDate.put(row.getViewDate(), HyperLogLog.fromBytes(row.getSketch()));
+            }
+        } catch (Exception e) {
+            log.warn("사이트 고유 열람자 스케치 조회 실패 ({})", e.getMessage());
+        }
+        pendingDays.forEach((date, pending) -> {
+            if (!date.isBefore(from) && !date.isAfter(today)) {
+                byDate.computeIfAbsent(date, d -> new HyperLogLog(SITE_PRECISION)).merge(pending);
+            }
+        });
+
+        HyperLogLog week = new HyperLogLog(SITE_PRECISION);
+        List<DailyUniques> daily = new ArrayList<>(7);
+        for (LocalDate date = from; !date.isAfter(today); date = date.plusDays(1)) {
+            HyperLogLog sketch = byDate.get(date);
+            if (sketch != null) {
+                week.merge(sketch);
+            }
+            daily.add(new DailyUniques(date, sketch != null ? sketch.estimate() : 0L));
+        }
+        return new SiteStats(daily.get(daily.size() - 1).uniqueViewers(), week.estimate(), daily);
+    }
+
+    /**
+     * 게시글 삭제 시 스케치도 삭제 (호출한 쪽 트랜잭션에 참여, 증분은 커밋 후 버림)
+     */
+    public void removePost(Long postId) {
+        if (postId == null) {
+            return;
+        }
+        if (postViewSketchRepository.existsById(postId)) {
+            postViewSketchRepository.deleteById(postId);
+        }
+        TransactionCallbacks.afterCommit(() -> pendingPosts.remove(postId));
+    }
+
+    @Scheduled(fixedDelayString = "${unique-viewers.flush-interval-ms:60000}")
+    public void flush() {
+        synchronized (flushLock) {
+            Map<Long, HyperLogLog> posts = drain(pendingPosts);
+            Map<LocalDate, HyperLogLog> days = drain(pendingDays);
+            if (posts.isEmpty() && days.isEmpty()) {
+                return;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    savePosts(posts);
+                    saveDays(days);
+                });
+            } catch (Exception e) {
+                log.warn("고유 열람자 스케치 저장 실패, 다음 주기에 재시도: 게시글 {}개 ({})", posts.size(), e.getMessage());
+                posts.forEach((postId, sketch) ->
+                        pendingPosts.computeIfAbsent(postId, id -> new HyperLogLog(POST_PRECISION)).merge(sketch));
+                days.forEach((date, sketch) ->
+                        pendingDays.computeIfAbsent(date, d -> new HyperLogLog(SITE_PRECISION)).merge(sketch));
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private void savePosts(Map<Long, HyperLogLog> posts) {
+        if (posts.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Set<Long> alive = Set.copyOf(postRepository.findExistingIds(posts.keySet()));
+        Map<Long, PostViewSketch> existing = postViewSketchRepository.findAllById(posts.keySet()).stream()
+                .collect(Collectors.toMap(PostViewSketch::getPostId, Function.identity()));
+        List<PostViewSketch> rows = new ArrayList<>(posts.size());
+        posts.forEach((postId, pending) -> {
+            if (!alive.contains(postId)) {
+                return;
+            }
+            PostViewSketch row = existing.get(postId);
+            HyperLogLog merged = pending.copy();
+            if (row == null) {
+                row = new PostViewSketch();
+                row.setPostId(postId);
+            } else {
+                merged.merge(HyperLogLog.fromBytes(row.getSketch()));
+            }
+            row.setSketch(merged.toBytes());
+            row.setUniqueViewers(merged.estimate());
+            row.setUpdatedAt(now);
+            rows.add(row);
+        });
+        postViewSketchRepository.saveAll(rows);
+    }
+
+    private void saveDays(Map<LocalDate, HyperLogLog> days) {
+        LocalDateTime now = LocalDateTime.now();
+        days.forEach((date, pending) -> {
+            SiteViewSketch row = siteViewSketchRepository.findById(date).orElse(null);
+            HyperLogLog merged = pending.copy();
+            if (row == null) {
+                row = new SiteViewSketch();
+                row.setViewDate(date);
+            } else {
+                merged.merge(HyperLogLog.fromBytes(row.getSketch()));
+            }
+            row.setSketch(merged.toBytes());
+            row.setUniqueViewers(merged.estimate());
+            row.setUpdatedAt(now);
+            siteViewSketchRepository.save(row);
+        });
+    }
+
+    /**
+     * 증분 스케치를 꺼냄 (꺼낸 뒤 들어온 기록은 새 스케치에 쌓임)
+     */
+    private static <K> Map<K, HyperLogLog> drain(ConcurrentHashMap<K, HyperLogLog> pending) {
+        Map<K, HyperLogLog> drained = new HashMap<>();
+        for (K key : pending.keySet()) {
+            HyperLogLog sketch = pending.remove(key);
+            if (sketch != null) {
+                drained.put(key, sketch);
+            }
+        }
+        return drained;
+    }
+}
@@ -3,14 +3,24 @@ package com.example.studywithme.comment.repository;
 import com.example.studywithme.comment.entity.CommentLike;
 import com.example.studywithme.comment.entity.CommentLikeId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CommentLikeRepository extends JpaRepository<CommentLike, CommentLikeId> {
 
     boolean existsByUserIdAndCommentId(Integer userId, Long commentId);
 
-    void deleteByUserIdAndCommentId(Integer userId, Long commentId);
-
     long countByCommentId(Long commentId);
-}
 
+    // 좋아요 추가 (이미 있으면 무시). 실제로 추가되면 1
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO comment_likes (user_id, comment_id) VALUES (:userId, :commentId)",
+           nativeQuery = true)
+    int insertIgnore(@Param("userId") Integer userId, @Param("commentId") Long commentId);
 
+    // 좋아요 삭제. 실제로 삭제되면 1
+    @Modifying
+    @Query("DELETE FROM CommentLike cl WHERE cl.userId = :userId AND cl.commentId = :commentId")
+    int deleteLike(@Param("userId") Integer userId, @Param("commentId") Long commentId);
+}
@@ -2,12 +2,20 @@ package com.example.studywithme.comment.repository;
 
 import com.example.studywithme.comment.entity.Comment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     List<Comment> findByPost_IdAndDeletedFalseOrderByCreatedAtAsc(Long postId);
-}
-
 
+    // 좋아요 수 일괄 증감 (LikeCountBuffer 반영, updated_at = updated_at 으로 수정 시각은 그대로)
+    @Modifying
+    @Query(value = "UPDATE comments SET like_count = GREATEST(COALESCE(like_count, 0) + :delta, 0), updated_at = updated_at WHERE id IN (:ids)",
+           nativeQuery = true)
+    int incrementLikeCounts(@Param("ids") Collection<Long> ids, @Param("delta") long delta);
+}
@@ -1,12 +1,13 @@
 package com.example.studywithme.comment.service;
 
 import com.example.studywithme.comment.entity.Comment;
-import com.example.studywithme.comment.entity.CommentLike;
 import com.example.studywithme.board.entity.Post;
 import com.example.studywithme.user.entity.User;
 import com.example.studywithme.comment.repository.CommentLikeRepository;
 import com.example.studywithme.comment.repository.CommentRepository;
 import com.example.studywithme.board.repository.PostRepository;
+import com.example.studywithme.board.service.LikeCountBuffer;
+import com.example.studywithme.board.service.TrendingPostService;
 import com.example.studywithme.moderation.service.ContentFilterService;
 import com.example.studywithme.notification.service.NotificationService;
 import com.example.studywithme.user.repository.UserRepository;
@@ -29,6 +30,8 @@ public class CommentService {
     private final UserRepository userRepository;
     private final NotificationService notificationService;
     private final ContentFilterService contentFilterService;
+    private final LikeCountBuffer likeCountBuffer;
+    private final TrendingPostService trendingPostService;
     private final com.example.studywithme.moderation.repository.BlockedCommentRepository blockedCommentRepository;
 
     private static final DateTimeFormatter TIME_FORMATTER =
@@ -117,6 +120,7 @@ public class CommentService {
             commentRepository.save(saved);
             throw new RuntimeException("댓글이 차단되었습니다: " + finalCheck.getBlockReason());
         }
+        trendingPostService.record(post, TrendingPostService.Signal.COMMENT);
 
         // 알림: 대댓글이면 부모 댓글 작성자, 아니면 게시글 작성자
         try {
@@ -145,6 +149,7 @@ public class CommentService {
         return toResponse(saved, userId);
     }
 
+    // 좋아요 토글 (comment_likes 기본키에 대한 DELETE / INSERT IGNORE 결과로 판단, 좋아요 수는 LikeCountBuffer로 증감)
     @Transactional
     public boolean toggleLike(Integer userId, Long commentId) {
         if (commentId == null) {
@@ -153,43 +158,36 @@ public class CommentService {
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new RuntimeException("댓글을 찾을 수 없습니다."));
 
-        boolean exists = commentLikeRepository.existsByUserIdAndCommentId(userId, commentId);
-
-        if (exists) {
-            commentLikeRepository.deleteByUserIdAndCommentId(userId, commentId);
-            comment.setLikeCount(Math.max(0, (comment.getLikeCount() != null ? comment.getLikeCount() : 0) - 1));
-            commentRepository.save(comment);
+        if (commentLikeRepository.deleteLike(userId, commentId) > 0) {
+            likeCountBuffer.addCommentDelta(commentId, -1);
             return false;
-        } else {
-            CommentLike like = new CommentLike();
-            like.setUserId(userId);
-            like.setCommentId(commentId);
-            commentLikeRepository.save(like);
-            comment.setLikeCount((comment.getLikeCount() != null ? comment.getLikeCount() : 0) + 1);
-            commentRepository.save(comment);
-
-            // 알림: 댓글 작성자와 다를 때만
-            try {
-                if (comment.getUser() != null && !comment.getUser().getId().equals(userId)) {
-                    notificationService.notify(
-                            comment.getUser().getId(),
-                            "COMMENT_LIKE",
-                            "내 댓글에 좋아요가 눌렸습니다",
-                            comment.getContent(),
-                            "/posts/" + comment.getPost().getId() + "#comment-" + comment.getId()
-                    );
-                }
-            } catch (Exception ignored) {}
-
+        }
+        if (commentLikeRepository.insertIgnore(userId, commentId) == 0) {
             return true;
         }
+        likeCountBuffer.addCommentDelta(commentId, 1);
+
+        // 알림: 댓글 작성자와 다를 때만
+        try {
+            if (comment.getUser() != null && !comment.getUser().getId().equals(userId)) {
+                notificationService.notify(
+                        comment.getUser().getId(),
+                        "COMMENT_LIKE",
+                        "내 댓글에 좋아요가 눌렸습니다",
+                        comment.getContent(),
+                        "/posts/" + comment.getPost().getId() + "#comment-" + comment.getId()
+                );
+            }
+        } catch (Exception ignored) {}
+
+        return true;
     }
 
     private CommentResponse toResponse(Comment c, Integer currentUserId) {
         CommentResponse dto = new CommentResponse();
         dto.setId(c.getId());
         dto.setContent(c.getContent());
-        dto.setLikes(c.getLikeCount() != null ? c.getLikeCount() : 0);
+        dto.setLikes(likeCountBuffer.displayCommentCount(c.getId(), c.getLikeCount()));
         dto.setParentId(c.getParentComment() != null ? c.getParentComment().getId() : null);
         dto.setUser(c.getUser() != null ? c.getUser().getRealName() : "익명");
         dto.setAvatar("https://i.pravatar.cc/40?img=" + (c.getUser() != null ? c.getUser().getId() : 1));
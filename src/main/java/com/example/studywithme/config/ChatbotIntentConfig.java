@@ -0,0 +1,33 @@
+package com.example.studywithme.config;
+
+import com.example.studywithme.ai.service.IntentClassifier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 챗봇 의도 규칙 로드
+ * - 기본은 classpath:chatbot/intents.json, chatbot.intents.location 으로 외부 파일(file:...) 지정 가능
+ * - 새 의도는 규칙 파일에 추가하고 ChatbotController.applyAction / chatbot.js 에서 액션 타입만 처리하면 됨
+ */
+@Configuration
+@Slf4j
+public class ChatbotIntentConfig {
+
+    @Bean
+    public IntentClassifier intentClassifier(ResourceLoader resourceLoader,
+                                             @Value("${chatbot.intents.location:classpath:chatbot/intents.json}") String location) throws IOException {
+        Resource resource = resourceLoader.getResource(location);
+        try (InputStream in = resource.getInputStream()) {
+            IntentClassifier classifier = IntentClassifier.load(in);
+            log.info("챗봇 의도 규칙 로드: {}개 ({})", classifier.ruleCount(), location);
+            return classifier;
+        }
+    }
+}
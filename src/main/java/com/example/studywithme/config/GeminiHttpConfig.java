@@ -0,0 +1,38 @@
+package com.example.studywithme.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * Gemini 호출용 공유 HTTP 클라이언트
+ * - JDK HttpClient 하나를 재사용해 커넥션 풀/keep-alive(HTTPS는 HTTP/2 다중화)를 활용
+ *   (유휴 커넥션 유지 시간은 JVM 옵션 -Djdk.httpclient.keepalive.timeout=초)
+ * - 일반 응답은 같은 클라이언트 위의 RestTemplate, 스트리밍(SSE)은 HttpClient를 직접 사용
+ */
+@Configuration
+public class GeminiHttpConfig {
+
+    @Bean
+    public HttpClient geminiHttpClient(@Value("${gemini.http.connect-timeout-ms:3000}") long connectTimeoutMs,
+                                       @Value("${gemini.http.version:HTTP_2}") HttpClient.Version version) {
+        return HttpClient.newBuilder()
+                .version(version) // HTTP_2: HTTPS에서 ALPN으로 협상, 실패 시 HTTP/1.1 keep-alive
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+    }
+
+    @Bean
+    public RestTemplate geminiRestTemplate(HttpClient geminiHttpClient,
+                                           @Value("${gemini.http.read-timeout-ms:60000}") long readTimeoutMs) {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(geminiHttpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+        return new RestTemplate(requestFactory);
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.studywithme.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * JPA/Hibernate 공통 설정
+ * - open-in-view(기본 true)로 요청 내내 EntityManager가 열려 있어도, 트랜잭션이 끝나면 JDBC 커넥션을 풀에 반납
+ *   (기본값 DELAYED_ACQUISITION_AND_HOLD는 요청이 끝날 때까지 커넥션을 붙잡아
+ *    챗봇의 Gemini 호출처럼 느린 외부 호출 동안 풀이 고갈됨)
+ */
+@Configuration
+public class JpaConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer connectionReleaseCustomizer() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+}
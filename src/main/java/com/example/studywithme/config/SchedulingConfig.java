@@ -0,0 +1,13 @@
+package com.example.studywithme.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기 작업(@Scheduled) 활성화
+ * - 추천 행렬 재구축 등 백그라운드 작업이 사용
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,152 @@
+package com.example.studywithme.global.cache;
+
+import com.example.studywithme.global.transaction.TransactionCallbacks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 목록 화면 전체 건수 캐시 (쿼리 모양별: 전체 게시글, 카테고리별, 사용자별, 차단 상태별 …)
+ * - 목록은 Slice(LIMIT size+1, COUNT 없음)로 읽고 총 페이지 수만 이 캐시의 건수로 계산
+ * - 작성·삭제·상태 변경은 커밋 이후 캐시에 있는 키만 ±1
+ * - recount-interval-ms마다 그 사이 읽힌 키만 정확히 다시 세고, 읽히지 않은 키는 버림 (사용자별 키가 쌓이지 않게)
+ * - 마지막 페이지를 읽으면 offset + 건수가 정확한 값이므로 그 값으로 맞춤
+ * - 인스턴스별 캐시라 다른 인스턴스의 변경분은 다음 재계산 때 반영
+ */
+@Service
+@Slf4j
+public class ListingCountCache {
+
+    @Value("${listing-count.enabled:true}")
+    private boolean enabled;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private static final class Entry {
+        final LongSupplier counter;
+        final AtomicLong count;
+        volatile boolean read = true;
+
+        Entry(LongSupplier counter, long count) {
+            this.counter = counter;
+            this.count = new AtomicLong(count);
+        }
+    }
+
+    /**
+     * 쿼리 모양 키 (part가 null이면 shape 그대로)
+     */
+    public static String key(String shape, Object part) {
+        return part != null ? shape + ":" + part : shape;
+    }
+
+    /**
+     * Slice + 캐시 건수로 Page 구성
+     *
+     * @param counter 캐시에 없거나 재계산할 때 쓰는 정확한 COUNT
+     */
+    public <T> Page<T> page(String key, Slice<T> slice, LongSupplier counter) {
+        long offset = slice.getPageable().isPaged() ? slice.getPageable().getOffset() : 0;
+        long seen = offset + slice.getNumberOfElements();
+        if (!enabled) {
+            return new PageImpl<>(slice.getContent(), slice.getPageable(), counter.getAsLong());
+        }
+        long total;
+        if (!slice.hasNext() && (slice.hasContent() || offset == 0)) {
+            // 마지막 페이지 → 정확한 값
+            total = seen;
+            entries.compute(key, (k, entry) -> {
+                if (entry == null) {
+                    return new Entry(counter, seen);
+                }
+                entry.count.set(seen);
+                entry.read = true;
+                return entry;
+            });
+        } else {
+            // 다음 페이지가 있는데 캐시 값이 작으면(아직 반영 전) 최소한 다음 페이지로 갈 수 있게
+            long cached = count(key, counter);
+            total = slice.hasNext() ? Math.max(cached, seen + 1) : cached;
+        }
+        return new PageImpl<>(slice.getContent(), slice.getPageable(), total);
+    }
+
+    /**
+     * 캐시된 건수 (없으면 정확히 세어 저장)
+     */
+    public long count(String key, LongSupplier counter) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            long exact = counter.getAsLong();
+            entry = entries.computeIfAbsent(key, k -> new Entry(counter, exact));
+        }
+        entry.read = true;
+        return entry.count.get();
+    }
+
+    /**
+     * 건수 증감 (캐시에 있는 키만, 트랜잭션 안이면 커밋 이후에 반영)
+     */
+    public void adjust(String key, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                entry.count.updateAndGet(v -> Math.max(0, v + delta));
+            }
+        });
+    }
+
+    /**
+     * prefix로 시작하는 키를 버림 (일괄 변경처럼 증감을 알 수 없을 때, 커밋 이후)
+     */
+    public void invalidate(String prefix) {
+        TransactionCallbacks.afterCommit(() -> entries.keySet().removeIf(key -> key.startsWith(prefix)));
+    }
+
+    /**
+     * 읽힌 키는 정확히 다시 세고, 읽히지 않은 키는 버림
+     */
+    @Scheduled(initialDelayString = "${listing-count.recount-interval-ms:600000}",
+               fixedDelayString = "${listing-count.recount-interval-ms:600000}")
+    public void recount() {
+        if (!enabled || entries.isEmpty()) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        int recounted = 0;
+        int evicted = 0;
+        for (Map.Entry<String, Entry> e : entries.entrySet()) {
+            Entry entry = e.getValue();
+            if (!entry.read) {
+                entries.remove(e.getKey(), entry);
+                evicted++;
+                continue;
+            }
+            entry.read = false;
+            try {
+                long exact = entry.counter.getAsLong();
+                long previous = entry.count.getAndSet(exact);
+                if (previous != exact) {
+                    log.debug("목록 건수 보정: {} {} → {}", e.getKey(), previous, exact);
+                }
+                recounted++;
+            } catch (Exception ex) {
+                log.warn("목록 건수 재계산 실패, 캐시에서 제거: {} ({})", e.getKey(), ex.getMessage());
+                entries.remove(e.getKey(), entry);
+            }
+        }
+        log.debug("목록 건수 재계산: {}개, 제거 {}개 ({}ms)", recounted, evicted, System.currentTimeMillis() - start);
+    }
+}
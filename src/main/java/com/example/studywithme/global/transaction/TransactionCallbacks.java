@@ -0,0 +1,30 @@
+package com.example.studywithme.global.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 시점 콜백 공통 유틸.
+ * 메모리 캐시·버퍼·인덱스를 커밋된 내용 기준으로만 바꾸기 위해 사용 (롤백되면 실행하지 않음).
+ */
+public final class TransactionCallbacks {
+
+    private TransactionCallbacks() {
+    }
+
+    /**
+     * 진행 중인 트랜잭션이 있으면 커밋 후에, 없으면 바로 실행
+     */
+    public static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -1,5 +1,9 @@
 package com.example.studywithme.moderation.controller;
 
+import com.example.studywithme.ai.service.ChatResponseCache;
+import com.example.studywithme.ai.service.GeminiRateLimiter;
+import com.example.studywithme.board.service.FeedPageCache;
+import com.example.studywithme.board.service.UniqueViewerService;
 import com.example.studywithme.moderation.entity.AILearningData;
 import com.example.studywithme.moderation.entity.BlockedComment;
 import com.example.studywithme.moderation.entity.BlockedPost;
@@ -24,6 +28,10 @@ public class AdminController {
 
     private final AdminService adminService;
     private final com.example.studywithme.board.service.PostService postService;
+    private final ChatResponseCache chatResponseCache;
+    private final GeminiRateLimiter geminiRateLimiter;
+    private final UniqueViewerService uniqueViewerService;
+    private final FeedPageCache feedPageCache;
 
     // 관리자 권한 체크 헬퍼 메서드
     private boolean isAdmin(HttpSession session) {
@@ -43,6 +51,8 @@ public class AdminController {
         
         model.addAttribute("loginUser", loginUser);
         model.addAttribute("stats", stats);
+        model.addAttribute("viewerStats", uniqueViewerService.siteStats());
+        model.addAttribute("feedCacheStats", feedPageCache.stats());
         return "admin";
     }
 
@@ -275,6 +285,82 @@ public class AdminController {
         return "admin-ai-learning";
     }
 
+    // 챗봇 응답 캐시 (적중률, 항목 고정/삭제) + Gemini 호출 제한 지표
+    @GetMapping("/chatbot-cache")
+    public String chatbotCache(HttpSession session, Model model) {
+        if (!isAdmin(session)) {
+            return "redirect:/?error=admin_required";
+        }
+
+        User loginUser = (User) session.getAttribute("loginUser");
+        model.addAttribute("loginUser", loginUser);
+        model.addAttribute("cacheStats", chatResponseCache.stats());
+        model.addAttribute("cacheEntries", chatResponseCache.list());
+        model.addAttribute("rateLimitStats", geminiRateLimiter.stats());
+
+        return "admin-chatbot-cache";
+    }
+
+    // 캐시 항목 고정/해제 (response를 주면 답변 교체)
+    @PostMapping("/chatbot-cache/pin")
+    @ResponseBody
+    public Map<String, Object> pinChatbotCache(@RequestParam("key") String key,
+                                               @RequestParam(value = "pinned", defaultValue = "true") boolean pinned,
+                                               @RequestParam(value = "response", required = false) String response,
+                                               HttpSession session) {
+        if (!isAdmin(session)) {
+            return Map.of("success", false, "message", "관리자 권한이 필요합니다.");
+        }
+
+        if (!chatResponseCache.pin(key, pinned, response)) {
+            return Map.of("success", false, "message", "캐시 항목을 찾을 수 없습니다.");
+        }
+        return Map.of("success", true, "message", pinned ? "답변이 고정되었습니다." : "고정이 해제되었습니다.");
+    }
+
+    // 질문으로 답변 고정 (FAQ 등록)
+    @PostMapping("/chatbot-cache/answers")
+    @ResponseBody
+    public Map<String, Object> addChatbotAnswer(@RequestParam("question") String question,
+                                                @RequestParam("response") String response,
+                                                @RequestParam(value = "loggedIn", defaultValue = "false") boolean loggedIn,
+                                                HttpSession session) {
+        if (!isAdmin(session)) {
+            return Map.of("success", false, "message", "관리자 권한이 필요합니다.");
+        }
+
+        try {
+            chatResponseCache.pinAnswer(question, loggedIn, response);
+            return Map.of("success", true, "message", "답변이 등록되었습니다.");
+        } catch (Exception e) {
+            return Map.of("success", false, "message", e.getMessage());
+        }
+    }
+
+    // 캐시 항목 삭제
+    @PostMapping("/chatbot-cache/evict")
+    @ResponseBody
+    public Map<String, Object> evictChatbotCache(@RequestParam("key") String key, HttpSession session) {
+        if (!isAdmin(session)) {
+            return Map.of("success", false, "message", "관리자 권한이 필요합니다.");
+        }
+
+        chatResponseCache.evict(key);
+        return Map.of("success", true, "message", "캐시 항목이 삭제되었습니다.");
+    }
+
+    // 고정하지 않은 캐시 항목 전체 삭제
+    @PostMapping("/chatbot-cache/clear")
+    @ResponseBody
+    public Map<String, Object> clearChatbotCache(HttpSession session) {
+        if (!isAdmin(session)) {
+            return Map.of("success", false, "message", "관리자 권한이 필요합니다.");
+        }
+
+        int removed = chatResponseCache.clearUnpinned();
+        return Map.of("success", true, "message", removed + "개 항목이 삭제되었습니다.");
+    }
+
     // 차단된 댓글 목록
     @GetMapping("/blocked-comments")
     public String blockedComments(HttpSession session, Model model,
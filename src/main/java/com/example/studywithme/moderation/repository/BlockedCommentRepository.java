@@ -1,8 +1,8 @@
 package com.example.studywithme.moderation.repository;
 
 import com.example.studywithme.moderation.entity.BlockedComment;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -13,9 +13,12 @@ import java.util.Optional;
 public interface BlockedCommentRepository extends JpaRepository<BlockedComment, Long> {
     Optional<BlockedComment> findByCommentId(Long commentId);
     
-    Page<BlockedComment> findAllByOrderByCreatedAtDesc(Pageable pageable);
+    // 관리자 목록 (전체 건수는 ListingCountCache)
+    Slice<BlockedComment> findAllByOrderByCreatedAtDesc(Pageable pageable);
     
-    Page<BlockedComment> findByStatusOrderByCreatedAtDesc(BlockedComment.BlockStatus status, Pageable pageable);
+    Slice<BlockedComment> findByStatusOrderByCreatedAtDesc(BlockedComment.BlockStatus status, Pageable pageable);
+
+    long countByStatus(BlockedComment.BlockStatus status);
     
     @Query(value = "SELECT COUNT(*) FROM blocked_comments WHERE status = 'BLOCKED'", nativeQuery = true)
     long countBlocked();
@@ -1,8 +1,8 @@
 package com.example.studywithme.moderation.repository;
 
 import com.example.studywithme.moderation.entity.BlockedPost;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -13,9 +13,12 @@ import java.util.Optional;
 public interface BlockedPostRepository extends JpaRepository<BlockedPost, Long> {
     Optional<BlockedPost> findByPostId(Long postId);
     
-    Page<BlockedPost> findAllByOrderByCreatedAtDesc(Pageable pageable);
+    // 관리자 목록 (전체 건수는 ListingCountCache)
+    Slice<BlockedPost> findAllByOrderByCreatedAtDesc(Pageable pageable);
     
-    Page<BlockedPost> findByStatusOrderByCreatedAtDesc(BlockedPost.BlockStatus status, Pageable pageable);
+    Slice<BlockedPost> findByStatusOrderByCreatedAtDesc(BlockedPost.BlockStatus status, Pageable pageable);
+
+    long countByStatus(BlockedPost.BlockStatus status);
     
     @Query(value = "SELECT COUNT(*) FROM blocked_posts WHERE status = 'BLOCKED'", nativeQuery = true)
     long countBlocked();
@@ -3,6 +3,8 @@ package com.example.studywithme.moderation.service;
 import com.example.studywithme.ai.service.AITagService;
 import com.example.studywithme.board.entity.Post;
 import com.example.studywithme.board.repository.PostRepository;
+import com.example.studywithme.board.service.PostContentService;
+import com.example.studywithme.global.cache.ListingCountCache;
 import com.example.studywithme.moderation.entity.AILearningData;
 import com.example.studywithme.moderation.entity.BlockedComment;
 import com.example.studywithme.moderation.entity.BlockedPost;
@@ -32,6 +34,10 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class AdminService {
 
+    // 차단 목록 건수 캐시 키 (ListingCountCache, 상태별은 "키:상태")
+    static final String COUNT_BLOCKED_POSTS = "blocked-posts";
+    static final String COUNT_BLOCKED_COMMENTS = "blocked-comments";
+
     private final BlockedPostRepository blockedPostRepository;
     private final BlockedCommentRepository blockedCommentRepository;
     private final FilterWordRepository filterWordRepository;
@@ -39,15 +45,21 @@ public class AdminService {
     private final FilterPatternRepository filterPatternRepository;
     private final AILearningDataRepository aiLearningDataRepository;
     private final PostRepository postRepository;
+    private final PostContentService postContentService;
     private final AITagService aiTagService;
+    private final ListingCountCache listingCountCache;
 
-    // 차단된 게시글 목록 조회
+    // 차단된 게시글 목록 조회 (Slice + 캐시된 건수)
     public Page<BlockedPost> getBlockedPosts(int page, int size, BlockedPost.BlockStatus status) {
         Pageable pageable = PageRequest.of(page, size);
         if (status != null) {
-            return blockedPostRepository.findByStatusOrderByCreatedAtDesc(status, pageable);
+            return listingCountCache.page(ListingCountCache.key(COUNT_BLOCKED_POSTS, status),
+                    blockedPostRepository.findByStatusOrderByCreatedAtDesc(status, pageable),
+                    () -> blockedPostRepository.countByStatus(status));
         }
-        return blockedPostRepository.findAllByOrderByCreatedAtDesc(pageable);
+        return listingCountCache.page(COUNT_BLOCKED_POSTS,
+                blockedPostRepository.findAllByOrderByCreatedAtDesc(pageable),
+                blockedPostRepository::count);
     }
 
     // 차단된 게시글 복구
@@ -59,6 +71,7 @@ public class AdminService {
         BlockedPost blockedPost = blockedPostRepository.findById(blockedPostId)
                 .orElseThrow(() -> new RuntimeException("차단된 게시글을 찾을 수 없습니다."));
         
+        BlockedPost.BlockStatus previousStatus = blockedPost.getStatus();
         blockedPost.setStatus(BlockedPost.BlockStatus.RESTORED);
         blockedPost.setIsReviewed(true);
         blockedPost.setReviewedAt(LocalDateTime.now());
@@ -68,6 +81,7 @@ public class AdminService {
         blockedPost.setReviewedBy(admin);
         
         blockedPostRepository.save(blockedPost);
+        adjustStatusCount(COUNT_BLOCKED_POSTS, previousStatus, BlockedPost.BlockStatus.RESTORED);
     }
 
     // 욕설 필터 단어 추가
@@ -195,13 +209,17 @@ public class AdminService {
         return filterPatternRepository.findAll();
     }
 
-    // 차단된 댓글 목록 조회
+    // 차단된 댓글 목록 조회 (Slice + 캐시된 건수)
     public Page<BlockedComment> getBlockedComments(int page, int size, BlockedComment.BlockStatus status) {
         Pageable pageable = PageRequest.of(page, size);
         if (status != null) {
-            return blockedCommentRepository.findByStatusOrderByCreatedAtDesc(status, pageable);
+            return listingCountCache.page(ListingCountCache.key(COUNT_BLOCKED_COMMENTS, status),
+                    blockedCommentRepository.findByStatusOrderByCreatedAtDesc(status, pageable),
+                    () -> blockedCommentRepository.countByStatus(status));
         }
-        return blockedCommentRepository.findAllByOrderByCreatedAtDesc(pageable);
+        return listingCountCache.page(COUNT_BLOCKED_COMMENTS,
+                blockedCommentRepository.findAllByOrderByCreatedAtDesc(pageable),
+                blockedCommentRepository::count);
     }
 
     // 차단된 댓글 복구
@@ -213,6 +231,7 @@ public class AdminService {
         BlockedComment blockedComment = blockedCommentRepository.findById(blockedCommentId)
                 .orElseThrow(() -> new RuntimeException("차단된 댓글을 찾을 수 없습니다."));
         
+        BlockedComment.BlockStatus previousStatus = blockedComment.getStatus();
         blockedComment.setStatus(BlockedComment.BlockStatus.RESTORED);
         blockedComment.setIsReviewed(true);
         blockedComment.setReviewedAt(LocalDateTime.now());
@@ -222,6 +241,18 @@ public class AdminService {
         blockedComment.setReviewedBy(admin);
         
         blockedCommentRepository.save(blockedComment);
+        adjustStatusCount(COUNT_BLOCKED_COMMENTS, previousStatus, BlockedComment.BlockStatus.RESTORED);
+    }
+
+    // 상태가 바뀐 차단 항목의 상태별 건수 이동 (전체 건수는 그대로)
+    private void adjustStatusCount(String shape, Enum<?> from, Enum<?> to) {
+        if (from == to) {
+            return;
+        }
+        if (from != null) {
+            listingCountCache.adjust(ListingCountCache.key(shape, from), -1);
+        }
+        listingCountCache.adjust(ListingCountCache.key(shape, to), 1);
     }
 
     // 통계 정보
@@ -283,6 +314,7 @@ public class AdminService {
     @Transactional
     public int reclassifyAllPostsByAI(double minConfidence) {
         List<Post> posts = postRepository.findAll();
+        postContentService.loadAll(posts);
         int updatedCount = 0;
 
         for (Post post : posts) {
@@ -1,5 +1,6 @@
 package com.example.studywithme.moderation.service;
 
+import com.example.studywithme.global.cache.ListingCountCache;
 import com.example.studywithme.moderation.entity.AILearningData;
 import com.example.studywithme.moderation.entity.BlockedComment;
 import com.example.studywithme.moderation.entity.BlockedPost;
@@ -30,6 +31,7 @@ public class ContentFilterService {
     private final BlockedPostRepository blockedPostRepository;
     private final BlockedCommentRepository blockedCommentRepository;
     private final AILearningDataRepository aiLearningDataRepository;
+    private final ListingCountCache listingCountCache;
 
     /**
      * 게시글 내용 필터링 (욕설, 키워드, 패턴 체크)
@@ -177,6 +179,8 @@ public class ContentFilterService {
         blockedPost.setUser(user);
 
         blockedPostRepository.save(blockedPost);
+        listingCountCache.adjust(AdminService.COUNT_BLOCKED_POSTS, 1);
+        listingCountCache.adjust(ListingCountCache.key(AdminService.COUNT_BLOCKED_POSTS, BlockedPost.BlockStatus.BLOCKED), 1);
     }
 
     /**
@@ -321,6 +325,8 @@ public class ContentFilterService {
         blockedComment.setUser(user);
 
         blockedCommentRepository.save(blockedComment);
+        listingCountCache.adjust(AdminService.COUNT_BLOCKED_COMMENTS, 1);
+        listingCountCache.adjust(ListingCountCache.key(AdminService.COUNT_BLOCKED_COMMENTS, BlockedComment.BlockStatus.BLOCKED), 1);
     }
 
     private void saveLearningData(String contentSample, String blockReason, String detectedPattern) {
@@ -4,6 +4,7 @@ import com.example.studywithme.board.entity.Post;
 import com.example.studywithme.board.entity.PostApplication;
 import com.example.studywithme.board.repository.PostApplicationRepository;
 import com.example.studywithme.board.repository.PostRepository;
+import com.example.studywithme.board.service.PostContentService;
 import com.example.studywithme.notification.service.NotificationService;
 import com.example.studywithme.studygroup.entity.StudyGroup;
 import com.example.studywithme.studygroup.entity.StudyGroupMember;
@@ -24,6 +25,7 @@ public class StudyGroupService {
     private final StudyGroupRepository studyGroupRepository;
     private final StudyGroupMemberRepository memberRepository;
     private final PostRepository postRepository;
+    private final PostContentService postContentService;
     private final PostApplicationRepository applicationRepository;
     private final NotificationService notificationService;
 
@@ -113,7 +115,7 @@ public class StudyGroupService {
             group.setPost(post);
             group.setCreator(post.getUser());
             group.setTitle(post.getTitle());
-            group.setDescription(post.getContent());
+            group.setDescription(postContentService.load(post).getContent());
             group.setCategory(post.getCategory());
             group.setTags(post.getTags());
             group.setStatus(StudyGroup.GroupStatus.ACTIVE);
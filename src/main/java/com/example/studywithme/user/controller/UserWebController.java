@@ -1,5 +1,6 @@
 package com.example.studywithme.user.controller;
 
+import com.example.studywithme.board.dto.PostCard;
 import com.example.studywithme.board.entity.Post;
 import com.example.studywithme.board.service.PostService;
 import com.example.studywithme.user.entity.User;
@@ -111,7 +112,7 @@ public class UserWebController {
             return "redirect:/auth?error=session_invalid";
         }
         Pageable pageable = PageRequest.of(page, size);
-        Page<Post> myPosts = postService.getPostsByUserId(loginUser.getId(), pageable);
+        Page<PostCard> myPosts = postService.getPostsByUserId(loginUser.getId(), pageable);
         UserStatsService.UserStats stats = userStatsService.getUserStats(loginUser.getId());
         UserProfile profile = userProfileRepository.findByUser_Id(loginUser.getId()).orElse(null);
         if (profile != null && !profile.getUser().getId().equals(loginUser.getId())) {
@@ -0,0 +1,47 @@
+package com.example.studywithme.user.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 활동 통계 (UserStatsService) — 작성자 카드·마이페이지의 레벨/경험치 계산용
+ * - 작성·좋아요·북마크·지원 시 같은 트랜잭션에서 증감, 받은 좋아요는 LikeCountBuffer 반영 때 다시 합산
+ * - 첫 조회 시 COUNT로 행을 만들고, 어긋난 값은 정기 재계산(reconcile)이 바로잡음
+ */
+@Entity
+@Table(name = "user_activity_stats")
+@Getter
+@Setter
+@ToString
+public class UserActivityStats {
+
+    @Id
+    @Column(name = "user_id")
+    private Integer userId;
+
+    @Column(name = "post_count", nullable = false)
+    private long postCount;
+
+    @Column(name = "likes_given", nullable = false)
+    private long likesGiven;
+
+    @Column(name = "likes_received", nullable = false)
+    private long likesReceived;
+
+    @Column(name = "bookmarks", nullable = false)
+    private long bookmarks;
+
+    @Column(name = "applications", nullable = false)
+    private long applications;
+
+    // 모든 증감 UPDATE가 1씩 올림. 재계산은 읽은 버전이 그대로일 때만 덮어씀
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -52,6 +52,32 @@ public interface UserActivityRepository extends JpaRepository<UserActivity, Long
            """)
     List<Object[]> findClickedCategories(@Param("userId") Integer userId,
                                         @Param("sinceDate") java.time.LocalDateTime sinceDate);
-}
 
+    /**
+     * 게시글 대상 활동을 (사용자, 게시글, 활동 유형)별로 집계 (협업 필터링 행렬 구축용)
+     * - createdAt이 비어 있는 행(DB 기본값이 없는 devh2 등)도 포함
+     */
+    @Query("""
+           select ua.user.id, ua.targetId, ua.actionType, count(ua)
+           from UserActivity ua
+           where ua.targetId is not null
+             and ua.actionType in :types
+             and (ua.createdAt is null or ua.createdAt >= :sinceDate)
+           group by ua.user.id, ua.targetId, ua.actionType
+           """)
+    List<Object[]> aggregatePostInteractions(@Param("types") List<ActionType> types,
+                                             @Param("sinceDate") java.time.LocalDateTime sinceDate);
 
+    /**
+     * 기간 내 게시글 대상 활동 (게시글 ID, 활동 유형, 시각) - 트렌딩 점수 초기화용
+     */
+    @Query("""
+           select ua.targetId, ua.actionType, ua.createdAt
+           from UserActivity ua
+           where ua.targetId is not null
+             and ua.actionType in :types
+             and ua.createdAt >= :sinceDate
+           """)
+    List<Object[]> findPostSignalsSince(@Param("types") List<ActionType> types,
+                                        @Param("sinceDate") java.time.LocalDateTime sinceDate);
+}
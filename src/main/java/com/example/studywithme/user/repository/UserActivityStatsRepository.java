@@ -0,0 +1,74 @@
+package com.example.studywithme.user.repository;
+
+import com.example.studywithme.user.entity.UserActivityStats;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface UserActivityStatsRepository extends JpaRepository<UserActivityStats, Integer> {
+
+    // 증감 (행이 없으면 0건 → 첫 조회 때 COUNT로 생성)
+    @Modifying
+    @Query(value = "UPDATE user_activity_stats SET post_count = GREATEST(post_count + :posts, 0), " +
+                   "likes_given = GREATEST(likes_given + :likesGiven, 0), " +
+                   "bookmarks = GREATEST(bookmarks + :bookmarks, 0), " +
+                   "applications = GREATEST(applications + :applications, 0), " +
+                   "version = version + 1, updated_at = CURRENT_TIMESTAMP WHERE user_id = :userId",
+           nativeQuery = true)
+    int addDeltas(@Param("userId") Integer userId, @Param("posts") long posts, @Param("likesGiven") long likesGiven,
+                  @Param("bookmarks") long bookmarks, @Param("applications") long applications);
+
+    // 받은 좋아요를 작성자 게시글 like_count 합으로 다시 계산 (좋아요 수가 바뀐 게시글의 작성자)
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE user_activity_stats s SET likes_received = " +
+                   "(SELECT COALESCE(SUM(p.like_count), 0) FROM posts p WHERE p.user_id = s.user_id), " +
+                   "version = version + 1, updated_at = CURRENT_TIMESTAMP " +
+                   "WHERE s.user_id IN (SELECT p2.user_id FROM posts p2 WHERE p2.id IN (:postIds))",
+           nativeQuery = true)
+    int refreshLikesReceivedOfPosts(@Param("postIds") Collection<Long> postIds);
+
+    // 게시글 삭제 직전: 작성자 글 수·받은 좋아요, 좋아요·북마크·지원한 사용자의 수를 함께 뺌 (행은 FK로 같이 삭제됨)
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE user_activity_stats SET post_count = GREATEST(post_count - 1, 0), " +
+                   "likes_received = GREATEST(likes_received - (SELECT COALESCE(MAX(p.like_count), 0) FROM posts p WHERE p.id = :postId), 0), " +
+                   "version = version + 1, updated_at = CURRENT_TIMESTAMP WHERE user_id = :authorId",
+           nativeQuery = true)
+    int removePostOfAuthor(@Param("postId") Long postId, @Param("authorId") Integer authorId);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE user_activity_stats SET likes_given = GREATEST(likes_given - 1, 0), version = version + 1, updated_at = CURRENT_TIMESTAMP " +
+                   "WHERE user_id IN (SELECT l.user_id FROM post_likes l WHERE l.post_id = :postId)",
+           nativeQuery = true)
+    int removeLikesOfPost(@Param("postId") Long postId);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE user_activity_stats SET bookmarks = GREATEST(bookmarks - 1, 0), version = version + 1, updated_at = CURRENT_TIMESTAMP " +
+                   "WHERE user_id IN (SELECT b.user_id FROM bookmarks b WHERE b.post_id = :postId)",
+           nativeQuery = true)
+    int removeBookmarksOfPost(@Param("postId") Long postId);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE user_activity_stats SET applications = GREATEST(applications - 1, 0), version = version + 1, updated_at = CURRENT_TIMESTAMP " +
+                   "WHERE user_id IN (SELECT a.user_id FROM post_applications a WHERE a.post_id = :postId)",
+           nativeQuery = true)
+    int removeApplicationsOfPost(@Param("postId") Long postId);
+
+    // 재계산: 읽은 값이 그대로일 때만 덮어씀 (그 사이 증감이 있었으면 0건 → 다음 주기에 다시 확인)
+    @Modifying
+    @Query("UPDATE UserActivityStats s SET s.postCount = :postCount, s.likesGiven = :likesGiven, " +
+           "s.likesReceived = :likesReceived, s.bookmarks = :bookmarks, s.applications = :applications, " +
+           "s.version = s.version + 1, s.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE s.userId = :userId AND s.version = :version")
+    int overwriteIfUnchanged(@Param("userId") Integer userId, @Param("version") long version,
+                             @Param("postCount") long postCount, @Param("likesGiven") long likesGiven,
+                             @Param("likesReceived") long likesReceived, @Param("bookmarks") long bookmarks,
+                             @Param("applications") long applications);
+
+    // 재계산용 키셋 페이지
+    List<UserActivityStats> findByUserIdGreaterThanOrderByUserIdAsc(Integer userId, Pageable pageable);
+}
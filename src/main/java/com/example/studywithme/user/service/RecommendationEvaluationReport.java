@@ -0,0 +1,144 @@
+package com.example.studywithme.user.service;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 오프라인 추천 평가 결과 (엔진별 누적)
+ * - precision@K / recall@K 정의는 python/metrics.py 의 RecommendationMetrics 와 동일
+ *   (precision 분모는 min(K, 추천 개수), 추천이 비면 0)
+ * - coverage: 한 번이라도 추천된 서로 다른 게시글 수 / 전체 게시글 수
+ * - 지연 시간은 엔진 호출 1회(게시글 조회 포함) 기준 p50/p99
+ */
+public class RecommendationEvaluationReport {
+
+    private final int k;
+    private final Map<String, EngineResult> results = new LinkedHashMap<>();
+
+    public RecommendationEvaluationReport(int k) {
+        this.k = k;
+    }
+
+    public EngineResult engine(String name) {
+        return results.computeIfAbsent(name, n -> new EngineResult(n, k));
+    }
+
+    public Collection<EngineResult> results() {
+        return results.values();
+    }
+
+    /**
+     * 엔진별 결과 표를 만듭니다.
+     *
+     * @param totalPosts coverage 분모 (전체 게시글 수)
+     */
+    public String format(int totalPosts) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-12s %8s %9s %9s %9s %7s %7s %9s %9s%n",
+                "engine", "queries", "P@" + k, "R@" + k, "coverage", "empty", "errors", "p50(ms)", "p99(ms)"));
+        for (EngineResult r : results.values()) {
+            sb.append(String.format("%-12s %8d %9.4f %9.4f %9.4f %7d %7d %9.2f %9.2f%n",
+                    r.name, r.queries, r.precision(), r.recall(), r.coverage(totalPosts),
+                    r.emptyResults, r.errors, r.latencyMillis(0.50), r.latencyMillis(0.99)));
+        }
+        return sb.toString();
+    }
+
+    public static class EngineResult {
+
+        private final String name;
+        private final int k;
+        private final Set<Long> recommendedPosts = new HashSet<>();
+        private long[] latencies = new long[256];
+        private int latencyCount;
+        private double precisionSum;
+        private double recallSum;
+        private int queries;
+        private int emptyResults;
+        private int errors;
+
+        EngineResult(String name, int k) {
+            this.name = name;
+            this.k = k;
+        }
+
+        /**
+         * 추천 1회 결과를 반영합니다.
+         *
+         * @param recommended 추천 게시글 ID (추천 순서)
+         * @param relevant    평가 구간에서 사용자가 실제로 상호작용한 게시글 ID
+         */
+        public void record(List<Long> recommended, Set<Long> relevant, long elapsedNanos) {
+            addLatency(elapsedNanos);
+            queries++;
+            List<Long> top = recommended.size() > k ? recommended.subList(0, k) : recommended;
+            if (top.isEmpty()) {
+                emptyResults++;
+                return;
+            }
+            recommendedPosts.addAll(top);
+            if (relevant.isEmpty()) {
+                return;
+            }
+            int hits = 0;
+            for (Long id : new HashSet<>(top)) {
+                if (relevant.contains(id)) {
+                    hits++;
+                }
+            }
+            precisionSum += (double) hits / Math.min(k, top.size());
+            recallSum += (double) hits / relevant.size();
+        }
+
+        /**
+         * 예외로 끝난 호출 (precision/recall 은 0 으로 집계)
+         */
+        public void recordError(long elapsedNanos) {
+            addLatency(elapsedNanos);
+            queries++;
+            errors++;
+        }
+
+        public String name() { return name; }
+        public int queries() { return queries; }
+        public int emptyResults() { return emptyResults; }
+        public int errors() { return errors; }
+
+        public double precision() {
+            return queries == 0 ? 0.0 : precisionSum / queries;
+        }
+
+        public double recall() {
+            return queries == 0 ? 0.0 : recallSum / queries;
+        }
+
+        public double coverage(int totalPosts) {
+            return totalPosts == 0 ? 0.0 : (double) recommendedPosts.size() / totalPosts;
+        }
+
+        /**
+         * nearest-rank 방식 백분위 지연 시간 (ms)
+         */
+        public double latencyMillis(double percentile) {
+            if (latencyCount == 0) {
+                return 0.0;
+            }
+            long[] sorted = Arrays.copyOf(latencies, latencyCount);
+            Arrays.sort(sorted);
+            int rank = (int) Math.ceil(percentile * latencyCount);
+            return sorted[Math.max(0, Math.min(latencyCount, rank) - 1)] / 1_000_000.0;
+        }
+
+        private void addLatency(long nanos) {
+            if (latencyCount == latencies.length) {
+                latencies = Arrays.copyOf(latencies, latencyCount * 2);
+            }
+            latencies[latencyCount++] = nanos;
+        }
+    }
+}
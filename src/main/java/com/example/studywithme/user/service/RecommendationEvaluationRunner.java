@@ -0,0 +1,416 @@
+package com.example.studywithme.user.service;
+
+import com.example.studywithme.ai.service.ItemSimilarityEngine;
+import com.example.studywithme.ai.service.PythonRecommendationService;
+import com.example.studywithme.board.entity.Bookmark;
+import com.example.studywithme.board.entity.Post;
+import com.example.studywithme.board.entity.PostLike;
+import com.example.studywithme.board.repository.BookmarkRepository;
+import com.example.studywithme.board.repository.PostLikeRepository;
+import com.example.studywithme.board.repository.PostRepository;
+import com.example.studywithme.board.service.PostContentService;
+import com.example.studywithme.user.entity.User;
+import com.example.studywithme.user.entity.UserActivity.ActionType;
+import com.example.studywithme.user.entity.UserPreference;
+import com.example.studywithme.user.repository.UserPreferenceRepository;
+import com.example.studywithme.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.BiFunction;
+
+/**
+ * 오프라인 추천 평가 하네스 (devh2 전용)
+ *
+ * 1. 시드 고정 난수로 사용자/게시글/선호 카테고리와 시간순 활동 로그를 생성
+ * 2. 활동 로그를 시간 순서대로 실제 서비스 경로(UserActivityService 등)로 재생
+ * 3. 체크포인트마다 그 시점까지의 로그만 본 상태에서 엔진별 top-K 추천을 받고,
+ *    다음 체크포인트까지 사용자가 실제로 상호작용한 게시글을 정답으로 채점
+ *
+ * 실행: gradlew bootRun --args='--spring.profiles.active=devh2 --evaluation.recommendation.enabled=true'
+ */
+@Component
+@Profile("devh2")
+@ConditionalOnProperty(name = "evaluation.recommendation.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+@Order(10)
+public class RecommendationEvaluationRunner implements ApplicationRunner {
+
+    private static final Map<String, List<String>> CATEGORY_KEYWORDS = new LinkedHashMap<>();
+
+    static {
+        CATEGORY_KEYWORDS.put("개발", List.of("자바", "스프링", "파이썬", "알고리즘", "리액트", "데이터베이스"));
+        CATEGORY_KEYWORDS.put("자격증", List.of("정보처리기사", "SQLD", "컴활", "토목기사", "전기기사"));
+        CATEGORY_KEYWORDS.put("영어", List.of("토익", "오픽", "회화", "영단어", "토플"));
+        CATEGORY_KEYWORDS.put("취업", List.of("면접", "자소서", "코딩테스트", "인적성", "포트폴리오"));
+        CATEGORY_KEYWORDS.put("독서", List.of("고전", "인문학", "에세이", "자기계발서", "철학"));
+        CATEGORY_KEYWORDS.put("기타", List.of("루틴", "미라클모닝", "디자인", "공모전", "운동"));
+    }
+
+    private final UserRepository userRepository;
+    private final UserPreferenceRepository userPreferenceRepository;
+    private final PostRepository postRepository;
+    private final PostContentService postContentService;
+    private final PostLikeRepository postLikeRepository;
+    private final BookmarkRepository bookmarkRepository;
+    private final UserActivityService userActivityService;
+    private final UserRecommendationService userRecommendationService;
+    private final PythonRecommendationService pythonRecommendationService;
+    private final ItemSimilarityEngine itemSimilarityEngine;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationContext applicationContext;
+
+    @Value("${evaluation.recommendation.k:10}")
+    private int k;
+
+    @Value("${evaluation.recommendation.users:300}")
+    private int userCount;
+
+    @Value("${evaluation.recommendation.posts:600}")
+    private int postCount;
+
+    @Value("${evaluation.recommendation.events:30000}")
+    private int eventCount;
+
+    @Value("${evaluation.recommendation.seed:42}")
+    private long seed;
+
+    @Value("${evaluation.recommendation.checkpoints:0.6,0.7,0.8,0.9}")
+    private double[] checkpoints;
+
+    @Value("${evaluation.recommendation.sample-users:100}")
+    private int sampleUsers;
+
+    @Value("${evaluation.recommendation.engines:python,item-cf,preference,keyword}")
+    private List<String> engineNames;
+
+    @Value("${evaluation.recommendation.report-path:build/reports/recommendation-eval.txt}")
+    private String reportPath;
+
+    @Value("${evaluation.recommendation.exit-on-finish:true}")
+    private boolean exitOnFinish;
+
+    /**
+     * 재생할 활동 1건 (리스트 순서가 곧 시간 순서)
+     */
+    record ReplayEvent(int user, int post, ActionType type, String keyword) {}
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        long start = System.currentTimeMillis();
+        Random random = new Random(seed);
+
+        // 1. 데이터 생성
+        List<User> users = createUsers(random);
+        List<Post> posts = createPosts(random, users);
+        Map<Integer, List<String>> userCategories = createPreferences(random, users);
+        List<ReplayEvent> events = generateEvents(random, users, posts, userCategories);
+        log.info("추천 평가 데이터 생성 완료: 사용자 {}명, 게시글 {}개, 활동 {}건",
+                users.size(), posts.size(), events.size());
+
+        // 2. 시간순 재생 + 체크포인트별 채점
+        Map<String, BiFunction<Integer, Integer, List<Long>>> engines = resolveEngines();
+        RecommendationEvaluationReport report = new RecommendationEvaluationReport(k);
+        int[] viewDelta = new int[posts.size()];
+        int[] likeDelta = new int[posts.size()];
+        double[] cuts = Arrays.stream(checkpoints).sorted().toArray();
+        int replayed = 0;
+
+        for (int c = 0; c < cuts.length; c++) {
+            int cut = (int) (events.size() * cuts[c]);
+            int horizonEnd = c + 1 < cuts.length ? (int) (events.size() * cuts[c + 1]) : events.size();
+            replay(events.subList(replayed, cut), users, posts, viewDelta, likeDelta);
+            replayed = cut;
+            flushCounters(posts, viewDelta, likeDelta);
+            if (engines.containsKey("item-cf")) {
+                itemSimilarityEngine.rebuild();
+            }
+
+            Map<Integer, Set<Long>> relevant = futureInteractions(events.subList(cut, horizonEnd), users, posts);
+            List<Integer> sampled = new ArrayList<>(relevant.keySet());
+            Collections.shuffle(sampled, new Random(seed + c));
+            sampled = sampled.subList(0, Math.min(sampleUsers, sampled.size()));
+
+            for (Map.Entry<String, BiFunction<Integer, Integer, List<Long>>> engine : engines.entrySet()) {
+                RecommendationEvaluationReport.EngineResult result = report.engine(engine.getKey());
+                for (Integer userId : sampled) {
+                    long t0 = System.nanoTime();
+                    try {
+                        List<Long> recommended = engine.getValue().apply(userId, k);
+                        result.record(recommended, relevant.get(userId), System.nanoTime() - t0);
+                    } catch (Exception e) {
+                        result.recordError(System.nanoTime() - t0);
+                        log.debug("추천 평가 중 엔진 오류: {} userId={}", engine.getKey(), userId, e);
+                    }
+                }
+            }
+            log.info("체크포인트 {}/{} 완료: 재생 {}건, 평가 사용자 {}명",
+                    c + 1, cuts.length, cut, sampled.size());
+        }
+
+        // 3. 결과 출력
+        String table = report.format(posts.size());
+        String header = String.format("# 추천 오프라인 평가 (K=%d, 사용자 %d, 게시글 %d, 활동 %d, 체크포인트 %s, seed %d)%n",
+                k, users.size(), posts.size(), events.size(), Arrays.toString(cuts), seed);
+        log.info("추천 오프라인 평가 결과 ({}ms)\n{}{}", System.currentTimeMillis() - start, header, table);
+        Path out = Paths.get(reportPath);
+        if (out.getParent() != null) {
+            Files.createDirectories(out.getParent());
+        }
+        Files.writeString(out, header + table, StandardCharsets.UTF_8);
+        log.info("추천 평가 리포트 저장: {}", out.toAbsolutePath());
+
+        if (exitOnFinish) {
+            System.exit(SpringApplication.exit(applicationContext, () -> 0));
+        }
+    }
+
+    /**
+     * 평가 대상 엔진 (이름 → (userId, K) → 추천 게시글 ID)
+     */
+    private Map<String, BiFunction<Integer, Integer, List<Long>>> resolveEngines() {
+        Map<String, BiFunction<Integer, Integer, List<Long>>> engines = new LinkedHashMap<>();
+        for (String raw : engineNames) {
+            String name = raw.trim();
+            switch (name) {
+                case "python" -> engines.put(name, (u, n) -> ids(pythonRecommendationService.getRecommendedPosts(u, n)));
+                case "item-cf" -> engines.put(name, itemSimilarityEngine::recommendForUser);
+                case "preference" -> engines.put(name, (u, n) -> ids(userRecommendationService.recommendByUserPreference(u, n)));
+                case "keyword" -> engines.put(name, (u, n) -> ids(userRecommendationService.recommendPostsByKeyword(u, n)));
+                default -> log.warn("알 수 없는 추천 엔진 이름은 건너뜁니다: {}", name);
+            }
+        }
+        return engines;
+    }
+
+    private static List<Long> ids(List<Post> posts) {
+        return posts.stream().map(Post::getId).toList();
+    }
+
+    private List<User> createUsers(Random random) {
+        List<User> users = new ArrayList<>(userCount);
+        for (int i = 0; i < userCount; i++) {
+            User user = new User();
+            user.setRealName("평가사용자" + i);
+            user.setBirthDate(LocalDate.of(1990 + random.nextInt(15), 1 + random.nextInt(12), 1 + random.nextInt(28)));
+            user.setEmail("eval-user-" + i + "@studywithme.local");
+            user.setPassword("evaluation-only");
+            user.setEmailVerified(true);
+            users.add(user);
+        }
+        return userRepository.saveAll(users);
+    }
+
+    private List<Post> createPosts(Random random, List<User> users) {
+        List<String> categories = new ArrayList<>(CATEGORY_KEYWORDS.keySet());
+        List<Post> posts = new ArrayList<>(postCount);
+        for (int i = 0; i < postCount; i++) {
+            String category = categories.get(random.nextInt(categories.size()));
+            List<String> keywords = CATEGORY_KEYWORDS.get(category);
+            String first = keywords.get(random.nextInt(keywords.size()));
+            String second = keywords.get(random.nextInt(keywords.size()));
+            Post post = new Post();
+            post.setUser(users.get(random.nextInt(users.size())));
+            post.setTitle(first + " " + second + " 스터디 #" + i);
+            post.setContent(category + " 카테고리 " + first + ", " + second + " 관련 평가용 게시글입니다.");
+            post.setCategory(category);
+            post.setTags(first.equals(second) ? first : first + "," + second);
+            posts.add(post);
+        }
+        List<Post> saved = postRepository.saveAll(posts);
+        postContentService.saveAll(saved);
+        return saved;
+    }
+
+    /**
+     * 사용자마다 1~2개의 선호 카테고리를 저장합니다. (활동 생성 시 같은 선호를 사용)
+     */
+    private Map<Integer, List<String>> createPreferences(Random random, List<User> users) {
+        List<String> categories = new ArrayList<>(CATEGORY_KEYWORDS.keySet());
+        Map<Integer, List<String>> result = new HashMap<>();
+        List<UserPreference> preferences = new ArrayList<>();
+        for (int i = 0; i < users.size(); i++) {
+            List<String> shuffled = new ArrayList<>(categories);
+            Collections.shuffle(shuffled, random);
+            List<String> chosen = shuffled.subList(0, 1 + random.nextInt(2));
+            result.put(i, List.copyOf(chosen));
+            for (String category : chosen) {
+                UserPreference preference = new UserPreference();
+                preference.setUser(users.get(i));
+                preference.setRealName(users.get(i).getRealName());
+                preference.setCategoryName(category);
+                preference.setPreferenceScore(5.0f);
+                preferences.add(preference);
+            }
+        }
+        userPreferenceRepository.saveAll(preferences);
+        return result;
+    }
+
+    /**
+     * 시간순 활동 로그 생성
+     * - 사용자 활동량과 카테고리 내 게시글 인기도는 멱법칙(소수에 집중)
+     * - 80%는 선호 카테고리, 20%는 전체 게시글에서 탐색
+     * - 좋아요/북마크는 (사용자, 게시글)당 한 번만 발생
+     */
+    private List<ReplayEvent> generateEvents(Random random, List<User> users, List<Post> posts,
+                                             Map<Integer, List<String>> userCategories) {
+        Map<String, List<Integer>> postsByCategory = new HashMap<>();
+        for (int p = 0; p < posts.size(); p++) {
+            postsByCategory.computeIfAbsent(posts.get(p).getCategory(), c -> new ArrayList<>()).add(p);
+        }
+        Set<Long> liked = new HashSet<>();
+        Set<Long> bookmarked = new HashSet<>();
+        List<ReplayEvent> events = new ArrayList<>(eventCount);
+
+        while (events.size() < eventCount) {
+            int user = powerLaw(random, users.size());
+            List<String> preferred = userCategories.get(user);
+            String category = preferred.get(random.nextInt(preferred.size()));
+            int post;
+            if (random.nextDouble() < 0.8) {
+                List<Integer> pool = postsByCategory.getOrDefault(category, List.of());
+                if (pool.isEmpty()) {
+                    continue;
+                }
+                post = pool.get(powerLaw(random, pool.size()));
+            } else {
+                post = random.nextInt(posts.size());
+            }
+
+            double roll = random.nextDouble();
+            long pair = ((long) user << 32) | post;
+            if (roll < 0.05) {
+                List<String> keywords = CATEGORY_KEYWORDS.get(category);
+                events.add(new ReplayEvent(user, -1, ActionType.SEARCH, keywords.get(random.nextInt(keywords.size()))));
+            } else if (roll < 0.75) {
+                events.add(new ReplayEvent(user, post, ActionType.CLICK, null));
+            } else if (roll < 0.88) {
+                if (liked.add(pair)) {
+                    events.add(new ReplayEvent(user, post, ActionType.LIKE, null));
+                }
+            } else if (roll < 0.95) {
+                if (bookmarked.add(pair)) {
+                    events.add(new ReplayEvent(user, post, ActionType.BOOKMARK, null));
+                }
+            } else {
+                events.add(new ReplayEvent(user, post, ActionType.COMMENT, null));
+            }
+        }
+        return events;
+    }
+
+    /**
+     * 활동을 서비스 경로 그대로 저장합니다. (협업 필터링 큐 기록, post_likes/bookmarks 행 포함)
+     * 조회수/좋아요 수는 배열에 모았다가 체크포인트에서 한 번에 반영합니다.
+     */
+    private void replay(List<ReplayEvent> events, List<User> users, List<Post> posts,
+                        int[] viewDelta, int[] likeDelta) {
+        int chunk = 1000;
+        for (int from = 0; from < events.size(); from += chunk) {
+            List<ReplayEvent> batch = events.subList(from, Math.min(events.size(), from + chunk));
+            transactionTemplate.executeWithoutResult(status -> {
+                for (ReplayEvent event : batch) {
+                    User user = users.get(event.user());
+                    Post post = event.post() >= 0 ? posts.get(event.post()) : null;
+                    switch (event.type()) {
+                        case SEARCH -> userActivityService.logSearch(user, event.keyword());
+                        case CLICK -> {
+                            userActivityService.logViewPost(user, post.getId(), post.getTitle(), post.getTags());
+                            viewDelta[event.post()]++;
+                        }
+                        case LIKE -> {
+                            PostLike like = new PostLike();
+                            like.setUserId(user.getId());
+                            like.setPostId(post.getId());
+                            postLikeRepository.save(like);
+                            userActivityService.logLikePost(user, post.getId());
+                            likeDelta[event.post()]++;
+                        }
+                        case BOOKMARK -> {
+                            Bookmark bookmark = new Bookmark();
+                            bookmark.setUser(user);
+                            bookmark.setPost(post);
+                            bookmarkRepository.save(bookmark);
+                            userActivityService.logBookmark(user, post.getId());
+                        }
+                        case COMMENT -> userActivityService.logComment(user, post.getId());
+                        default -> { }
+                    }
+                }
+            });
+        }
+    }
+
+    private void flushCounters(List<Post> posts, int[] viewDelta, int[] likeDelta) {
+        List<Post> changed = new ArrayList<>();
+        for (int p = 0; p < posts.size(); p++) {
+            if (viewDelta[p] == 0 && likeDelta[p] == 0) {
+                continue;
+            }
+            Post post = posts.get(p);
+            post.setViewCount(post.getViewCount() + viewDelta[p]);
+            post.setLikeCount(post.getLikeCount() + likeDelta[p]);
+            viewDelta[p] = 0;
+            likeDelta[p] = 0;
+            changed.add(post);
+        }
+        if (changed.isEmpty()) {
+            return;
+        }
+        // popularity_score는 엔티티 저장으로 바뀌지 않으므로 같은 트랜잭션에서 재계산
+        transactionTemplate.executeWithoutResult(status -> {
+            postRepository.saveAll(changed);
+            postRepository.refreshPopularityScores(changed.stream().map(Post::getId).toList());
+        });
+    }
+
+    /**
+     * 평가 구간에서 사용자별로 실제 상호작용한 게시글 (검색 제외)
+     */
+    private static Map<Integer, Set<Long>> futureInteractions(List<ReplayEvent> window, List<User> users, List<Post> posts) {
+        Map<Integer, Set<Long>> relevant = new TreeMap<>();
+        for (ReplayEvent event : window) {
+            if (event.post() < 0) {
+                continue;
+            }
+            relevant.computeIfAbsent(users.get(event.user()).getId(), u -> new HashSet<>())
+                    .add(posts.get(event.post()).getId());
+        }
+        return relevant;
+    }
+
+    /**
+     * [0, n) 범위에서 앞쪽 인덱스일수록 자주 뽑히는 난수
+     */
+    private static int powerLaw(Random random, int n) {
+        return Math.min(n - 1, (int) (Math.pow(n + 1, random.nextDouble()) - 1));
+    }
+}
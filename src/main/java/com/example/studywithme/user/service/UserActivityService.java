@@ -1,5 +1,6 @@
 package com.example.studywithme.user.service;
 
+import com.example.studywithme.ai.service.ItemSimilarityEngine;
 import com.example.studywithme.user.entity.User;
 import com.example.studywithme.user.entity.UserActivity;
 import com.example.studywithme.user.repository.UserActivityRepository;
@@ -12,6 +13,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserActivityService {
 
     private final UserActivityRepository userActivityRepository;
+    private final ItemSimilarityEngine itemSimilarityEngine;
 
     @Transactional
     public void logSearch(User user, String keyword) {
@@ -35,6 +37,7 @@ public class UserActivityService {
         ua.setTargetKeyword(tags);
         ua.setActionDetail(title);
         userActivityRepository.save(ua);
+        itemSimilarityEngine.recordInteraction(user.getId(), postId, UserActivity.ActionType.CLICK);
     }
 
     @Transactional
@@ -46,6 +49,7 @@ public class UserActivityService {
         ua.setActionType(UserActivity.ActionType.LIKE);
         ua.setTargetId(postId);
         userActivityRepository.save(ua);
+        itemSimilarityEngine.recordInteraction(user.getId(), postId, UserActivity.ActionType.LIKE);
     }
 
     @Transactional
@@ -57,6 +61,7 @@ public class UserActivityService {
         ua.setActionType(UserActivity.ActionType.BOOKMARK);
         ua.setTargetId(postId);
         userActivityRepository.save(ua);
+        itemSimilarityEngine.recordInteraction(user.getId(), postId, UserActivity.ActionType.BOOKMARK);
     }
 
     @Transactional
@@ -68,6 +73,7 @@ public class UserActivityService {
         ua.setActionType(UserActivity.ActionType.COMMENT);
         ua.setTargetId(postId);
         userActivityRepository.save(ua);
+        itemSimilarityEngine.recordInteraction(user.getId(), postId, UserActivity.ActionType.COMMENT);
     }
 
     @Transactional
@@ -1,10 +1,12 @@
 package com.example.studywithme.user.service;
 
+import com.example.studywithme.ai.service.ItemSimilarityEngine;
 import com.example.studywithme.ai.service.PythonRecommendationService;
 import com.example.studywithme.board.entity.Post;
 import com.example.studywithme.user.entity.UserActivity.ActionType;
 import com.example.studywithme.user.entity.UserPreference;
 import com.example.studywithme.board.repository.PostRepository;
+import com.example.studywithme.board.service.PostSearchService;
 import com.example.studywithme.user.repository.UserActivityRepository;
 import com.example.studywithme.user.repository.UserPreferenceRepository;
 import lombok.RequiredArgsConstructor;
@@ -21,14 +23,17 @@ public class UserRecommendationService {
 
     private final UserActivityRepository userActivityRepository;
     private final PostRepository postRepository;
+    private final PostSearchService postSearchService;
     private final PythonRecommendationService pythonRecommendationService;
     private final UserPreferenceRepository userPreferenceRepository;
+    private final ItemSimilarityEngine itemSimilarityEngine;
 
     /**
      * AI 기반 추천 게시글 조회
      * - 1순위: Python 추천 엔진 (사용자 활동 로그 기반, 동적 추천)
-     * - 2순위: 사용자 선호 카테고리 기반 간단 추천 (고정 프로필 기반)
-     * - 3순위: 키워드 기반 폴백
+     * - 2순위: Java item-item 협업 필터링 (메모리 상주 CSR 행렬)
+     * - 3순위: 사용자 선호 카테고리 기반 간단 추천 (고정 프로필 기반)
+     * - 4순위: 키워드 기반 폴백
      */
     public List<Post> recommendPosts(Integer userId, int limit) {
         // 비로그인: 전역 인기 글
@@ -61,7 +66,14 @@ public class UserRecommendationService {
             e.printStackTrace();
         }
 
-        // 2. Python 결과가 비었을 때만 고정 프로필/키워드 기반 폴백 사용
+        // 2. Java 협업 필터링 (DB 조회 없이 메모리 행렬에서 계산)
+        List<Post> byItemSimilarity = recommendByItemSimilarity(userId, limit);
+        if (!byItemSimilarity.isEmpty()) {
+            System.out.println("✅ Java 협업 필터링 추천: " + byItemSimilarity.size() + "개 게시글 추천");
+            return byItemSimilarity;
+        }
+
+        // 3. 위 결과가 모두 비었을 때만 고정 프로필/키워드 기반 폴백 사용
         //    (기존 로직을 유지하지만, 우선순위는 항상 Python 추천이 가장 높음)
         System.out.println("📌 고정 프로필 기반 추천 또는 키워드 기반 폴백 사용");
         
@@ -76,11 +88,28 @@ public class UserRecommendationService {
         return recommendPostsByKeyword(userId, limit);
     }
 
+    /**
+     * item-item 협업 필터링 기반 추천 (추천 순서 유지)
+     */
+    private List<Post> recommendByItemSimilarity(Integer userId, int limit) {
+        List<Long> postIds = itemSimilarityEngine.recommendForUser(userId, limit);
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Post> byId = postRepository.findAllById(postIds).stream()
+                .collect(Collectors.toMap(Post::getId, p -> p));
+        return postIds.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
     /**
      * 사용자 선호 카테고리(UserPreference) 기반 간단 추천
      * - 각 카테고리별 인기순으로 가져와서, 선호 점수 높은 카테고리부터 채움
+     * - 오프라인 평가(RecommendationEvaluationRunner)에서도 엔진 단독으로 호출
      */
-    private List<Post> recommendByUserPreference(Integer userId, int limit) {
+    public List<Post> recommendByUserPreference(Integer userId, int limit) {
         List<UserPreference> preferences = userPreferenceRepository.findByUser_Id(userId);
         if (preferences.isEmpty()) {
             return List.of();
@@ -127,8 +156,9 @@ public class UserRecommendationService {
 
     /**
      * 키워드 기반 추천 (기존 방식)
+     * - 오프라인 평가(RecommendationEvaluationRunner)에서도 엔진 단독으로 호출
      */
-    private List<Post> recommendPostsByKeyword(Integer userId, int limit) {
+    public List<Post> recommendPostsByKeyword(Integer userId, int limit) {
         // 비로그인 또는 활동 부족: 최신 글
         if (userId == null) {
             return postRepository.findAllByOrderByCreatedAtDesc(PageRequest.of(0, limit)).getContent();
@@ -182,7 +212,7 @@ public class UserRecommendationService {
         Map<Long, Score> scoreMap = new HashMap<>();
 
         for (String kw : keywords) {
-            var page = postRepository.searchByKeyword(kw, PageRequest.of(0, limit));
+            var page = postSearchService.search(kw, PageRequest.of(0, limit));
             int w = keywordWeight.getOrDefault(kw, 1);
             for (Post p : page) {
                 // 2. 폴백 추천에서도 "선호 카테고리"에 속한 게시글만 점수 계산
@@ -4,18 +4,52 @@ import com.example.studywithme.board.repository.BookmarkRepository;
 import com.example.studywithme.board.repository.PostApplicationRepository;
 import com.example.studywithme.board.repository.PostLikeRepository;
 import com.example.studywithme.board.repository.PostRepository;
+import com.example.studywithme.user.entity.UserActivityStats;
+import com.example.studywithme.user.repository.UserActivityStatsRepository;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자 활동 통계 (작성자 카드, 마이페이지)
+ * - user_activity_stats 한 행에서 읽고 레벨/경험치를 계산 (조회마다 COUNT 5회 → PK 조회 1회)
+ * - 작성·삭제, 좋아요, 북마크, 지원은 호출한 트랜잭션 안에서 증감 (롤백되면 함께 취소)
+ * - 받은 좋아요는 LikeCountBuffer가 like_count를 반영할 때 작성자 게시글 합으로 다시 계산 (인기 작성자 행을 좋아요마다 잠그지 않음)
+ * - 행이 없으면 첫 조회 때 COUNT로 만듦. 증감·생성 경합이나 게시글 삭제 외 경로로 생긴 차이는
+ *   reconcile-interval-ms마다 정확히 다시 세어 바로잡음 (읽은 뒤 바뀐 행은 건너뛰고 다음 주기에 확인)
+ */
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class UserStatsService {
 
+    private static final int RECONCILE_BATCH = 500;
+    private static final int MAX_IDS_PER_UPDATE = 1000;
+
     private final PostRepository postRepository;
     private final PostLikeRepository postLikeRepository;
     private final BookmarkRepository bookmarkRepository;
     private final PostApplicationRepository postApplicationRepository;
+    private final UserActivityStatsRepository statsRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${user-stats.reconcile-enabled:true}")
+    private boolean reconcileEnabled;
 
     /**
      * 사용자 활동 통계를 조회합니다.
@@ -23,34 +57,149 @@ public class UserStatsService {
      * 간단한 레벨/경험치를 계산합니다.
      */
     public UserStats getUserStats(Integer userId) {
-        long postCount = postRepository.countByUser_Id(userId);
-        long likesGiven = postLikeRepository.countByUserId(userId);
-        long likesReceived = postRepository.sumLikeCountByUserId(userId);
-        long bookmarks = bookmarkRepository.countByUser_Id(userId);
-        long applications = postApplicationRepository.countByUser_Id(userId);
-
-        // 간단한 활동 점수 계산식 (운영 단계에서 조정 가능)
-        long activityScore =
-                postCount * 5L +
-                likesGiven * 2L +
-                likesReceived * 3L +
-                bookmarks +
-                applications * 4L;
-
-        int level = (int) (activityScore / 50L) + 1; // 50점 당 레벨 1 상승
-        long remainder = activityScore % 50L;
-        int expPercent = (int) Math.min(100, Math.round((remainder / 50.0) * 100));
-
-        UserStats stats = new UserStats();
-        stats.postCount = postCount;
-        stats.likesGiven = likesGiven;
-        stats.likesReceived = likesReceived;
-        stats.bookmarks = bookmarks;
-        stats.applications = applications;
-        stats.level = level;
-        stats.expPercent = expPercent;
-        stats.activityScore = activityScore;
-        return stats;
+        UserActivityStats row = statsRepository.findById(userId).orElseGet(() -> create(userId));
+        return UserStats.of(row.getPostCount(), row.getLikesGiven(), row.getLikesReceived(),
+                row.getBookmarks(), row.getApplications());
+    }
+
+    // 게시글 작성
+    @Transactional
+    public void postCreated(Integer userId) {
+        statsRepository.addDeltas(userId, 1, 0, 0, 0);
+    }
+
+    // 게시글 삭제 직전 (좋아요·북마크·지원 행이 아직 남아 있을 때 호출)
+    @Transactional
+    public void postDeleted(Long postId, Integer authorId) {
+        statsRepository.removeLikesOfPost(postId);
+        statsRepository.removeBookmarksOfPost(postId);
+        statsRepository.removeApplicationsOfPost(postId);
+        statsRepository.removePostOfAuthor(postId, authorId);
+    }
+
+    // 좋아요 추가(+1)/취소(-1)
+    @Transactional
+    public void likeChanged(Integer userId, int delta) {
+        statsRepository.addDeltas(userId, 0, delta, 0, 0);
+    }
+
+    // 북마크 추가(+1)/취소(-1)
+    @Transactional
+    public void bookmarkChanged(Integer userId, int delta) {
+        statsRepository.addDeltas(userId, 0, 0, delta, 0);
+    }
+
+    // 새 지원서 (취소 후 재지원은 같은 행이라 변화 없음)
+    @Transactional
+    public void applicationCreated(Integer userId) {
+        statsRepository.addDeltas(userId, 0, 0, 0, 1);
+    }
+
+    /**
+     * like_count가 바뀐 게시글 작성자의 받은 좋아요를 다시 합산 (LikeCountBuffer 반영 트랜잭션 안에서 호출)
+     */
+    @Transactional
+    public void likesReceivedChanged(Collection<Long> postIds) {
+        List<Long> ids = new ArrayList<>(postIds);
+        for (int from = 0; from < ids.size(); from += MAX_IDS_PER_UPDATE) {
+            statsRepository.refreshLikesReceivedOfPosts(ids.subList(from, Math.min(ids.size(), from + MAX_IDS_PER_UPDATE)));
+        }
+    }
+
+    /**
+     * 모든 통계 행을 정확히 다시 세어 어긋난 행만 덮어씀
+     */
+    @Scheduled(initialDelayString = "${user-stats.reconcile-interval-ms:3600000}",
+               fixedDelayString = "${user-stats.reconcile-interval-ms:3600000}")
+    public void reconcile() {
+        if (!reconcileEnabled) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        int checked = 0;
+        int corrected = 0;
+        int skipped = 0;
+        try {
+            Integer after = Integer.MIN_VALUE;
+            while (true) {
+                // 행을 먼저 읽고 COUNT → 그 사이 증감이 있었으면 버전이 달라 덮어쓰지 않음
+                List<UserActivityStats> rows = statsRepository.findByUserIdGreaterThanOrderByUserIdAsc(
+                        after, PageRequest.of(0, RECONCILE_BATCH));
+                if (rows.isEmpty()) {
+                    break;
+                }
+                Map<Integer, long[]> exact = countExact(rows.stream().map(UserActivityStats::getUserId).toList());
+                for (UserActivityStats row : rows) {
+                    checked++;
+                    long[] counts = exact.getOrDefault(row.getUserId(), new long[5]);
+                    if (matches(row, counts)) {
+                        continue;
+                    }
+                    Integer updated = transactionTemplate.execute(status -> statsRepository.overwriteIfUnchanged(
+                            row.getUserId(), row.getVersion(), counts[0], counts[1], counts[2], counts[3], counts[4]));
+                    if (updated != null && updated > 0) {
+                        corrected++;
+                        log.debug("활동 통계 보정: {} → {}", row, Arrays.toString(counts));
+                    } else {
+                        skipped++;
+                    }
+                }
+                after = rows.get(rows.size() - 1).getUserId();
+                if (rows.size() < RECONCILE_BATCH) {
+                    break;
+                }
+            }
+            log.info("활동 통계 재계산: {}명 확인, {}명 보정, {}명 변경 중이라 다음 주기로 ({}ms)",
+                    checked, corrected, skipped, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("활동 통계 재계산 실패 ({}명 확인 후)", checked, e);
+        }
+    }
+
+    private UserActivityStats create(Integer userId) {
+        long[] counts = countExact(List.of(userId)).getOrDefault(userId, new long[5]);
+        UserActivityStats row = new UserActivityStats();
+        row.setUserId(userId);
+        row.setPostCount(counts[0]);
+        row.setLikesGiven(counts[1]);
+        row.setLikesReceived(counts[2]);
+        row.setBookmarks(counts[3]);
+        row.setApplications(counts[4]);
+        row.setUpdatedAt(LocalDateTime.now());
+        try {
+            return statsRepository.save(row);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 요청이 먼저 만듦
+            return statsRepository.findById(userId).orElse(row);
+        }
+    }
+
+    /**
+     * 사용자별 [게시글 수, 누른 좋아요, 받은 좋아요, 북마크, 지원] (쿼리 4회, 활동이 없는 사용자는 빠짐)
+     */
+    private Map<Integer, long[]> countExact(Collection<Integer> userIds) {
+        Map<Integer, long[]> counts = new HashMap<>();
+        for (Object[] row : postRepository.countAndSumLikesByUserIds(userIds)) {
+            long[] c = counts.computeIfAbsent((Integer) row[0], id -> new long[5]);
+            c[0] = ((Number) row[1]).longValue();
+            c[2] = ((Number) row[2]).longValue();
+        }
+        merge(counts, postLikeRepository.countByUserIds(userIds), 1);
+        merge(counts, bookmarkRepository.countByUserIds(userIds), 3);
+        merge(counts, postApplicationRepository.countByUserIds(userIds), 4);
+        return counts;
+    }
+
+    private static void merge(Map<Integer, long[]> counts, List<Object[]> rows, int index) {
+        for (Object[] row : rows) {
+            counts.computeIfAbsent((Integer) row[0], id -> new long[5])[index] = ((Number) row[1]).longValue();
+        }
+    }
+
+    private static boolean matches(UserActivityStats row, long[] counts) {
+        return row.getPostCount() == counts[0] && row.getLikesGiven() == counts[1]
+                && row.getLikesReceived() == counts[2] && row.getBookmarks() == counts[3]
+                && row.getApplications() == counts[4];
     }
 
     @Getter
@@ -64,7 +213,30 @@ public class UserStatsService {
         private int level;
         private int expPercent;
         private long activityScore;
-    }
-}
 
+        static UserStats of(long postCount, long likesGiven, long likesReceived, long bookmarks, long applications) {
+            // 간단한 활동 점수 계산식 (운영 단계에서 조정 가능)
+            long activityScore =
+                    postCount * 5L +
+                    likesGiven * 2L +
+                    likesReceived * 3L +
+                    bookmarks +
+                    applications * 4L;
+
+            int level = (int) (activityScore / 50L) + 1; // 50점 당 레벨 1 상승
+            long remainder = activityScore % 50L;
+            int expPercent = (int) Math.min(100, Math.round((remainder / 50.0) * 100));
 
+            UserStats stats = new UserStats();
+            stats.postCount = postCount;
+            stats.likesGiven = likesGiven;
+            stats.likesReceived = likesReceived;
+            stats.bookmarks = bookmarks;
+            stats.applications = applications;
+            stats.level = level;
+            stats.expPercent = expPercent;
+            stats.activityScore = activityScore;
+            return stats;
+        }
+    }
+}
@@ -174,12 +174,17 @@ function saveJSON(key, value) {
 ========================================================= */
 if (isList) {
   const boardList = $("#boardList");
-  const PAGE_SIZE = 9;
-  let currentPage = 1;
+  const sentinel = $("#feedSentinel");
+  const FEED_SIZE = 20;
   let activeTag = "";
   let postsData = [];
+  // 커서 페이지 상태 (/api/posts/feed 의 nextCursor를 그대로 다음 요청에 전달)
+  let nextCursor = null;
+  let hasNext = false;
+  let loading = false;
+  let feedVersion = 0;
 
-  async function fetchPosts() {
+  async function fetchPosts(cursor) {
     try {
       const sort = $("#sortFilter")?.value || "latest";
       // 카테고리 필터 값 가져오기
@@ -193,18 +198,67 @@ if (isList) {
         category = urlParams.get('category') || "";
       }
       
-      let url = `/api/posts?sort=${sort}&size=100`;
+      let url = `/api/posts/feed?sort=${sort}&size=${FEED_SIZE}`;
       if (category) {
         url += `&category=${encodeURIComponent(category)}`;
       }
+      if (cursor) {
+        url += `&cursor=${encodeURIComponent(cursor)}`;
+      }
       
       const response = await fetch(url);
       if (!response.ok) throw new Error('Failed to fetch');
       const data = await response.json();
-      return data.content || data || [];
+      return { content: data.content || [], hasNext: !!data.hasNext, nextCursor: data.nextCursor || null };
     } catch (error) {
       console.error('Error fetching posts:', error);
-      return [];
+      return { content: [], hasNext: false, nextCursor: null };
+    }
+  }
+
+  // 정렬/카테고리/검색이 바뀌면 처음부터 다시 로드 (이전 요청 응답은 버림)
+  async function reloadPosts() {
+    const version = ++feedVersion;
+    postsData = [];
+    nextCursor = null;
+    hasNext = false;
+    loading = true;
+    updateFeedStatus();
+    const page = await fetchPosts(null);
+    if (version !== feedVersion) return;
+    postsData = page.content;
+    nextCursor = page.nextCursor;
+    hasNext = page.hasNext;
+    loading = false;
+    renderList();
+    renderTagFilter(buildTagList(postsData));
+  }
+
+  // 다음 커서 페이지를 이어 붙임
+  async function loadMore() {
+    if (!hasNext || loading) return;
+    const version = feedVersion;
+    loading = true;
+    updateFeedStatus();
+    const page = await fetchPosts(nextCursor);
+    if (version !== feedVersion) return;
+    postsData = postsData.concat(page.content);
+    nextCursor = page.nextCursor;
+    hasNext = page.hasNext;
+    loading = false;
+    renderList();
+  }
+
+  function updateFeedStatus() {
+    if (!sentinel) return;
+    sentinel.textContent = loading ? "불러오는 중..." : "";
+  }
+
+  // 필터로 걸러져 화면이 덜 찼으면 센티널이 계속 보이므로 한 페이지 더
+  function fillViewport() {
+    if (!sentinel || !hasNext || loading) return;
+    if (sentinel.getBoundingClientRect().top <= window.innerHeight + 200) {
+      loadMore();
     }
   }
 
@@ -224,7 +278,7 @@ if (isList) {
     if (!category) return true;
     const cat = category.trim();
     const title = (post.title || "").toLowerCase();
-    const content = (post.content || "").toLowerCase();
+    const content = (post.excerpt || "").toLowerCase();
     const tagsArr = typeof post.tags === 'string'
       ? post.tags.split(',').map(t => t.trim().toLowerCase())
       : (post.tags || []).map(t => (t || '').toLowerCase());
@@ -298,7 +352,7 @@ if (isList) {
       data = data.filter(
         (p) =>
           p.title.toLowerCase().includes(lower) ||
-          p.content.toLowerCase().includes(lower) ||
+          (p.excerpt || "").toLowerCase().includes(lower) ||
           (p.tags && (typeof p.tags === 'string' ? p.tags : p.tags.join(',')).toLowerCase().includes(lower))
       );
     }
@@ -318,11 +372,7 @@ if (isList) {
       });
     }
 
-    if (sort === "popular") {
-      data.sort((a, b) => (b.likeCount || 0) - (a.likeCount || 0));
-    } else {
-      data.sort((a, b) => new Date(b.createdAt) - new Date(a.createdAt));
-    }
+    // 정렬은 서버 커서 순서(최신순·인기순·트렌딩) 그대로. 다시 정렬하면 이어 붙인 페이지와 순서가 어긋남
 
     return data;
   }
@@ -339,29 +389,29 @@ if (isList) {
       pill.addEventListener("click", () => {
         activeTag = activeTag === tag ? "" : tag;
         renderTagFilter(tags);
-        renderList(1);
+        renderList();
       });
       row.appendChild(pill);
     });
   }
 
-  function renderList(page = 1) {
+  function renderList() {
     const filtered = getFiltered();
-    const totalPage = Math.max(1, Math.ceil(filtered.length / PAGE_SIZE));
-    if (page > totalPage) page = totalPage;
-    currentPage = page;
 
     if (!boardList) return;
     boardList.innerHTML = "";
+    updateFeedStatus();
 
-    const slice = filtered.slice((page - 1) * PAGE_SIZE, page * PAGE_SIZE);
-    if (!slice.length) {
-      boardList.innerHTML =
-        '<p style="font-size:13px;color:#9ca3af;text-align:center;padding:40px;">조건에 맞는 게시글이 없습니다.</p>';
+    if (!filtered.length) {
+      if (!hasNext) {
+        boardList.innerHTML =
+          '<p style="font-size:13px;color:#9ca3af;text-align:center;padding:40px;">조건에 맞는 게시글이 없습니다.</p>';
+      }
+      fillViewport();
       return;
     }
 
-    slice.forEach((p) => {
+    filtered.forEach((p) => {
       const card = document.createElement("div");
       card.className = "card";
       const tags = typeof p.tags === 'string' ? p.tags.split(',').map(t => t.trim()).filter(t => t) : (p.tags || []);
@@ -384,8 +434,7 @@ if (isList) {
       boardList.appendChild(card);
     });
 
-    const pageInfo = $("#pageInfo");
-    if (pageInfo) pageInfo.textContent = `${page} / ${totalPage}`;
+    fillViewport();
   }
 
   function initSearchSuggest() {
@@ -429,7 +478,7 @@ if (isList) {
         div.addEventListener("click", () => {
           input.value = p.title;
           hide();
-          renderList(1);
+          renderList();
         });
         box.appendChild(div);
       });
@@ -456,19 +505,17 @@ if (isList) {
       });
     }
     
-    postsData = await fetchPosts();
-    renderList(1);
-
-    const allTags = buildTagList(postsData);
-    renderTagFilter(allTags);
+    await reloadPosts();
     initSearchSuggest();
 
+    if (sentinel && "IntersectionObserver" in window) {
+      new IntersectionObserver((entries) => {
+        if (entries.some((e) => e.isIntersecting)) loadMore();
+      }, { rootMargin: "200px" }).observe(sentinel);
+    }
+
     $("#searchBtn")?.addEventListener("click", () => {
-      postsData = [];
-      fetchPosts().then(data => {
-        postsData = data;
-        renderList(1);
-      });
+      reloadPosts();
     });
     // 카테고리 버튼 이벤트
     document.querySelectorAll(".category-chip").forEach((chip) => {
@@ -498,11 +545,7 @@ if (isList) {
           searchInput.value = "";
         }
         
-        postsData = [];
-        fetchPosts().then(data => {
-          postsData = data;
-          renderList(1);
-        });
+        reloadPosts();
       });
     });
     
@@ -516,30 +559,14 @@ if (isList) {
           c.classList.add("active");
         }
       });
-      postsData = [];
-      fetchPosts().then(data => {
-        postsData = data;
-        renderList(1);
-      });
+      reloadPosts();
     });
     $("#sortFilter")?.addEventListener("change", () => {
-      postsData = [];
-      fetchPosts().then(data => {
-        postsData = data;
-        renderList(1);
-        // URL 업데이트
-        const url = new URL(window.location);
-        url.searchParams.set('sort', $("#sortFilter").value);
-        window.history.pushState({}, '', url);
-      });
-    });
-
-    $("#prevPage")?.addEventListener("click", () => {
-      if (currentPage > 1) renderList(currentPage - 1);
-    });
-    $("#nextPage")?.addEventListener("click", () => {
-      const total = Math.max(1, Math.ceil(getFiltered().length / PAGE_SIZE));
-      if (currentPage < total) renderList(currentPage + 1);
+      reloadPosts();
+      // URL 업데이트
+      const url = new URL(window.location);
+      url.searchParams.set('sort', $("#sortFilter").value);
+      window.history.pushState({}, '', url);
     });
   })();
 }
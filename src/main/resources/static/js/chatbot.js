@@ -96,6 +96,100 @@
         // 로딩 표시
         showLoading();
 
+        // 스트리밍 지원 브라우저는 SSE로 받아 첫 조각부터 표시, 실패 시 일반 요청으로 재시도
+        if (window.ReadableStream && window.TextDecoder) {
+            try {
+                await sendMessageStreaming(message);
+                return;
+            } catch (error) {
+                if (error && error.partial) {
+                    console.error('챗봇 스트리밍 오류:', error);
+                    hideLoading();
+                    return;
+                }
+                console.warn('챗봇 스트리밍 실패, 일반 요청으로 재시도:', error);
+            }
+        }
+        await sendMessageOnce(message);
+    }
+
+    // 스트리밍 응답 (POST /api/chatbot/stream, text/event-stream)
+    async function sendMessageStreaming(message) {
+        const response = await fetch('/api/chatbot/stream', {
+            method: 'POST',
+            headers: {
+                'Content-Type': 'application/x-www-form-urlencoded',
+                'Accept': 'text/event-stream'
+            },
+            body: `message=${encodeURIComponent(message)}`
+        });
+        if (!response.ok || !response.body) {
+            throw new Error(`스트리밍 응답 오류 (${response.status})`);
+        }
+
+        const reader = response.body.getReader();
+        const decoder = new TextDecoder('utf-8');
+        let buffer = '';
+        let contentEl = null;
+        let text = '';
+        let done = null;
+
+        const handleEvent = (eventName, dataText) => {
+            const payload = JSON.parse(dataText);
+            if (eventName === 'token') {
+                if (!contentEl) {
+                    hideLoading();
+                    contentEl = addMessage('assistant', '');
+                }
+                text += payload.text;
+                contentEl.textContent = text;
+                chatbotMessages.scrollTop = chatbotMessages.scrollHeight;
+            } else if (eventName === 'done') {
+                done = payload;
+            }
+        };
+
+        try {
+            while (true) {
+                const { value, done: finished } = await reader.read();
+                if (finished) break;
+                buffer += decoder.decode(value, { stream: true });
+
+                // 이벤트는 빈 줄로 구분
+                let boundary;
+                while ((boundary = buffer.search(/\r?\n\r?\n/)) >= 0) {
+                    const rawEvent = buffer.slice(0, boundary);
+                    buffer = buffer.slice(boundary).replace(/^\r?\n\r?\n/, '');
+                    let eventName = 'message';
+                    const dataLines = [];
+                    rawEvent.split(/\r?\n/).forEach(line => {
+                        if (line.startsWith('event:')) eventName = line.slice(6).trim();
+                        else if (line.startsWith('data:')) dataLines.push(line.slice(5));
+                    });
+                    if (dataLines.length > 0) {
+                        handleEvent(eventName, dataLines.join('\n'));
+                    }
+                }
+            }
+        } catch (error) {
+            if (contentEl) error.partial = true;
+            throw error;
+        }
+
+        if (!done) {
+            const error = new Error('스트리밍 응답이 완료되지 않았습니다.');
+            error.partial = !!contentEl;
+            throw error;
+        }
+        hideLoading();
+        if (!contentEl) {
+            addMessage('assistant', done.message || '응답을 생성할 수 없습니다.');
+        }
+        handleResponseAction(done, message);
+    }
+
+    // 일반 응답 (POST /api/chatbot/message)
+    async function sendMessageOnce(message) {
         try {
             const response = await fetch('/api/chatbot/message', {
                 method: 'POST',
@@ -128,23 +222,7 @@
             // AI 응답 표시
             addMessage('assistant', data.message || '응답을 생성할 수 없습니다.');
 
-            // 확인이 필요한 액션인 경우
-            if (data.needsConfirmation && data.action) {
-                // 원본 메시지 저장
-                data.originalMessage = message;
-                showActionConfirmation(data.action, data.confirmationMessage || '이 작업을 진행할까요?', data);
-                return;
-            }
-
-            // 액션 처리 (data가 있으면 처리)
-            if (data.action) {
-                if (data.data) {
-                    handleAction(data.action, data.data);
-                } else if (data.action === 'SEARCH_POSTS' && data.actionData) {
-                    // 검색 액션인데 data가 없는 경우 (검색 결과가 비어있을 수 있음)
-                    addMessage('assistant', `"${data.actionData}"에 대한 검색 결과를 찾지 못했습니다. 다른 키워드로 검색해보세요.`);
-                }
-            }
+            handleResponseAction(data, message);
 
         } catch (error) {
             console.error('챗봇 오류:', error);
@@ -153,6 +231,27 @@
         }
     }
 
+    // 응답의 액션 처리 (확인 필요 여부 포함)
+    function handleResponseAction(data, message) {
+        // 확인이 필요한 액션인 경우
+        if (data.needsConfirmation && data.action) {
+            // 원본 메시지 저장
+            data.originalMessage = message;
+            showActionConfirmation(data.action, data.confirmationMessage || '이 작업을 진행할까요?', data);
+            return;
+        }
+
+        // 액션 처리 (data가 있으면 처리)
+        if (data.action) {
+            if (data.data) {
+                handleAction(data.action, data.data);
+            } else if (data.action === 'SEARCH_POSTS' && data.actionData) {
+                // 검색 액션인데 data가 없는 경우 (검색 결과가 비어있을 수 있음)
+                addMessage('assistant', `"${data.actionData}"에 대한 검색 결과를 찾지 못했습니다. 다른 키워드로 검색해보세요.`);
+            }
+        }
+    }
+
     // 메시지 추가
     function addMessage(role, content) {
         if (!chatbotMessages) return;
@@ -178,6 +277,7 @@
 
         // 스크롤 맨 아래로
         chatbotMessages.scrollTop = chatbotMessages.scrollHeight;
+        return messageContent;
     }
 
     // 로딩 표시
@@ -101,8 +101,9 @@ async function loadRecommendations() {
         (pref.categoryName || '').toLowerCase() === category.toLowerCase()
       );
       
-      // 본문에서 HTML 태그 제거 및 텍스트만 추출
-      const cleanContent = stripHtmlTags((p.content || '').substring(0, 100));
+      // 본문 앞부분 (서버에서 태그를 제거해 둔 excerpt)
+      const excerpt = p.excerpt || '';
+      const cleanContent = excerpt.substring(0, 100);
       
       article.innerHTML = `
         <div class="card-image-wrapper">
@@ -113,7 +114,7 @@ async function loadRecommendations() {
         <div class="card-body">
           <div class="card-category">${category}</div>
           <h3 class="card-title">${escapeHtml(p.title)}</h3>
-          <p class="card-description">${escapeHtml(cleanContent)}${p.content && p.content.length > 100 ? '...' : ''}</p>
+          <p class="card-description">${escapeHtml(cleanContent)}${excerpt.length > 100 ? '...' : ''}</p>
           <div class="card-meta">
             <div class="meta-left">
               <span class="meta-item">조회 ${p.viewCount || 0}</span>
@@ -150,13 +151,6 @@ function escapeHtml(text) {
   return div.innerHTML;
 }
 
-// HTML 태그 제거 (특히 <h2> 같은 태그)
-function stripHtmlTags(html) {
-  const div = document.createElement('div');
-  div.innerHTML = html;
-  return div.textContent || div.innerText || '';
-}
-
 // 태그 포맷팅
 function formatTags(tags) {
   if (!tags) return '';
@@ -0,0 +1,188 @@
+package com.example.studywithme.ai.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 챗봇 스트리밍(SSE) / 공유 HTTP 클라이언트 테스트 (로컬 가짜 Gemini 서버 사용)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class ChatbotStreamingTest {
+
+    private static final List<String> CHUNKS = List.of("안녕", "하세요, 스터디 찾기를", " 도와드릴게요.");
+
+    private static final CountDownLatch releaseRest = new CountDownLatch(1);
+    private static final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private static volatile String lastStreamQuery;
+    private static HttpServer fakeGemini;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @DynamicPropertySource
+    static void geminiProperties(DynamicPropertyRegistry registry) throws IOException {
+        fakeGemini = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        fakeGemini.setExecutor(Executors.newCachedThreadPool());
+        fakeGemini.createContext("/", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            if (exchange.getRequestURI().getPath().endsWith(":streamGenerateContent")) {
+                lastStreamQuery = exchange.getRequestURI().getQuery();
+                streamChunks(exchange);
+            } else {
+                clientPorts.add(exchange.getRemoteAddress().getPort());
+                byte[] body = "{\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"안녕하세요\"}]},\"finishReason\":\"STOP\"}]}"
+                        .getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().set("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            }
+        });
+        fakeGemini.start();
+        registry.add("gemini.api.url", () -> "http://localhost:" + fakeGemini.getAddress().getPort()
+                + "/v1beta/models/fake:generateContent");
+    }
+
+    /**
+     * 첫 조각을 보낸 뒤 테스트가 그 조각을 받았다고 알릴 때까지 나머지를 보내지 않음
+     */
+    private static void streamChunks(HttpExchange exchange) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream out = exchange.getResponseBody()) {
+            for (int i = 0; i < CHUNKS.size(); i++) {
+                if (i == 1) {
+                    try {
+                        releaseRest.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                String finish = i == CHUNKS.size() - 1 ? ",\"finishReason\":\"STOP\"" : "";
+                String event = "data: {\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"" + CHUNKS.get(i) + "\"}]}"
+                        + finish + "}]}\r\n\r\n";
+                out.write(event.getBytes(StandardCharsets.UTF_8));
+                out.flush();
+            }
+        }
+    }
+
+    @AfterAll
+    static void stopFakeGemini() {
+        releaseRest.countDown();
+        if (fakeGemini != null) {
+            fakeGemini.stop(0);
+        }
+    }
+
+    @Test
+    void streamRelaysTokensBeforeCompletionFinishes() throws Exception {
+        BlockingQueue<String[]> events = new LinkedBlockingQueue<>();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/chatbot/stream"))
+                .header("Content-Type", MediaType.APPLICATION_FORM_URLENCODED_VALUE)
+                .header("Accept", MediaType.TEXT_EVENT_STREAM_VALUE)
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "message=" + URLEncoder.encode("안녕", StandardCharsets.UTF_8)))
+                .build();
+        HttpClient.newHttpClient()
+                .sendAsync(request, HttpResponse.BodyHandlers.ofLines())
+                .thenAccept(response -> readEvents(response.body(), events));
+
+        // Gemini가 나머지를 보내기 전에 첫 조각이 브라우저까지 도착해야 함
+        String[] first = events.poll(10, TimeUnit.SECONDS);
+        assertThat(first).isNotNull();
+        assertThat(first[0]).isEqualTo("token");
+        assertThat(objectMapper.readTree(first[1]).path("text").asText()).isEqualTo(CHUNKS.get(0));
+        releaseRest.countDown();
+
+        StringBuilder streamed = new StringBuilder(CHUNKS.get(0));
+        JsonNode done = null;
+        while (done == null) {
+            String[] event = events.poll(10, TimeUnit.SECONDS);
+            assertThat(event).isNotNull();
+            if ("token".equals(event[0])) {
+                streamed.append(objectMapper.readTree(event[1]).path("text").asText());
+            } else if ("done".equals(event[0])) {
+                done = objectMapper.readTree(event[1]);
+            }
+        }
+        assertThat(streamed.toString()).isEqualTo(String.join("", CHUNKS));
+        assertThat(done.path("message").asText()).isEqualTo(String.join("", CHUNKS));
+        assertThat(lastStreamQuery).contains("alt=sse");
+    }
+
+    @Test
+    void sharedClientReusesKeepAliveConnection() {
+        for (int i = 0; i < 3; i++) {
+            Map<?, ?> reply = sendMessage("질문 " + i);
+            assertThat(reply.get("message")).isEqualTo("안녕하세요");
+        }
+        // 요청마다 새 커넥션을 열면 클라이언트 포트가 매번 달라짐
+        assertThat(clientPorts).hasSize(1);
+    }
+
+    private static void readEvents(Stream<String> lines, BlockingQueue<String[]> events) {
+        String[] eventName = {null};
+        lines.forEach(line -> {
+            if (line.startsWith("event:")) {
+                eventName[0] = line.substring(6).trim();
+            } else if (line.startsWith("data:") && eventName[0] != null) {
+                events.add(new String[] {eventName[0], line.substring(5)});
+                eventName[0] = null;
+            }
+        });
+    }
+
+    private Map<?, ?> sendMessage(String message) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
+        MultiValueMap<String, String> form = new LinkedMultiValueMap<>();
+        form.add("message", message);
+        return restTemplate.postForObject("/api/chatbot/message", new HttpEntity<>(form, headers), Map.class);
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.studywithme.ai.service;
+
+import com.example.studywithme.ai.repository.ChatMessageRepository;
+import com.sun.net.httpserver.HttpServer;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 챗봇 Gemini 호출 중 DB 커넥션 반납 회귀 테스트
+ * - 풀 크기(2)보다 많은 대화를 느린 가짜 Gemini 서버에 동시에 묶어두고,
+ *   모두 원격 호출 단계까지 진입하는지와 그 사이 다른 쿼리가 커넥션을 얻는지 확인
+ * - 맥락 캐시를 두지 않아(max-conversations=0) 요청마다 Gemini 호출 전에 DB에서 최근 대화를 읽음.
+ *   그 커넥션을 요청 끝까지 붙잡으면(open-in-view + 기본 커넥션 유지) 풀이 바닥나 실패
+ * - 모든 호출이 대기 중일 때 풀의 사용 중 커넥션이 0인지 직접 확인
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.hikari.maximum-pool-size=2",
+        "spring.datasource.hikari.connection-timeout=1000",
+        "chatbot.context.max-conversations=0",
+        "chatbot.write-behind.flush-interval-ms=3600000"
+})
+@ActiveProfiles("test")
+class ChatbotServiceConnectionTest {
+
+    private static final int CONVERSATIONS = 4;
+
+    private static final CountDownLatch release = new CountDownLatch(1);
+    private static final Semaphore inFlight = new Semaphore(0);
+    private static HttpServer fakeGemini;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private ChatMessageRepository chatMessageRepository;
+
+    @Autowired
+    private ChatMessageWriteBehind chatMessageWriteBehind;
+
+    @Autowired
+    private ChatContextCache chatContextCache;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @DynamicPropertySource
+    static void geminiProperties(DynamicPropertyRegistry registry) throws IOException {
+        fakeGemini = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        fakeGemini.setExecutor(Executors.newCachedThreadPool());
+        fakeGemini.createContext("/", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            inFlight.release();
+            try {
+                release.await(30, TimeUnit.SECONDS); // 느린 LLM 응답 흉내
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = "{\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"안녕하세요\"}]},\"finishReason\":\"STOP\"}]}"
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        fakeGemini.start();
+        registry.add("gemini.api.url", () -> "http://localhost:" + fakeGemini.getAddress().getPort()
+                + "/v1beta/models/fake:generateContent");
+    }
+
+    @AfterAll
+    static void stopFakeGemini() {
+        release.countDown();
+        if (fakeGemini != null) {
+            fakeGemini.stop(0);
+        }
+    }
+
+    @Test
+    void connectionIsReleasedWhileWaitingForGemini() throws Exception {
+        long before = chatMessageRepository.count();
+        long missesBefore = chatContextCache.getMisses();
+        ExecutorService clients = Executors.newFixedThreadPool(CONVERSATIONS);
+        try {
+            List<CompletableFuture<Map>> replies = new ArrayList<>();
+            for (int i = 0; i < CONVERSATIONS; i++) {
+                String message = "질문 " + i;
+                replies.add(CompletableFuture.supplyAsync(() -> sendMessage(message), clients));
+            }
+
+            // 커넥션을 붙잡고 있다면 풀 크기(2)를 넘는 대화는 Gemini 호출 단계까지 오지 못함
+            assertThat(inFlight.tryAcquire(CONVERSATIONS, 10, TimeUnit.SECONDS))
+                    .as("모든 대화가 동시에 Gemini 호출 중이어야 함")
+                    .isTrue();
+            // 대화마다 Gemini 호출 전에 DB에서 맥락을 읽었고, 그 커넥션은 모두 반납된 상태
+            assertThat(chatContextCache.getMisses() - missesBefore).isEqualTo(CONVERSATIONS);
+            assertThat(awaitIdlePool())
+                    .as("Gemini 대기 중에는 사용 중인 커넥션이 없어야 함")
+                    .isTrue();
+            // 원격 호출이 모두 대기 중인 동안에도 다른 작업(대기 메시지 저장, 조회)은 커넥션을 얻을 수 있어야 함
+            chatMessageWriteBehind.flush();
+            assertThat(chatMessageRepository.count()).isEqualTo(before + CONVERSATIONS);
+
+            release.countDown();
+            for (CompletableFuture<Map> reply : replies) {
+                assertThat(reply.get(30, TimeUnit.SECONDS).get("message")).isEqualTo("안녕하세요");
+            }
+            chatMessageWriteBehind.flush();
+            assertThat(chatMessageRepository.count()).isEqualTo(before + CONVERSATIONS * 2L);
+        } finally {
+            release.countDown();
+            clients.shutdownNow();
+        }
+    }
+
+    /**
+     * 사용 중 커넥션이 0이 될 때까지 잠시 기다림 (다른 스케줄 작업이 잠깐 쓰는 경우 제외).
+     * 대기 중인 대화가 커넥션을 붙잡고 있으면 끝까지 0이 되지 않음
+     */
+    private boolean awaitIdlePool() throws Exception {
+        HikariPoolMXBean pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (System.currentTimeMillis() < deadline) {
+            if (pool.getActiveConnections() == 0) {
+                return true;
+            }
+            Thread.sleep(20);
+        }
+        return false;
+    }
+
+    private Map sendMessage(String message) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
+        MultiValueMap<String, String> form = new LinkedMultiValueMap<>();
+        form.add("message", message);
+        return restTemplate.postForObject("/api/chatbot/message", new HttpEntity<>(form, headers), Map.class);
+    }
+}
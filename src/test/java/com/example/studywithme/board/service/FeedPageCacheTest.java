@@ -0,0 +1,96 @@
+package com.example.studywithme.board.service;
+
+import com.example.studywithme.board.dto.PostCard;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 피드 캐시
+ * - 동시에 놓친 같은 페이지는 한 번만 읽음 (single-flight)
+ * - 작성·수정·삭제 알림이면 전체 + 해당 카테고리만 다시 읽음
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class FeedPageCacheTest {
+
+    @Autowired
+    private FeedPageCache feedPageCache;
+
+    @Test
+    void concurrentMissesLoadOnce() throws Exception {
+        String category = "캐시-" + System.nanoTime();
+        Pageable pageable = PageRequest.of(0, 9);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<Page<PostCard>> loader = () -> {
+            loads.incrementAndGet();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new PageImpl<>(List.of(), pageable, 0);
+        };
+
+        List<Future<Page<PostCard>>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 32; i++) {
+                results.add(executor.submit(() -> feedPageCache.get(category, "latest", pageable, loader)));
+            }
+            Thread.sleep(200);
+            release.countDown();
+        }
+        Page<PostCard> first = results.get(0).get();
+        for (Future<Page<PostCard>> result : results) {
+            assertThat(result.get()).isSameAs(first);
+        }
+        assertThat(loads.get()).isEqualTo(1);
+
+        // 이후 요청은 캐시 적중
+        assertThat(feedPageCache.get(category, "latest", pageable, loader)).isSameAs(first);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void postChangedInvalidatesOnlyAffectedCategories() {
+        String category = "캐시-" + System.nanoTime();
+        String other = "캐시-" + System.nanoTime();
+        Pageable pageable = PageRequest.of(0, 9);
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<Page<PostCard>> loader = () -> {
+            loads.incrementAndGet();
+            return new PageImpl<>(List.of(), pageable, 0);
+        };
+
+        feedPageCache.get(category, "latest", pageable, loader);
+        feedPageCache.get(other, "latest", pageable, loader);
+        assertThat(loads.get()).isEqualTo(2);
+
+        feedPageCache.postChanged(category);
+        feedPageCache.get(category, "latest", pageable, loader);
+        feedPageCache.get(other, "latest", pageable, loader);
+        assertThat(loads.get()).isEqualTo(3);
+
+        // 캐시 범위 밖 페이지·정렬은 매번 읽음
+        feedPageCache.get(category, "latest", PageRequest.of(10, 9), loader);
+        feedPageCache.get(category, "trending", pageable, loader);
+        assertThat(loads.get()).isEqualTo(5);
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.studywithme.board.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * HyperLogLog 스케치
+ * - 추정 오차가 표준 오차(1.04/√m)의 3배 안인지 (precision 10 ≈ 10%, 14 ≈ 2.5%)
+ * - 두 스케치를 합친 결과가 합집합을 한 스케치에 넣은 결과와 같은지
+ * - toBytes/fromBytes 왕복 후 레지스터와 추정치가 같은지
+ */
+class HyperLogLogTest {
+
+    @Test
+    void estimatesWithinThreeStandardErrors() {
+        for (int precision : new int[]{10, 14}) {
+            double bound = 3 * 1.04 / Math.sqrt(1 << precision);
+            for (int distinct : new int[]{100, 1_000, 10_000, 100_000}) {
+                HyperLogLog sketch = new HyperLogLog(precision);
+                for (int i = 0; i < distinct; i++) {
+                    sketch.offer("viewer-" + i);
+                    sketch.offer("viewer-" + i); // 중복은 개수에 영향 없음
+                }
+                double error = Math.abs(sketch.estimate() - distinct) / (double) distinct;
+                assertThat(error).as("precision %d, %d명", precision, distinct).isLessThanOrEqualTo(bound);
+            }
+        }
+    }
+
+    @Test
+    void emptySketchEstimatesZero() {
+        HyperLogLog sketch = new HyperLogLog(10);
+
+        assertThat(sketch.isEmpty()).isTrue();
+        assertThat(sketch.estimate()).isZero();
+    }
+
+    @Test
+    void mergeEqualsSketchOfUnion() {
+        HyperLogLog left = new HyperLogLog(10);
+        HyperLogLog right = new HyperLogLog(10);
+        HyperLogLog union = new HyperLogLog(10);
+        for (int i = 0; i < 30_000; i++) {
+            String key = "viewer-" + i;
+            (i < 20_000 ? left : right).offer(key);
+            if (i >= 10_000 && i < 20_000) {
+                right.offer(key); // 겹치는 구간
+            }
+            union.offer(key);
+        }
+
+        HyperLogLog merged = left.copy();
+        merged.merge(right);
+
+        assertThat(merged.toBytes()).isEqualTo(union.toBytes());
+        assertThat(merged.estimate()).isEqualTo(union.estimate());
+        // copy는 원본과 독립
+        assertThat(left.estimate()).isLessThan(merged.estimate());
+        assertThatThrownBy(() -> merged.merge(new HyperLogLog(14)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void bytesRoundTripKeepsRegisters() {
+        HyperLogLog sketch = new HyperLogLog(14);
+        for (int i = 0; i < 5_000; i++) {
+            sketch.offer("viewer-" + i);
+        }
+
+        byte[] bytes = sketch.toBytes();
+        HyperLogLog restored = HyperLogLog.fromBytes(bytes);
+
+        assertThat(bytes).hasSize((1 << 14) + 1);
+        assertThat(restored.precision()).isEqualTo(14);
+        assertThat(restored.toBytes()).isEqualTo(bytes);
+        assertThat(restored.estimate()).isEqualTo(sketch.estimate());
+        assertThatThrownBy(() -> HyperLogLog.fromBytes(new byte[]{10, 0, 0}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
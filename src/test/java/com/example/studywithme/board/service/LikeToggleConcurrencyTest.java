@@ -0,0 +1,152 @@
+package com.example.studywithme.board.service;
+
+import com.example.studywithme.board.entity.Post;
+import com.example.studywithme.board.repository.PostLikeRepository;
+import com.example.studywithme.board.repository.PostRepository;
+import com.example.studywithme.comment.entity.Comment;
+import com.example.studywithme.comment.repository.CommentLikeRepository;
+import com.example.studywithme.comment.repository.CommentRepository;
+import com.example.studywithme.comment.service.CommentService;
+import com.example.studywithme.support.TestFixtures;
+import com.example.studywithme.user.entity.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 좋아요 토글 동시성 회귀 테스트
+ * - 1,000명이 동시에 토글해도 like_count가 좋아요 행 수와 정확히 일치하는지
+ *   (기존 read-modify-write 방식은 동시 토글 시 증감분 유실)
+ * - 같은 사용자의 토글이 겹쳐도 좋아요 행 수와 like_count가 어긋나지 않는지
+ */
+@SpringBootTest(properties = {
+        "like-count.flush-interval-ms=3600000"
+})
+@ActiveProfiles("test")
+class LikeToggleConcurrencyTest {
+
+    private static final int TOGGLERS = 1000;
+
+    @Autowired
+    private PostLikeService postLikeService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private LikeCountBuffer likeCountBuffer;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostLikeRepository postLikeRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private CommentLikeRepository commentLikeRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Test
+    void postLikeCountStaysExactUnderParallelToggles() throws Exception {
+        User author = fixtures.createUser("author");
+        Post post = fixtures.createPost(author, "좋아요 테스트", "스터디");
+        Long postId = post.getId();
+        List<Integer> likers = createUsers(TOGGLERS);
+
+        // 1) 1,000명이 동시에 좋아요
+        int liked = runInParallel(TOGGLERS, i -> postLikeService.toggleLike(likers.get(i), postId));
+        assertThat(liked).isEqualTo(TOGGLERS);
+        likeCountBuffer.flush();
+        assertThat(storedPostLikes(postId)).isEqualTo(TOGGLERS);
+        assertThat(postLikeRepository.countByPostId(postId)).isEqualTo(TOGGLERS);
+
+        // 2) 짝수 번째 사용자만 동시에 취소 → 절반
+        int cancelled = runInParallel(TOGGLERS / 2, i -> postLikeService.toggleLike(likers.get(i * 2), postId));
+        assertThat(cancelled).isEqualTo(TOGGLERS / 2);
+        likeCountBuffer.flush();
+        assertThat(storedPostLikes(postId)).isEqualTo(TOGGLERS / 2);
+        assertThat(postLikeRepository.countByPostId(postId)).isEqualTo(TOGGLERS / 2);
+
+        // 3) 같은 사용자가 겹쳐서 토글 (최종 상태는 순서에 따라 다르지만 행 수와 카운터는 같아야 함)
+        runInParallel(TOGGLERS, i -> postLikeService.toggleLike(likers.get(i % 100), postId));
+        likeCountBuffer.flush();
+        assertThat((long) storedPostLikes(postId)).isEqualTo(postLikeRepository.countByPostId(postId));
+    }
+
+    @Test
+    void commentLikeCountStaysExactUnderParallelToggles() throws Exception {
+        User author = fixtures.createUser("comment-author");
+        Post post = fixtures.createPost(author, "좋아요 테스트", "스터디");
+        Comment comment = new Comment();
+        comment.setPost(post);
+        comment.setUser(author);
+        comment.setContent("댓글");
+        comment.setLikeCount(0);
+        Long commentId = commentRepository.save(comment).getId();
+        List<Integer> likers = createUsers(TOGGLERS);
+
+        runInParallel(TOGGLERS, i -> commentService.toggleLike(likers.get(i), commentId));
+        likeCountBuffer.flush();
+        assertThat(commentRepository.findById(commentId).orElseThrow().getLikeCount()).isEqualTo(TOGGLERS);
+        assertThat(commentLikeRepository.countByCommentId(commentId)).isEqualTo(TOGGLERS);
+    }
+
+    /**
+     * count개의 토글을 동시에 시작하고, true(좋아요 상태)를 반환한 수를 셈.
+     * 같은 사용자의 요청이 겹쳐 예외가 난 토글은 롤백되므로 세지 않음
+     */
+    private int runInParallel(int count, ToggleCall call) throws Exception {
+        AtomicInteger likedCount = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>(count);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < count; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        if (call.toggle(index)) {
+                            likedCount.incrementAndGet();
+                        }
+                    } catch (RuntimeException ignored) {
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        return likedCount.get();
+    }
+
+    @FunctionalInterface
+    private interface ToggleCall {
+        boolean toggle(int index);
+    }
+
+    private int storedPostLikes(Long postId) {
+        return postRepository.findById(postId).orElseThrow().getLikeCount();
+    }
+
+    private List<Integer> createUsers(int count) {
+        return fixtures.createUsers("좋아요", count).stream().map(User::getId).toList();
+    }
+}
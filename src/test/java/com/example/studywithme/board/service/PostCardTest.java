@@ -0,0 +1,88 @@
+package com.example.studywithme.board.service;
+
+import com.example.studywithme.board.dto.PostCard;
+import com.example.studywithme.board.entity.Post;
+import com.example.studywithme.board.repository.PostRepository;
+import com.example.studywithme.support.TestFixtures;
+import com.example.studywithme.user.entity.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 카드 프로젝션
+ * - 저장 시 본문에서 평문 excerpt를 만들고, 카드 조회가 작성자 이름·excerpt를 채우는지
+ * - excerpt가 없는 기존 행을 채우기 작업이 채우는지
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class PostCardTest {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostExcerptBackfill postExcerptBackfill;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Test
+    void excerptIsPlainTextPrefix() {
+        assertThat(Post.excerptOf("<p>스터디&nbsp;모집</p>\n<p>A &amp; B</p>")).isEqualTo("스터디 모집 A & B");
+        assertThat(Post.excerptOf(null)).isEmpty();
+        assertThat(Post.excerptOf("<p>" + "가".repeat(300) + "</p>")).hasSize(Post.EXCERPT_LENGTH);
+        // 서로게이트 쌍(이모지)은 한 글자로 셈
+        String emoji = Post.excerptOf("😀".repeat(300));
+        assertThat(emoji.codePointCount(0, emoji.length())).isEqualTo(Post.EXCERPT_LENGTH);
+    }
+
+    @Test
+    void cardsCarryAuthorAndExcerpt() {
+        User author = fixtures.createUser("카드 작성자");
+        String category = "카드-" + System.nanoTime();
+        Post post = fixtures.createPost(author, "카드", category, "<h2>제목</h2><p>" + "본문".repeat(150) + "</p>");
+        assertThat(post.getExcerpt()).startsWith("제목 본문본문").hasSize(Post.EXCERPT_LENGTH);
+
+        List<PostCard> cards = postService.getPostsByCategory(category, PageRequest.of(0, 10), "latest").getContent();
+        assertThat(cards).hasSize(1);
+        PostCard card = cards.get(0);
+        assertThat(card.id()).isEqualTo(post.getId());
+        assertThat(card.authorName()).isEqualTo(author.getRealName());
+        assertThat(card.excerpt()).isEqualTo(post.getExcerpt());
+
+        assertThat(postService.getPostsByUserId(author.getId(), PageRequest.of(0, 10)).getContent())
+                .extracting(PostCard::id)
+                .containsExactly(post.getId());
+
+        post.setContent("<p>수정된 본문</p>");
+        postRepository.save(post);
+        assertThat(postRepository.findCardsByIdIn(List.of(post.getId())))
+                .extracting(PostCard::excerpt)
+                .containsExactly("수정된 본문");
+    }
+
+    @Test
+    void backfillFillsMissingExcerpts() {
+        // excerpt 컬럼 추가 전, 본문 분리 전에 저장된 게시글
+        Post post = TestFixtures.newPost(fixtures.createUser("카드 작성자"), "기존", null);
+        post.setLegacyContent("<p>기존 게시글</p>");
+        postRepository.save(post);
+        assertThat(postRepository.findCardsByIdIn(List.of(post.getId())).get(0).excerpt()).isEmpty();
+
+        ReflectionTestUtils.setField(postExcerptBackfill, "done", false);
+        postExcerptBackfill.backfill();
+
+        assertThat(postRepository.findById(post.getId()).orElseThrow().getExcerpt()).isEqualTo("기존 게시글");
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.studywithme.board.service;
+
+import com.example.studywithme.board.dto.PostCard;
+import com.example.studywithme.board.entity.Post;
+import com.example.studywithme.board.entity.PostContent;
+import com.example.studywithme.board.repository.PostContentRepository;
+import com.example.studywithme.board.repository.PostRepository;
+import com.example.studywithme.support.TestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 본문 분리 (post_contents)
+ * - 큰 본문은 압축해 저장하고 그대로 복원되는지
+ * - 이전 컬럼(posts.content)에 남은 본문을 읽을 수 있고, 이전 작업이 옮긴 뒤 이전 컬럼을 비우는지
+ * - 이전 중 먼저 저장된 새 본문을 덮어쓰지 않는지
+ * - 본문만 바꾼 수정도 posts.updated_at 기준 변경분 조회(검색 색인 동기화)에 잡히는지
+ * - LIKE 검색 폴백은 압축된 본문을 excerpt(앞 200자)까지만 찾는지 (알려진 제한)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class PostContentServiceTest {
+
+    @Autowired
+    private PostContentService postContentService;
+
+    @Autowired
+    private PostContentMigration postContentMigration;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostContentRepository postContentRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Test
+    void largeBodiesAreCompressed() {
+        String large = "<p>" + "스프링 스터디 모집합니다. ".repeat(500) + "</p>";
+        Post big = createPost(large);
+        Post small = createPost("<p>짧은 본문</p>");
+
+        PostContent bigRow = postContentRepository.findById(big.getId()).orElseThrow();
+        assertThat(bigRow.getBody()).isNull();
+        assertThat(bigRow.getBodyDeflated()).isNotNull();
+        assertThat(bigRow.getBodyDeflated().length).isLessThan(bigRow.getRawBytes());
+        assertThat(postContentService.findText(big.getId())).isEqualTo(large);
+
+        PostContent smallRow = postContentRepository.findById(small.getId()).orElseThrow();
+        assertThat(smallRow.getBody()).isEqualTo("<p>짧은 본문</p>");
+        assertThat(smallRow.getBodyDeflated()).isNull();
+
+        assertThat(postService.getPost(big.getId()).getContent()).isNull();
+        assertThat(postService.getPostWithContent(big.getId()).getContent()).isEqualTo(large);
+    }
+
+    @Test
+    void migrationMovesLegacyBodies() {
+        Post legacy = createLegacyPost("<p>옮길 본문</p>");
+        Post edited = createLegacyPost("<p>예전 본문</p>");
+        edited.setContent("<p>수정한 본문</p>");
+        postContentService.save(edited);
+
+        assertThat(postContentService.findText(legacy.getId())).isNull();
+        assertThat(postService.getPostWithContent(legacy.getId()).getContent()).isEqualTo("<p>옮길 본문</p>");
+
+        ReflectionTestUtils.setField(postContentMigration, "done", false);
+        postContentMigration.migrate();
+
+        assertThat(postContentService.findText(legacy.getId())).isEqualTo("<p>옮길 본문</p>");
+        assertThat(postContentService.findText(edited.getId())).isEqualTo("<p>수정한 본문</p>");
+        assertThat(postRepository.findById(legacy.getId()).orElseThrow().getLegacyContent()).isNull();
+        assertThat(postRepository.findById(edited.getId()).orElseThrow().getLegacyContent()).isNull();
+        assertThat(postService.getPostWithContent(legacy.getId()).getContent()).isEqualTo("<p>옮길 본문</p>");
+    }
+
+    @Test
+    void bodyOnlyEditTouchesUpdatedAt() throws InterruptedException {
+        Post post = createPost("<p>" + "앞부분은 그대로 ".repeat(30) + "끝</p>");
+        Thread.sleep(20);
+        LocalDateTime before = LocalDateTime.now();
+        Thread.sleep(20);
+
+        // excerpt(앞 200자)·제목·태그는 그대로, 본문 뒷부분만 수정
+        post.setContent("<p>" + "앞부분은 그대로 ".repeat(30) + "수정</p>");
+        postContentService.save(post);
+        assertThat(postRepository.findSearchSourcesChangedSince(before))
+                .extracting(row -> ((Number) row[0]).longValue())
+                .contains(post.getId());
+
+        Thread.sleep(20);
+        LocalDateTime after = LocalDateTime.now();
+        Thread.sleep(20);
+        postContentService.save(post);
+        assertThat(postRepository.findSearchSourcesChangedSince(after))
+                .extracting(row -> ((Number) row[0]).longValue())
+                .doesNotContain(post.getId());
+    }
+
+    @Test
+    void keywordFallbackSeesCompressedBodiesOnlyThroughExcerpt() {
+        String keyword = "kw" + System.nanoTime();
+        String filler = "스프링 스터디 모집합니다. ".repeat(500);
+        Post plainTail = createPost("<p>짧은 본문 " + keyword + "</p>");
+        Post compressedHead = createPost("<p>" + keyword + " " + filler + "</p>");
+        Post compressedTail = createPost("<p>" + filler + keyword + "</p>");
+        assertThat(postContentRepository.findById(compressedTail.getId()).orElseThrow().getBodyDeflated()).isNotNull();
+
+        // 압축 저장된 본문은 DB에서 LIKE로 볼 수 없어 excerpt 밖(뒷부분)의 키워드는 찾지 못함
+        assertThat(postRepository.searchCardsByKeyword(keyword, PageRequest.of(0, 10)).getContent())
+                .extracting(PostCard::id)
+                .containsExactlyInAnyOrder(plainTail.getId(), compressedHead.getId());
+    }
+
+    private Post createPost(String content) {
+        return fixtures.createPost(fixtures.createUser("본문"), "본문 분리", null, content);
+    }
+
+    // 본문 분리 전에 저장된 게시글
+    private Post createLegacyPost(String content) {
+        Post post = TestFixtures.newPost(fixtures.createUser("본문"), "본문 분리", null);
+        post.setLegacyContent(content);
+        return postRepository.save(post);
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.studywithme.board.service;
+
+import com.example.studywithme.board.entity.Post;
+import com.example.studywithme.board.entity.PostApplication;
+import com.example.studywithme.board.service.PostDetailAssembler.PostDetailView;
+import com.example.studywithme.support.TestFixtures;
+import com.example.studywithme.user.entity.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 게시글 상세 조립
+ * - 사용자별 표시(좋아요·북마크·지원 상태)를 한 번에 읽은 값이 기존 개별 조회와 같은지
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class PostDetailAssemblerTest {
+
+    @Autowired
+    private PostDetailAssembler postDetailAssembler;
+
+    @Autowired
+    private PostLikeService postLikeService;
+
+    @Autowired
+    private BookmarkService bookmarkService;
+
+    @Autowired
+    private PostApplicationService postApplicationService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Test
+    void assemblesViewerFlagsAndAuthorSections() {
+        User author = fixtures.createUser("작성자");
+        User viewer = fixtures.createUser("열람자");
+        Post post = fixtures.createPost(author, "상세", null);
+        fixtures.createPost(author, "다른 글", null);
+        postLikeService.toggleLike(viewer.getId(), post.getId());
+        bookmarkService.toggleBookmark(viewer.getId(), post.getId());
+        postApplicationService.applyToPost(viewer.getId(), post.getId(), "참여 희망");
+
+        PostDetailView view = postDetailAssembler.assemble(post.getId(), viewer, "u:" + viewer.getId());
+
+        assertThat(view.post().getId()).isEqualTo(post.getId());
+        assertThat(view.isAuthor()).isFalse();
+        assertThat(view.isLiked()).isTrue();
+        assertThat(view.isBookmarked()).isTrue();
+        assertThat(view.hasApplied()).isTrue();
+        assertThat(view.applicationStatus()).isEqualTo(PostApplication.ApplicationStatus.PENDING);
+        assertThat(view.applicationCount()).isEqualTo(1);
+        assertThat(view.authorPosts()).extracting(Post::getTitle).containsExactly("다른 글");
+        assertThat(view.authorStats().getPostCount()).isEqualTo(2);
+
+        PostDetailView own = postDetailAssembler.assemble(post.getId(), author, "u:" + author.getId());
+        assertThat(own.isAuthor()).isTrue();
+        assertThat(own.isLiked()).isFalse();
+        assertThat(own.hasApplied()).isFalse();
+        assertThat(own.applicationStatus()).isNull();
+
+        PostDetailView anonymous = postDetailAssembler.assemble(post.getId(), null, "s:test");
+        assertThat(anonymous.isLiked()).isFalse();
+        assertThat(anonymous.isBookmarked()).isFalse();
+        assertThat(anonymous.applicationCount()).isEqualTo(1);
+    }
+
+    @Test
+    void missingPostThrows() {
+        assertThatThrownBy(() -> postDetailAssembler.assemble(Long.MAX_VALUE, null, "s:test"))
+                .isInstanceOf(RuntimeException.class);
+    }
+}
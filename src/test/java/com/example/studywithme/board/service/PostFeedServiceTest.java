@@ -0,0 +1,85 @@
+package com.example.studywithme.board.service;
+
+import com.example.studywithme.board.entity.Post;
+import com.example.studywithme.board.service.PostFeedService.FeedSlice;
+import com.example.studywithme.global.exception.BadRequestException;
+import com.example.studywithme.support.TestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 피드 커서 페이지 회귀 테스트
+ * - 커서를 따라 끝까지 읽으면 빠짐·중복 없이 정렬 순서대로 모든 글이 나오는지
+ *   (테스트 DB는 created_at 기본값이 없어 최신순은 작성 시각 없는 구간 커서까지 확인)
+ */
+@SpringBootTest(properties = {
+        "trending.enabled=false"
+})
+@ActiveProfiles("test")
+class PostFeedServiceTest {
+
+    private static final int POSTS = 45;
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    private PostFeedService postFeedService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Test
+    void cursorPagesCoverCategoryExactlyOnceInOrder() {
+        String category = "피드-" + System.nanoTime();
+        List<Long> ids = createPosts(category);
+        List<Long> expected = ids.stream().sorted(Comparator.reverseOrder()).toList();
+
+        // 모든 글의 정렬 키가 같은 구간(작성 시각 없음, 인기 점수 0)이라 두 정렬 모두 id 역순
+        assertThat(readAll("latest", category)).containsExactlyElementsOf(expected);
+        assertThat(readAll("popular", category)).containsExactlyElementsOf(expected);
+        // 트렌딩 신호가 없으면 인기순
+        assertThat(readAll("trending", category)).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void rejectsMalformedOrMismatchedCursor() {
+        String category = "피드-" + System.nanoTime();
+        createPosts(category);
+        FeedSlice first = postFeedService.getFeed("popular", category, null, PAGE_SIZE);
+
+        assertThatThrownBy(() -> postFeedService.getFeed("latest", category, first.nextCursor(), PAGE_SIZE))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> postFeedService.getFeed("latest", category, "not-a-cursor", PAGE_SIZE))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private List<Long> readAll(String sort, String category) {
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            FeedSlice slice = postFeedService.getFeed(sort, category, cursor, PAGE_SIZE);
+            assertThat(slice.content()).hasSizeLessThanOrEqualTo(PAGE_SIZE);
+            slice.content().forEach(post -> seen.add(post.id()));
+            assertThat(slice.hasNext()).isEqualTo(slice.nextCursor() != null);
+            cursor = slice.nextCursor();
+            pages++;
+        } while (cursor != null && pages <= POSTS);
+        assertThat(pages).isEqualTo((POSTS + PAGE_SIZE - 1) / PAGE_SIZE);
+        return seen;
+    }
+
+    private List<Long> createPosts(String category) {
+        return fixtures.createPosts(fixtures.createUser("피드"), "피드", category, POSTS).stream()
+                .map(Post::getId)
+                .toList();
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.studywithme.board.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 게시글 검색 역색인
+ * - 한글(조사 포함)·영문·혼합 검색어 토큰화
+ * - BM25 순위 (빈도, 제목 가중, 문서 길이), AND 조건, 페이지
+ * - 추가·수정·삭제(톰스톤)와 compact 후 결과가 같은지
+ * - 스냅샷 저장·복원 후 결과가 같은지
+ */
+class PostSearchIndexTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void tokenizesKoreanAsBigramsAndOtherScriptsAsWords() {
+        // 세 글자 이상 한글 단어 끝 조사는 뗌
+        assertThat(PostSearchIndex.queryTerms("알고리즘을 공부")).containsExactly("알고", "고리", "리즘", "공부");
+        assertThat(PostSearchIndex.queryTerms("Spring 스터디!")).containsExactly("spring", "스터", "터디");
+        // 한글이 섞인 토큰은 전체를 bigram으로
+        assertThat(PostSearchIndex.queryTerms("JPA스터디")).containsExactly("jp", "pa", "a스", "스터", "터디");
+        assertThat(PostSearchIndex.queryTerms("자")).containsExactly("자");
+        // 중복 제거, 최대 16개
+        assertThat(PostSearchIndex.queryTerms("java JAVA Java")).containsExactly("java");
+        assertThat(PostSearchIndex.queryTerms("a b c d e f g h i j k l m n o p q r")).hasSize(16);
+        assertThat(PostSearchIndex.queryTerms("  ...  ")).isEmpty();
+    }
+
+    @Test
+    void matchesKoreanWithParticlesMixedScriptAndPrefixes() {
+        PostSearchIndex index = new PostSearchIndex();
+        index.add(1, "알고리즘 스터디", "코딩테스트", "매주 문제 풀이");
+        index.add(2, "Spring Boot 입문", "spring,jpa", "JPA강의 같이 들어요");
+
+        assertThat(search(index, "알고리즘을")).containsExactly(1L);
+        assertThat(search(index, "jpa강의")).containsExactly(2L);
+        // 영문·한 글자 한글은 접두 확장
+        assertThat(search(index, "spr")).containsExactly(2L);
+        assertThat(search(index, "알")).containsExactly(1L);
+        assertThat(search(index, "파이썬")).isEmpty();
+    }
+
+    @Test
+    void ranksByBm25AndRequiresEveryTerm() {
+        PostSearchIndex index = new PostSearchIndex();
+        index.add(1, "모집", null, "자바 파이썬 공부 정리");
+        index.add(2, "모집", null, "자바 자바 자바 공부");
+        index.add(3, "자바", null, "공부 정리");
+        index.add(4, "모집", null, "파이썬 공부");
+
+        // 제목(3배 가중, 더 짧은 글) > 본문 세 번 > 본문 한 번
+        assertThat(search(index, "자바")).containsExactly(3L, 2L, 1L);
+        // 모든 토큰을 포함한 글만
+        assertThat(search(index, "자바 파이썬")).containsExactly(1L);
+
+        PostSearchIndex.Hits page = index.search("자바", 1, 1);
+        assertThat(page.total()).isEqualTo(3);
+        assertThat(page.ids()).containsExactly(2L);
+        assertThat(index.search("자바", 5, 10).ids()).isEmpty();
+    }
+
+    @Test
+    void shorterDocumentRanksFirstForSameFrequency() {
+        PostSearchIndex index = new PostSearchIndex();
+        index.add(1, "모집", null, "자바 스프링 데이터 배치 시큐리티 클라우드");
+        index.add(2, "모집", null, "자바 정리");
+
+        assertThat(search(index, "자바")).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void updatesAndRemovesWithTombstonesAndCompacts() {
+        PostSearchIndex index = new PostSearchIndex();
+        assertThat(index.add(1, "자바 스터디", null, "본문")).isTrue();
+        assertThat(index.add(2, "파이썬 스터디", null, "본문")).isTrue();
+        // 내용이 같으면 바뀌지 않음
+        assertThat(index.add(1, "자바 스터디", null, "본문")).isFalse();
+
+        assertThat(index.add(1, "코틀린 스터디", null, "본문")).isTrue();
+        assertThat(search(index, "자바")).isEmpty();
+        assertThat(search(index, "코틀린")).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.deletedRatio()).isEqualTo(1.0 / 3);
+
+        assertThat(index.remove(2)).isTrue();
+        assertThat(index.remove(2)).isFalse();
+        assertThat(search(index, "파이썬")).isEmpty();
+        assertThat(search(index, "스터디")).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+
+        PostSearchIndex compacted = index.compact();
+        assertThat(compacted.deletedRatio()).isZero();
+        assertThat(compacted.size()).isEqualTo(1);
+        assertThat(compacted.ids()).containsExactly(1L);
+        assertThat(compacted.termCount()).isLessThan(index.termCount());
+        assertThat(search(compacted, "코틀린")).containsExactly(1L);
+        assertThat(search(compacted, "자바")).isEmpty();
+        // compact 후에도 이어서 색인
+        compacted.add(3, "자바", null, "다시");
+        assertThat(search(compacted, "자바")).containsExactly(3L);
+    }
+
+    @Test
+    void snapshotRoundTripKeepsResults() throws IOException {
+        PostSearchIndex index = new PostSearchIndex();
+        index.add(1, "알고리즘 스터디", "코딩테스트", "매주 문제 풀이");
+        index.add(2, "Spring Boot 입문", "spring,jpa", "JPA강의 같이 들어요");
+        index.add(3, "토익 스터디", "영어", "아침 스터디");
+        index.add(3, "토익 스터디 마감", "영어", "아침 스터디");
+        index.remove(1);
+
+        Path file = tempDir.resolve("snapshot/post_search.bin");
+        index.save(file);
+        assertThat(file.resolveSibling("post_search.bin.tmp")).doesNotExist();
+        PostSearchIndex loaded = PostSearchIndex.load(file);
+
+        assertThat(loaded.size()).isEqualTo(index.size());
+        assertThat(loaded.termCount()).isEqualTo(index.termCount());
+        assertThat(loaded.deletedRatio()).isEqualTo(index.deletedRatio());
+        assertThat(sorted(loaded.ids())).containsExactly(sorted(index.ids()));
+        for (String query : List.of("스터디", "알고리즘", "spr", "마감", "영어", "jpa강의")) {
+            assertThat(loaded.search(query, 0, 10)).as(query).isEqualTo(index.search(query, 0, 10));
+        }
+        // 같은 내용은 복원 후에도 변경 없음으로 판단
+        assertThat(loaded.add(2, "Spring Boot 입문", "spring,jpa", "JPA강의 같이 들어요")).isFalse();
+    }
+
+    @Test
+    void rejectsFilesThatAreNotSnapshots() throws IOException {
+        Path file = tempDir.resolve("broken.bin");
+        Files.writeString(file, "not a snapshot");
+
+        assertThatThrownBy(() -> PostSearchIndex.load(file)).isInstanceOf(IOException.class);
+    }
+
+    private static List<Long> search(PostSearchIndex index, String query) {
+        return index.search(query, 0, 10).ids();
+    }
+
+    private static long[] sorted(long[] ids) {
+        long[] copy = ids.clone();
+        Arrays.sort(copy);
+        return copy;
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.studywithme.board.service;
+
+import com.example.studywithme.board.dto.PostCard;
+import com.example.studywithme.board.entity.Post;
+import com.example.studywithme.support.TestFixtures;
+import com.example.studywithme.user.entity.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 키워드 검색
+ * - 인덱스 준비 전에는 LIKE 검색으로 폴백하고, 구축 후에는 BM25 순서로 찾는지
+ * - 작성/삭제가 인덱스에 바로 반영되고, 구축 결과를 스냅샷으로 저장하는지
+ */
+@SpringBootTest(properties = {
+        "post-search.enabled=true",
+        "post-search.initial-delay-ms=3600000",
+        "post-search.snapshot-path=" + PostSearchServiceTest.SNAPSHOT
+})
+@ActiveProfiles("test")
+class PostSearchServiceTest {
+
+    static final String SNAPSHOT = "build/test-data/post_search.bin";
+
+    @Autowired
+    private PostSearchService postSearchService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Test
+    void fallsBackToLikeUntilIndexIsBuilt() throws Exception {
+        String keyword = "kw" + System.nanoTime();
+        User author = fixtures.createUser("검색");
+        Post inBody = fixtures.createPost(author, "스터디 모집", "개발", "<p>" + keyword + " 같이 공부해요</p>");
+        Post inTitle = fixtures.createPost(author, keyword + " 스터디", "개발", "<p>매주 모임</p>");
+        fixtures.createPost(author, "다른 스터디", "개발", "<p>관련 없는 글</p>");
+
+        // 인덱스 준비 전: LIKE (제목·excerpt·본문)
+        assertThat(postSearchService.isReady()).isFalse();
+        assertThat(searchIds(keyword)).containsExactlyInAnyOrder(inBody.getId(), inTitle.getId());
+
+        Path snapshot = Paths.get(SNAPSHOT).toAbsolutePath();
+        Files.deleteIfExists(snapshot);
+        postSearchService.refresh();
+
+        // 구축 후: 제목 일치가 본문 일치보다 먼저
+        assertThat(postSearchService.isReady()).isTrue();
+        assertThat(snapshot).exists();
+        assertThat(searchIds(keyword)).containsExactly(inTitle.getId(), inBody.getId());
+        assertThat(postSearchService.search(keyword, PageRequest.of(0, 10)).getContent())
+                .extracting(Post::getId)
+                .containsExactly(inTitle.getId(), inBody.getId());
+
+        // 트랜잭션 밖 호출은 바로 반영
+        Post added = fixtures.createPost(author, "새 글", "개발", "<p>" + keyword + "</p>");
+        postSearchService.indexPost(added);
+        postSearchService.removePost(inTitle.getId());
+        assertThat(searchIds(keyword)).containsExactlyInAnyOrder(inBody.getId(), added.getId());
+    }
+
+    private List<Long> searchIds(String keyword) {
+        return postSearchService.searchCards(keyword, PageRequest.of(0, 10)).getContent().stream()
+                .map(PostCard::id)
+                .toList();
+    }
+}
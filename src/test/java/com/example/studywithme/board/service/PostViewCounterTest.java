@@ -0,0 +1,112 @@
+package com.example.studywithme.board.service;
+
+import com.example.studywithme.board.repository.PostRepository;
+import com.example.studywithme.support.TestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조회수 버퍼 회귀 테스트
+ * - 동시 조회가 모두 반영되는지 (기존 read-modify-write 방식은 동시 조회 시 증가분 유실)
+ * - 같은 세션의 반복 조회는 한 번만 세는지 (동시에 들어와도, 기록이 max-entries를 넘은 뒤에도)
+ */
+@SpringBootTest(properties = {
+        "post-view.flush-interval-ms=3600000",
+        "post-view.dedupe.max-entries=100"
+})
+@ActiveProfiles("test")
+class PostViewCounterTest {
+
+    private static final int THREADS = 16;
+    private static final int VIEWS_PER_THREAD = 250;
+
+    @Autowired
+    private PostViewCounter postViewCounter;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Test
+    void concurrentViewsAreAllCountedAndSessionRepeatsAreDeduped() throws Exception {
+        Long postId = fixtures.createPost(fixtures.createUser("조회수"), "조회수 테스트", "스터디").getId();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < VIEWS_PER_THREAD; i++) {
+                    postViewCounter.recordView(postId, null);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        assertThat(postViewCounter.recordView(postId, "session-a")).isTrue();
+        assertThat(postViewCounter.recordView(postId, "session-a")).isFalse();
+        assertThat(postViewCounter.recordView(postId, "session-b")).isTrue();
+
+        long expected = (long) THREADS * VIEWS_PER_THREAD + 2;
+        assertThat(postViewCounter.displayCount(postId, 0)).isEqualTo(expected);
+
+        postViewCounter.flush();
+
+        assertThat(postViewCounter.pendingViews(postId)).isZero();
+        assertThat(postRepository.findById(postId).orElseThrow().getViewCount()).isEqualTo((int) expected);
+    }
+
+    @Test
+    void sessionRepeatsStayDedupedUnderConcurrencyAndWhenFull() throws Exception {
+        Long postId = fixtures.createPost(fixtures.createUser("조회수"), "중복 제거 테스트", "스터디").getId();
+
+        // 같은 세션의 동시 조회는 한 번만
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger counted = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                if (postViewCounter.recordView(postId, "session-same")) {
+                    counted.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        assertThat(counted.get()).isEqualTo(1);
+
+        // 기록이 max-entries(100)를 넘어도 새 세션은 기록되어 반복 조회를 세지 않음
+        for (int i = 0; i < 250; i++) {
+            String session = "session-" + i;
+            assertThat(postViewCounter.recordView(postId, session)).isTrue();
+            assertThat(postViewCounter.recordView(postId, session)).as(session).isFalse();
+        }
+        assertThat(postViewCounter.pendingViews(postId)).isEqualTo(251);
+    }
+}
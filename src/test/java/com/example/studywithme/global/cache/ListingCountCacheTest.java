@@ -0,0 +1,89 @@
+package com.example.studywithme.global.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 건수 캐시
+ * - COUNT는 처음 한 번만, 이후 증감은 캐시에 반영
+ * - 마지막 페이지는 offset + 건수로 보정, 재계산 시 읽힌 키만 다시 셈
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ListingCountCacheTest {
+
+    @Autowired
+    private ListingCountCache listingCountCache;
+
+    @Test
+    void countsOnceAndAppliesDeltas() {
+        String key = ListingCountCache.key("test", System.nanoTime());
+        AtomicLong rows = new AtomicLong(95);
+        AtomicInteger counts = new AtomicInteger();
+        LongSupplier counter = () -> {
+            counts.incrementAndGet();
+            return rows.get();
+        };
+
+        assertThat(page(key, 0, 10, true, counter).getTotalElements()).isEqualTo(95);
+        assertThat(page(key, 1, 10, true, counter).getTotalElements()).isEqualTo(95);
+        assertThat(counts.get()).isEqualTo(1);
+
+        listingCountCache.adjust(key, 1);
+        assertThat(page(key, 2, 10, true, counter).getTotalElements()).isEqualTo(96);
+        assertThat(counts.get()).isEqualTo(1);
+    }
+
+    @Test
+    void lastPageAndRecountCorrectDrift() {
+        String key = ListingCountCache.key("test", System.nanoTime());
+        AtomicLong rows = new AtomicLong(50);
+        AtomicInteger counts = new AtomicInteger();
+        LongSupplier counter = () -> {
+            counts.incrementAndGet();
+            return rows.get();
+        };
+
+        assertThat(page(key, 0, 10, true, counter).getTotalElements()).isEqualTo(50);
+
+        // 마지막 페이지(3건)를 읽으면 COUNT 없이 정확한 값
+        assertThat(page(key, 4, 10, false, 3, counter).getTotalElements()).isEqualTo(43);
+        assertThat(page(key, 0, 10, true, counter).getTotalElements()).isEqualTo(43);
+        assertThat(counts.get()).isEqualTo(1);
+
+        // 다른 인스턴스에서 바뀐 건수는 재계산 때 반영
+        rows.set(60);
+        listingCountCache.recount();
+        assertThat(page(key, 0, 10, true, counter).getTotalElements()).isEqualTo(60);
+        assertThat(counts.get()).isEqualTo(2);
+
+        // 재계산 사이에 읽히지 않은 키는 버리고, 다음에 읽을 때 다시 셈
+        listingCountCache.recount();
+        listingCountCache.recount();
+        assertThat(counts.get()).isEqualTo(3);
+        page(key, 0, 10, true, counter);
+        assertThat(counts.get()).isEqualTo(4);
+    }
+
+    private Page<Integer> page(String key, int page, int size, boolean hasNext, LongSupplier counter) {
+        return page(key, page, size, hasNext, size, counter);
+    }
+
+    private Page<Integer> page(String key, int page, int size, boolean hasNext, int elements, LongSupplier counter) {
+        List<Integer> content = Collections.nCopies(elements, 0);
+        return listingCountCache.page(key, new SliceImpl<>(content, PageRequest.of(page, size), hasNext), counter);
+    }
+}
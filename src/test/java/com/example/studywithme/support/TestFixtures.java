@@ -0,0 +1,102 @@
+package com.example.studywithme.support;
+
+import com.example.studywithme.board.entity.Post;
+import com.example.studywithme.board.repository.PostRepository;
+import com.example.studywithme.board.service.PostContentService;
+import com.example.studywithme.user.entity.User;
+import com.example.studywithme.user.repository.UserRepository;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 통합 테스트 공통 데이터 (회원·게시글)
+ * - 이메일은 매번 고유하게 만들어 테스트끼리 같은 DB를 써도 겹치지 않음
+ * - create*는 저장까지, new*는 저장 전 엔티티 (필드를 더 바꿔 저장할 때)
+ */
+@Component
+public class TestFixtures {
+
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    private final UserRepository userRepository;
+    private final PostRepository postRepository;
+    private final PostContentService postContentService;
+
+    public TestFixtures(UserRepository userRepository, PostRepository postRepository,
+                        PostContentService postContentService) {
+        this.userRepository = userRepository;
+        this.postRepository = postRepository;
+        this.postContentService = postContentService;
+    }
+
+    public static User newUser(String name) {
+        User user = new User();
+        user.setRealName(name);
+        user.setBirthDate(LocalDate.of(2000, 1, 1));
+        user.setEmail("user-" + System.nanoTime() + "-" + SEQUENCE.incrementAndGet() + "@example.com");
+        user.setPassword("x");
+        return user;
+    }
+
+    /**
+     * 본문 없는 게시글 (조회수·좋아요 0)
+     */
+    public static Post newPost(User author, String title, String category) {
+        Post post = new Post();
+        post.setUser(author);
+        post.setTitle(title);
+        post.setCategory(category);
+        post.setViewCount(0);
+        post.setLikeCount(0);
+        return post;
+    }
+
+    public User createUser(String name) {
+        return userRepository.save(newUser(name));
+    }
+
+    /**
+     * 회원 count명 (이름은 name + 순번)
+     */
+    public List<User> createUsers(String name, int count) {
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            users.add(newUser(name + i));
+        }
+        return userRepository.saveAll(users);
+    }
+
+    public Post createPost(User author, String title, String category) {
+        return createPost(author, title, category, "본문");
+    }
+
+    /**
+     * 게시글 + 본문 저장 (PostService.createPost와 같은 저장 순서)
+     */
+    public Post createPost(User author, String title, String category, String content) {
+        Post post = newPost(author, title, category);
+        post.setContent(content);
+        Post saved = postRepository.save(post);
+        postContentService.save(saved);
+        return saved;
+    }
+
+    /**
+     * 같은 작성자·카테고리 게시글 count개 (제목은 title + 순번, id 순)
+     */
+    public List<Post> createPosts(User author, String title, String category, int count) {
+        List<Post> posts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Post post = newPost(author, title + " " + i, category);
+            post.setContent("본문");
+            posts.add(post);
+        }
+        List<Post> saved = postRepository.saveAll(posts);
+        postContentService.saveAll(saved);
+        return saved;
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.studywithme.user.service;
+
+import com.example.studywithme.board.entity.Post;
+import com.example.studywithme.board.service.BookmarkService;
+import com.example.studywithme.board.service.LikeCountBuffer;
+import com.example.studywithme.board.service.PostApplicationService;
+import com.example.studywithme.board.service.PostLikeService;
+import com.example.studywithme.support.TestFixtures;
+import com.example.studywithme.user.entity.User;
+import com.example.studywithme.user.entity.UserActivityStats;
+import com.example.studywithme.user.repository.UserActivityStatsRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사용자 활동 통계 행
+ * - 첫 조회 때 COUNT로 만들고 이후 좋아요·북마크·지원·좋아요 반영은 행 증감으로 따라가는지
+ * - 어긋난 행은 재계산(reconcile)으로 정확한 값이 되는지
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class UserStatsServiceTest {
+
+    @Autowired
+    private UserStatsService userStatsService;
+
+    @Autowired
+    private UserActivityStatsRepository statsRepository;
+
+    @Autowired
+    private PostLikeService postLikeService;
+
+    @Autowired
+    private BookmarkService bookmarkService;
+
+    @Autowired
+    private PostApplicationService postApplicationService;
+
+    @Autowired
+    private LikeCountBuffer likeCountBuffer;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Test
+    void statsRowFollowsActivity() {
+        User author = fixtures.createUser("작성자");
+        User reader = fixtures.createUser("독자");
+        Post post = fixtures.createPost(author, "통계", null);
+
+        assertThat(userStatsService.getUserStats(author.getId()).getPostCount()).isEqualTo(1);
+        assertThat(userStatsService.getUserStats(reader.getId()).getActivityScore()).isZero();
+
+        postLikeService.toggleLike(reader.getId(), post.getId());
+        bookmarkService.toggleBookmark(reader.getId(), post.getId());
+        postApplicationService.applyToPost(reader.getId(), post.getId(), "참여 희망");
+        likeCountBuffer.flush();
+
+        UserStatsService.UserStats readerStats = userStatsService.getUserStats(reader.getId());
+        assertThat(readerStats.getLikesGiven()).isEqualTo(1);
+        assertThat(readerStats.getBookmarks()).isEqualTo(1);
+        assertThat(readerStats.getApplications()).isEqualTo(1);
+        // 2 + 1 + 4
+        assertThat(readerStats.getActivityScore()).isEqualTo(7);
+        assertThat(userStatsService.getUserStats(author.getId()).getLikesReceived()).isEqualTo(1);
+
+        postLikeService.toggleLike(reader.getId(), post.getId());
+        likeCountBuffer.flush();
+        assertThat(userStatsService.getUserStats(reader.getId()).getLikesGiven()).isZero();
+        assertThat(userStatsService.getUserStats(author.getId()).getLikesReceived()).isZero();
+    }
+
+    @Test
+    void reconcileCorrectsDrift() {
+        User author = fixtures.createUser("작성자");
+        fixtures.createPost(author, "통계", null);
+        fixtures.createPost(author, "통계", null);
+        assertThat(userStatsService.getUserStats(author.getId()).getPostCount()).isEqualTo(2);
+
+        UserActivityStats row = statsRepository.findById(author.getId()).orElseThrow();
+        row.setPostCount(40);
+        row.setBookmarks(7);
+        statsRepository.save(row);
+        assertThat(userStatsService.getUserStats(author.getId()).getPostCount()).isEqualTo(40);
+
+        userStatsService.reconcile();
+
+        UserStatsService.UserStats stats = userStatsService.getUserStats(author.getId());
+        assertThat(stats.getPostCount()).isEqualTo(2);
+        assertThat(stats.getBookmarks()).isZero();
+        assertThat(stats.getLevel()).isEqualTo(1);
+    }
+}